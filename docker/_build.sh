@@ -21,7 +21,9 @@ cp ../target/qubership-inventory-tool-cli-*-fat.jar ./tmp/target/
 # ADD docker/ci-exec.sh      /usr/local/bin/ci-exec
 # ADD docker/ci-assembly.sh  /usr/local/bin/ci-assembly
 # ADD docker/ci-obfuscate.sh /usr/local/bin/ci-obfuscate
-cp ci.properties ci-*.sh logback.xml ./tmp/docker/
+# ADD docker/startup-benchmark.sh /usr/local/bin/startup-benchmark
+# ADD docker/cds-train.sh    /app/cds-train.sh
+cp ci.properties ci-*.sh startup-benchmark.sh cds-train.sh logback.xml ./tmp/docker/
 
 echo Docker build
 cd tmp || exit 1
@@ -0,0 +1,29 @@
+#!/bin/sh
+
+# Create class data sharing (AppCDS) archives for short CI invocations.
+# Every command gets its own archive produced by a dry run: the flow is configured
+# and its tasks are loaded and injected, but nothing is executed.
+# Archives are valid only for the same JVM and the same jar, so run it inside the image.
+
+cd /app || exit 1
+mkdir -p /tmp/cds-train/input /tmp/cds-train/output
+
+java \
+    -XX:ArchiveClassesAtExit=./ci-exec.jsa \
+    -Xmx512m -Dlogback.configurationFile=./logback.xml \
+    -jar ./inventory-tool.jar \
+    ci-exec \
+    --inputDirectory=/tmp/cds-train/input --outputDirectory=/tmp/cds-train/output \
+    --componentName=cds-train --repository=https://git.your.host/cds-train.git \
+    --dryRun=true || exit 1
+
+java \
+    -XX:ArchiveClassesAtExit=./ci-assembly.jsa \
+    -Xmx512m -Dlogback.configurationFile=./logback.xml \
+    -jar ./inventory-tool.jar \
+    ci-assembly \
+    --inputDirectory=/tmp/cds-train/input --outputDirectory=/tmp/cds-train/output \
+    --appName=cds-train \
+    --dryRun=true || exit 1
+
+rm -rf /tmp/cds-train
@@ -1,6 +1,12 @@
 #!/bin/sh
 cd /app || exit 1
+# Class data sharing archive created by cds-train when the image is built
+CDS_OPTS=""
+if [ -f ./ci-assembly.jsa ]; then
+    CDS_OPTS="-XX:SharedArchiveFile=./ci-assembly.jsa"
+fi
 java \
+    $CDS_OPTS \
     -Xmx512m -Dlogback.configurationFile=./logback.xml \
     -jar ./inventory-tool.jar \
     ci-assembly \
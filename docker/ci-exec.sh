@@ -1,6 +1,12 @@
 #!/bin/sh
 cd /app || exit 1
+# Class data sharing archive created by cds-train when the image is built
+CDS_OPTS=""
+if [ -f ./ci-exec.jsa ]; then
+    CDS_OPTS="-XX:SharedArchiveFile=./ci-exec.jsa"
+fi
 java \
+    $CDS_OPTS \
     -Xmx512m -Dlogback.configurationFile=./logback.xml \
     -jar ./inventory-tool.jar \
     ci-exec \
@@ -0,0 +1,43 @@
+#!/bin/sh
+
+# Measure startup time of CI commands with and without class data sharing archive.
+# Dry runs are used, so the numbers cover JVM start, configuration, DI context and task loading.
+# Usage: startup-benchmark [iterations]
+
+cd /app || exit 1
+ITERATIONS=${1:-5}
+mkdir -p /tmp/startup-benchmark/input /tmp/startup-benchmark/output
+
+run() {
+    java "$@" \
+        -Xmx512m -Dlogback.configurationFile=./logback.xml \
+        -jar ./inventory-tool.jar \
+        ci-exec \
+        --inputDirectory=/tmp/startup-benchmark/input --outputDirectory=/tmp/startup-benchmark/output \
+        --componentName=startup-benchmark --repository=https://git.your.host/startup-benchmark.git \
+        --dryRun=true > /dev/null 2>&1
+}
+
+measure() {
+    label=$1
+    shift
+    total=0
+    i=0
+    while [ $i -lt "$ITERATIONS" ]; do
+        start=$(date +%s%N)
+        run "$@" || { echo "$label: run failed"; exit 1; }
+        end=$(date +%s%N)
+        total=$((total + (end - start) / 1000000))
+        i=$((i + 1))
+    done
+    echo "$label: $((total / ITERATIONS)) ms average of $ITERATIONS runs"
+}
+
+measure "default CDS" -Xshare:auto
+if [ -f ./ci-exec.jsa ]; then
+    measure "AppCDS" -XX:SharedArchiveFile=./ci-exec.jsa
+else
+    echo "AppCDS: archive ./ci-exec.jsa not found, run cds-train first"
+fi
+
+rm -rf /tmp/startup-benchmark
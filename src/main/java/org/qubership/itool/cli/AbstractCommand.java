@@ -32,6 +32,7 @@
 import java.util.concurrent.TimeUnit;
 
 import static org.qubership.itool.utils.ConfigProperties.CONFIG_PATH_POINTER;
+import static org.qubership.itool.utils.ConfigProperties.DRY_RUN_PROPERTY;
 import static org.qubership.itool.utils.ConfigProperties.PROFILE_POINTER;
 
 /**
@@ -54,14 +55,16 @@ public abstract class AbstractCommand implements Callable<Integer> {
     protected abstract Logger getLogger();
 
     /**
-     * Create VertX, start a flow using {@link #properties} and config, let the flow complete,
-     * terminate JVM
+     * Start a flow using {@link #properties} and config, let the flow complete, terminate JVM.
+     * VertX instance of the shared application context is reused, so that startup does not pay
+     * for another set of event loop and worker threads.
      *
      * @param main Main verticle
      * @param graphService Graph Service to work with. May be omitted (set to null)
      */
     public void runFlow(FlowMainVerticle main, GraphService graphService) {
-        Vertx vertx = Vertx.vertx();
+        ApplicationContext context = ApplicationContextHolder.getInstance();
+        Vertx vertx = context != null ? context.getVertx() : Vertx.vertx();
         vertx.exceptionHandler(err -> {
             getLogger().error("Critical error, application is stopping", err);
             System.exit(1);
@@ -185,4 +188,17 @@ public void setProfile(String profile) {
         properties.put(PROFILE_POINTER, profile);
     }
 
+    /**
+     * Enables dry run: the flow resolves and initializes its tasks, but does not run them.
+     *
+     * @param dryRun dry run flag
+     */
+    @Option(names = {"--dryRun"},
+            description = "Resolve and initialize flow tasks without running them. "
+                    + "Used as a training run for class data sharing archives and for startup benchmarks",
+            required = false)
+    public void setDryRun(boolean dryRun) {
+        properties.put(DRY_RUN_PROPERTY, String.valueOf(dryRun));
+    }
+
 }
@@ -24,15 +24,20 @@
 import static org.qubership.itool.utils.ConfigProperties.DISABLED_FEATURES_PROPERTY;
 import static org.qubership.itool.utils.ConfigProperties.EXCEL_EXPORT_PROPERTY;
 import static org.qubership.itool.utils.ConfigProperties.INCLUDE_DOMAINS_PROPERTY;
+import static org.qubership.itool.utils.ConfigProperties.INCREMENTAL_PARSING_PROPERTY;
 import static org.qubership.itool.utils.ConfigProperties.LAST_STEP_PROPERTY;
 import static org.qubership.itool.utils.ConfigProperties.LOGIN_PROPERTY;
+import static org.qubership.itool.utils.ConfigProperties.MAX_PARALLEL_TASKS_PROPERTY;
 import static org.qubership.itool.utils.ConfigProperties.OFFLINE_MODE_PROPERTY;
+import static org.qubership.itool.utils.ConfigProperties.PARSING_METRICS_PROPERTY;
 import static org.qubership.itool.utils.ConfigProperties.PASSWORD_SOURCE_PROPERTY;
 import static org.qubership.itool.utils.ConfigProperties.PRIOR_RELEASE_POINTER;
 import static org.qubership.itool.utils.ConfigProperties.RELEASE_BRANCH_POINTER;
 import static org.qubership.itool.utils.ConfigProperties.RELEASE_POINTER;
+import static org.qubership.itool.utils.ConfigProperties.REUSE_UNCHANGED_COMPONENTS_PROPERTY;
 import static org.qubership.itool.utils.ConfigProperties.SAVE_PROGRESS_PROPERTY;
 import static org.qubership.itool.utils.ConfigProperties.START_STEP_PROPERTY;
+import static org.qubership.itool.utils.ConfigProperties.TELEMETRY_ENABLED_POINTER;
 import static org.qubership.itool.utils.ConfigProperties.UPLOAD_CONFLUENCE_PAGES_POINTER;
 
 /**
@@ -85,6 +90,34 @@ public void setLastStep(String lastStep) {
         properties.put(LAST_STEP_PROPERTY, lastStep);
     }
 
+    @Option(names = {"-ip", "--incrementalParsing"},
+            description = "Incremental parsing: true/false. Files not changed since previous run are not parsed again, "
+                    + "their cached results are reused instead.")
+    public void setIncrementalParsing(String incrementalParsing) {
+        properties.put(INCREMENTAL_PARSING_PROPERTY, incrementalParsing);
+    }
+
+    @Option(names = {"-pm", "--parsingMetrics"},
+            description = "Parsing metrics: true/false. Parsing time of components is saved and used on subsequent "
+                    + "runs to start the most expensive components first.")
+    public void setParsingMetrics(String parsingMetrics) {
+        properties.put(PARSING_METRICS_PROPERTY, parsingMetrics);
+    }
+
+    @Option(names = {"-ruc", "--reuseUnchangedComponents"},
+            description = "Reuse unchanged components: true/false. Components whose repositories did not change "
+                    + "since previous run are restored from previous result instead of being parsed.")
+    public void setReuseUnchangedComponents(String reuseUnchangedComponents) {
+        properties.put(REUSE_UNCHANGED_COMPONENTS_PROPERTY, reuseUnchangedComponents);
+    }
+
+    @Option(names = {"-mpt", "--maxParallelTasks"},
+            description = "Maximal number of flow tasks running at the same time. Only tasks that declare "
+                    + "non-conflicting resources run concurrently. Default: 1, the flow runs strictly sequentially.")
+    public void setMaxParallelTasks(String maxParallelTasks) {
+        properties.put(MAX_PARALLEL_TASKS_PROPERTY, maxParallelTasks);
+    }
+
     @Option(names = {"-id", "--includeDomains"},
             description = "List of Domains that must be processed. Delimiter is ','")
     public void setIncludeDomains(String includeDomains) {
@@ -127,6 +160,12 @@ public void setOfflineMode(String offlineMode) {
         properties.put(OFFLINE_MODE_PROPERTY, offlineMode);
     }
 
+    @Option(names = {"--telemetry"},
+            description = "Save performance telemetry of flow tasks into \"telemetry\" folder: true/false")
+    public void setTelemetry(String telemetry) {
+        properties.put(TELEMETRY_ENABLED_POINTER, telemetry);
+    }
+
     @Override
     public Integer call() throws Exception {
         LOGGER.info("Inventory tool main flow execution");
@@ -28,22 +28,31 @@
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.qubership.itool.context.FlowContext;
+import org.qubership.itool.context.FlowTelemetry;
 import org.qubership.itool.tasks.FlowTask;
+import org.qubership.itool.tasks.parsing.ParsedFilePatterns;
+import org.qubership.itool.utils.ConfigUtils;
 import org.qubership.itool.utils.FSUtils;
 import org.qubership.itool.utils.JsonUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.LineNumberReader;
+import java.lang.management.ManagementFactory;
 import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -55,13 +64,28 @@
 import java.util.stream.Collectors;
 import javax.annotation.Resource;
 
+import static org.qubership.itool.utils.ConfigProperties.DRY_RUN_PROPERTY;
+import static org.qubership.itool.utils.ConfigProperties.LAST_STEP_PROPERTY;
+import static org.qubership.itool.utils.ConfigProperties.MAX_PARALLEL_TASKS_PROPERTY;
+import static org.qubership.itool.utils.ConfigProperties.SAVE_PROGRESS_PROPERTY;
 import static org.qubership.itool.utils.ConfigProperties.START_STEP_PROPERTY;
+import static org.qubership.itool.utils.ConfigProperties.TELEMETRY_ENABLED_POINTER;
+import static org.qubership.itool.utils.ConfigProperties.TELEMETRY_JFR_POINTER;
 
 
 public abstract class FlowMainVerticle extends AbstractVerticle {
 
     private static final Logger LOG = LoggerFactory.getLogger(FlowMainVerticle.class);
 
+    /** Default limit of tasks running concurrently, see {@link FlowTaskScheduler}.
+     * Parallel execution is opt-in until all the tasks declare their resources. */
+    public static final int DEFAULT_MAX_PARALLEL_TASKS = 1;
+
+    /** Index of task classes of a jar: fully qualified class names, one per line, {@code #} starts a comment.
+     * Task classes listed in the indexes take precedence over the ones found by classpath scanning only,
+     * so an extension jar replacing a built-in task with the same simple name must have its own index. */
+    public static final String TASK_INDEX_RESOURCE = "META-INF/inventory-tool/flow-tasks";
+
     protected Logger getLogger() {
         return LOG;
     }
@@ -164,6 +188,7 @@ public void start() throws Exception {
     }
 
     protected void finishFlow() {
+        saveTelemetry();
         getLogger().info("========== Flow execution [fiid={}] completed in {}",
                 flowContext.getFlowInstanceId(),
                 Duration.ofNanos(System.nanoTime() - executionStart));
@@ -171,16 +196,25 @@ protected void finishFlow() {
     }
 
     protected void terminateFlow(String message) {
+        saveTelemetry();
         getLogger().info("========== Flow execution [fiid={}] failed: {}",
                 flowContext.getFlowInstanceId(), message);
         flowPromise.tryFail(message);
     }
 
     protected void terminateFlow(Throwable e) {
+        saveTelemetry();
         getLogger().error("========== Flow execution [fiid=" + flowContext.getFlowInstanceId() + "] failed", e);
         flowPromise.tryFail(e);
     }
 
+    protected void saveTelemetry() {
+        FlowTelemetry telemetry = flowContext.getResource(FlowTelemetry.class);
+        if (telemetry != null && !flowPromise.future().isComplete()) {
+            telemetry.save(Path.of(FlowTelemetry.TELEMETRY_PATH));
+        }
+    }
+
 
     //------------------------------------------------------
     // Build flow sequence
@@ -228,17 +262,70 @@ protected void deployAndRunTaskSequence(List<String> flowSequence, String startS
             terminateFlow("Step '" + startStep + "' not found");
             return;
         }
+        // Files of component repositories the flow needs, including ones of extension and profile tasks
+        flowContext.getResources().put(ParsedFilePatterns.class, new ParsedFilePatterns(taskInstances));
+
+        if (Boolean.parseBoolean(String.valueOf(config().getValue(DRY_RUN_PROPERTY)))) {
+            // Classes of the flow are loaded and injected, which is what a training run for CDS archive needs
+            getLogger().info("Dry run: {} tasks initialized, JVM uptime {} ms", taskInstances.size(),
+                    ManagementFactory.getRuntimeMXBean().getUptime());
+            finishFlow();
+            return;
+        }
 
-        // We are in some VertX thread where FlowMainVerticle.start() was invoked by VertX. Let's proceed right here.
-        Future<?> chainReaction = Future.succeededFuture();
-        for (FlowTask taskInstance : taskInstances) {
-            chainReaction = chainReaction.compose(r -> taskInstance.startInFlow());
+        if ("true".equals(ConfigUtils.getConfigValue(TELEMETRY_ENABLED_POINTER, config()))) {
+            flowContext.getResources().put(FlowTelemetry.class, new FlowTelemetry(flowContext.getFlowInstanceId(),
+                    flowContext.getVertx(), flowContext.getGraph(), flowContext.getReport(),
+                    "true".equals(ConfigUtils.getConfigValue(TELEMETRY_JFR_POINTER, config()))));
         }
-        chainReaction
+
+        // We are in some VertX thread where FlowMainVerticle.start() was invoked by VertX. Let's proceed right here.
+        new FlowTaskScheduler(taskInstances, getBarrierTasks(taskInstances), getMaxParallelTasks())
+            .start()
             .onFailure(terminator)
             .onSuccess(r -> finishFlow());
     }
 
+    /* Tasks that must run alone: the last step, so that nothing after it starts before break is requested,
+     * and tasks saving progress, so that their snapshots are consistent. With saveProgress = true
+     * progress is saved before every task, so the whole flow runs sequentially. */
+    protected Set<Integer> getBarrierTasks(List<FlowTask> taskInstances) {
+        Set<String> barrierAddresses = new HashSet<>();
+        String lastStep = config().getString(LAST_STEP_PROPERTY);
+        if (StringUtils.isNotBlank(lastStep)) {
+            barrierAddresses.add(FlowTask.TASK_ADDRESS_PREFIX + lastStep);
+        }
+        String saveProgress = config().getString(SAVE_PROGRESS_PROPERTY);
+        boolean saveAll = "true".equals(saveProgress);
+        if (StringUtils.isNotBlank(saveProgress) && !saveAll && !"false".equals(saveProgress)) {
+            for (String step : saveProgress.split("\\s*,\\s*")) {
+                barrierAddresses.add(FlowTask.TASK_ADDRESS_PREFIX + step);
+            }
+        }
+
+        Set<Integer> barriers = new HashSet<>();
+        for (int i = 0; i < taskInstances.size(); i++) {
+            if (saveAll || barrierAddresses.contains(taskInstances.get(i).getTaskAddress())) {
+                barriers.add(i);
+            }
+        }
+        return barriers;
+    }
+
+    protected int getMaxParallelTasks() {
+        Object value = config().getValue(MAX_PARALLEL_TASKS_PROPERTY);
+        if (value == null || StringUtils.isBlank(value.toString())) {
+            return DEFAULT_MAX_PARALLEL_TASKS;
+        }
+        try {
+            return Math.max(1, Integer.parseInt(value.toString().trim()));
+        } catch (NumberFormatException e) {
+            getLogger().warn("Invalid value of {}: '{}', using {}", MAX_PARALLEL_TASKS_PROPERTY, value,
+                    DEFAULT_MAX_PARALLEL_TASKS);
+            return DEFAULT_MAX_PARALLEL_TASKS;
+        }
+    }
+
 
     private FlowTask instantiateTask(Class<? extends FlowTask> clazz) throws Exception {
         FlowTask taskInstance = clazz.getDeclaredConstructor().newInstance();
@@ -260,17 +347,14 @@ protected Map<String, Class<? extends FlowTask>> getTaskClasses(Collection<Strin
         Map<String, Class<? extends FlowTask>> classes = new HashMap<>();
         ClassLoader taskClassLoader = flowContext.getTaskClassLoader();
 
-        for (ClassPath.ClassInfo info : ClassPath.from(taskClassLoader).getTopLevelClasses()) {
-            String shortName = info.getSimpleName();
-            if (! simpleNames.contains(shortName)) {
-                continue;
-            }
-            Class<?> clazz = Class.forName(info.getName(), false, taskClassLoader);
-            if (Modifier.isAbstract(clazz.getModifiers()) || ! FlowTask.class.isAssignableFrom(clazz)) {
-                continue;
-            }
-            getLogger().debug("Java task found: {}", clazz);
-            classes.put(shortName, clazz.asSubclass(FlowTask.class));
+        findIndexedTaskClasses(taskClassLoader, simpleNames, classes);
+        Set<String> notIndexed = taskToPossibleNames.values().stream()
+                .filter(names -> names.stream().noneMatch(classes::containsKey))
+                .flatMap(Collection::stream)
+                .collect(Collectors.toSet());
+        if (!notIndexed.isEmpty()) {
+            getLogger().info("Tasks not found in index {}, scanning classpath for {}", TASK_INDEX_RESOURCE, notIndexed);
+            scanClassPathForTaskClasses(taskClassLoader, notIndexed, classes);
         }
         // XXX Here we may add lookup for tasks packaged as .java files inside
         // JavaAppContextVerticleFactory.getCustomTaskPath()
@@ -298,6 +382,72 @@ protected Map<String, Class<? extends FlowTask>> getTaskClasses(Collection<Strin
         return result;
     }
 
+    /* Look up task classes in indexes of all jars visible to the class loader, see TASK_INDEX_RESOURCE.
+     * Simple names listed with different classes are left out, so that classpath scanning resolves them
+     * the same way as for jars without indexes. Stale entries are skipped as well. */
+    protected void findIndexedTaskClasses(ClassLoader taskClassLoader, Set<String> simpleNames,
+            Map<String, Class<? extends FlowTask>> classes) throws IOException {
+        Map<String, Class<? extends FlowTask>> found = new HashMap<>();
+        Set<String> ambiguous = new HashSet<>();
+        Enumeration<URL> indexes = taskClassLoader.getResources(TASK_INDEX_RESOURCE);
+        while (indexes.hasMoreElements()) {
+            URL index = indexes.nextElement();
+            getLogger().debug("Reading task index: {}", index);
+            List<String> classNames;
+            try (InputStream in = index.openStream()) {
+                classNames = new BufferedReader(new InputStreamReader(in, JsonUtils.UTF_8)).lines()
+                        .map(line -> line.replaceFirst("#.*$", "").trim())
+                        .filter(StringUtils::isNotEmpty)
+                        .collect(Collectors.toList());
+            }
+            for (String className : classNames) {
+                String shortName = className.substring(className.lastIndexOf('.') + 1);
+                if (!simpleNames.contains(shortName) || classes.containsKey(shortName)) {
+                    continue;
+                }
+                Class<? extends FlowTask> previous = found.get(shortName);
+                if (previous != null && previous.getName().equals(className)) {
+                    continue;
+                }
+                try {
+                    addTaskClass(Class.forName(className, false, taskClassLoader), shortName, found);
+                } catch (ClassNotFoundException | LinkageError e) {
+                    getLogger().warn("Task class {} listed in {} could not be loaded: {}",
+                            className, index, e.toString());
+                    continue;
+                }
+                if (previous != null && found.get(shortName) != previous) {
+                    ambiguous.add(shortName);
+                }
+            }
+        }
+        if (!ambiguous.isEmpty()) {
+            getLogger().info("Tasks listed in several indexes, leaving them for classpath scanning: {}", ambiguous);
+            found.keySet().removeAll(ambiguous);
+        }
+        classes.putAll(found);
+    }
+
+    /* Fallback for tasks missing in indexes, e.g. the ones of extension jars without an index */
+    protected void scanClassPathForTaskClasses(ClassLoader taskClassLoader, Set<String> simpleNames,
+            Map<String, Class<? extends FlowTask>> classes) throws IOException, ClassNotFoundException {
+        for (ClassPath.ClassInfo info : ClassPath.from(taskClassLoader).getTopLevelClasses()) {
+            String shortName = info.getSimpleName();
+            if (! simpleNames.contains(shortName)) {
+                continue;
+            }
+            addTaskClass(Class.forName(info.getName(), false, taskClassLoader), shortName, classes);
+        }
+    }
+
+    private void addTaskClass(Class<?> clazz, String shortName, Map<String, Class<? extends FlowTask>> classes) {
+        if (Modifier.isAbstract(clazz.getModifiers()) || ! FlowTask.class.isAssignableFrom(clazz)) {
+            return;
+        }
+        getLogger().debug("Java task found: {}", clazz);
+        classes.put(shortName, clazz.asSubclass(FlowTask.class));
+    }
+
     /* @see FlowTask#getTaskAddress() */
     protected Collection<String> getPossibleClassNames(String taskName) {
         String capitalize = StringUtils.capitalize(taskName);
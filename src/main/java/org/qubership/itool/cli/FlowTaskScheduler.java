@@ -0,0 +1,194 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.cli;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.qubership.itool.tasks.FlowTask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.qubership.itool.tasks.FlowTask.RESOURCE_ALL;
+
+/**
+ * Runs tasks of a flow concurrently where it is safe, according to resources the tasks declare
+ * via {@link FlowTask#resourcesRead()}, {@link FlowTask#resourcesWritten()} and
+ * {@link FlowTask#resourcesAppended()}.
+ *
+ * <p>A task depends on every earlier task of the flow it conflicts with:
+ * <ul><li>writing conflicts with reading, writing and appending the same resource;
+ * <li>appending conflicts with reading the same resource, but not with appending it;
+ * <li>resource names are hierarchical, {@code "graph"} overlaps {@code "graph/library"},
+ *     {@code "*"} overlaps everything.
+ * </ul>
+ * Tasks that do not declare anything write {@code "*"}, so they run alone, as sequence points.
+ * Barrier tasks are sequence points as well. Among ready tasks, earlier ones start first, so that
+ * with parallelism of 1 the flow runs strictly in its order.
+ *
+ * <p>Once a task fails, no more tasks are started, and the result fails.
+ */
+public class FlowTaskScheduler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FlowTaskScheduler.class);
+
+    private final List<FlowTask> tasks;
+    private final int maxParallel;
+    private final BitSet[] dependencies;
+    private final boolean[] sequencePoints;
+
+    private final BitSet started = new BitSet();
+    private final BitSet completed = new BitSet();
+    private final Promise<Void> result = Promise.promise();
+    private int running;
+
+    /**
+     * Create a scheduler.
+     *
+     * @param tasks Tasks in the order of flow
+     * @param barriers Indexes of tasks that must run alone, with everything before them
+     *     completed and nothing after them started
+     * @param maxParallel Maximal number of tasks running at the same time
+     */
+    public FlowTaskScheduler(List<FlowTask> tasks, Set<Integer> barriers, int maxParallel) {
+        this.tasks = tasks;
+        this.maxParallel = Math.max(1, maxParallel);
+        int size = tasks.size();
+        this.dependencies = new BitSet[size];
+        this.sequencePoints = new boolean[size];
+
+        List<List<String>> reads = new ArrayList<>(size);
+        List<List<String>> writes = new ArrayList<>(size);
+        List<List<String>> appends = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            FlowTask task = tasks.get(i);
+            reads.add(Arrays.asList(task.resourcesRead()));
+            writes.add(Arrays.asList(task.resourcesWritten()));
+            appends.add(Arrays.asList(task.resourcesAppended()));
+            sequencePoints[i] = barriers.contains(i) || writes.get(i).contains(RESOURCE_ALL);
+        }
+
+        for (int i = 0; i < size; i++) {
+            BitSet deps = new BitSet(i);
+            for (int j = 0; j < i; j++) {
+                if (sequencePoints[i] || sequencePoints[j]
+                        || overlap(writes.get(i), writes.get(j))
+                        || overlap(writes.get(i), reads.get(j)) || overlap(writes.get(i), appends.get(j))
+                        || overlap(reads.get(i), writes.get(j)) || overlap(appends.get(i), writes.get(j))
+                        || overlap(appends.get(i), reads.get(j)) || overlap(reads.get(i), appends.get(j))) {
+                    deps.set(j);
+                }
+            }
+            dependencies[i] = deps;
+        }
+    }
+
+    /**
+     * Start the flow. Shall be called once.
+     *
+     * @return A Future that succeeds when all tasks complete, or fails with the first failure
+     */
+    public Future<Void> start() {
+        if (LOG.isDebugEnabled()) {
+            for (int i = 0; i < tasks.size(); i++) {
+                LOG.debug("Task {} depends on {}", tasks.get(i).getTaskAddress(), describe(dependencies[i]));
+            }
+        }
+        startReadyTasks();
+        return result.future();
+    }
+
+    /** Whether the task at given index runs alone */
+    public boolean isSequencePoint(int index) {
+        return sequencePoints[index];
+    }
+
+    /** Indexes of tasks the task at given index waits for */
+    public BitSet getDependencies(int index) {
+        return (BitSet) dependencies[index].clone();
+    }
+
+    private synchronized void startReadyTasks() {
+        if (result.future().isComplete()) {
+            return;
+        }
+        if (completed.cardinality() == tasks.size()) {
+            result.tryComplete();
+            return;
+        }
+        for (int i = started.nextClearBit(0); i < tasks.size() && running < maxParallel;
+                i = started.nextClearBit(i + 1)) {
+            BitSet waiting = (BitSet) dependencies[i].clone();
+            waiting.andNot(completed);
+            if (!waiting.isEmpty()) {
+                continue;
+            }
+            started.set(i);
+            running++;
+            int index = i;
+            FlowTask task = tasks.get(i);
+            Future<?> future;
+            try {
+                future = task.startInFlow();
+            } catch (Throwable e) {
+                future = Future.failedFuture(e);
+            }
+            future.onComplete(ar -> taskFinished(index, ar.cause()));
+        }
+    }
+
+    private void taskFinished(int index, Throwable failure) {
+        synchronized (this) {
+            running--;
+            if (failure != null) {
+                LOG.error("Task {} failed, no more tasks will be started", tasks.get(index).getTaskAddress());
+                result.tryFail(failure);
+                return;
+            }
+            completed.set(index);
+        }
+        startReadyTasks();
+    }
+
+    private String describe(BitSet indexes) {
+        List<String> names = new ArrayList<>();
+        indexes.stream().forEach(i -> names.add(tasks.get(i).getTaskAddress()));
+        return names.toString();
+    }
+
+    static boolean overlap(List<String> first, List<String> second) {
+        for (String a : first) {
+            for (String b : second) {
+                if (overlap(a, b)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    static boolean overlap(String a, String b) {
+        return RESOURCE_ALL.equals(a) || RESOURCE_ALL.equals(b) || a.equals(b)
+                || a.startsWith(b + "/") || b.startsWith(a + "/");
+    }
+
+}
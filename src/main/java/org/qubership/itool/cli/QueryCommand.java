@@ -25,6 +25,7 @@
 import static org.qubership.itool.utils.ConfigProperties.OFFLINE_MODE_PROPERTY;
 import static org.qubership.itool.utils.ConfigProperties.PASSWORD_SOURCE_PROPERTY;
 import static org.qubership.itool.utils.ConfigProperties.QUERY_FILE_POINTER;
+import static org.qubership.itool.utils.ConfigProperties.QUERY_LAZY_LOADING_POINTER;
 import static org.qubership.itool.utils.ConfigProperties.QUERY_PROGRESS_PATH_POINTER;
 import static org.qubership.itool.utils.ConfigProperties.QUERY_STEP_POINTER;
 
@@ -75,6 +76,13 @@ public void setProgressPath(String progressPath) {
         this.properties.put(QUERY_PROGRESS_PATH_POINTER, progressPath);
     }
 
+    @Option(names = {"--lazy"},
+            description = "Map graph dump into memory and decode vertices on first access. "
+                    + "Speeds up loading of large dumps; the dump must not be modified while CLI runs")
+    public void setLazy(boolean lazy) {
+        this.properties.put(QUERY_LAZY_LOADING_POINTER, String.valueOf(lazy));
+    }
+
     @Override
     public Integer call() throws Exception {
         LOGGER.info("Query command execution");
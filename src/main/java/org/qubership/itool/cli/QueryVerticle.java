@@ -33,13 +33,17 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Resource;
 
 import static org.qubership.itool.utils.ConfigProperties.QUERY_FILE_POINTER;
+import static org.qubership.itool.utils.ConfigProperties.QUERY_LAZY_LOADING_POINTER;
 import static org.qubership.itool.utils.ConfigProperties.QUERY_PROGRESS_PATH_POINTER;
 import static org.qubership.itool.utils.ConfigProperties.QUERY_STEP_POINTER;
 import static org.qubership.itool.utils.ConfigProperties.SUPER_REPOSITORY_DIR_POINTER;
@@ -80,23 +84,27 @@ private void startFromStep(Vertx vertx, JsonObject config, WorkerExecutor execut
             ConfigUtils.getConfigValue(QUERY_PROGRESS_PATH_POINTER, config),
             FlowTask.TASK_ADDRESS_PREFIX + step + ".json");
 
+        boolean lazy = isLazyLoading(config);
         executor.executeBlocking(() -> {
-                JsonObject dump = null;
-                try {
-                    dump = JsonUtils.readJsonFile(progressPath.toString());
-                } catch (IOException /* | DecodeException */ e) {
-                    throw new RuntimeException(e);
-                }
-                if (dump == null) {
-                    throw new RuntimeException("Dump is empty or not found for step " + step);
-                }
-
                 Graph graph = graphProvider.get();
-                GraphDumpSupport.restoreFromJson(graph, dump);
+                if (lazy) {
+                    restoreFromMappedFile(graph, progressPath);
+                } else {
+                    JsonObject dump = null;
+                    try {
+                        dump = JsonUtils.readJsonFile(progressPath.toString());
+                    } catch (IOException /* | DecodeException */ e) {
+                        throw new RuntimeException(e);
+                    }
+                    if (dump == null) {
+                        throw new RuntimeException("Dump is empty or not found for step " + step);
+                    }
+                    GraphDumpSupport.restoreFromJson(graph, dump);
+                    dump = null;    // Help GC
+                }
                 if (graph.getVertexCount() == 1) {
                     throw new RuntimeException("Graph is empty for step " + step);
                 }
-                dump = null;    // Help GC
 
                 System.out.println("Inventory tool Gremlin CLI");
                 System.out.println("Graph restored from file: " + progressPath.normalize());
@@ -116,7 +124,16 @@ private void startFromStep(Vertx vertx, JsonObject config, WorkerExecutor execut
     private void startFromFile(Vertx vertx, JsonObject config, WorkerExecutor executor, String file) {
         Path filePath = Path.of(file);
 
+        boolean lazy = isLazyLoading(config);
         executor.executeBlocking(() -> {
+                Graph graph = graphProvider.get();
+                // Lazy loading applies to graph dumps, but not to plain arrays of vertices
+                if (lazy && !startsWithArray(filePath)) {
+                    restoreFromMappedFile(graph, filePath);
+                    startCli(graph, filePath);
+                    return null;
+                }
+
                 String content = null;
                 try {
                     content = FSUtils.readFileAsIs(filePath.toString());
@@ -127,7 +144,6 @@ private void startFromFile(Vertx vertx, JsonObject config, WorkerExecutor execut
                     throw new RuntimeException("Empty data");
                 }
 
-                Graph graph = graphProvider.get();
                 if (content.startsWith("[")) {
                     loadFromJsonArray(graph, content);
                 } else {
@@ -135,14 +151,7 @@ private void startFromFile(Vertx vertx, JsonObject config, WorkerExecutor execut
                 }
                 content = null; // Help GC
 
-                System.out.println("Inventory tool Gremlin CLI");
-                System.out.println("Graph restored from file: " + filePath.normalize());
-                System.out.println("Total Vertex count: " + graph.getVertexCount());
-                System.out.println("Total Edges count: " + graph.getEdgeCount());
-                System.out.println("For help please enter: help;");
-
-                CliQuery cli = new CliQuery(graph);
-                cli.run();
+                startCli(graph, filePath);
                 return null;
             })
             .onFailure(f -> {
@@ -151,6 +160,40 @@ private void startFromFile(Vertx vertx, JsonObject config, WorkerExecutor execut
             });
     }
 
+    private void startCli(Graph graph, Path filePath) {
+        System.out.println("Inventory tool Gremlin CLI");
+        System.out.println("Graph restored from file: " + filePath.normalize());
+        System.out.println("Total Vertex count: " + graph.getVertexCount());
+        System.out.println("Total Edges count: " + graph.getEdgeCount());
+        System.out.println("For help please enter: help;");
+
+        CliQuery cli = new CliQuery(graph);
+        cli.run();
+    }
+
+    private static boolean isLazyLoading(JsonObject config) {
+        return Boolean.parseBoolean(ConfigUtils.getConfigValue(QUERY_LAZY_LOADING_POINTER, config));
+    }
+
+    private static void restoreFromMappedFile(Graph graph, Path path) {
+        try {
+            GraphDumpSupport.restoreFromMappedFile(graph, path);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /* Check the first non-whitespace character of the file */
+    private static boolean startsWithArray(Path path) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+            int c;
+            do {
+                c = in.read();
+            } while (c != -1 && Character.isWhitespace(c));
+            return c == '[';
+        }
+    }
+
     private void loadFromJsonArray(Graph graph, String content) {
         JsonArray jsonArray = null;
         try {
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.qubership.itool.cli.daemon;
+
+import org.qubership.itool.cli.AbstractCommand;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+import static org.qubership.itool.utils.ConfigProperties.DAEMON_AUTH_POINTER;
+import static org.qubership.itool.utils.ConfigProperties.DAEMON_DATA_DIRECTORY_POINTER;
+import static org.qubership.itool.utils.ConfigProperties.DAEMON_HOST_POINTER;
+import static org.qubership.itool.utils.ConfigProperties.DAEMON_OUTPUT_DIRECTORY_POINTER;
+import static org.qubership.itool.utils.ConfigProperties.DAEMON_PORT_POINTER;
+import static org.qubership.itool.utils.ConfigProperties.OFFLINE_MODE_PROPERTY;
+import static org.qubership.itool.utils.ConfigProperties.SAVE_PROGRESS_PROPERTY;
+
+/**
+ * Run a long-living daemon that keeps merged graphs in memory and serves queries, merges and exports
+ * over a local socket. See {@link DaemonVerticle} for the protocol.
+ */
+@Command(
+    name = "daemon",
+    description = "Keep graphs in memory and serve query, merge and export requests over a local socket",
+    mixinStandardHelpOptions = true
+)
+public class DaemonCommand extends AbstractCommand {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DaemonCommand.class);
+
+    @Override
+    protected Logger getLogger() {
+        return LOGGER;
+    }
+
+    public DaemonCommand() {
+        super();
+        properties.put(OFFLINE_MODE_PROPERTY, "true");
+        properties.put(SAVE_PROGRESS_PROPERTY, "false");
+    }
+
+    @Option(names = {"--host"}, description = "Address to listen at, default: " + DaemonVerticle.DEFAULT_HOST)
+    public void setHost(String host) {
+        properties.put(DAEMON_HOST_POINTER, host);
+    }
+
+    @Option(names = {"--port"}, description = "Port to listen at, default: " + DaemonVerticle.DEFAULT_PORT)
+    public void setPort(int port) {
+        properties.put(DAEMON_PORT_POINTER, String.valueOf(port));
+    }
+
+    @Option(names = {"--dataDirectory"},
+            description = "Directory with graphs: appName/appVersion.json[.gz] for applications, "
+                + "appName/appVersion/ for component graphs to assemble. Default: current directory")
+    public void setDataDirectory(String dataDirectory) {
+        properties.put(DAEMON_DATA_DIRECTORY_POINTER, dataDirectory);
+    }
+
+    @Option(names = {"--outputDirectory"}, description = "Directory for exported graphs. Default: current directory")
+    public void setOutputDirectory(String outputDirectory) {
+        properties.put(DAEMON_OUTPUT_DIRECTORY_POINTER, outputDirectory);
+    }
+
+    @Option(names = {"--noAuth"},
+            description = "Accept requests without token. Allowed only for loopback addresses")
+    public void setNoAuth(boolean noAuth) {
+        properties.put(DAEMON_AUTH_POINTER, String.valueOf(!noAuth));
+    }
+
+    @Override
+    public Integer call() throws Exception {
+        getLogger().info("Daemon execution");
+
+        // The flow lasts until shutdown is requested
+        runFlow(new DaemonVerticle(), null);
+
+        return 0;
+    }
+}
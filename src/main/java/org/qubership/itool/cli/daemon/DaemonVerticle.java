@@ -0,0 +1,465 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.qubership.itool.cli.daemon;
+
+import com.google.inject.name.Named;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.NetSocket;
+import io.vertx.core.parsetools.RecordParser;
+import jakarta.inject.Provider;
+import org.apache.commons.lang3.StringUtils;
+import org.qubership.itool.cli.FlowMainVerticle;
+import org.qubership.itool.modules.graph.DirectoryGraphFetcher;
+import org.qubership.itool.modules.graph.Graph;
+import org.qubership.itool.modules.graph.GraphClassifier;
+import org.qubership.itool.modules.graph.GraphClassifierBuilder;
+import org.qubership.itool.modules.graph.GraphDumpSupport;
+import org.qubership.itool.modules.graph.GraphManager;
+import org.qubership.itool.modules.graph.GraphService;
+import org.qubership.itool.modules.graph.GraphServiceImpl;
+import org.qubership.itool.modules.gremlin2.GremlinException;
+import org.qubership.itool.modules.processor.MergerApi;
+import org.qubership.itool.modules.query.QueryExecutor;
+import org.qubership.itool.modules.query.converter.ToJsonArrayConverter;
+import org.qubership.itool.modules.report.GraphReport;
+import org.qubership.itool.utils.ConfigUtils;
+import org.qubership.itool.utils.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Resource;
+
+import static org.qubership.itool.utils.ConfigProperties.DAEMON_AUTH_POINTER;
+import static org.qubership.itool.utils.ConfigProperties.DAEMON_DATA_DIRECTORY_POINTER;
+import static org.qubership.itool.utils.ConfigProperties.DAEMON_HOST_POINTER;
+import static org.qubership.itool.utils.ConfigProperties.DAEMON_OUTPUT_DIRECTORY_POINTER;
+import static org.qubership.itool.utils.ConfigProperties.DAEMON_PORT_POINTER;
+
+/**
+ * Long-running verticle that keeps merged graphs in memory and serves requests over a local socket.
+ * Graphs are built by {@link GraphManager} from application graphs found by {@link DirectoryGraphFetcher}
+ * and cached by {@link GraphService}, so subsequent queries reuse them, as well as compiled queries
+ * and warmed up JIT.
+ *
+ * <p>Every request and response is a single line of JSON. Responses have {@code "status"}: one of
+ * {@code "ok"}, {@code "unauthorized"}, {@code "badRequest"}, {@code "notFound"}, {@code "failed"},
+ * all but the first with {@code "error"}.
+ *
+ * <p>Queries are Groovy scripts, so every request must carry {@code "token"}: a random value written on
+ * start to {@value #TOKEN_FILE} in the data directory, readable by the owner only. Authentication may be
+ * disabled with {@code daemon.auth=false} only when the daemon listens at a loopback address.
+ * Requests:
+ * <ul><li>{@code {"op": "load", "applications": ["app:1.0", ...], "withReport": false}} - load
+ *     or merge a graph, returns its {@code "id"}
+ * <li>{@code {"op": "list"}} - list loaded graphs
+ * <li>{@code {"op": "describe", "graph": id}} - graph statistics
+ * <li>{@code {"op": "drop", "graph": id}} - drop a graph
+ * <li>{@code {"op": "query", "graph": id, "query": ".V().hasType('domain').id()"}} - run Gremlin query
+ * <li>{@code {"op": "export", "graph": id, "file": "name.json.gz"}} - save graph dump into output directory
+ * <li>{@code {"op": "shutdown"}} - stop the daemon
+ * </ul>
+ */
+public class DaemonVerticle extends FlowMainVerticle {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DaemonVerticle.class);
+
+    public static final String DEFAULT_HOST = "127.0.0.1";
+    public static final int DEFAULT_PORT = 8990;
+    public static final String TOKEN_FILE = ".daemon-token";
+
+    public static final String STATUS_OK = "ok";
+    public static final String ERROR_UNAUTHORIZED = "unauthorized";
+    public static final String ERROR_BAD_REQUEST = "badRequest";
+    public static final String ERROR_NOT_FOUND = "notFound";
+    public static final String ERROR_FAILED = "failed";
+
+    @Resource
+    @Named("prototype")
+    protected Provider<Graph> graphProvider;
+
+    @Resource
+    @Named("prototype")
+    protected Provider<GraphReport> graphReportProvider;
+
+    @Resource
+    protected Provider<MergerApi> graphMergerProvider;
+
+    @Resource
+    protected Provider<GraphClassifierBuilder> graphClassifierBuilderProvider;
+
+    private final Map<String, DaemonGraph> graphs = new ConcurrentHashMap<>();
+    private final Promise<Integer> listening = Promise.promise();
+    private GraphService graphService;
+    private Path outputDirectory;
+    // Null if authentication is disabled
+    private byte[] token;
+    private Path tokenFile;
+
+    @Override
+    protected Logger getLogger() {
+        return LOG;
+    }
+
+    /** Port the daemon listens to, available once the server has started */
+    public Future<Integer> listening() {
+        return listening.future();
+    }
+
+    @Override
+    public void start() {
+        JsonObject config = config();
+        Path dataDirectory = Path.of(StringUtils.defaultIfBlank(
+                ConfigUtils.getConfigValue(DAEMON_DATA_DIRECTORY_POINTER, config), "."));
+        outputDirectory = Path.of(StringUtils.defaultIfBlank(
+                ConfigUtils.getConfigValue(DAEMON_OUTPUT_DIRECTORY_POINTER, config), "."))
+                .toAbsolutePath().normalize();
+        String host = StringUtils.defaultIfBlank(ConfigUtils.getConfigValue(DAEMON_HOST_POINTER, config), DEFAULT_HOST);
+        String port = ConfigUtils.getConfigValue(DAEMON_PORT_POINTER, config);
+        boolean auth = !"false".equalsIgnoreCase(
+                StringUtils.trim(ConfigUtils.getConfigValue(DAEMON_AUTH_POINTER, config)));
+
+        try {
+            if (auth) {
+                tokenFile = dataDirectory.resolve(TOKEN_FILE).toAbsolutePath().normalize();
+                token = createToken(tokenFile);
+            } else if (!isLoopback(host)) {
+                throw new IllegalStateException("Authentication can't be disabled when listening at " + host);
+            }
+        } catch (IOException | RuntimeException e) {
+            listening.fail(e);
+            terminateFlow(e);
+            return;
+        }
+
+        graphService = createGraphService(dataDirectory);
+
+        vertx.createNetServer()
+            .connectHandler(this::handleConnection)
+            .listen(StringUtils.isBlank(port) ? DEFAULT_PORT : Integer.parseInt(port.trim()), host)
+            .onSuccess(server -> {
+                getLogger().info("========== Daemon is listening on {}:{}, data directory: {}, token file: {}",
+                        host, server.actualPort(), dataDirectory.toAbsolutePath().normalize(),
+                        tokenFile == null ? "none, authentication is disabled" : tokenFile);
+                listening.complete(server.actualPort());
+            })
+            .onFailure(e -> {
+                listening.fail(e);
+                terminateFlow(e);
+            });
+    }
+
+    protected GraphService createGraphService(Path dataDirectory) {
+        GraphManager graphManager = new GraphManager(vertx,
+                new DirectoryGraphFetcher(dataDirectory, graphMergerProvider), false,
+                graphProvider, graphReportProvider, graphMergerProvider);
+        return new GraphServiceImpl(graphManager);
+    }
+
+    @Override
+    protected List<String> getFlowSequence() {
+        return null;    // Not intended to run a flow
+    }
+
+    @Override
+    protected void finishFlow() {
+        deleteToken();
+        super.finishFlow();
+    }
+
+    @Override
+    protected void terminateFlow(Throwable e) {
+        deleteToken();
+        super.terminateFlow(e);
+    }
+
+
+    //------------------------------------------------------
+    // Authentication
+
+    /* Write a new random token into a file readable by the owner only */
+    static byte[] createToken(Path file) throws IOException {
+        byte[] random = new byte[32];
+        new SecureRandom().nextBytes(random);
+        StringBuilder hex = new StringBuilder();
+        for (byte b : random) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+
+        Files.createDirectories(file.getParent());
+        Files.deleteIfExists(file);
+        if (file.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(file, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        } else {
+            Files.createFile(file);
+            File f = file.toFile();
+            f.setReadable(false, false);
+            f.setWritable(false, false);
+            f.setReadable(true, true);
+            f.setWritable(true, true);
+        }
+        Files.writeString(file, hex);
+        return hex.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private void deleteToken() {
+        if (tokenFile != null) {
+            try {
+                Files.deleteIfExists(tokenFile);
+            } catch (IOException e) {
+                getLogger().warn("Failed to delete token file {}: {}", tokenFile, e.toString());
+            }
+        }
+    }
+
+    private boolean isAuthorized(JsonObject request) {
+        if (token == null) {
+            return true;
+        }
+        Object value = request.getValue("token");
+        return value instanceof String
+                && MessageDigest.isEqual(token, ((String) value).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    static boolean isLoopback(String host) {
+        try {
+            return InetAddress.getByName(host).isLoopbackAddress();
+        } catch (UnknownHostException e) {
+            return false;
+        }
+    }
+
+
+    //------------------------------------------------------
+    // Request handling
+
+    private void handleConnection(NetSocket socket) {
+        RecordParser parser = RecordParser.newDelimited("\n", socket);
+        parser.exceptionHandler(e -> getLogger().warn("Connection error: {}", e.toString()));
+        parser.handler(line -> {
+            if (line.length() == 0 || line.toString().isBlank()) {
+                return;
+            }
+            // One request at a time per connection, so that responses come in order of requests
+            parser.pause();
+            handleRequest(line).onComplete(ar -> {
+                socket.write(ar.result().encode() + "\n");
+                parser.resume();
+            });
+        });
+    }
+
+    private Future<JsonObject> handleRequest(Buffer line) {
+        JsonObject request;
+        try {
+            request = line.toJsonObject();
+        } catch (DecodeException e) {
+            return Future.succeededFuture(error(ERROR_BAD_REQUEST, e));
+        }
+        // No operation is dispatched before authentication
+        if (!isAuthorized(request)) {
+            return Future.succeededFuture(error(ERROR_UNAUTHORIZED,
+                    new SecurityException("Missing or invalid token, see " + TOKEN_FILE + " in the data directory")));
+        }
+        String op = request.getString("op", "");
+        String id = request.getString("graph");
+        Callable<JsonObject> action;
+        switch (op) {
+            case "list":
+                action = this::listGraphs;
+                break;
+            case "load":
+                action = () -> loadGraph(request);
+                break;
+            case "describe":
+                action = () -> describe(id, getGraph(id));
+                break;
+            case "drop":
+                action = () -> dropGraph(id);
+                break;
+            case "query":
+                action = () -> query(id, request.getString("query"));
+                break;
+            case "export":
+                action = () -> export(id, request.getString("file"));
+                break;
+            case "shutdown":
+                // Let the response go before the flow ends
+                vertx.setTimer(100, t -> finishFlow());
+                return Future.succeededFuture(new JsonObject().put("status", STATUS_OK));
+            default:
+                return Future.succeededFuture(error(ERROR_BAD_REQUEST,
+                        new IllegalArgumentException("Unknown operation: '" + op + "'")));
+        }
+
+        // Requests of different connections are independent, so they run unordered in worker pool
+        return vertx.executeBlocking(() -> action.call().put("status", STATUS_OK), false)
+            .recover(e -> {
+                if (e instanceof NoSuchElementException) {
+                    return Future.succeededFuture(error(ERROR_NOT_FOUND, e));
+                } else if (e instanceof IllegalArgumentException || e instanceof GremlinException) {
+                    return Future.succeededFuture(error(ERROR_BAD_REQUEST, e));
+                }
+                getLogger().error("Request '" + op + "' failed", e);
+                return Future.succeededFuture(error(ERROR_FAILED, e));
+            });
+    }
+
+    private static JsonObject error(String status, Throwable e) {
+        return new JsonObject().put("status", status).put("error", String.valueOf(e.getMessage()));
+    }
+
+
+    //------------------------------------------------------
+    // Actions
+
+    private JsonObject listGraphs() {
+        JsonArray result = new JsonArray();
+        for (DaemonGraph daemonGraph : graphs.values()) {
+            result.add(new JsonObject()
+                .put("id", daemonGraph.classifier.getId())
+                .put("applications", new JsonArray(daemonGraph.classifier.getApplicationVersionIds())));
+        }
+        return new JsonObject().put("graphs", result);
+    }
+
+    private JsonObject loadGraph(JsonObject request) {
+        JsonArray applications = request.getJsonArray("applications");
+        if (applications == null || applications.isEmpty()) {
+            throw new IllegalArgumentException("Non-empty 'applications' array expected");
+        }
+        GraphClassifierBuilder builder = graphClassifierBuilderProvider.get()
+                .setWithReport(request.getBoolean("withReport", false));
+        for (Object application : applications) {
+            builder.addApplicationVersionId(String.valueOf(application));
+        }
+        GraphClassifier classifier = builder.build();
+
+        Graph graph = graphService.getGraphByClassifier(classifier);
+        if (graph == null) {
+            throw new IllegalStateException("Graph can't be loaded for " + applications);
+        }
+        graphs.putIfAbsent(classifier.getId(), new DaemonGraph(classifier));
+        return describe(classifier.getId(), graph);
+    }
+
+    private JsonObject dropGraph(String id) {
+        DaemonGraph daemonGraph = id == null ? null : graphs.remove(id);
+        if (daemonGraph == null) {
+            throw new NoSuchElementException("Graph not found: " + id);
+        }
+        graphService.evictCacheByGraphClassifier(daemonGraph.classifier);
+        return new JsonObject().put("id", id);
+    }
+
+    private JsonObject query(String id, String query) {
+        if (StringUtils.isBlank(query)) {
+            throw new IllegalArgumentException("'query' expected");
+        }
+        // Look up once: the graph may be dropped concurrently
+        DaemonGraph daemonGraph = getDaemonGraph(id);
+        Graph graph = getGraph(daemonGraph);
+        JsonArray result;
+        // Executor keeps variables of the query, so queries are serialized per graph
+        synchronized (daemonGraph) {
+            result = (JsonArray) daemonGraph.getExecutor(graph).executeAndConvert(query.trim());
+        }
+        return new JsonObject().put("result", result).put("total", result.size());
+    }
+
+    private JsonObject export(String id, String file) throws Exception {
+        if (StringUtils.isBlank(file)) {
+            throw new IllegalArgumentException("'file' expected");
+        }
+        Path target = outputDirectory.resolve(file).normalize();
+        if (!target.startsWith(outputDirectory) || target.equals(outputDirectory)) {
+            throw new IllegalArgumentException("Invalid file: " + file);
+        }
+        Graph graph = getGraph(id);
+        Files.createDirectories(target.getParent());
+        JsonUtils.saveJson(target, GraphDumpSupport.dumpToJson(graph, false), false);
+        return new JsonObject().put("id", id).put("file", target.toString());
+    }
+
+    private Graph getGraph(String id) {
+        return getGraph(getDaemonGraph(id));
+    }
+
+    private DaemonGraph getDaemonGraph(String id) {
+        DaemonGraph daemonGraph = id == null ? null : graphs.get(id);
+        if (daemonGraph == null) {
+            throw new NoSuchElementException("Graph not loaded: " + id);
+        }
+        return daemonGraph;
+    }
+
+    private Graph getGraph(DaemonGraph daemonGraph) {
+        // Graph is re-built if it was evicted from cache
+        Graph graph = graphService.getGraphByClassifier(daemonGraph.classifier);
+        if (graph == null) {
+            throw new IllegalStateException("Graph can't be loaded: " + daemonGraph.classifier.getId());
+        }
+        return graph;
+    }
+
+    private JsonObject describe(String id, Graph graph) {
+        return new JsonObject()
+            .put("id", id)
+            .put("vertices", graph.getVertexCount())
+            .put("edges", graph.getEdgeCount());
+    }
+
+    static class DaemonGraph {
+        final GraphClassifier classifier;
+        private Graph graph;
+        private QueryExecutor executor;
+
+        DaemonGraph(GraphClassifier classifier) {
+            this.classifier = classifier;
+        }
+
+        QueryExecutor getExecutor(Graph currentGraph) {
+            if (executor == null || graph != currentGraph) {
+                graph = currentGraph;
+                executor = new QueryExecutor(currentGraph);
+                executor.setConverter(new ToJsonArrayConverter());
+            }
+            return executor;
+        }
+    }
+
+}
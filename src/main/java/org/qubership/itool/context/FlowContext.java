@@ -42,6 +42,9 @@ public interface FlowContext {
 
     GraphReport getReport();
 
+    /* Registry of views of data derived from the graph, shared by tasks */
+    MaterializedViews getViews();
+
     /* Dump flow data (that is: graph data, report and other associated stuff) into file.
      * Flow control (tasks passed, etc) is not saved. */
     void dumpDataToFile(File folder, String file);
@@ -16,11 +16,13 @@
 
 package org.qubership.itool.context;
 
+import com.google.inject.BindingAnnotation;
 import com.google.inject.Injector;
 import com.google.inject.Key;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
 import jakarta.inject.Inject;
+import jakarta.inject.Qualifier;
 import org.qubership.itool.modules.graph.Graph;
 import org.qubership.itool.modules.graph.GraphClassifier;
 import org.qubership.itool.modules.graph.GraphClassifierBuilder;
@@ -50,6 +52,7 @@ public class FlowContextImpl implements FlowContext {
     private final String flowInstanceId = UUID.randomUUID().toString();
 
     private final Map<Class<?>, Object> resources = new HashMap<>();
+    private final MaterializedViews views = new MaterializedViews(this::getGraph);
     private Graph graph;
     private GraphService graphService;
     private GraphClassifier graphClassifier;
@@ -140,6 +143,11 @@ public GraphReport getReport() {
         return report;
     }
 
+    @Override
+    public MaterializedViews getViews() {
+        return views;
+    }
+
     private void setAnnotatedFieldValues(Object obj, List<Field> fields) {
         for (Field field : fields) {
             Annotation annotation = field.getDeclaredAnnotation(Resource.class);
@@ -148,11 +156,15 @@ private void setAnnotatedFieldValues(Object obj, List<Field> fields) {
             }
 
             Class<?> fieldType = field.getType();
-            // Try to get class by type from resources first
-            Object resource = this.resources.get(fieldType);
+            Annotation qualifier = getBindingAnnotation(field);
+            // Try to get class by type from resources first. Qualified fields, e.g. @Named("prototype"),
+            // are always resolved by injector
+            Object resource = qualifier == null ? this.resources.get(fieldType) : null;
             if (resource == null) {
                 try {
-                    Key<?> key = Key.get(field.getGenericType());
+                    Key<?> key = qualifier == null
+                            ? Key.get(field.getGenericType())
+                            : Key.get(field.getGenericType(), qualifier);
                     resource = injector.getInstance(key);
                 } catch (Exception e) {
                     LOG.warn("Could not get instance for field {} of type {}: {}",
@@ -172,6 +184,16 @@ private void setAnnotatedFieldValues(Object obj, List<Field> fields) {
         }
     }
 
+    private static Annotation getBindingAnnotation(Field field) {
+        for (Annotation annotation : field.getDeclaredAnnotations()) {
+            Class<? extends Annotation> type = annotation.annotationType();
+            if (type.isAnnotationPresent(BindingAnnotation.class) || type.isAnnotationPresent(Qualifier.class)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
     private void setFieldValue(Object obj, Field field, Object value) {
         try {
             field.setAccessible(true);
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.context;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/** JFR event for execution of a flow task, see {@link FlowTelemetry} */
+@Name("org.qubership.itool.FlowTask")
+@Label("Flow Task")
+@Category("Inventory Tool")
+@Description("Execution of a flow task")
+class FlowTaskEvent extends Event {
+
+    @Label("Flow Instance Id")
+    String flowInstanceId;
+
+    @Label("Task")
+    String task;
+
+    @Label("Status")
+    String status;
+
+    @Label("Process CPU Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long processCpuTime;
+
+    @Label("Vertices Delta")
+    int verticesDelta;
+
+    @Label("Edges Delta")
+    int edgesDelta;
+
+    @Label("Report Records Delta")
+    int reportRecordsDelta;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocatedBytes;
+
+    @Label("Heap Used")
+    @DataAmount
+    long heapUsedBytes;
+
+}
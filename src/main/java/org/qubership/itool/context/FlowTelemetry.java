@@ -0,0 +1,312 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.context;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.qubership.itool.modules.graph.Graph;
+import org.qubership.itool.modules.report.GraphReport;
+import org.qubership.itool.utils.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects performance telemetry of a flow run: for every task, wall time, process CPU time,
+ * changes of vertex, edge and report record counts, allocated bytes and heap usage.
+ *
+ * <p>Process-wide values (CPU time, allocated bytes) cover everything running during the task,
+ * so they overlap for tasks running concurrently. Allocations of threads that terminated during
+ * the task are not counted.
+ *
+ * <p>Telemetry is collected only when enabled with {@code /telemetry/enabled} set to {@code true}.
+ * It is saved into {@link #TELEMETRY_PATH} as JSON and CSV, and optionally emitted as
+ * JFR events (see {@link FlowTaskEvent}), which are recorded when the JVM runs with flight recording.
+ */
+public class FlowTelemetry {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FlowTelemetry.class);
+
+    /** Directory for telemetry files, located next to progress directory */
+    public static final String TELEMETRY_PATH = "telemetry";
+
+    static final long SAMPLING_PERIOD_MS = 200;
+
+    static final String[] CSV_COLUMNS = {
+        "task", "status", "startOffsetMs", "wallMs", "processCpuMs", "verticesDelta", "edgesDelta",
+        "reportRecordsDelta", "allocatedBytes", "heapUsedBytes", "maxHeapUsedBytes"
+    };
+
+    private final String flowInstanceId;
+    private final Vertx vertx;
+    private final Graph graph;
+    private final GraphReport report;
+    private final boolean jfrEnabled;
+
+    private final Instant flowStartedAt = Instant.now();
+    private final long flowStartNanos = System.nanoTime();
+    private final List<TaskSample> samples = new ArrayList<>();
+    private final List<TaskSample> running = new ArrayList<>();
+    private long samplingTimerId = -1;
+
+    private final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    private final OperatingSystemMXBean osBean = ManagementFactory.getOperatingSystemMXBean();
+
+    public FlowTelemetry(String flowInstanceId, Vertx vertx, Graph graph, GraphReport report, boolean jfrEnabled) {
+        this.flowInstanceId = flowInstanceId;
+        this.vertx = vertx;
+        this.graph = graph;
+        this.report = report;
+        this.jfrEnabled = jfrEnabled;
+    }
+
+    /**
+     * Start measuring a task.
+     *
+     * @param taskAddress Address of the task
+     * @return Sample to be passed into {@link #taskFinished(TaskSample, String)}
+     */
+    public TaskSample taskStarted(String taskAddress) {
+        TaskSample sample = new TaskSample(taskAddress);
+        sample.startNanos = System.nanoTime();
+        sample.startCpuNanos = getProcessCpuTime();
+        sample.startAllocatedBytes = getAllocatedBytes();
+        sample.startVertices = graph.getVertexCount();
+        sample.startEdges = graph.getEdgeCount();
+        sample.startReportRecords = report.getRecordCount();
+        sample.maxHeapUsedBytes = memoryBean.getHeapMemoryUsage().getUsed();
+        if (jfrEnabled) {
+            sample.event = new FlowTaskEvent();
+            sample.event.begin();
+        }
+
+        synchronized (this) {
+            samples.add(sample);
+            running.add(sample);
+            if (samplingTimerId < 0) {
+                samplingTimerId = vertx.setPeriodic(SAMPLING_PERIOD_MS, id -> sampleRunningTasks());
+            }
+        }
+        return sample;
+    }
+
+    /**
+     * Finish measuring a task.
+     *
+     * @param sample Sample returned by {@link #taskStarted(String)}
+     * @param status Status of the task: completed, skipped, failed
+     */
+    public void taskFinished(TaskSample sample, String status) {
+        synchronized (this) {
+            if (!running.remove(sample)) {
+                return;
+            }
+            if (running.isEmpty() && samplingTimerId >= 0) {
+                vertx.cancelTimer(samplingTimerId);
+                samplingTimerId = -1;
+            }
+        }
+        sample.status = status;
+        sample.wallNanos = System.nanoTime() - sample.startNanos;
+        sample.cpuNanos = getProcessCpuTime() - sample.startCpuNanos;
+        sample.allocatedBytes = Math.max(0, getAllocatedBytes() - sample.startAllocatedBytes);
+        sample.verticesDelta = graph.getVertexCount() - sample.startVertices;
+        sample.edgesDelta = graph.getEdgeCount() - sample.startEdges;
+        sample.reportRecordsDelta = report.getRecordCount() - sample.startReportRecords;
+        sample.heapUsedBytes = memoryBean.getHeapMemoryUsage().getUsed();
+        sample.maxHeapUsedBytes = Math.max(sample.maxHeapUsedBytes, sample.heapUsedBytes);
+
+        if (sample.event != null) {
+            FlowTaskEvent event = sample.event;
+            event.flowInstanceId = flowInstanceId;
+            event.task = sample.taskAddress;
+            event.status = status;
+            event.processCpuTime = sample.cpuNanos;
+            event.verticesDelta = sample.verticesDelta;
+            event.edgesDelta = sample.edgesDelta;
+            event.reportRecordsDelta = sample.reportRecordsDelta;
+            event.allocatedBytes = sample.allocatedBytes;
+            event.heapUsedBytes = sample.heapUsedBytes;
+            event.commit();
+        }
+    }
+
+    /** Telemetry collected so far, as JSON */
+    public synchronized JsonObject toJson() {
+        JsonArray tasks = new JsonArray();
+        for (TaskSample sample : samples) {
+            JsonObject task = new JsonObject();
+            Object[] values = sample.values(flowStartNanos);
+            for (int i = 0; i < CSV_COLUMNS.length; i++) {
+                task.put(CSV_COLUMNS[i], values[i]);
+            }
+            tasks.add(task);
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return new JsonObject()
+                .put("fiid", flowInstanceId)
+                .put("startedAt", flowStartedAt.toString())
+                .put("wallMs", (System.nanoTime() - flowStartNanos) / 1_000_000)
+                .put("javaVersion", System.getProperty("java.version"))
+                .put("availableProcessors", runtime.availableProcessors())
+                .put("maxHeapBytes", runtime.maxMemory())
+                .put("tasks", tasks);
+    }
+
+    /** Telemetry collected so far, as CSV with a header line */
+    public synchronized String toCsv() {
+        StringBuilder csv = new StringBuilder(String.join(",", CSV_COLUMNS)).append('\n');
+        for (TaskSample sample : samples) {
+            Object[] values = sample.values(flowStartNanos);
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    csv.append(',');
+                }
+                csv.append(values[i]);
+            }
+            csv.append('\n');
+        }
+        return csv.toString();
+    }
+
+    /**
+     * Save telemetry as {@code flow.<fiid>.json} and {@code flow.<fiid>.csv}.
+     *
+     * @param folder Folder to save into
+     */
+    public void save(Path folder) {
+        synchronized (this) {
+            if (samplingTimerId >= 0) {
+                vertx.cancelTimer(samplingTimerId);
+                samplingTimerId = -1;
+            }
+        }
+        String fileName = "flow." + flowInstanceId;
+        try {
+            Files.createDirectories(folder);
+            JsonUtils.saveJson(folder.resolve(fileName + ".json"), toJson(), true);
+            Files.writeString(folder.resolve(fileName + ".csv"), toCsv());
+            LOG.info("Flow telemetry [fiid={}] saved into {}", flowInstanceId, folder.resolve(fileName + ".*"));
+        } catch (IOException e) {
+            LOG.error("Failed to save flow telemetry into " + folder, e);
+        }
+    }
+
+    private void sampleRunningTasks() {
+        long heapUsed = memoryBean.getHeapMemoryUsage().getUsed();
+        synchronized (this) {
+            for (TaskSample sample : running) {
+                sample.maxHeapUsedBytes = Math.max(sample.maxHeapUsedBytes, heapUsed);
+            }
+        }
+    }
+
+    private long getProcessCpuTime() {
+        if (osBean instanceof com.sun.management.OperatingSystemMXBean) {
+            return ((com.sun.management.OperatingSystemMXBean) osBean).getProcessCpuTime();
+        }
+        return -1;
+    }
+
+    /* Sum over live threads */
+    private long getAllocatedBytes() {
+        if (threadBean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) threadBean;
+            if (bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+                long total = 0;
+                for (long allocated : bean.getThreadAllocatedBytes(bean.getAllThreadIds())) {
+                    if (allocated > 0) {
+                        total += allocated;
+                    }
+                }
+                return total;
+            }
+        }
+        return 0;
+    }
+
+    /** Measurements of a single task */
+    public static class TaskSample {
+        final String taskAddress;
+        String status;
+
+        long startNanos;
+        long startCpuNanos;
+        long startAllocatedBytes;
+        int startVertices;
+        int startEdges;
+        int startReportRecords;
+
+        long wallNanos;
+        long cpuNanos;
+        long allocatedBytes;
+        int verticesDelta;
+        int edgesDelta;
+        int reportRecordsDelta;
+        long heapUsedBytes;
+        long maxHeapUsedBytes;
+
+        FlowTaskEvent event;
+
+        TaskSample(String taskAddress) {
+            this.taskAddress = taskAddress;
+        }
+
+        public String getTaskAddress() {
+            return taskAddress;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public int getVerticesDelta() {
+            return verticesDelta;
+        }
+
+        public int getEdgesDelta() {
+            return edgesDelta;
+        }
+
+        public int getReportRecordsDelta() {
+            return reportRecordsDelta;
+        }
+
+        /* In the order of CSV_COLUMNS */
+        Object[] values(long flowStartNanos) {
+            return new Object[] {
+                taskAddress, status == null ? "running" : status,
+                (startNanos - flowStartNanos) / 1_000_000, wallNanos / 1_000_000,
+                cpuNanos < 0 ? -1 : cpuNanos / 1_000_000, verticesDelta, edgesDelta, reportRecordsDelta,
+                allocatedBytes, heapUsedBytes, maxHeapUsedBytes
+            };
+        }
+    }
+
+}
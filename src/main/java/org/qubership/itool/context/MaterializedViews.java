@@ -0,0 +1,144 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.context;
+
+import org.qubership.itool.modules.graph.Graph;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Registry of named views of data derived from the flow graph, shared by flow tasks.
+ *
+ * <p>A view is declared with its definition, a function of the graph, and is computed lazily on
+ * first request. The computed value is kept until the graph is modified (see
+ * {@link Graph#getModificationCount()}) or replaced, so tasks running against an unchanged graph
+ * share a single computation. Concurrent requests of a view wait for the same computation.
+ *
+ * <p>Values are shared between tasks and must not be modified. Changes of vertex and edge JSON
+ * objects made in place do not invalidate views, so views are intended for read-only phases of
+ * the flow, or for data depending on the graph structure only.
+ */
+public class MaterializedViews {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MaterializedViews.class);
+
+    private final Supplier<Graph> graphSupplier;
+    private final Map<String, View<?>> views = new ConcurrentHashMap<>();
+
+    public MaterializedViews(Supplier<Graph> graphSupplier) {
+        this.graphSupplier = graphSupplier;
+    }
+
+    /**
+     * Declare a view. Repeated declarations of the same name are ignored.
+     *
+     * @param name View name
+     * @param definition Function computing the view from the graph
+     * @return {@code true} if the view was declared by this call
+     */
+    public <T> boolean declare(String name, Function<Graph, T> definition) {
+        return views.putIfAbsent(name, new View<>(name, definition)) == null;
+    }
+
+    /**
+     * Get a declared view, computing it if needed.
+     *
+     * @param name View name
+     * @return View value
+     * @throws IllegalArgumentException if the view was not declared
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String name) {
+        View<T> view = (View<T>) views.get(name);
+        if (view == null) {
+            throw new IllegalArgumentException("View is not declared: " + name);
+        }
+        return view.get(graphSupplier.get());
+    }
+
+    /**
+     * Get a view, declaring it first if needed.
+     *
+     * @param name View name
+     * @param definition Function computing the view from the graph, used if the view is not declared yet
+     * @return View value
+     */
+    public <T> T get(String name, Function<Graph, T> definition) {
+        declare(name, definition);
+        return get(name);
+    }
+
+    /**
+     * Check whether a view is computed for the current state of the graph.
+     *
+     * @param name View name
+     * @return {@code true} if value of the view is available without computation
+     */
+    public boolean isMaterialized(String name) {
+        View<?> view = views.get(name);
+        return view != null && view.isValid(graphSupplier.get());
+    }
+
+    /** Drop computed values of all views, keeping their declarations */
+    public void invalidate() {
+        views.values().forEach(View::invalidate);
+    }
+
+    private static class View<T> {
+        private final String name;
+        private final Function<Graph, T> definition;
+        private Graph graph;
+        private long modificationCount = -1;
+        private T value;
+
+        View(String name, Function<Graph, T> definition) {
+            this.name = name;
+            this.definition = definition;
+        }
+
+        synchronized T get(Graph currentGraph) {
+            if (isValid(currentGraph)) {
+                return value;
+            }
+            // Read the counter before computation: changes made meanwhile will cause recomputation
+            long currentCount = currentGraph.getModificationCount();
+            long start = System.nanoTime();
+            value = definition.apply(currentGraph);
+            graph = currentGraph;
+            modificationCount = currentCount;
+            LOG.debug("View {} computed in {} ms", name, (System.nanoTime() - start) / 1_000_000);
+            return value;
+        }
+
+        synchronized boolean isValid(Graph currentGraph) {
+            return graph == currentGraph && modificationCount >= 0
+                    && modificationCount == currentGraph.getModificationCount();
+        }
+
+        synchronized void invalidate() {
+            graph = null;
+            value = null;
+            modificationCount = -1;
+        }
+    }
+
+}
@@ -66,28 +66,30 @@ public ApplicationContext(Vertx vertx, JsonObject config, Module[] modules) {
         // Log successful creation
         LOGGER.info("ApplicationContext created successfully");
 
-        // Log all Guice bindings
-        logBindings();
+        // Log all Guice bindings. Formatting binding sources is noticeable for short CLI runs
+        if (LOGGER.isDebugEnabled()) {
+            logBindings();
+        }
     }
 
     /**
      * Log all Guice bindings in this injector.
      */
     private void logBindings() {
-        LOGGER.info("=== Guice Bindings ===");
+        LOGGER.debug("=== Guice Bindings ===");
         try {
             Map<Key<?>, Binding<?>> bindings = injector.getAllBindings();
-            LOGGER.info("Total bindings: {}", bindings.size());
+            LOGGER.debug("Total bindings: {}", bindings.size());
             for (Map.Entry<Key<?>, Binding<?>> entry : bindings.entrySet()) {
                 String key = entry.getKey().toString();
                 String bindingType = entry.getValue().getClass().getSimpleName();
                 String source = entry.getValue().getSource().toString();
-                LOGGER.info("  {} -> [{}] {}", key, bindingType, source);
+                LOGGER.debug("  {} -> [{}] {}", key, bindingType, source);
             }
         } catch (Exception e) {
             LOGGER.warn("Could not log bindings: {}", e.getMessage());
         }
-        LOGGER.info("=== End Guice Bindings ===");
+        LOGGER.debug("=== End Guice Bindings ===");
     }
 
     /**
@@ -36,8 +36,11 @@
 import org.qubership.itool.modules.parsing.InventoryJsonParser;
 import org.qubership.itool.modules.report.GraphReport;
 import org.qubership.itool.modules.template.ConfluencePage;
+import org.qubership.itool.tasks.parsing.ParsedFilePatterns;
 import org.qubership.itool.utils.YamlParser;
 
+import java.util.function.Predicate;
+
 /**
  * CLI-specific module that extends the base module with CLI-specific bindings.
  * Can be extended or overridden by extension applications.
@@ -71,12 +74,19 @@ public WebClient provideWebClient(Vertx vertx) {
      * @param vertx The Vertx instance
      * @param report The GraphReport instance
      * @param config The application configuration
+     * @param flowContext The flow context, providing {@link ParsedFilePatterns} of the flow
      * @return GitAdapter instance or null if offline mode
      */
     @Provides
     public GitAdapter provideGitAdapter(Vertx vertx, GraphReport report,
-            @Named("application.config") JsonObject config) {
-        return GitAdapterBuilder.create(vertx, report, config);
+            @Named("application.config") JsonObject config, FlowContext flowContext) {
+        // Parsing tasks are registered when the flow creates its tasks, possibly after this adapter.
+        // Nothing is filtered out without them
+        Predicate<String> checkoutFilter = path -> {
+            ParsedFilePatterns patterns = flowContext.getResource(ParsedFilePatterns.class);
+            return patterns == null || patterns.getCheckoutFilter().test(path);
+        };
+        return GitAdapterBuilder.create(vertx, report, config, checkoutFilter);
     }
 
     /**
@@ -94,12 +94,13 @@ public Graph providePrototypeGraph(@Named("prototype") Provider<GraphReport> gra
      * Provides prototype instances of GraphReport.
      * Each call to this provider will return a new GraphReport instance.
      *
+     * @param config The application configuration
      * @return A new GraphReport instance
      */
     @Provides
     @Named("prototype")
-    public GraphReport providePrototypeGraphReport() {
-        return new GraphReportImpl();
+    public GraphReport providePrototypeGraphReport(@Named("application.config") JsonObject config) {
+        return new GraphReportImpl(config);
     }
 
     /**
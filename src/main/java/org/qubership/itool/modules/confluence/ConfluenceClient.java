@@ -20,10 +20,22 @@
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
+import javax.annotation.Nullable;
+
 public interface ConfluenceClient {
     Future<JsonObject> updateConfluencePage(String spaceKey, String title, String parentTitle,
             String filePath, String release);
 
+    /**
+     * Upload a page from a file in wiki format, creating the page if needed. If a manifest is
+     * given, it is checked before any request to Confluence: upload is skipped when the same content
+     * was already uploaded under the same parent. The manifest is updated after successful upload.
+     *
+     * @return Info of the page in Confluence
+     */
+    Future<JsonObject> updateConfluencePage(String spaceKey, String title, String parentTitle,
+            String filePath, String release, @Nullable ConfluencePageManifest manifest);
+
     Future<JsonObject> updateConfluencePage(JsonObject page, String release);
 
     Future<JsonObject> createOrMoveConfluencePage(String spaceKey, String title, String parentId, String release);
@@ -38,6 +50,13 @@ Future<JsonObject> updateConfluencePage(String spaceKey, String title, String pa
 
     Future<JsonArray> getChildPages(String spaceKey, String pageId);
 
+    /**
+     * Get all pages below the given one, at any depth, with as few requests as possible.
+     *
+     * @return Flat list of pages, every page has "ancestors" and "version" expanded
+     */
+    Future<JsonArray> getDescendantPages(String spaceKey, String pageId);
+
     Future<JsonObject> moveConfluencePage(JsonObject page, String parentId, String release);
 
     Future<String> convertWikiToStorage(String wikiContent, String title);
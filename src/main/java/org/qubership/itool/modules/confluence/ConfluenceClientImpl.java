@@ -17,97 +17,159 @@
 package org.qubership.itool.modules.confluence;
 
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.auth.authentication.Credentials;
 import io.vertx.ext.auth.authentication.UsernamePasswordCredentials;
+import io.vertx.ext.web.client.HttpRequest;
+import io.vertx.ext.web.client.HttpResponse;
 import io.vertx.ext.web.client.WebClient;
 import io.vertx.ext.web.client.WebClientSession;
 import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.qubership.itool.utils.ConfigUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 
+import static org.qubership.itool.utils.ConfigProperties.CONFLUENCE_MAX_CONCURRENT_REQUESTS_POINTER;
+import static org.qubership.itool.utils.ConfigProperties.CONFLUENCE_MAX_RETRIES_POINTER;
+import static org.qubership.itool.utils.ConfigProperties.CONFLUENCE_REQUESTS_PER_SECOND_POINTER;
 import static org.qubership.itool.utils.ConfigProperties.LOGIN_PROPERTY;
 
 public class ConfluenceClientImpl implements ConfluenceClient {
 
     private static final Logger LOG = LoggerFactory.getLogger(ConfluenceClientImpl.class);
 
+    static final double DEFAULT_REQUESTS_PER_SECOND = 20;
+    static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 8;
+    static final int DEFAULT_MAX_RETRIES = 5;
+    private static final long INITIAL_RETRY_DELAY_MS = 500;
+    private static final long MAX_RETRY_DELAY_MS = 30_000;
+    private static final int DESCENDANTS_CHUNK_SIZE = 200;
+
     // TODO: @Resource is not working yet, ApplicationContext update required.
     //  Client and Vertx are passed in constructor so far;
     private WebClient client;
     private Vertx vertx;
     private JsonObject config;
 
-    private WebClientSession session;
+    // Client keeping cookies of Confluence session
+    private WebClient session;
     private Credentials credentials;
+    private RequestThrottle throttle;
+    private int maxRetries;
 
     protected ConfluenceClientImpl(Vertx vertx, WebClient client, JsonObject config) {
+        this(vertx, client, WebClientSession.create(client), config);
+    }
+
+    ConfluenceClientImpl(Vertx vertx, WebClient client, WebClient session, JsonObject config) {
         this.vertx = vertx;
         this.client = client;
         this.config = config;
         this.credentials = new UsernamePasswordCredentials(
                 config.getString(LOGIN_PROPERTY),
                 config.getString("password"));
-        this.session = WebClientSession.create(client);
+        this.session = session;
+
+        this.throttle = new RequestThrottle(vertx,
+                getDoubleFromConfig(CONFLUENCE_REQUESTS_PER_SECOND_POINTER, DEFAULT_REQUESTS_PER_SECOND),
+                getIntFromConfig(CONFLUENCE_MAX_CONCURRENT_REQUESTS_POINTER, DEFAULT_MAX_CONCURRENT_REQUESTS));
+        this.maxRetries = getIntFromConfig(CONFLUENCE_MAX_RETRIES_POINTER, DEFAULT_MAX_RETRIES);
+    }
+
+    private int getIntFromConfig(String jsonPointer, int defaultValue) {
+        String value = ConfigUtils.getConfigValue(jsonPointer, config);
+        return value != null ? Integer.parseInt(value.trim()) : defaultValue;
+    }
+
+    private double getDoubleFromConfig(String jsonPointer, double defaultValue) {
+        String value = ConfigUtils.getConfigValue(jsonPointer, config);
+        return value != null ? Double.parseDouble(value.trim()) : defaultValue;
     }
 
     @Override
     public Future<JsonObject> updateConfluencePage(String spaceKey, String title,
             String parentTitle, String filePath, String release) {
+        return updateConfluencePage(spaceKey, title, parentTitle, filePath, release, null);
+    }
+
+    @Override
+    public Future<JsonObject> updateConfluencePage(String spaceKey, String title, String parentTitle,
+            String filePath, String release, @Nullable ConfluencePageManifest manifest) {
         LOG.info("Sending page '{}' stored in '{}' to Confluence", title, filePath);
-        Future<JsonObject> futureConfluencePageInfo = getConfluencePageInfo(spaceKey, title, release)
-                // If page was not found, then get the parent id, create new page and return its info in future
-                .recover(pageInfo -> {
-                    LOG.debug(
-                            "'{}': Page was not found, searching for the parent '{}' and create the new one",
-                            title, parentTitle);
-                    return getConfluencePageInfo(spaceKey, parentTitle, release)
-                            .compose(parent -> createConfluencePage(spaceKey, title, parent.getString("id"), release));
-                });
-        // Read the page file and convert it to storage format
-        Future<String> futureStorageFileContents = readFile(filePath)
-                .compose(wikiFileContent -> convertWikiToStorage(wikiFileContent, title)
+        return readFile(filePath)
+                .compose(fileContents -> {
+                    String hash = manifest != null ? ConfluencePageManifest.hash(fileContents.getBytes()) : null;
+                    JsonObject uploadedPage = manifest != null ? manifest.getUploadedPage(spaceKey,
+                            buildPageTitle(title, release), buildPageTitle(parentTitle, release), hash) : null;
+                    if (uploadedPage != null) {
+                        // Checked before any request, so unchanged pages cost nothing
+                        LOG.info("Page '{}' is not changed since the last upload, skipping it", title);
+                        return Future.succeededFuture(uploadedPage);
+                    }
+                    return getConfluencePageInfo(spaceKey, title, release)
+                            // If page was not found, then get the parent id, create new page and return its info
+                            .recover(pageInfo -> {
+                                LOG.debug("'{}': Page was not found, searching for the parent '{}' "
+                                        + "and create the new one", title, parentTitle);
+                                return getConfluencePageInfo(spaceKey, parentTitle, release)
+                                        .compose(parent -> createConfluencePage(spaceKey, title,
+                                                parent.getString("id"), release));
+                            })
+                            .compose(confluencePageInfo -> uploadPage(spaceKey, title, parentTitle, filePath,
+                                    release, manifest, hash, confluencePageInfo, fileContents));
+                })
+                .recover(fail -> Future.failedFuture("Failed to upload the content of '" + title
+                        + "' page, reason: " + fail.getMessage()));
+    }
+
+    private Future<JsonObject> uploadPage(String spaceKey, String title, String parentTitle, String filePath,
+            String release, @Nullable ConfluencePageManifest manifest, String hash, JsonObject confluencePageInfo,
+            Buffer fileContents) {
+        JsonArray ancestors = confluencePageInfo.getJsonArray("ancestors");
+        Future<JsonObject> parentFuture;
+        JsonObject parentPage = ancestors.getJsonObject(ancestors.size() - 1);
+        if (buildPageTitle(parentTitle, release)
+                .equals(parentPage.getString("title"))) {
+            parentFuture = Future.succeededFuture(parentPage);
+        } else {
+            // If parent title doesn't match the closest ancestor, it shall be
+            // changed
+            LOG.debug(
+                    "'{}': Parent page didn't match, finding the related parent with title '{}'",
+                    title, parentTitle);
+            parentFuture =
+                    getConfluencePageInfo(spaceKey, parentTitle, release);
+        }
+        // Convert the page file to storage format
+        Future<String> futureStorageFileContents =
+                convertWikiToStorage(fileContents.toString(), title)
                         .compose(storageContent -> saveFile(buildStorageFileName(filePath), storageContent)
                                 .recover(e -> {
-                                    // Saving contents is not critical, so we'll rather not fail the whole process here
+                                    // Saving contents is not critical, so we'll rather not fail the whole process
                                     LOG.warn("Failed to save contents in storage format to file {}: {}",
                                             buildStorageFileName(filePath), ExceptionUtils.getStackTrace(e));
                                     return Future.succeededFuture(storageContent);
                                 })
-                        )
-                );
-
-        Future<JsonObject> futureResponse =
-                Future.join(futureConfluencePageInfo, futureStorageFileContents)
-                        .compose(compositeFuture -> {
-                            JsonObject confluencePageInfo = futureConfluencePageInfo.result();
-                            String storageFileContents = futureStorageFileContents.result();
-                            JsonArray ancestors = confluencePageInfo.getJsonArray("ancestors");
-                            Future<JsonObject> parentFuture;
-                            JsonObject parentPage = ancestors.getJsonObject(ancestors.size() - 1);
-                            if (buildPageTitle(parentTitle, release)
-                                    .equals(parentPage.getString("title"))) {
-                                parentFuture = Future.succeededFuture(parentPage);
-                            } else {
-                                // If parent title doesn't match the closest ancestor, it shall be
-                                // changed
-                                LOG.debug(
-                                        "'{}': Parent page didn't match, finding the related parent with title '{}'",
-                                        title, parentTitle);
-                                parentFuture =
-                                        getConfluencePageInfo(spaceKey, parentTitle, release);
-                            }
-                            return parentFuture.compose(
-                                    parent -> uploadConfluencePageAsStorage(confluencePageInfo,
-                                            parent.getString("id"), storageFileContents));
-                        }, fail -> Future.failedFuture("Failed to upload the content of '" + title
-                                + "' page, reason: " + fail.getMessage()));
-        return futureResponse;
+                        );
+        return Future.all(parentFuture, futureStorageFileContents).compose(res ->
+                uploadConfluencePageAsStorage(confluencePageInfo,
+                        parentFuture.result().getString("id"), futureStorageFileContents.result()))
+                .onSuccess(page -> {
+                    if (manifest != null) {
+                        manifest.put(spaceKey, page.getString("title"), buildPageTitle(parentTitle, release),
+                                hash, page);
+                    }
+                });
     }
 
     @Override
@@ -140,11 +202,10 @@ public Future<JsonObject> createConfluencePage(String spaceKey, String title, St
         String finalTitle = buildPageTitle(title, release);
         JsonObject request = buildPageCreateRequestBody(finalTitle, spaceKey, parentId);
         LOG.info("Attempting to create the page '{}'", finalTitle);
-        return session.post(443, config.getString("confluenceUrl"), "/rest/api/content")
+        return send(session.post(443, config.getString("confluenceUrl"), "/rest/api/content")
                 .followRedirects(true)
                 .ssl(true)
-                .authentication(credentials)
-                .sendJsonObject(request)
+                .authentication(credentials), request)
                 .compose(rsp -> {
                     LOG.debug("Creation of page '{}' finished", finalTitle);
                     if (200 != rsp.statusCode()) {
@@ -157,41 +218,41 @@ public Future<JsonObject> createConfluencePage(String spaceKey, String title, St
     @Override
     public Future<JsonArray> getChildPages(String spaceKey, String pageId) {
         LOG.debug("Getting child pages for page with id={}", pageId);
-        Future<JsonArray> future = getChunkedList(spaceKey, "/rest/api/content/" + pageId + "/child/page");
-        // LOG.trace("Found {} child pages retrieval for id={} finished", children.size(), pageId);
-        return future;
+        return getChunkedList("/rest/api/content/" + pageId + "/child/page", "version");
+    }
+
+    @Override
+    public Future<JsonArray> getDescendantPages(String spaceKey, String pageId) {
+        LOG.debug("Getting all descendant pages for page with id={}", pageId);
+        return getChunkedList("/rest/api/content/" + pageId + "/descendant/page?limit=" + DESCENDANTS_CHUNK_SIZE,
+                "version,ancestors");
+    }
+
+    private Future<JsonArray> getChunkedList(String url, String expand) {
+        return getChunkedList(url, expand, new JsonArray());
     }
 
-    private Future<JsonArray> getChunkedList(String spaceKey, String url) {
-        Future<JsonArray> arrayFuture = Future.future(promise -> {
-            getNextChunk(url)
-                    .onSuccess(body -> {
-                        JsonArray children = body.getJsonArray("results");
-                        // No more pages, returning this array
-                        if (!body.getJsonObject("_links").containsKey("next")) {
-                            promise.complete(children);
-                            return;
-                        }
-                        String next = body.getJsonObject("_links").getString("next");
-                        LOG.trace("More pages present, loading next: {}", next);
-                        getChunkedList(spaceKey, next)
-                                .onSuccess(nextChildren -> {
-                                    children.addAll(nextChildren);
-                                    promise.complete(children);
-                                });
-                    });
-            });
-        return arrayFuture;
+    private Future<JsonArray> getChunkedList(String url, String expand, JsonArray collected) {
+        return getNextChunk(url, expand).compose(body -> {
+            collected.addAll(body.getJsonArray("results"));
+            JsonObject links = body.getJsonObject("_links");
+            // No more pages, returning collected ones
+            if (links == null || !links.containsKey("next")) {
+                return Future.succeededFuture(collected);
+            }
+            String next = links.getString("next");
+            LOG.trace("More pages present, loading next: {}", next);
+            return getChunkedList(next, expand, collected);
+        });
     }
 
-    private Future<JsonObject> getNextChunk(String next) {
+    private Future<JsonObject> getNextChunk(String next, String expand) {
         LOG.trace("Getting next batch of pages from {}", next);
-        Future<JsonObject> future = session.get(443, config.getString("confluenceUrl"), next)
+        Future<JsonObject> future = send(session.get(443, config.getString("confluenceUrl"), next)
                 .followRedirects(true)
                 .ssl(true)
                 .authentication(credentials)
-                .addQueryParam("expand", "version")
-                .send()
+                .addQueryParam("expand", expand), null)
 
                 .compose(response -> {
                     if (200 != response.statusCode()) {
@@ -218,13 +279,12 @@ public Future<JsonObject> moveConfluencePage(JsonObject page, String newParentId
         LOG.info("Attempting to move the page '{}' to new parent with id={}", finalTitle, newParentId);
         JsonObject request = buildPageMoveRequestBody(finalTitle, newParentId,
                 page.getJsonObject("version").getInteger("number"));
-        Future<JsonObject> future = session
+        Future<JsonObject> future = send(session
                 .put(443, config.getString("confluenceUrl"),
                         "/rest/api/content/" + page.getString("id"))
                 .followRedirects(true)
                 .ssl(true)
-                .authentication(credentials)
-                .sendJsonObject(request)
+                .authentication(credentials), request)
 
                 .compose(rsp -> {
                     LOG.debug("Movement of page '{}' finished", finalTitle);
@@ -253,13 +313,12 @@ public Future<String> convertWikiToStorage(String wikiContent, String title) {
                 .put("value", wikiContent)
                 .put("representation", "wiki");
 
-        Future<String> future = session
+        Future<String> future = send(session
                 .post(443, config.getString("confluenceUrl"),
                         "/rest/api/contentbody/convert/storage")
                 .followRedirects(true)
                 .ssl(true)
-                .authentication(credentials)
-                .sendJsonObject(request)
+                .authentication(credentials), request)
 
                 .compose(rsp -> {
                     LOG.trace("Conversion of page '{}' finished", title);
@@ -281,13 +340,12 @@ public Future<JsonObject> getConfluencePageInfo(String spaceKey, String title) {
     public Future<JsonObject> getConfluencePageInfo(String spaceKey, String title, String release) {
         String finalTitle = buildPageTitle(title, release);
         LOG.debug("Retrieving detailed page information from Confluence for page '{}'", finalTitle);
-        Future<JsonObject> future = client.get(443, config.getString("confluenceUrl"), "/rest/api/content")
+        Future<JsonObject> future = send(client.get(443, config.getString("confluenceUrl"), "/rest/api/content")
                 .addQueryParam("spaceKey", spaceKey)
                 .addQueryParam("title", finalTitle)
                 .addQueryParam("expand", "version,ancestors")
                 .ssl(true)
-                .authentication(credentials)
-                .send()
+                .authentication(credentials), null)
 
                 .compose(response -> {
                     LOG.trace("Detailed page retrieval for '{}' finished", finalTitle);
@@ -312,11 +370,11 @@ public Future<JsonObject> getConfluencePageInfo(String spaceKey, String title, S
     @Override
     public Future<JsonObject> getConfluencePageInfo(String pageId) {
         LOG.info("Retrieving detailed page information from Confluence for page with id={}", pageId);
-        Future<JsonObject> future = client.get(443, config.getString("confluenceUrl"), "/rest/api/content/" + pageId)
+        Future<JsonObject> future = send(client.get(443, config.getString("confluenceUrl"),
+                        "/rest/api/content/" + pageId)
                 .addQueryParam("expand", "version,ancestors")
                 .ssl(true)
-                .authentication(credentials)
-                .send()
+                .authentication(credentials), null)
 
                 .compose(response -> {
                     if (200 != response.statusCode()) {
@@ -328,6 +386,56 @@ public Future<JsonObject> getConfluencePageInfo(String pageId) {
         return future;
     }
 
+    /*
+     * Send the request once the throttle allows, retrying it when the server is overloaded.
+     * Requests rejected with 429 or 503 are not processed by the server, so they are retried
+     * regardless of the method. Other server errors and connection failures are retried only
+     * for methods that do not modify pages: a repeated POST may create a duplicate page, and
+     * a repeated PUT carries a page version that may have been taken by the lost attempt.
+     */
+    private Future<HttpResponse<Buffer>> send(HttpRequest<Buffer> request, @Nullable JsonObject body) {
+        return send(request, body, 0);
+    }
+
+    private Future<HttpResponse<Buffer>> send(HttpRequest<Buffer> request, @Nullable JsonObject body, int attempt) {
+        return throttle.execute(() -> body != null ? request.sendJsonObject(body) : request.send())
+                .transform(ar -> {
+                    boolean readOnly = request.method() == HttpMethod.GET || request.method() == HttpMethod.HEAD;
+                    int status = ar.succeeded() ? ar.result().statusCode() : 0;
+                    boolean retriable = ar.failed()
+                            ? readOnly
+                            : status == 429 || status == 503 || (readOnly && status >= 500);
+                    if (!retriable || attempt >= maxRetries) {
+                        return ar.succeeded() ? Future.succeededFuture(ar.result()) : Future.failedFuture(ar.cause());
+                    }
+                    long delay = getRetryDelay(ar.succeeded() ? ar.result() : null, attempt);
+                    LOG.warn("{} {} failed ({}), retrying in {} ms", request.method(), request.uri(),
+                            ar.succeeded() ? status + " " + ar.result().statusMessage() : ar.cause().getMessage(),
+                            delay);
+                    if (status == 429) {
+                        // The whole client is throttled by the server, not just this request
+                        throttle.pause(delay);
+                    }
+                    Promise<HttpResponse<Buffer>> promise = Promise.promise();
+                    vertx.setTimer(Math.max(1, delay), id -> send(request, body, attempt + 1).onComplete(promise));
+                    return promise.future();
+                });
+    }
+
+    // Delay requested by the server, or exponential backoff with jitter
+    private long getRetryDelay(@Nullable HttpResponse<Buffer> response, int attempt) {
+        String retryAfter = response != null ? response.getHeader("Retry-After") : null;
+        if (retryAfter != null) {
+            try {
+                return TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+            } catch (NumberFormatException e) {
+                // HTTP date is not supported, fall back to backoff
+            }
+        }
+        long backoff = Math.min(MAX_RETRY_DELAY_MS, INITIAL_RETRY_DELAY_MS << Math.min(attempt, 16));
+        return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+
     private String buildPageTitle(String title, String release) {
         return release == null ? title : release + " " + title;
     }
@@ -337,13 +445,12 @@ public Future<JsonObject> uploadConfluencePageAsStorage(JsonObject page, String
         LOG.debug("Uploading page '{}' with id {} and parentId {} in storage format.", page.getString("title"),
                 page.getString("id"), parentId);
         JsonObject requestBody = buildUpdateRequestBody(page, parentId, storageContent);
-        Future<JsonObject> future = client
+        Future<JsonObject> future = send(client
                 .put(443, config.getString("confluenceUrl"),
                         "/rest/api/content/" + page.getString("id"))
                 .authentication(credentials)
                 .ssl(true)
-                .followRedirects(true)
-                .sendJsonObject(requestBody)
+                .followRedirects(true), requestBody)
 
                 .compose(rsp -> {
                     if (200 != rsp.statusCode()) {
@@ -375,12 +482,12 @@ private JsonObject buildUpdateRequestBody(JsonObject page, String parentId, Stri
         return requestBody;
     }
 
-    private Future<String> readFile(String path) {
+    private Future<Buffer> readFile(String path) {
         LOG.trace("Reading file contents of {}", path);
-        Future<String> future = vertx.fileSystem().readFile(path)
+        Future<Buffer> future = vertx.fileSystem().readFile(path)
                 .compose(res -> {
                     LOG.trace("Reading of file '{}' finished", path);
-                    return Future.succeededFuture(res.toString());
+                    return Future.succeededFuture(res);
                 }, fail -> Future.failedFuture("Reading of file " + path + " failed: " + fail.getCause().getMessage()));
         return future;
     }
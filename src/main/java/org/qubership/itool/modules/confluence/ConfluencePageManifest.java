@@ -0,0 +1,195 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.modules.confluence;
+
+import io.vertx.core.json.JsonObject;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.qubership.itool.utils.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+
+/**
+ * Persistent manifest of pages uploaded to Confluence: hash of uploaded content, parent title and
+ * version of the page created by the upload, per space and full page title.
+ *
+ * <p>A page does not need to be uploaded again while its content hash and parent stay the same.
+ * When current version of the page in Confluence is known, it shall also be the one created by
+ * the last upload, i.e. nobody else has edited, moved or restored the page since then. Otherwise
+ * the manifest is trusted, and entries of pages known to differ shall be {@link #remove removed}.
+ * Entries of pages not touched during the current run are kept, as only a subset of pages may be uploaded.
+ */
+public class ConfluencePageManifest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConfluencePageManifest.class);
+
+    static final String F_HASH = "hash";
+    static final String F_PARENT = "parent";
+    static final String F_VERSION = "version";
+    static final String F_ID = "id";
+
+    private final Path manifestFile;
+    // space -> title -> entry
+    private final Map<String, Map<String, JsonObject>> entries = new ConcurrentHashMap<>();
+
+    private ConfluencePageManifest(Path manifestFile) {
+        this.manifestFile = manifestFile;
+    }
+
+    /**
+     * Load manifest from a file. Missing or broken file results in empty manifest.
+     *
+     * @param manifestFile Path to the manifest file
+     * @return Manifest
+     */
+    public static ConfluencePageManifest load(Path manifestFile) {
+        ConfluencePageManifest manifest = new ConfluencePageManifest(manifestFile);
+        if (Files.isRegularFile(manifestFile)) {
+            try {
+                JsonObject json = JsonUtils.readJsonFile(manifestFile.toString());
+                for (String space : json.fieldNames()) {
+                    JsonObject pages = json.getJsonObject(space);
+                    Map<String, JsonObject> spaceEntries = manifest.getSpaceEntries(space);
+                    for (String title : pages.fieldNames()) {
+                        spaceEntries.put(title, pages.getJsonObject(title));
+                    }
+                }
+            } catch (IOException | ClassCastException /* | DecodeException */ e) {
+                LOG.warn("Confluence page manifest {} could not be read, all pages will be uploaded: {}",
+                        manifestFile, e.getMessage());
+                manifest.entries.clear();
+            }
+        }
+        return manifest;
+    }
+
+    /**
+     * Check whether the content was already uploaded into the given version of the page.
+     *
+     * @param spaceKey Space of the page
+     * @param title Full title of the page
+     * @param hash Hash of the content, see {@link #hash(byte[])}
+     * @param version Current version of the page in Confluence
+     * @return {@code true} if the upload may be skipped
+     */
+    public boolean isUnchanged(String spaceKey, String title, String hash, Integer version) {
+        if (spaceKey == null || title == null || hash == null || version == null) {
+            return false;
+        }
+        JsonObject entry = getSpaceEntries(spaceKey).get(title);
+        return entry != null
+                && hash.equals(entry.getString(F_HASH))
+                && version.equals(entry.getInteger(F_VERSION));
+    }
+
+    /**
+     * Get the page created by the last upload of the same content under the same parent,
+     * without checking its current version in Confluence.
+     *
+     * @param spaceKey Space of the page
+     * @param title Full title of the page
+     * @param parentTitle Full title of the parent page
+     * @param hash Hash of the content, see {@link #hash(byte[])}
+     * @return Page info with id, title and version, or {@code null} if the page shall be uploaded
+     */
+    @Nullable
+    public JsonObject getUploadedPage(String spaceKey, String title, String parentTitle, String hash) {
+        if (spaceKey == null || title == null || hash == null) {
+            return null;
+        }
+        JsonObject entry = getSpaceEntries(spaceKey).get(title);
+        if (entry == null || !hash.equals(entry.getString(F_HASH))
+                || parentTitle == null || !parentTitle.equals(entry.getString(F_PARENT))
+                || entry.getString(F_ID) == null || entry.getInteger(F_VERSION) == null) {
+            return null;
+        }
+        return new JsonObject()
+                .put("id", entry.getString(F_ID))
+                .put("title", title)
+                .put("version", new JsonObject().put("number", entry.getInteger(F_VERSION)));
+    }
+
+    /**
+     * Record uploaded content.
+     *
+     * @param spaceKey Space of the page
+     * @param title Full title of the page
+     * @param parentTitle Full title of the parent page
+     * @param hash Hash of the uploaded content
+     * @param page Page info returned by Confluence for the upload
+     */
+    public void put(String spaceKey, String title, String parentTitle, String hash, JsonObject page) {
+        JsonObject version = page.getJsonObject("version");
+        if (spaceKey == null || title == null || version == null) {
+            return;
+        }
+        getSpaceEntries(spaceKey).put(title, new JsonObject()
+                .put(F_HASH, hash)
+                .put(F_PARENT, parentTitle)
+                .put(F_VERSION, version.getInteger("number"))
+                .put(F_ID, page.getString("id")));
+    }
+
+    /**
+     * Forget the page, e.g. when it is known to differ from the last upload.
+     *
+     * @param spaceKey Space of the page
+     * @param title Full title of the page
+     */
+    public void remove(String spaceKey, String title) {
+        if (spaceKey != null && title != null) {
+            getSpaceEntries(spaceKey).remove(title);
+        }
+    }
+
+    /**
+     * Save the manifest.
+     *
+     * @throws IOException If the manifest could not be written
+     */
+    public void save() throws IOException {
+        Path parent = manifestFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        JsonObject json = new JsonObject();
+        new TreeMap<>(entries).forEach((space, pages) ->
+                json.put(space, new JsonObject(new TreeMap<String, Object>(pages))));
+        JsonUtils.saveJson(manifestFile, json, true);
+        LOG.debug("Confluence page manifest {} saved", manifestFile);
+    }
+
+    public int size() {
+        return entries.values().stream().mapToInt(Map::size).sum();
+    }
+
+    public static String hash(byte[] content) {
+        return DigestUtils.sha256Hex(content);
+    }
+
+    private Map<String, JsonObject> getSpaceEntries(String spaceKey) {
+        return entries.computeIfAbsent(spaceKey, s -> new ConcurrentHashMap<>());
+    }
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.modules.confluence;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Limits the rate of requests with a token bucket, and the number of requests in flight.
+ * Requests exceeding the limits wait in FIFO order.
+ *
+ * <p>The bucket holds up to one second worth of tokens, so short bursts are allowed.
+ * Sending may also be paused completely, e.g. when the server asks to retry later.
+ */
+class RequestThrottle {
+
+    private final Vertx vertx;
+    private final double tokensPerNano;
+    private final double bucketSize;
+    private final int maxInFlight;
+
+    private final Deque<Runnable> pending = new ArrayDeque<>();
+    private double tokens;
+    private long lastRefill;
+    private long pausedUntil;
+    private int inFlight;
+    private boolean timerSet;
+
+    /**
+     * Create a throttle.
+     *
+     * @param vertx Vertx instance for timers
+     * @param requestsPerSecond Maximal rate of requests, 0 or less for no limit
+     * @param maxInFlight Maximal number of requests in flight
+     */
+    RequestThrottle(Vertx vertx, double requestsPerSecond, int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("Number of requests in flight must be positive: " + maxInFlight);
+        }
+        this.vertx = vertx;
+        this.tokensPerNano = requestsPerSecond > 0 ? requestsPerSecond / TimeUnit.SECONDS.toNanos(1) : 0;
+        this.bucketSize = Math.max(1, requestsPerSecond);
+        this.maxInFlight = maxInFlight;
+        this.tokens = bucketSize;
+        this.lastRefill = System.nanoTime();
+        this.pausedUntil = lastRefill;
+    }
+
+    /**
+     * Send a request once the limits allow.
+     *
+     * @param request Code sending the request
+     * @return Result of the request
+     */
+    <T> Future<T> execute(Supplier<Future<T>> request) {
+        Promise<T> promise = Promise.promise();
+        synchronized (this) {
+            pending.add(() -> start(request, promise));
+        }
+        drain();
+        return promise.future();
+    }
+
+    /**
+     * Do not start new requests for the given time.
+     *
+     * @param delayMillis Pause duration in milliseconds
+     */
+    void pause(long delayMillis) {
+        synchronized (this) {
+            pausedUntil = Math.max(pausedUntil, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis));
+        }
+        drain();
+    }
+
+    synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    synchronized int getInFlightCount() {
+        return inFlight;
+    }
+
+    private void drain() {
+        List<Runnable> toStart = new ArrayList<>();
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (tokensPerNano > 0) {
+                tokens = Math.min(bucketSize, tokens + (now - lastRefill) * tokensPerNano);
+                lastRefill = now;
+            }
+            while (!pending.isEmpty() && inFlight < maxInFlight) {
+                long waitNanos = pausedUntil - now;
+                if (waitNanos <= 0 && tokensPerNano > 0 && tokens < 1) {
+                    waitNanos = (long) Math.ceil((1 - tokens) / tokensPerNano);
+                }
+                if (waitNanos > 0) {
+                    scheduleDrain(waitNanos);
+                    break;
+                }
+                if (tokensPerNano > 0) {
+                    tokens -= 1;
+                }
+                inFlight++;
+                toStart.add(pending.poll());
+            }
+        }
+        // Requests are started outside of the lock, they may complete synchronously
+        toStart.forEach(Runnable::run);
+    }
+
+    private void scheduleDrain(long delayNanos) {
+        if (timerSet) {
+            return;
+        }
+        timerSet = true;
+        vertx.setTimer(Math.max(1, TimeUnit.NANOSECONDS.toMillis(delayNanos)), id -> {
+            synchronized (this) {
+                timerSet = false;
+            }
+            drain();
+        });
+    }
+
+    private <T> void start(Supplier<Future<T>> request, Promise<T> promise) {
+        Future<T> future;
+        try {
+            future = request.get();
+        } catch (RuntimeException e) {
+            future = Future.failedFuture(e);
+        }
+        future.onComplete(ar -> {
+            synchronized (this) {
+                inFlight--;
+            }
+            drain();
+            promise.handle(ar);
+        });
+    }
+
+}
@@ -58,7 +58,16 @@ public interface GitAdapter {
 
     Future<Void> branchCheckout(Git repository, String branch);
 
-    Future switchSuperRepoBranch(Git superRepository, String superRepositoryBranch);
+    /**
+     * Fetch all the branches of the first remote, without touching the working tree.
+     * Does nothing if the repository has no remotes.
+     *
+     * @param repository Repository
+     * @return Future completed when the fetch is done
+     */
+    Future<Void> fetch(Git repository);
+
+    Future<Void> switchSuperRepoBranch(Git superRepository, String superRepositoryBranch);
 
     Future<Git> prepareSuperRepository();
 
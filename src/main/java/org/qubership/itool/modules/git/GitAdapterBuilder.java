@@ -23,6 +23,7 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.function.Predicate;
 import javax.annotation.Nullable;
 
 import static org.qubership.itool.utils.ConfigProperties.LOGIN_PROPERTY;
@@ -33,6 +34,22 @@ public class GitAdapterBuilder {
 
     @Nullable
     public static GitAdapter create(Vertx vertx, GraphReport report, JsonObject config) {
+        return create(vertx, report, config, null);
+    }
+
+    /**
+     * Create the adapter.
+     *
+     * @param vertx Vertx instance
+     * @param report Report
+     * @param config Application config
+     * @param checkoutFilter Paths that component repositories need in their working trees,
+     *     used if sparse checkout is enabled
+     * @return The adapter, or {@code null} in offline mode or without credentials
+     */
+    @Nullable
+    public static GitAdapter create(Vertx vertx, GraphReport report, JsonObject config,
+            @Nullable Predicate<String> checkoutFilter) {
         boolean offlineMode = Boolean.parseBoolean(config.getString(ConfigProperties.OFFLINE_MODE_PROPERTY));
         if (offlineMode) {
             LOG.warn("Offline mode, GIT facilities will not be available");
@@ -46,7 +63,7 @@ public static GitAdapter create(Vertx vertx, GraphReport report, JsonObject conf
             return null;
         }
 
-        return new GitAdapterImpl(vertx, report, config);
+        return new GitAdapterImpl(vertx, report, config, checkoutFilter);
     }
 
 }
@@ -25,7 +25,9 @@
 import io.vertx.core.json.pointer.JsonPointer;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.eclipse.jgit.api.CloneCommand;
 import org.eclipse.jgit.api.CreateBranchCommand;
+import org.eclipse.jgit.api.FetchCommand;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.RmCommand;
 import org.eclipse.jgit.api.Status;
@@ -34,16 +36,28 @@
 import org.eclipse.jgit.api.errors.JGitInternalException;
 import org.eclipse.jgit.api.errors.RefNotFoundException;
 import org.eclipse.jgit.api.errors.TransportException;
+import org.eclipse.jgit.dircache.DirCache;
+import org.eclipse.jgit.dircache.DirCacheEditor;
+import org.eclipse.jgit.lib.Config;
+import org.eclipse.jgit.lib.ConfigConstants;
 import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.RefUpdate;
 import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
 import org.eclipse.jgit.submodule.SubmoduleStatus;
 import org.eclipse.jgit.submodule.SubmoduleWalk;
 import org.eclipse.jgit.transport.CredentialsProvider;
 import org.eclipse.jgit.transport.RemoteConfig;
+import org.eclipse.jgit.transport.URIish;
 import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
+import org.eclipse.jgit.treewalk.TreeWalk;
 import org.eclipse.jgit.util.FileUtils;
 import org.qubership.itool.modules.report.GraphReport;
+import org.qubership.itool.utils.BoundedWorkScheduler;
 import org.qubership.itool.utils.ConfigProperties;
 import org.qubership.itool.utils.ConfigUtils;
 import org.slf4j.Logger;
@@ -51,17 +65,31 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static org.qubership.itool.modules.graph.Graph.F_ID;
 import static org.qubership.itool.modules.graph.Graph.F_REPOSITORY;
+import static org.qubership.itool.modules.graph.Graph.F_REVISION;
+import static org.qubership.itool.utils.ConfigProperties.GIT_CHECKOUT_PARALLELISM_POINTER;
+import static org.qubership.itool.utils.ConfigProperties.GIT_CLONE_DEPTH_POINTER;
+import static org.qubership.itool.utils.ConfigProperties.GIT_CONNECTIONS_PER_HOST_POINTER;
+import static org.qubership.itool.utils.ConfigProperties.GIT_SKIP_FETCH_IF_PRESENT_POINTER;
+import static org.qubership.itool.utils.ConfigProperties.GIT_SPARSE_CHECKOUT_POINTER;
 import static org.qubership.itool.utils.ConfigProperties.LOGIN_PROPERTY;
 import static org.qubership.itool.utils.ConfigProperties.SUPER_REPOSITORY_DIR_POINTER;
 import static org.qubership.itool.utils.ConfigProperties.SUPER_REPOSITORY_URL_POINTER;
@@ -70,6 +98,9 @@
 public class GitAdapterImpl implements GitAdapter {
     private static final Logger LOG = LoggerFactory.getLogger(GitAdapterImpl.class);
 
+    private static final int DEFAULT_CONNECTIONS_PER_HOST = 4;
+    private static final String CHECKOUT_COSTS_FILE = "checkout-costs.json";
+
     // TODO: @Resource is not working yet, ApplicationContext update required.
     //  Client and Vertx are passed in constructor so far;
     private GraphReport report;
@@ -79,7 +110,25 @@ public class GitAdapterImpl implements GitAdapter {
     private JsonObject config;
     private WorkerExecutor executor;
 
+    // Depth of shallow clones, null for full clones
+    private Integer cloneDepth;
+    // Files to keep in working trees of component repositories, null for full checkouts
+    private Predicate<String> checkoutFilter;
+
     protected GitAdapterImpl(Vertx vertx, GraphReport report, JsonObject config) {
+        this(vertx, report, config, null);
+    }
+
+    /**
+     * Create the adapter.
+     *
+     * @param vertx Vertx instance
+     * @param report Report
+     * @param config Application config
+     * @param checkoutFilter Paths that component repositories need in their working trees,
+     *     used when sparse checkout is enabled with {@value ConfigProperties#GIT_SPARSE_CHECKOUT_POINTER}
+     */
+    protected GitAdapterImpl(Vertx vertx, GraphReport report, JsonObject config, Predicate<String> checkoutFilter) {
         this.report = report;
         this.vertx = vertx;
 
@@ -88,6 +137,14 @@ protected GitAdapterImpl(Vertx vertx, GraphReport report, JsonObject config) {
         this.credentialsProvider = new UsernamePasswordCredentialsProvider(login, password);
 
         this.config = config;
+
+        String depth = ConfigUtils.getConfigValue(GIT_CLONE_DEPTH_POINTER, config);
+        if (depth != null && Integer.parseInt(depth.trim()) > 0) {
+            this.cloneDepth = Integer.parseInt(depth.trim());
+        }
+        if (Boolean.parseBoolean(ConfigUtils.getConfigValue(GIT_SPARSE_CHECKOUT_POINTER, config))) {
+            this.checkoutFilter = checkoutFilter;
+        }
     }
 
     @Override
@@ -252,40 +309,26 @@ public void submoduleAddHandler(Git superRepo, JsonObject component, JsonObject
                     .toString().replaceAll("\\\\", "/");
             // Workaround: clean existing submodule work/git dirs to avoid non-empty directory errors
             // when adding submodules that exist in other branches
+            cleanSubmoduleDirs(superRepo, submoduleDir);
             try {
-                File modulesBase = new File(superRepo.getRepository().getCommonDirectory(),
-                        Constants.MODULES);
-                File moduleGitDir = new File(modulesBase, submoduleDir);
-                File moduleWorkDir = new File(superRepo.getRepository().getWorkTree(), submoduleDir);
-                if (moduleWorkDir.exists()) {
-                    LOG.warn("Removing existing submodule work dir before add: {}", moduleWorkDir);
-                    FileUtils.delete(moduleWorkDir,
-                            FileUtils.RECURSIVE | FileUtils.RETRY);
-                }
-                if (moduleGitDir.exists()) {
-                    LOG.warn("Removing existing submodule git dir before add: {}", moduleGitDir);
-                    FileUtils.delete(moduleGitDir,
-                            FileUtils.RECURSIVE | FileUtils.RETRY);
-                }
-            } catch (Exception cleanupEx) {
-                LOG.warn("Cleanup of existing submodule dirs failed, proceeding: {}", cleanupEx.getMessage());
-            }
-            SubmoduleAddCommand submoduleAddCommand = new SubmoduleAddCommand(superRepo.getRepository());
-            try {
-                repository = submoduleAddCommand
-                        .setCredentialsProvider(credentialsProvider)
-                        .setURI(repositoryLink)
-                        .setPath(submoduleDir)
-                        .call();
+                repository = addSubmodule(superRepo, repositoryLink, submoduleDir, cloneDepth);
             } catch (TransportException ex) {
-                LOG.warn("Error while trying to add submodule {}: {}. Trying again once",
-                        repositoryLink, ex.getMessage());
-                repository = submoduleAddCommand
-                        .setCredentialsProvider(credentialsProvider)
-                        .setURI(repositoryLink)
-                        .setPath(submoduleDir)
-                        .call();
+                LOG.warn("Error while trying to add submodule {}: {}. Trying again once{}",
+                        repositoryLink, ex.getMessage(), cloneDepth != null ? " with full clone" : "");
+                cleanSubmoduleDirs(superRepo, submoduleDir);
+                repository = addSubmodule(superRepo, repositoryLink, submoduleDir, null);
             }
+            if (checkoutFilter != null) {
+                ObjectId head = repository.resolve(Constants.HEAD);
+                if (head != null) {
+                    checkoutFiltered(Git.wrap(repository), head);
+                }
+            }
+        } catch (IOException e) {
+            repository.close();
+            report.exceptionThrown(new JsonObject(), e);
+            throw new RuntimeException("Failed to prepare working tree of submodule " + repositoryLink
+                    + ": " + e.getMessage());
         } catch (GitAPIException | JGitInternalException e) {
             report.exceptionThrown(new JsonObject(), e);
             throw new RuntimeException("Failed to add submodule " + repositoryLink + ": " + e.getMessage());
@@ -295,6 +338,39 @@ public void submoduleAddHandler(Git superRepo, JsonObject component, JsonObject
         LOG.info("Component repository of {} added to {}", componentId, cloneFolder);
     }
 
+    private void cleanSubmoduleDirs(Git superRepo, String submoduleDir) {
+        try {
+            File modulesBase = new File(superRepo.getRepository().getCommonDirectory(),
+                    Constants.MODULES);
+            File moduleGitDir = new File(modulesBase, submoduleDir);
+            File moduleWorkDir = new File(superRepo.getRepository().getWorkTree(), submoduleDir);
+            if (moduleWorkDir.exists()) {
+                LOG.warn("Removing existing submodule work dir before add: {}", moduleWorkDir);
+                FileUtils.delete(moduleWorkDir,
+                        FileUtils.RECURSIVE | FileUtils.RETRY);
+            }
+            if (moduleGitDir.exists()) {
+                LOG.warn("Removing existing submodule git dir before add: {}", moduleGitDir);
+                FileUtils.delete(moduleGitDir,
+                        FileUtils.RECURSIVE | FileUtils.RETRY);
+            }
+        } catch (Exception cleanupEx) {
+            LOG.warn("Cleanup of existing submodule dirs failed, proceeding: {}", cleanupEx.getMessage());
+        }
+    }
+
+    /* SubmoduleAddCommand has no depth option, so it is passed to the transport of the underlying clone */
+    private Repository addSubmodule(Git superRepo, String uri, String path, Integer depth) throws GitAPIException {
+        SubmoduleAddCommand submoduleAddCommand = new SubmoduleAddCommand(superRepo.getRepository())
+                .setURI(uri)
+                .setPath(path)
+                .setCredentialsProvider(credentialsProvider);
+        if (depth != null) {
+            submoduleAddCommand.setTransportConfigCallback(transport -> transport.setDepth(depth));
+        }
+        return submoduleAddCommand.call();
+    }
+
     @Override
     public Future<Void> submoduleAdd(Git superRepo, JsonObject component, JsonObject domain) {
         return getWorkerExecutor().executeBlocking(() -> {
@@ -360,7 +436,15 @@ public Future<Git> openSuperrepository() {
         return getWorkerExecutor().executeBlocking(this::openRepositoryHandler);
     }
 
-    public void submodulesCheckoutHandler(Git repository, String release, List<JsonObject> components) {
+    /**
+     * Find submodules matching the components, without touching their working trees.
+     *
+     * @param repository Super repository
+     * @param release Release name, for logging
+     * @param components Components having "directoryPath"
+     * @return Checkout jobs, one per matched submodule
+     */
+    public List<CheckoutJob> collectCheckoutJobs(Git repository, String release, List<JsonObject> components) {
         LOG.info("Performing checkout of branches for release {} in all modules", release);
         if (repository == null) {
             throw new RuntimeException("Repository cannot be null");
@@ -369,6 +453,7 @@ public void submodulesCheckoutHandler(Git repository, String release, List<JsonO
             throw new RuntimeException("Release name cannot be null or empty");
         }
 
+        List<CheckoutJob> jobs = new ArrayList<>();
         try (SubmoduleWalk walk = SubmoduleWalk.forIndex(repository.getRepository())) {
             while (walk.next()) {
                 try (Repository module = walk.getRepository()) {
@@ -388,22 +473,152 @@ public void submodulesCheckoutHandler(Git repository, String release, List<JsonO
                         // will not fail the promise just because of one of the repos
                         continue;
                     }
-                    String branch = (String) JsonPointer.from("/details/releaseBranch")
-                            .queryJson(matchedComponents.stream().findFirst().get());
-                    checkout(Git.wrap(module), branch);
-                } catch (GitAPIException e) {
-                    report.internalError("Unable to checkout release " + release
-                            + ": " + ExceptionUtils.getStackTrace(e));
-                    // will not fail the promise just because of one of the repos
-                    continue;
+                    JsonObject component = matchedComponents.get(0);
+                    String branch = (String) JsonPointer.from("/details/releaseBranch").queryJson(component);
+                    jobs.add(new CheckoutJob(walk.getPath(), getRemoteHost(module), component, branch));
                 }
-                LOG.info("Checkout of release " + release + " in repository "
-                        + walk.getRepository().getWorkTree().toString() + " completed.");
             }
         } catch (IOException e) {
             report.internalError("Unable to perform checkout of " + release + ": " + e.getMessage());
             throw new RuntimeException("Unable to perform checkout of " + release + ": " + e.getMessage());
         }
+        return jobs;
+    }
+
+    /* Fetch and checkout the modules concurrently. Number of modules in flight is bounded both in total and
+     * per remote host. Modules that took longest last time start first, so that they do not dominate the tail. */
+    private Future<Void> runCheckoutJobs(Git repository, String release, List<CheckoutJob> jobs) {
+        Map<String, Long> lastCosts = loadCheckoutCosts(repository);
+        Map<String, Long> costs = new ConcurrentHashMap<>(lastCosts);
+        boolean skipFetchIfPresent = Boolean.parseBoolean(
+                ConfigUtils.getConfigValue(GIT_SKIP_FETCH_IF_PRESENT_POINTER, config));
+        AtomicInteger processed = new AtomicInteger();
+
+        BoundedWorkScheduler scheduler = new BoundedWorkScheduler(getWorkerExecutor(),
+                getIntFromConfig(GIT_CHECKOUT_PARALLELISM_POINTER, CpuCoreSensor.availableProcessors()),
+                getIntFromConfig(GIT_CONNECTIONS_PER_HOST_POINTER, DEFAULT_CONNECTIONS_PER_HOST),
+                e -> report.internalError("Unable to checkout release " + release
+                        + ": " + ExceptionUtils.getStackTrace(e)));
+        for (CheckoutJob job : jobs) {
+            // Modules never checked out before are likely to be cloned from scratch, start them first
+            long cost = lastCosts.getOrDefault(job.path, Long.MAX_VALUE);
+            scheduler.submit(cost, 1, job.host, () -> {
+                long start = System.nanoTime();
+                try {
+                    checkoutModule(repository, release, job, skipFetchIfPresent);
+                } finally {
+                    costs.put(job.path, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                    LOG.info("Checkout of release {}: {} of {} repositories processed", release,
+                            processed.incrementAndGet(), jobs.size());
+                }
+                return null;
+            });
+        }
+        return scheduler.start()
+                .compose(v -> getWorkerExecutor().executeBlocking(() -> {
+                    saveCheckoutCosts(repository, costs);
+                    return null;
+                }));
+    }
+
+    private void checkoutModule(Git repository, String release, CheckoutJob job, boolean skipFetchIfPresent)
+            throws IOException {
+        try (Repository module = SubmoduleWalk.getSubmoduleRepository(repository.getRepository(), job.path)) {
+            if (module == null) {
+                report.internalError("Module " + job.path + " in superrepository "
+                        + repository.getRepository().getDirectory() + " is not initialized");
+                return;
+            }
+            String previousRevision = resolveHead(module);
+            if (checkoutFilter != null) {
+                checkoutFiltered(Git.wrap(module), job.branch, skipFetchIfPresent);
+            } else {
+                checkout(Git.wrap(module), job.branch, skipFetchIfPresent);
+            }
+            recordRevision(job.component, previousRevision, resolveHead(module));
+            LOG.info("Checkout of release " + release + " in repository " + module.getWorkTree() + " completed.");
+        } catch (GitAPIException e) {
+            report.internalError("Unable to checkout release " + release
+                    + ": " + ExceptionUtils.getStackTrace(e));
+            // will not fail the promise just because of one of the repos
+        }
+    }
+
+    private String getRemoteHost(Repository module) {
+        Config moduleConfig = module.getConfig();
+        for (String remote : moduleConfig.getSubsections(ConfigConstants.CONFIG_REMOTE_SECTION)) {
+            String url = moduleConfig.getString(ConfigConstants.CONFIG_REMOTE_SECTION, remote,
+                    ConfigConstants.CONFIG_KEY_URL);
+            if (url != null) {
+                try {
+                    return new URIish(url).getHost();
+                } catch (URISyntaxException e) {
+                    LOG.debug("Unable to parse url {} of repository {}", url, module.getDirectory());
+                }
+            }
+        }
+        return null;
+    }
+
+    private int getIntFromConfig(String jsonPointer, int defaultValue) {
+        String value = ConfigUtils.getConfigValue(jsonPointer, config);
+        return value != null ? Integer.parseInt(value.trim()) : defaultValue;
+    }
+
+    /* Duration of last checkout of every module in milliseconds, by module path */
+    private Map<String, Long> loadCheckoutCosts(Git repository) {
+        Map<String, Long> costs = new HashMap<>();
+        Path costsFile = getCheckoutCostsFile(repository);
+        if (!Files.exists(costsFile)) {
+            return costs;
+        }
+        try {
+            JsonObject json = new JsonObject(Files.readString(costsFile));
+            for (String path : json.fieldNames()) {
+                costs.put(path, json.getLong(path));
+            }
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Unable to read checkout costs from {}: {}", costsFile, e.getMessage());
+        }
+        return costs;
+    }
+
+    private void saveCheckoutCosts(Git repository, Map<String, Long> costs) {
+        Path costsFile = getCheckoutCostsFile(repository);
+        try {
+            Files.writeString(costsFile, new JsonObject(new TreeMap<>(costs)).encodePrettily());
+        } catch (IOException e) {
+            LOG.warn("Unable to save checkout costs to {}: {}", costsFile, e.getMessage());
+        }
+    }
+
+    private Path getCheckoutCostsFile(Git repository) {
+        return repository.getRepository().getDirectory().toPath().resolve(CHECKOUT_COSTS_FILE);
+    }
+
+    private String resolveHead(Repository module) {
+        try {
+            ObjectId head = module.resolve(Constants.HEAD);
+            return head != null ? head.name() : null;
+        } catch (IOException e) {
+            LOG.warn("Unable to resolve HEAD of repository {}: {}", module.getDirectory(), e.getMessage());
+            return null;
+        }
+    }
+
+    /* Keep resolved commit id, so that unchanged components can be detected in subsequent runs */
+    private void recordRevision(JsonObject component, String previousRevision, String currentRevision) {
+        if (currentRevision == null) {
+            component.remove(F_REVISION);
+            return;
+        }
+        component.put(F_REVISION, currentRevision);
+        if (currentRevision.equals(previousRevision)) {
+            LOG.debug("Revision of component {} did not change: {}", component.getString(F_ID), currentRevision);
+        } else {
+            LOG.info("Revision of component {} moved from {} to {}", component.getString(F_ID),
+                    previousRevision, currentRevision);
+        }
     }
 
     private Boolean isComponentMatchingModule(Repository module, JsonObject component) {
@@ -419,24 +634,26 @@ private String getTrailingSubpath(Path directoryPath, int levelsToKeep) {
 
     @Override
     public Future<Void> submodulesCheckout(Git superrepo, String release, List<JsonObject> components) {
-        return getWorkerExecutor().executeBlocking(() -> {
-            submodulesCheckoutHandler(superrepo, release, components);
-            return null;
-        });
+        return getWorkerExecutor().executeBlocking(() -> collectCheckoutJobs(superrepo, release, components))
+                .compose(jobs -> runCheckoutJobs(superrepo, release, jobs));
     }
 
     public void checkout(Git repository, String ref) throws GitAPIException {
+        checkout(repository, ref, false);
+    }
+
+    /**
+     * Fetch the repository and checkout the ref.
+     *
+     * @param repository Repository
+     * @param ref Branch, tag or commit id
+     * @param skipFetchIfPresent Skip the fetch if the commit or the tag is already present locally,
+     *     or if the remote branch did not move since the last fetch (checked with ls-remote)
+     * @throws GitAPIException If the fetch or the checkout failed
+     */
+    public void checkout(Git repository, String ref, boolean skipFetchIfPresent) throws GitAPIException {
         LOG.info("Checking out ref " + ref + " of repository " + repository.getRepository().getDirectory());
-        List<RemoteConfig> remotes = repository.remoteList().call();
-        String reference = ref;
-        if (!remotes.isEmpty()) {
-            String remote = remotes.get(0).getName();
-            reference = remote + "/" + ref;
-            LOG.debug("Performing git fetch for repository {}", repository.getRepository().getDirectory());
-            repository.fetch()
-                    .setCredentialsProvider(credentialsProvider)
-                    .call();
-        }
+        String reference = fetchForCheckout(repository, ref, skipFetchIfPresent);
         try {
             repository.checkout()
                     .setName(reference)
@@ -455,6 +672,162 @@ public void checkout(Git repository, String ref) throws GitAPIException {
         }
     }
 
+    /* Fetch the repository unless not needed. Returns ref name qualified with the remote, if any */
+    private String fetchForCheckout(Git repository, String ref, boolean skipFetchIfPresent) throws GitAPIException {
+        List<RemoteConfig> remotes = repository.remoteList().call();
+        if (remotes.isEmpty()) {
+            return ref;
+        }
+        String reference = remotes.get(0).getName() + "/" + ref;
+        if (skipFetchIfPresent && isUpToDateLocally(repository, remotes.get(0).getName(), ref)) {
+            LOG.debug("Ref {} is up to date in repository {}, fetch skipped", ref,
+                    repository.getRepository().getDirectory());
+        } else {
+            doFetch(repository);
+        }
+        return reference;
+    }
+
+    /* Shallow repositories are kept shallow. Fetch falls back to a full one if the remote refuses the depth */
+    private void doFetch(Git repository) throws GitAPIException {
+        LOG.debug("Performing git fetch for repository {}", repository.getRepository().getDirectory());
+        Integer depth = cloneDepth != null && isShallow(repository.getRepository()) ? cloneDepth : null;
+        FetchCommand fetchCommand = repository.fetch()
+                .setCredentialsProvider(credentialsProvider);
+        if (depth == null) {
+            fetchCommand.call();
+            return;
+        }
+        try {
+            fetchCommand.setDepth(depth).call();
+        } catch (TransportException e) {
+            LOG.warn("Shallow fetch of repository {} failed ({}), performing full fetch",
+                    repository.getRepository().getDirectory(), e.getMessage());
+            repository.fetch()
+                    .setCredentialsProvider(credentialsProvider)
+                    .setUnshallow(true)
+                    .call();
+        }
+    }
+
+    private boolean isShallow(Repository repository) {
+        try {
+            return !repository.getObjectDatabase().getShallowCommits().isEmpty();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Fetch the repository and checkout only files accepted by the sparse checkout filter.
+     * JGit does not support sparse checkouts, so they are emulated: HEAD is detached at the resolved commit,
+     * matching files are checked out, other tracked files are removed from the index and the working tree.
+     * Status of such repository reports the latter as removed.
+     */
+    private void checkoutFiltered(Git repository, String ref, boolean skipFetchIfPresent)
+            throws GitAPIException, IOException {
+        LOG.info("Checking out files of ref " + ref + " of repository " + repository.getRepository().getDirectory());
+        String reference = fetchForCheckout(repository, ref, skipFetchIfPresent);
+        Repository repo = repository.getRepository();
+        ObjectId commitId = repo.resolve(Constants.R_REMOTES + reference + "^{commit}");
+        if (commitId == null) {
+            // In case of tag or sha1
+            commitId = repo.resolve(ref + "^{commit}");
+        }
+        if (commitId == null) {
+            throw new RefNotFoundException("Ref " + ref + " cannot be resolved in " + repo.getDirectory());
+        }
+        checkoutFiltered(repository, commitId);
+    }
+
+    private void checkoutFiltered(Git repository, ObjectId commitId) throws GitAPIException, IOException {
+        Repository repo = repository.getRepository();
+        Set<String> paths = new LinkedHashSet<>();
+        RevCommit commit;
+        try (RevWalk revWalk = new RevWalk(repo); TreeWalk treeWalk = new TreeWalk(repo)) {
+            commit = revWalk.parseCommit(commitId);
+            treeWalk.addTree(commit.getTree());
+            treeWalk.setRecursive(true);
+            while (treeWalk.next()) {
+                FileMode mode = treeWalk.getFileMode(0);
+                if ((FileMode.REGULAR_FILE.equals(mode) || FileMode.EXECUTABLE_FILE.equals(mode))
+                        && checkoutFilter.test(treeWalk.getPathString())) {
+                    paths.add(treeWalk.getPathString());
+                }
+            }
+        }
+
+        Path workTree = repo.getWorkTree().toPath();
+        DirCache dirCache = repo.lockDirCache();
+        try {
+            DirCacheEditor editor = dirCache.editor();
+            for (int i = 0; i < dirCache.getEntryCount(); i++) {
+                String path = dirCache.getEntry(i).getPathString();
+                if (!paths.contains(path)) {
+                    editor.add(new DirCacheEditor.DeletePath(path));
+                    Files.deleteIfExists(workTree.resolve(path));
+                }
+            }
+            editor.commit();
+        } finally {
+            dirCache.unlock();
+        }
+
+        RefUpdate headUpdate = repo.updateRef(Constants.HEAD, true);
+        headUpdate.setNewObjectId(commit);
+        headUpdate.forceUpdate();
+        if (!paths.isEmpty()) {
+            repository.checkout()
+                    .setStartPoint(commit)
+                    .addPaths(new ArrayList<>(paths))
+                    .call();
+        }
+        LOG.debug("{} files of commit {} checked out in repository {}", paths.size(), commit.name(), repo.getDirectory());
+    }
+
+    @Override
+    public Future<Void> fetch(Git repository) {
+        return getWorkerExecutor().executeBlocking(() -> {
+            try {
+                if (!repository.remoteList().call().isEmpty()) {
+                    doFetch(repository);
+                }
+            } catch (GitAPIException e) {
+                throw new RuntimeException("Failed to fetch repository " + repository.getRepository().getDirectory()
+                        + ": " + e.getMessage());
+            }
+            return null;
+        });
+    }
+
+    /* Commits and tags do not change once present. Branches may move, so the remote-tracking one
+     * is compared with the remote head, which is much cheaper than a fetch. */
+    private boolean isUpToDateLocally(Git git, String remote, String ref) {
+        Repository repository = git.getRepository();
+        try {
+            if (ObjectId.isId(ref)) {
+                return repository.getObjectDatabase().has(ObjectId.fromString(ref));
+            }
+            if (repository.exactRef(Constants.R_TAGS + ref) != null) {
+                return true;
+            }
+            Ref trackingRef = repository.exactRef(Constants.R_REMOTES + remote + "/" + ref);
+            if (trackingRef == null) {
+                return false;
+            }
+            Ref remoteRef = git.lsRemote()
+                    .setRemote(remote)
+                    .setHeads(true)
+                    .setCredentialsProvider(credentialsProvider)
+                    .callAsMap()
+                    .get(Constants.R_HEADS + ref);
+            return remoteRef != null && trackingRef.getObjectId().equals(remoteRef.getObjectId());
+        } catch (IOException | GitAPIException e) {
+            LOG.debug("Unable to look up {} in repository {}: {}", ref, repository.getDirectory(), e.getMessage());
+            return false;
+        }
+    }
+
     @Override
     public Future branchCheckout(Git repository, String branch) {
         return getWorkerExecutor().executeBlocking(() -> {
@@ -516,8 +889,8 @@ private Git prepareLocalRepo(String superRepositoryUri) throws GitAPIException {
     }
 
     @Override
-    public Future switchSuperRepoBranch(Git superRepository, String superRepositoryBranch) {
-        return getWorkerExecutor().executeBlocking(() -> {
+    public Future<Void> switchSuperRepoBranch(Git superRepository, String superRepositoryBranch) {
+        return getWorkerExecutor().<Void>executeBlocking(() -> {
             try {
                 checkoutSuperRepoReleaseBranch(superRepository, superRepositoryBranch);
             } catch (GitAPIException e) {
@@ -564,16 +937,61 @@ private Git superRepositoryClone(String uri, String directoryPath) throws GitAPI
 
         String main = ConfigUtils.getConfigValue(ConfigProperties.DEFAULT_MAIN_BRANCH_POINTER, config);
 
-        Git superRepo = Git.cloneRepository()
+        Git superRepo;
+        try {
+            superRepo = cloneSuperRepository(uri, directoryPath, main, cloneDepth);
+        } catch (TransportException e) {
+            if (cloneDepth == null) {
+                throw e;
+            }
+            LOG.warn("Shallow clone of the repository {} failed ({}), performing full clone", uri, e.getMessage());
+            try {
+                FileUtils.delete(new File(directoryPath), FileUtils.RECURSIVE | FileUtils.RETRY | FileUtils.SKIP_MISSING);
+            } catch (IOException ex) {
+                LOG.warn("Cleanup of {} failed, proceeding: {}", directoryPath, ex.getMessage());
+            }
+            superRepo = cloneSuperRepository(uri, directoryPath, main, null);
+        }
+        LOG.info("Performing submodule init for repository {}", directoryPath);
+        superRepo.submoduleInit().call();
+        return superRepo;
+    }
+
+    private Git cloneSuperRepository(String uri, String directoryPath, String branch, Integer depth)
+            throws GitAPIException {
+        CloneCommand cloneCommand = Git.cloneRepository()
                 .setCloneSubmodules(true)
                 .setURI(uri)
                 .setCredentialsProvider(credentialsProvider)
                 .setDirectory(new File(directoryPath))
-                .setBranch(main)
-                .call();
-        LOG.info("Performing submodule init for repository {}", directoryPath);
-        superRepo.submoduleInit().call();
-        return superRepo;
+                .setBranch(branch);
+        if (depth != null) {
+            cloneCommand.setDepth(depth);
+        }
+        return cloneCommand.call();
+    }
+
+    /* Submodule of the super repository to be checked out for a component */
+    public static class CheckoutJob {
+        private final String path;
+        private final String host;
+        private final JsonObject component;
+        private final String branch;
+
+        CheckoutJob(String path, String host, JsonObject component, String branch) {
+            this.path = path;
+            this.host = host;
+            this.component = component;
+            this.branch = branch;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public JsonObject getComponent() {
+            return component;
+        }
     }
 
 }
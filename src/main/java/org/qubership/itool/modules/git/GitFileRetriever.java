@@ -35,6 +35,18 @@ public interface GitFileRetriever {
 
     List<Future<?>> copyFilesFromRepo(Git repo, String release, List<Path> files);
 
+    /**
+     * Copy files of a release into the diff output directory, reading them directly from the object database.
+     * The working tree of the repository is not touched, so the release does not need to be checked out.
+     *
+     * @param repo Repository, should be fetched beforehand
+     * @param release Release branch, tag or commit id
+     * @param files Paths of the files relative to the repository
+     * @return Future failed if the release was not found. Files that could not be copied are reported,
+     *     but do not fail it.
+     */
+    Future<?> copyFilesFromRelease(Git repo, String release, List<Path> files);
+
     Path buildRepoPath(Git repo, Path basePath);
 
     Path buildDiffOutputPath(String release, Path basePath);
@@ -18,14 +18,20 @@
 
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
 import io.vertx.core.json.JsonObject;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.commons.lang3.tuple.Triple;
 import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevTree;
 import org.qubership.itool.modules.report.GraphReport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -51,19 +57,52 @@ public GitFileRetrieverImpl(GitAdapter gitAdapter, JsonObject config, Vertx vert
     @Override
     public Future<?> copyFilesFromReleases(String sourceRelease, String targetRelease, List<Path> files) {
         return gitAdapter.openSuperrepository()
-                .compose(repo -> gitAdapter.branchCheckout(repo, sourceRelease).compose(r -> {
-                    List<Future<?>> copyFutures = copyFilesFromRepo(repo, sourceRelease, files);
-                    return Future.join(copyFutures);
-                }).compose(r -> gitAdapter.branchCheckout(repo, targetRelease)
-                        .onFailure(e -> report.internalError("Failed to checkout branch "
-                                + targetRelease + ": " + ExceptionUtils.getStackTrace(e)))
-                        .compose(res -> {
-                            List<Future<?>> copyFutures =
-                                    copyFilesFromRepo(repo, targetRelease, files);
-                            return Future.join(copyFutures).onFailure(
-                                    e -> report.internalError("Some files were not copied: "
-                                            + ExceptionUtils.getStackTrace(e)));
-                        })).onComplete(r -> repo.close()));
+                .compose(repo -> gitAdapter.fetch(repo)
+                        .compose(r -> Future.join(
+                                copyFilesFromRelease(repo, sourceRelease, files),
+                                copyFilesFromRelease(repo, targetRelease, files)))
+                        .onFailure(e -> report.internalError("Some files were not copied: "
+                                + ExceptionUtils.getStackTrace(e)))
+                        .onComplete(r -> repo.close()));
+    }
+
+    @Override
+    public Future<?> copyFilesFromRelease(Git repo, String release, List<Path> files) {
+        WorkerExecutor executor = gitAdapter.getWorkerExecutor();
+        Repository repository = repo.getRepository();
+        return executor.executeBlocking(() -> {
+            RevTree tree = GitObjectReader.resolveTree(repository, release);
+            if (tree == null) {
+                throw new IllegalArgumentException("Release " + release + " was not found in repository "
+                        + repository.getDirectory());
+            }
+            return tree;
+        }).compose(tree -> {
+            List<Future<?>> copyFutures = new ArrayList<>();
+            for (Path path : files) {
+                Future<?> futureFile = executor.executeBlocking(() -> {
+                    copyFromObjects(repository, tree, path, buildDiffOutputPath(release, path));
+                    return null;
+                }, false).recover(e -> {
+                    report.internalError("Couldn't copy file " + path.toString()
+                            + " of release " + release + " from repository " + repository.getDirectory() + ": "
+                            + ExceptionUtils.getStackTrace(e));
+                    return Future.succeededFuture();
+                });
+                copyFutures.add(futureFile);
+            }
+            return Future.join(copyFutures);
+        });
+    }
+
+    private void copyFromObjects(Repository repository, RevTree tree, Path basePath, Path newPath)
+            throws IOException {
+        byte[] contents = GitObjectReader.readFile(repository, tree, basePath);
+        if (contents == null) {
+            throw new FileNotFoundException(basePath.toString());
+        }
+        Files.createDirectories(newPath.getParent());
+        Files.write(newPath, contents);
     }
 
     @Override
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.qubership.itool.modules.git;
+
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevTree;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.submodule.SubmoduleWalk;
+import org.eclipse.jgit.treewalk.TreeWalk;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Reads files at a given revision directly from the object database, without checking the revision out
+ * and without touching the working tree.
+ *
+ * <p>Paths crossing submodule boundaries are followed into submodule repositories, at the commits
+ * recorded in the parent tree. Submodules must be initialized and have those commits fetched.
+ *
+ * <p>All methods are thread-safe, so files of the same tree can be read in parallel.
+ */
+public final class GitObjectReader {
+
+    private GitObjectReader() {
+    }
+
+    /**
+     * Resolve a ref to the tree of its commit. Remote branches of the first remote take precedence
+     * over local refs of the same name, the same way as in {@link GitAdapterImpl#checkout}.
+     *
+     * @param repository Repository
+     * @param ref Branch, tag or commit id
+     * @return Tree, or {@code null} if the ref was not found
+     * @throws IOException If the repository could not be read
+     */
+    public static RevTree resolveTree(Repository repository, String ref) throws IOException {
+        ObjectId commitId = null;
+        // Same remote as the first one of RemoteConfig.getAllRemoteConfigs()
+        Set<String> remotes = new TreeSet<>(repository.getRemoteNames());
+        if (!remotes.isEmpty()) {
+            commitId = repository.resolve(Constants.R_REMOTES + remotes.iterator().next() + "/" + ref + "^{commit}");
+        }
+        if (commitId == null) {
+            commitId = repository.resolve(ref + "^{commit}");
+        }
+        if (commitId == null) {
+            return null;
+        }
+        try (RevWalk revWalk = new RevWalk(repository)) {
+            return revWalk.parseCommit(commitId).getTree();
+        }
+    }
+
+    /**
+     * Read a file from a tree.
+     *
+     * @param repository Repository owning the tree
+     * @param tree Tree
+     * @param path Path of the file relative to the tree
+     * @return File contents, or {@code null} if there is no such file
+     * @throws IOException If the repository could not be read
+     */
+    public static byte[] readFile(Repository repository, RevTree tree, Path path) throws IOException {
+        return readFile(repository, tree, toGitPath(path));
+    }
+
+    /**
+     * Read a file from a tree.
+     *
+     * @param repository Repository owning the tree
+     * @param tree Tree
+     * @param path Path of the file relative to the tree, with "/" as a separator
+     * @return File contents, or {@code null} if there is no such file
+     * @throws IOException If the repository could not be read
+     */
+    public static byte[] readFile(Repository repository, RevTree tree, String path) throws IOException {
+        try (ObjectReader reader = repository.newObjectReader()) {
+            try (TreeWalk walk = TreeWalk.forPath(reader, path, tree)) {
+                if (walk != null) {
+                    return FileMode.REGULAR_FILE.equals(walk.getFileMode(0))
+                            || FileMode.EXECUTABLE_FILE.equals(walk.getFileMode(0))
+                            ? reader.open(walk.getObjectId(0), Constants.OBJ_BLOB).getBytes()
+                            : null;
+                }
+            }
+
+            // The path may go through a submodule, find the deepest gitlink on it
+            for (int slash = path.lastIndexOf('/'); slash > 0; slash = path.lastIndexOf('/', slash - 1)) {
+                String prefix = path.substring(0, slash);
+                try (TreeWalk walk = TreeWalk.forPath(reader, prefix, tree)) {
+                    if (walk == null) {
+                        continue;
+                    }
+                    if (!FileMode.GITLINK.equals(walk.getFileMode(0))) {
+                        return null;
+                    }
+                    return readFromSubmodule(repository, prefix, walk.getObjectId(0), path.substring(slash + 1));
+                }
+            }
+        }
+        return null;
+    }
+
+    private static byte[] readFromSubmodule(Repository repository, String submodulePath, ObjectId commitId,
+            String path) throws IOException {
+        try (Repository submodule = SubmoduleWalk.getSubmoduleRepository(repository, submodulePath)) {
+            if (submodule == null || !submodule.getObjectDatabase().has(commitId)) {
+                return null;
+            }
+            RevTree tree;
+            try (RevWalk revWalk = new RevWalk(submodule)) {
+                tree = revWalk.parseCommit(commitId).getTree();
+            }
+            return readFile(submodule, tree, path);
+        }
+    }
+
+    static String toGitPath(Path path) {
+        return path.toString().replace('\\', '/');
+    }
+
+}
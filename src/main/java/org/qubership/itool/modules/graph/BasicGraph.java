@@ -18,13 +18,39 @@
 
 import io.vertx.core.json.JsonObject;
 import org.qubership.itool.modules.gremlin2.graph.GraphTraversalSource;
+import org.qubership.itool.modules.gremlin2.graph.TraversalResultCache;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public interface BasicGraph {
 
     GraphTraversalSource traversal();
 
+    /**
+     * Counter increased by every structural modification of the graph: vertices or edges added,
+     * removed or relocated. Changes of vertex and edge JSON objects made in place are not counted.
+     *
+     * @return Counter value, or -1 if the graph does not track modifications
+     */
+    default long getModificationCount() {
+        return -1;
+    }
+
+    /**
+     * Cache of traversal results associated with this graph, used by {@link GraphTraversalSource#cached()}.
+     *
+     * @return Cache, or {@code null} if not supported
+     */
+    default TraversalResultCache getTraversalResultCache() {
+        return null;
+    }
+
     int getVertexCount();
 
     int getEdgeCount();
@@ -39,6 +65,35 @@ public interface BasicGraph {
 
     List<JsonObject> getSuccessors(String vertexId, boolean distinct);
 
+    /**
+     * Get distinct successors of a vertex grouped by string value of their property. Successors
+     * not having the property are omitted. Order of successors within a group follows the order
+     * of {@link #getSuccessors(String, boolean)}.
+     *
+     * <p>The result is a snapshot: it is not updated when the graph or property values change.
+     * Callers resolving many lookups against the same vertex (e.g. path matching by name) may keep
+     * it for the duration of a single traversal instead of re-enumerating the successors.
+     *
+     * @param vertexId Source vertex id
+     * @param property Property of successors used as a key
+     * @return Map from property value to successors having it
+     */
+    default Map<String, List<JsonObject>> getSuccessorsByProperty(String vertexId, String property) {
+        Map<String, List<JsonObject>> index = new LinkedHashMap<>();
+        List<JsonObject> successors = getSuccessors(vertexId, false);
+        if (successors == null) {
+            return index;
+        }
+        Set<JsonObject> unique = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (JsonObject successor : successors) {
+            String value = successor.getString(property);
+            if (value != null && unique.add(successor)) {
+                index.computeIfAbsent(value, k -> new ArrayList<>(1)).add(successor);
+            }
+        }
+        return index;
+    }
+
     List<JsonObject> getPredecessors(String vertexId, boolean distinct);
 
     List<JsonObject> getSuccessorEdges(String vertexId);
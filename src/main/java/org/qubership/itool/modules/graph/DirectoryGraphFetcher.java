@@ -0,0 +1,128 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.qubership.itool.modules.graph;
+
+import io.vertx.core.json.JsonObject;
+import jakarta.inject.Provider;
+import org.qubership.itool.modules.artifactory.AppVersionDescriptor;
+import org.qubership.itool.modules.artifactory.FailureStage;
+import org.qubership.itool.modules.artifactory.GraphSnapshot;
+import org.qubership.itool.modules.processor.MergerApi;
+import org.qubership.itool.utils.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.qubership.itool.modules.processor.MergerApi.P_APP_NAME;
+import static org.qubership.itool.modules.processor.MergerApi.P_APP_VERSION;
+import static org.qubership.itool.modules.processor.MergerApi.P_IS_APPLICATION;
+
+/**
+ * Fetcher of application graphs stored in a local directory. Application version id
+ * is {@code appName:appVersion}, its data is looked up under the base directory as:
+ * <ul><li>{@code appName/appVersion.json.gz} or {@code appName/appVersion.json} - dump of application graph
+ * <li>{@code appName/appVersion/} - directory with dumps of component graphs, they are assembled
+ *     into application graph the same way as {@code ci-assembly} does
+ * </ul>
+ * Merged graphs are not persisted.
+ */
+public class DirectoryGraphFetcher implements GraphFetcher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DirectoryGraphFetcher.class);
+
+    private final Path baseDirectory;
+    private final Provider<MergerApi> graphMergerProvider;
+
+    public DirectoryGraphFetcher(Path baseDirectory, Provider<MergerApi> graphMergerProvider) {
+        this.baseDirectory = baseDirectory.toAbsolutePath().normalize();
+        this.graphMergerProvider = graphMergerProvider;
+    }
+
+    @Override
+    public AppVersionDescriptor resolveAppVersion(String appVersionId) {
+        int colon = appVersionId.indexOf(':');
+        if (colon <= 0 || colon == appVersionId.length() - 1) {
+            return null;
+        }
+        return new AppVersionDescriptor(appVersionId, appVersionId.substring(0, colon),
+                appVersionId.substring(colon + 1));
+    }
+
+    @Override
+    public GraphSnapshot fetchGraphDumpByAppVersion(AppVersionDescriptor appVersionDesc) {
+        GraphSnapshot snapshot = new GraphSnapshot();
+        try {
+            Path appDirectory = resolve(baseDirectory, appVersionDesc.getAppName());
+            Path componentsDirectory = resolve(appDirectory, appVersionDesc.getAppVersion());
+            Path dumpFile = resolve(appDirectory, appVersionDesc.getAppVersion() + ".json.gz");
+            if (!Files.isRegularFile(dumpFile)) {
+                dumpFile = resolve(appDirectory, appVersionDesc.getAppVersion() + ".json");
+            }
+
+            if (Files.isRegularFile(dumpFile)) {
+                LOG.info("Reading application graph {} from {}", appVersionDesc.asArtifactId(), dumpFile);
+                snapshot.setGraphDump(JsonUtils.readJsonFile(dumpFile.toString()));
+            } else if (Files.isDirectory(componentsDirectory)) {
+                LOG.info("Assembling application graph {} from {}", appVersionDesc.asArtifactId(), componentsDirectory);
+                JsonObject targetDesc = new JsonObject()
+                        .put(P_IS_APPLICATION, true)
+                        .put(P_APP_NAME, appVersionDesc.getAppName())
+                        .put(P_APP_VERSION, appVersionDesc.getAppVersion());
+                try (MergerApi merger = graphMergerProvider.get()) {
+                    snapshot.setGraphDump(merger.mergeComponentDumps(componentsDirectory, targetDesc));
+                }
+            } else {
+                snapshot.setFailureStage(FailureStage.FETCHING);
+                snapshot.setFailureDetails("No data found for " + appVersionDesc.asArtifactId());
+            }
+        } catch (Exception e) {
+            LOG.error("Failed to fetch graph of " + appVersionDesc.asArtifactId(), e);
+            snapshot.setFailureStage(FailureStage.FETCHING);
+            snapshot.setFailureDetails(e.toString());
+        }
+        return snapshot;
+    }
+
+    @Override
+    public List<AppVersionDescriptor> fetchAllApplicationVersionIds(GraphClassifier graphClassifier) {
+        List<AppVersionDescriptor> result = new ArrayList<>();
+        for (String appVersionId : graphClassifier.getApplicationVersionIds()) {
+            AppVersionDescriptor desc = resolveAppVersion(appVersionId);
+            if (desc != null) {
+                result.add(desc);
+            } else {
+                LOG.warn("Invalid application version id, 'appName:appVersion' expected: {}", appVersionId);
+            }
+        }
+        return result;
+    }
+
+    /* Ids come from clients, so they must not escape the base directory */
+    private Path resolve(Path directory, String name) {
+        Path path = directory.resolve(name).normalize();
+        if (!path.startsWith(baseDirectory) || path.equals(baseDirectory)) {
+            throw new IllegalArgumentException("Invalid path: " + name);
+        }
+        return path;
+    }
+
+}
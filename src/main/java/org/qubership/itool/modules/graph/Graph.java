@@ -35,6 +35,12 @@ public interface Graph extends BasicGraph {
     String F_DIRECTORY = "directoryPath";
     String F_PROCESSING_ISSUES = "processingIssues";
 
+    /**
+     * <p>Resolved commit id of component repository that was checked out for parsing.
+     * <p>Value type: String.
+     */
+    String F_REVISION = "revision";
+
     /**
      * <p>This attribute is set to true to indicate mock vertices that need to be replaced with
      * non-mock vertices <b>identified by id</b> by merging with another graph that contains needed data.
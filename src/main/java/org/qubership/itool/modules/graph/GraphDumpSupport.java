@@ -24,6 +24,10 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Set;
+
 /**
  * Support dumping/restoring graph data with all associated stuff.
  */
@@ -44,6 +48,9 @@ public class GraphDumpSupport {
     public static final int NO_REPORT_MODEL_VERSION = -2;
     public static final int LEGACY_REPORT_MODEL_VERSION = -1;
 
+    /** Vertex keys parsed at once by {@link #restoreFromMappedFile(Graph, Path)} */
+    public static final Set<String> DEFAULT_EAGER_KEYS = Set.of(Graph.F_ID, Graph.F_TYPE, Graph.F_NAME);
+
     /** Dump graph and associated stuff (error report, fallout report, metainfo, etc...) into JSON.
      *
      * @param graph A graph to dump
@@ -114,6 +121,38 @@ public static void restoreFromJson(Graph target, JsonObject dump) {
         }
     }
 
+    /**
+     * Restore dump from a file into existing Graph instance, decoding vertices lazily.
+     * The file is mapped into memory; vertices keep byte ranges of their documents, and only
+     * values of {@code eagerKeys} are parsed at once. A vertex is decoded on first access to any
+     * other key, or to the vertex as a whole (iteration, copying, encoding, hashing).
+     * <b>The file must not be modified while the graph is in use.</b>
+     *
+     * @param target Graph instance to restore the dump into
+     * @param file Dump file
+     * @param eagerKeys Vertex keys to parse at once
+     * @throws IOException If the file cannot be read
+     */
+    public static void restoreFromMappedFile(Graph target, Path file, Set<String> eagerKeys) throws IOException {
+        long start = System.nanoTime();
+        JsonObject dump = MappedDumpFile.map(file).readDump(Set.copyOf(eagerKeys));
+        restoreFromJson(target, dump);
+        LOG.debug("Graph restored from mapped file {} in {} ms", file, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Restore dump from a file into existing Graph instance, decoding vertices lazily.
+     * Values of {@link #DEFAULT_EAGER_KEYS} are parsed at once.
+     *
+     * @param target Graph instance to restore the dump into
+     * @param file Dump file
+     * @throws IOException If the file cannot be read
+     * @see #restoreFromMappedFile(Graph, Path, Set)
+     */
+    public static void restoreFromMappedFile(Graph target, Path file) throws IOException {
+        restoreFromMappedFile(target, file, DEFAULT_EAGER_KEYS);
+    }
+
     /** Restore dump into a new Graph instance.
      * <b>Objects are reused and copied shallowly.</b>
      *
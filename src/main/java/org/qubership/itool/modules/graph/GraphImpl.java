@@ -19,11 +19,13 @@
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import org.qubership.itool.modules.gremlin2.graph.GraphTraversalSource;
+import org.qubership.itool.modules.gremlin2.graph.TraversalResultCache;
 import org.qubership.itool.modules.processor.InvalidGraphException;
 import org.qubership.itool.modules.report.GraphReport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
@@ -42,6 +44,8 @@ public class GraphImpl implements Graph {
     private Map<String, Edge> edges;
 
     private int edgeGeneratorCounter;
+    private volatile long modificationCount;
+    private final TraversalResultCache traversalResultCache = new TraversalResultCache();
 
     private GraphReport report;
 
@@ -56,6 +60,16 @@ public GraphTraversalSource traversal() {
         return new GraphTraversalSource(this);
     }
 
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    @Override
+    public TraversalResultCache getTraversalResultCache() {
+        return traversalResultCache;
+    }
+
     @Override
     public synchronized JsonObject getVertex(String vertexId) {
         if (!this.vertices.containsKey(vertexId)) {
@@ -73,6 +87,7 @@ public synchronized boolean addVertex(JsonObject vertex) {
 
         Vertex vertexObj = new VertexImpl(vertexId, vertex);
         this.vertices.put(vertexId, vertexObj);
+        modificationCount++;
         return true;
     }
 
@@ -129,6 +144,7 @@ public synchronized boolean relocateVertex(JsonObject vertex, String newId) {
         }
 
         LOG.debug("Relocating vertex {} to {}", oldId, newId);
+        modificationCount++;
         Vertex vertexObj = moveVertexToNewId(vertex, newId, oldId);
         for (String outgoingEdgeId : vertexObj.getEdgesOut()) {
             Edge outgoingEdge = this.edges.get(outgoingEdgeId);
@@ -168,6 +184,7 @@ public synchronized boolean removeVertex(JsonObject vertex) {
         }
 
         Vertex vertexObj = this.vertices.get(vertexId);
+        modificationCount++;
 
         for (String outgoingEdgeId : vertexObj.getEdgesOut()) {
             Edge outgoingEdge = this.edges.get(outgoingEdgeId);
@@ -253,6 +270,7 @@ public synchronized String addEdge(JsonObject sourceVertex, JsonObject destinati
         this.edges.put(edge.getString(F_ID), edgeObj);
         source.getEdgesOut().add(edgeObj.getId());
         target.getEdgesIn().add(edgeObj.getId());
+        modificationCount++;
 
         // Return generated (or provided) edgeId
         return edgeId;
@@ -282,6 +300,9 @@ public synchronized int removeAllEdges(JsonObject sourceVertex, JsonObject desti
         Vertex edgeTarget = this.vertices.get(destinationVertex.getString(F_ID));
 
         Set<String> allEdges = getEdgeIdsBetween(edgeSource, edgeTarget);
+        if (!allEdges.isEmpty()) {
+            modificationCount++;
+        }
         this.edges.keySet().removeAll(allEdges);
         edgeSource.getEdgesOut().removeAll(allEdges);
         edgeTarget.getEdgesIn().removeAll(allEdges);
@@ -319,6 +340,21 @@ public synchronized List<JsonObject> getSuccessors(String vertexId, boolean dist
         return successors;
     }
 
+    @Override
+    public synchronized Map<String, List<JsonObject>> getSuccessorsByProperty(String vertexId, String property) {
+        Vertex vertex = this.vertices.get(vertexId);
+        Map<String, List<JsonObject>> index = new LinkedHashMap<>();
+        Set<JsonObject> unique = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String edgeId : vertex.getEdgesOut()) {
+            JsonObject successor = this.vertices.get(this.edges.get(edgeId).getDestinationVertexId()).getValue();
+            String value = successor.getString(property);
+            if (value != null && unique.add(successor)) {
+                index.computeIfAbsent(value, k -> new ArrayList<>(1)).add(successor);
+            }
+        }
+        return index;
+    }
+
     @Override
     public synchronized List<JsonObject> getPredecessors(String vertexId, boolean distinct) {
         Vertex vertex = this.vertices.get(vertexId);
@@ -390,6 +426,7 @@ public synchronized JsonObject getEdgeSource(String edgeId) {
 
     @Override
     public void clear() {
+        modificationCount++;
         this.vertices = new LinkedHashMap<>();
         this.edges = new LinkedHashMap<>();
         JsonObject rootVertex = new JsonObject()
@@ -446,6 +483,7 @@ public void restoreGraphData(JsonObject dump) {
         }
 
         setGraphVersion(modelVersion);
+        modificationCount++;
         this.vertices = new LinkedHashMap<>();
         this.edges = new LinkedHashMap<>();
         this.edgeGeneratorCounter = dump.getInteger("edgeGeneratorCounter", 0);
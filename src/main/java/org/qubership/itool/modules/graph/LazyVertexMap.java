@@ -0,0 +1,249 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.modules.graph;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Contents of a vertex backed by a byte range of a {@link MappedDumpFile}.
+ *
+ * <p>Values of eager keys are parsed when the dump is loaded. Any other access, including
+ * iteration, size, modification, {@code equals()} and {@code hashCode()} of the wrapping
+ * {@link JsonObject}, decodes the full document once into this map; after that the map behaves
+ * as a regular {@link LinkedHashMap} and the dump file is no longer referenced.
+ *
+ * <p>The map is a {@link LinkedHashMap} itself, so that {@link JsonObject#copy()} keeps the order of keys.
+ * Every public method materializes the map before delegating to {@code LinkedHashMap}.
+ */
+final class LazyVertexMap extends LinkedHashMap<String, Object> {
+
+    private final Set<String> eagerKeys;
+    private final Map<String, Object> header;
+    private MappedDumpFile source;
+    private final long start;
+    private final long end;
+    private volatile boolean materialized;
+
+    /**
+     * @param eagerKeys Keys parsed eagerly; absence of such key in the header means absence in the document
+     * @param header Values of eager keys found in the document
+     * @param source Dump file
+     * @param start Offset of the document in the file
+     * @param end Offset following the document
+     */
+    LazyVertexMap(Set<String> eagerKeys, Map<String, Object> header, MappedDumpFile source, long start, long end) {
+        this.eagerKeys = eagerKeys;
+        this.header = header;
+        this.source = source;
+        this.start = start;
+        this.end = end;
+    }
+
+    boolean isMaterialized() {
+        return materialized;
+    }
+
+    private void materialize() {
+        if (!materialized) {
+            synchronized (this) {
+                if (!materialized) {
+                    super.putAll(new JsonObject(Buffer.buffer(source.read(start, end))).getMap());
+                    source = null;
+                    materialized = true;
+                }
+            }
+        }
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (!materialized && eagerKeys.contains(key)) {
+            return header.get(key);
+        }
+        materialize();
+        return super.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (!materialized && eagerKeys.contains(key)) {
+            return header.containsKey(key);
+        }
+        materialize();
+        return super.containsKey(key);
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        materialize();
+        return super.getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        materialize();
+        return super.put(key, value);
+    }
+
+    @Override
+    public Object putIfAbsent(String key, Object value) {
+        materialize();
+        return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> m) {
+        materialize();
+        super.putAll(m);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        materialize();
+        return super.remove(key);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        materialize();
+        return super.remove(key, value);
+    }
+
+    @Override
+    public Object replace(String key, Object value) {
+        materialize();
+        return super.replace(key, value);
+    }
+
+    @Override
+    public boolean replace(String key, Object oldValue, Object newValue) {
+        materialize();
+        return super.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super String, ? super Object, ?> function) {
+        materialize();
+        super.replaceAll(function);
+    }
+
+    @Override
+    public Object computeIfAbsent(String key, Function<? super String, ?> mappingFunction) {
+        materialize();
+        return super.computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public Object computeIfPresent(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+        materialize();
+        return super.computeIfPresent(key, remappingFunction);
+    }
+
+    @Override
+    public Object compute(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+        materialize();
+        return super.compute(key, remappingFunction);
+    }
+
+    @Override
+    public Object merge(String key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+        materialize();
+        return super.merge(key, value, remappingFunction);
+    }
+
+    @Override
+    public void clear() {
+        materialize();
+        super.clear();
+    }
+
+    @Override
+    public int size() {
+        materialize();
+        return super.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        materialize();
+        return super.isEmpty();
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        materialize();
+        return super.containsValue(value);
+    }
+
+    @Override
+    public Set<String> keySet() {
+        materialize();
+        return super.keySet();
+    }
+
+    @Override
+    public Collection<Object> values() {
+        materialize();
+        return super.values();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        materialize();
+        return super.entrySet();
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        materialize();
+        super.forEach(action);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        materialize();
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        materialize();
+        return super.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        materialize();
+        return super.toString();
+    }
+
+    @Override
+    public Object clone() {
+        materialize();
+        return new LinkedHashMap<>(this);
+    }
+
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.modules.graph;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Graph dump file mapped into memory, see {@link GraphDumpSupport#restoreFromMappedFile(Graph, Path, Set)}.
+ *
+ * <p>The file is scanned once with a streaming parser. Vertices of {@code graph.vertexList} are
+ * not decoded: every vertex remembers the byte range of its document, and only values of eager
+ * keys are parsed. The rest of the dump (root vertex, edges, report) is decoded as usual.
+ * The file must not be modified while the graph is in use.
+ */
+final class MappedDumpFile {
+
+    // Files larger than 2G are mapped by several buffers
+    static final int SEGMENT_SIZE = 1 << 30;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final Path path;
+    private final long size;
+    private final int segmentSize;
+    private final MappedByteBuffer[] segments;
+
+    private MappedDumpFile(Path path, long size, int segmentSize, MappedByteBuffer[] segments) {
+        this.path = path;
+        this.size = size;
+        this.segmentSize = segmentSize;
+        this.segments = segments;
+    }
+
+    static MappedDumpFile map(Path path) throws IOException {
+        return map(path, SEGMENT_SIZE);
+    }
+
+    static MappedDumpFile map(Path path, int segmentSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int count = (int) ((size + segmentSize - 1) / segmentSize);
+            MappedByteBuffer[] segments = new MappedByteBuffer[count];
+            for (int i = 0; i < count; i++) {
+                long offset = (long) i * segmentSize;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(segmentSize, size - offset));
+            }
+            // Mapping stays valid after the channel is closed
+            return new MappedDumpFile(path, size, segmentSize, segments);
+        }
+    }
+
+    long size() {
+        return size;
+    }
+
+    /** Copy bytes of the given range */
+    byte[] read(long from, long to) {
+        byte[] result = new byte[Math.toIntExact(to - from)];
+        int done = 0;
+        while (done < result.length) {
+            long position = from + done;
+            ByteBuffer segment = segments[(int) (position / segmentSize)].duplicate();
+            segment.position((int) (position % segmentSize));
+            int length = Math.min(result.length - done, segment.remaining());
+            segment.get(result, done, length);
+            done += length;
+        }
+        return result;
+    }
+
+    /**
+     * Scan the file and build a dump with lazy vertices, suitable for
+     * {@link GraphDumpSupport#restoreFromJson(Graph, JsonObject)}.
+     *
+     * @param eagerKeys Vertex keys parsed while scanning
+     * @return Dump
+     */
+    JsonObject readDump(Set<String> eagerKeys) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(new SegmentsInputStream())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new DecodeException("JSON object expected in " + path);
+            }
+            JsonObject dump = new JsonObject();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                if ("graph".equals(name) && parser.currentToken() == JsonToken.START_OBJECT) {
+                    dump.put(name, readGraph(parser, eagerKeys));
+                } else {
+                    dump.put(name, readValue(parser));
+                }
+            }
+            return dump;
+        }
+    }
+
+    private JsonObject readGraph(JsonParser parser, Set<String> eagerKeys) throws IOException {
+        JsonObject graph = new JsonObject();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if ("vertexList".equals(name) && parser.currentToken() == JsonToken.START_ARRAY) {
+                graph.put(name, readVertices(parser, eagerKeys));
+            } else {
+                graph.put(name, readValue(parser));
+            }
+        }
+        return graph;
+    }
+
+    private JsonArray readVertices(JsonParser parser, Set<String> eagerKeys) throws IOException {
+        List<Object> vertices = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                vertices.add(readValue(parser));
+                continue;
+            }
+            long start = parser.currentTokenLocation().getByteOffset();
+            Map<String, Object> header = new HashMap<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                if (eagerKeys.contains(name)) {
+                    header.put(name, readValue(parser));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            long end = parser.currentTokenLocation().getByteOffset() + 1;
+            vertices.add(new JsonObject(new LazyVertexMap(eagerKeys, header, this, start, end)));
+        }
+        return new JsonArray(vertices);
+    }
+
+    /* Decode current value: scalars are taken from the parser, structures are decoded from their bytes */
+    private Object readValue(JsonParser parser) throws IOException {
+        switch (parser.currentToken()) {
+            case START_OBJECT:
+            case START_ARRAY:
+                long start = parser.currentTokenLocation().getByteOffset();
+                parser.skipChildren();
+                long end = parser.currentTokenLocation().getByteOffset() + 1;
+                return Json.decodeValue(Buffer.buffer(read(start, end)));
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return parser.getNumberValue();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NULL:
+                return null;
+            default:
+                throw new DecodeException("Unexpected token " + parser.currentToken() + " in " + path
+                        + " at offset " + parser.currentTokenLocation().getByteOffset());
+        }
+    }
+
+    /* Sequential reading of all segments */
+    private class SegmentsInputStream extends InputStream {
+        private int index;
+        private ByteBuffer current = segments.length == 0 ? ByteBuffer.allocate(0) : segments[0].duplicate();
+
+        private boolean advance() {
+            while (!current.hasRemaining()) {
+                if (index + 1 >= segments.length) {
+                    return false;
+                }
+                current = segments[++index].duplicate();
+            }
+            return true;
+        }
+
+        @Override
+        public int read() {
+            return advance() ? current.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!advance()) {
+                return -1;
+            }
+            int length = Math.min(len, current.remaining());
+            current.get(b, off, length);
+            return length;
+        }
+    }
+
+}
@@ -29,6 +29,9 @@
     protected V value;
     protected V originalValue;
 
+    // Evaluator compiled for current predicate and operand, reset by setters
+    private Predicate<Object> evaluator;
+
     protected P() {
 
     }
@@ -47,7 +50,22 @@ public P(BiPredicate<V, V> biPredicate, V value) {
 
     @Override
     public boolean test(V testValue) {
-        return this.biPredicate.test(testValue, (this.originalValue != null) ? this.originalValue : this.value);
+        Predicate<Object> evaluator = this.evaluator;
+        if (evaluator == null) {
+            evaluator = compile();
+            this.evaluator = evaluator;
+        }
+        return evaluator.test(testValue);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected Predicate<Object> compile() {
+        V operand = (this.originalValue != null) ? this.originalValue : this.value;
+        if (this.biPredicate instanceof Compare) {
+            return ((Compare) this.biPredicate).compile(operand);
+        }
+        BiPredicate<V, V> predicate = this.biPredicate;
+        return testValue -> predicate.test((V) testValue, operand);
     }
 
     public V getValue() {
@@ -56,6 +74,7 @@ public V getValue() {
 
     public void setValue(final V value) {
         this.value = value;
+        this.evaluator = null;
     }
 
     public BiPredicate<V, V> getBiPredicate() {
@@ -64,6 +83,7 @@ public BiPredicate<V, V> getBiPredicate() {
 
     public void setBiPredicate(BiPredicate<V, V> biPredicate) {
         this.biPredicate = biPredicate;
+        this.evaluator = null;
     }
 
     public V getOriginalValue() {
@@ -72,6 +92,7 @@ public V getOriginalValue() {
 
     public void setOriginalValue(V originalValue) {
         this.originalValue = originalValue;
+        this.evaluator = null;
     }
 
     @Override
@@ -167,16 +188,18 @@ public static <V> P<V> inside(final V left, final V right) {
     static class Inside<V> extends P<V> {
         private V left;
         private V right;
+        private P<V> pLeft;
+        private P<V> pRight;
 
         public Inside(V left, V right) {
             this.left = left;
             this.right = right;
+            this.pLeft = new P(Compare.gte, left);
+            this.pRight = new P(Compare.lte, right);
         }
 
         @Override
         public boolean test(V v) {
-            P pLeft = new P(Compare.gte, left);
-            P pRight = new P(Compare.lte, right);
             return pLeft.test(v) && pRight.test(v);
         }
 
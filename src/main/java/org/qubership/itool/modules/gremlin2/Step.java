@@ -55,4 +55,14 @@ default void setIgnoreEmptyTraverser(boolean ignoreEmptyTraverser) {
 
     List<Traverser<E>> getTraversers();
 
+    /**
+     * Key identifying this step with all its parameters, used to cache traversal results.
+     *
+     * @return Key, or {@code null} if the step can't be identified by its parameters (it uses
+     *     lambdas, inner traversals or side effects). Traversals having such steps are not cached.
+     */
+    default String getCacheKey() {
+        return null;
+    }
+
 }
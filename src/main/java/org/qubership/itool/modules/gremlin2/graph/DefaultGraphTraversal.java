@@ -27,9 +27,11 @@
 import org.qubership.itool.modules.gremlin2.util.TraversalHelper;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeSet;
 
 public class DefaultGraphTraversal<S, E> implements GraphTraversal<S, E>, GraphTraversal.Admin<S, E> {
 
@@ -168,6 +170,52 @@ public GraphTraversal.Admin<S, E> clone() {
         return clone;
     }
 
+    /**
+     * Add all the results to the collection, reusing results of the same traversal if the source
+     * has a {@link TraversalResultCache} and the graph was not modified since they were computed.
+     */
+    @Override
+    public <C extends Collection<E>> C fill(C collection) {
+        TraversalResultCache cache = graphTraversalSource == null ? null : graphTraversalSource.getResultCache();
+        long modificationCount = graph == null ? -1 : graph.getModificationCount();
+        String key = (cache == null || modificationCount < 0) ? null : getCacheKey();
+        if (key == null) {
+            return GraphTraversal.Admin.super.fill(collection);
+        }
+
+        List<E> result = cache.get(key, modificationCount);
+        if (result == null) {
+            result = GraphTraversal.Admin.super.fill(new ArrayList<>());
+            cache.put(key, modificationCount, result);
+        }
+        collection.addAll(result);
+        return collection;
+    }
+
+    /**
+     * Key of this traversal built from keys of its steps.
+     *
+     * @return Key, or {@code null} if this traversal can't be cached
+     */
+    protected String getCacheKey() {
+        if (!this.root || this.previousTraversal != null || getSideEffect("__profile") != null) {
+            return null;
+        }
+        StringBuilder key = new StringBuilder();
+        for (Step<?, ?> step : this.steps) {
+            String stepKey = step.getCacheKey();
+            if (stepKey == null) {
+                return null;
+            }
+            key.append(stepKey);
+            if (!step.getLabels().isEmpty()) {
+                key.append(new TreeSet<>(step.getLabels()));
+            }
+            key.append('/');
+        }
+        return key.toString();
+    }
+
     @Override
     public Traversal.Admin<S, E> getPreviousTraversal() {
         return this.previousTraversal;
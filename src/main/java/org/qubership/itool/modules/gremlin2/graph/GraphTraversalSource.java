@@ -29,6 +29,7 @@
 public class GraphTraversalSource {
 
     private BasicGraph graph;
+    private TraversalResultCache resultCache;
 
     public GraphTraversalSource(BasicGraph graph) {
         this.graph = graph;
@@ -70,9 +71,38 @@ public GraphTraversal<JsonObject, JsonObject> E(final String... edgeIds) {
         return traversal.addStep(new GraphStep<>(traversal, JsonObject.class, true, ElementType.edge, edgeIds));
     }
 
+    /**
+     * Source of traversals whose results are cached in the result cache of the graph. Only
+     * traversals consisting of steps with plain parameters are cached, see
+     * {@link TraversalResultCache} for limitations.
+     *
+     * @return Caching traversal source, or this source if the graph has no cache
+     */
+    public GraphTraversalSource cached() {
+        TraversalResultCache cache = this.graph.getTraversalResultCache();
+        return cache == null ? this : withResultCache(cache);
+    }
+
+    /**
+     * Source of traversals whose results are cached in given cache.
+     *
+     * @param cache Cache used with this graph only, or {@code null} to disable caching
+     * @return New traversal source
+     */
+    public GraphTraversalSource withResultCache(TraversalResultCache cache) {
+        GraphTraversalSource clone = this.clone();
+        clone.resultCache = cache;
+        return clone;
+    }
+
+    public TraversalResultCache getResultCache() {
+        return this.resultCache;
+    }
+
     @SuppressWarnings("CloneDoesntDeclareCloneNotSupportedException")
     public GraphTraversalSource clone() {
         GraphTraversalSource clone = new GraphTraversalSource(this.graph);
+        clone.resultCache = this.resultCache;
         return clone;
     }
 
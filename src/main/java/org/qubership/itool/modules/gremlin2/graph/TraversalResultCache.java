@@ -0,0 +1,146 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.modules.gremlin2.graph;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LRU cache of traversal results for one graph.
+ *
+ * <p>Entries are keyed by the step structure of a traversal (see
+ * {@link org.qubership.itool.modules.gremlin2.Step#getCacheKey()}) and are valid for a single value
+ * of {@link org.qubership.itool.modules.graph.BasicGraph#getModificationCount()}: all of them are
+ * dropped once the counter moves. Changes made to vertex or edge JSON objects in place are not
+ * counted, so the cache should be used only by read-only phases or for structural queries.
+ *
+ * <p>Cached results are shared: elements are returned as they are, only the list is copied.
+ */
+public class TraversalResultCache {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final Map<String, List<?>> entries;
+    private long modificationCount = -1;
+    private long hits;
+    private long misses;
+
+    public TraversalResultCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public TraversalResultCache(int capacity) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<?>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Get results of a traversal.
+     *
+     * @param key Traversal key
+     * @param modificationCount Current modification counter of the graph
+     * @return Unmodifiable cached results, or {@code null} if not cached for this state of the graph
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <E> List<E> get(String key, long modificationCount) {
+        invalidateIfModified(modificationCount);
+        List<E> result = (List<E>) entries.get(key);
+        if (result == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return result;
+    }
+
+    /**
+     * Store results of a traversal.
+     *
+     * @param key Traversal key
+     * @param modificationCount Modification counter of the graph read before the traversal was executed
+     * @param result Results
+     */
+    public synchronized void put(String key, long modificationCount, List<?> result) {
+        invalidateIfModified(modificationCount);
+        if (modificationCount == this.modificationCount) {
+            entries.put(key, Collections.unmodifiableList(new ArrayList<>(result)));
+        }
+    }
+
+    private void invalidateIfModified(long modificationCount) {
+        if (modificationCount > this.modificationCount) {
+            entries.clear();
+            this.modificationCount = modificationCount;
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * Key of a step parameter value. Only strings, numbers, booleans, enums and lists of those
+     * are supported.
+     *
+     * @param value Parameter value
+     * @return Key, or {@code null} if the value is not supported
+     */
+    public static String valueKey(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof String) {
+            String s = (String) value;
+            return "'" + s.length() + ":" + s;
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Enum) {
+            return value.getClass().getSimpleName() + ":" + value;
+        }
+        if (value instanceof List) {
+            StringBuilder key = new StringBuilder("[");
+            for (Object element : (List<?>) value) {
+                String elementKey = valueKey(element);
+                if (elementKey == null) {
+                    return null;
+                }
+                key.append(elementKey).append(',');
+            }
+            return key.append(']').toString();
+        }
+        return null;
+    }
+
+}
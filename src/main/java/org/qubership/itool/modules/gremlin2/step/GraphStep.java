@@ -21,6 +21,7 @@
 import org.qubership.itool.modules.gremlin2.DefaultTraverser;
 import org.qubership.itool.modules.gremlin2.Traversal;
 import org.qubership.itool.modules.gremlin2.Traverser;
+import org.qubership.itool.modules.gremlin2.graph.TraversalResultCache;
 import org.qubership.itool.modules.gremlin2.util.ElementType;
 
 import java.util.ArrayList;
@@ -42,6 +43,11 @@ public String toString() {
         return getClass().getSimpleName() + "(" + elementType + "," + Arrays.toString(ids) + ")";
     }
 
+    @Override
+    public String getCacheKey() {
+        return getClass().getSimpleName() + "(" + elementType + "," + TraversalResultCache.valueKey(Arrays.asList(ids)) + ")";
+    }
+
     @SuppressWarnings("unchecked")
     public GraphStep(Traversal.Admin traversal, Class<E> returnClass, boolean isStart,
             ElementType elementType, String... ids) {
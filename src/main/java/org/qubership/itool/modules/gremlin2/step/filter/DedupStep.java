@@ -18,6 +18,7 @@
 
 import org.qubership.itool.modules.gremlin2.Traversal;
 import org.qubership.itool.modules.gremlin2.Traverser;
+import org.qubership.itool.modules.gremlin2.graph.TraversalResultCache;
 import org.qubership.itool.modules.gremlin2.step.AbstractStep;
 import org.qubership.itool.modules.gremlin2.step.ByModulating;
 import org.qubership.itool.modules.gremlin2.util.ValueHelper;
@@ -35,6 +36,11 @@ public String toString() {
         return getClass().getSimpleName() + (modulateBy == null ? "" : "(" + modulateBy + ")");
     }
 
+    @Override
+    public String getCacheKey() {
+        return getClass().getSimpleName() + "(" + TraversalResultCache.valueKey(modulateBy) + ")";
+    }
+
     public DedupStep(Traversal.Admin traversal) {
         super(traversal);
     }
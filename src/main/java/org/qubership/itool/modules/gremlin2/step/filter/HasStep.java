@@ -19,6 +19,7 @@
 import io.vertx.core.json.JsonObject;
 import org.qubership.itool.modules.gremlin2.Traversal;
 import org.qubership.itool.modules.gremlin2.Traverser;
+import org.qubership.itool.modules.gremlin2.graph.TraversalResultCache;
 import org.qubership.itool.modules.gremlin2.step.AbstractStep;
 import org.qubership.itool.modules.gremlin2.step.util.HasContainer;
 import org.qubership.itool.modules.gremlin2.step.util.HasContainerHolder;
@@ -38,6 +39,20 @@ public String toString() {
         return getClass().getSimpleName() + "(" + (type == null ? "" : (type + ","))  + hasContainers + ")";
     }
 
+    @Override
+    public String getCacheKey() {
+        StringBuilder key = new StringBuilder(getClass().getSimpleName())
+                .append('(').append(TraversalResultCache.valueKey(type));
+        for (HasContainer hasContainer : this.hasContainers) {
+            String containerKey = hasContainer.getCacheKey();
+            if (containerKey == null) {
+                return null;
+            }
+            key.append(',').append(containerKey);
+        }
+        return key.append(')').toString();
+    }
+
     public HasStep(Traversal.Admin traversal, HasContainer hasContainer) {
         super(traversal);
         this.hasContainers = new ArrayList<>();
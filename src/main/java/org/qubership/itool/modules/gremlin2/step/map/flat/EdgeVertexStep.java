@@ -38,6 +38,11 @@ public String toString() {
         return getClass().getSimpleName() + "(" + direction + ")";
     }
 
+    @Override
+    public String getCacheKey() {
+        return toString();
+    }
+
     public EdgeVertexStep(Traversal.Admin traversal, Direction direction) {
         super(traversal);
         this.direction = direction;
@@ -25,7 +25,9 @@
 import org.qubership.itool.modules.gremlin2.step.ByModulating;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 public class GlobStep extends FlatMapStep<JsonObject, JsonObject> implements ByModulating {
@@ -37,6 +39,7 @@ public class GlobStep extends FlatMapStep<JsonObject, JsonObject> implements ByM
     private List<Object> patternList;   // Contains strings and precompiled Patterns
     private String byProperty;
     private Traversal<?, ?> byTraversal;
+    private Map<String, Map<String, List<JsonObject>>> successorIndex;
 
     @Override
     public String toString() {
@@ -78,34 +81,72 @@ protected List<JsonObject> flatMap(Traverser.Admin<JsonObject> traverser) {
         List<JsonObject> result = new ArrayList<>();
         JsonObject sourceVertex = requireSourceVertex(traverser);
 
-        patternMatching(sourceVertex, result, patternList, true);
+        new Matcher(result).patternMatching(sourceVertex, 0, true);
 
         return result;
     }
 
-    private void patternMatching(JsonObject source, List<JsonObject> result, List<Object> patterns,
-            boolean letDoubleWildcard) {
+    /* Matching of a single source vertex against patternList[index..].
+     * Expansions of "**" are memoized: the same (vertex, index, letDoubleWildcard) always appends the same
+     * sequence of vertices to the result, so on repeated visits (multiple "**", shared successors)
+     * previously appended range of the result is copied instead of walking the subtree again. */
+    private class Matcher {
+        private final List<JsonObject> result;
+        private final String by = (byProperty == null) ? BY_DEFAULT : byProperty;
+        private final Map<Expansion, int[]> expansions = new HashMap<>();
 
-        // Nothing matches empty pattern
-        if (patterns.isEmpty()) {
-            return;
+        Matcher(List<JsonObject> result) {
+            this.result = result;
         }
 
-        String by = (byProperty == null) ? BY_DEFAULT : byProperty;
-        Object value = source.getString(by);
-        if (value == null) {
-            return;
-        }
+        void patternMatching(JsonObject source, int index, boolean letDoubleWildcard) {
+            // Nothing matches empty pattern
+            if (index == patternList.size()) {
+                return;
+            }
+
+            String value = source.getString(by);
+            if (value == null) {
+                return;
+            }
 
-        Object patternElement = patterns.get(0);
-        List<Object> patternsTail = patterns.subList(1, patterns.size());
+            Object patternElement = patternList.get(index);
+
+            if ("**".equals(patternElement)) {
+                Expansion expansion = new Expansion(source, index, letDoubleWildcard);
+                int[] range = expansions.get(expansion);
+                if (range != null) {
+                    for (int i = range[0]; i < range[1]; i++) {
+                        result.add(result.get(i));
+                    }
+                    return;
+                }
+                int from = result.size();
+                expandDoubleWildcard(source, index, letDoubleWildcard);
+                expansions.put(expansion, new int[] { from, result.size() });
+            } else if (patternElement instanceof Pattern) {
+                Pattern regexPattern = (Pattern) patternElement;
+                if (regexPattern.matcher(value).matches()) {
+                    // "*" -> add this
+                    addVertexIfLast(source, index);
+                    // "*/a/b" -> check successors against "a/b"
+                    matchSuccessors(source, index + 1);
+                }
+            } else if (patternElement.equals(value)) {
+                // this matches "a" -> add this
+                addVertexIfLast(source, index);
+                // "a/b/c", this matches "a" -> check successors against "b/c"
+                matchSuccessors(source, index + 1);
+            }
+        }
 
-        if ("**".equals(patternElement)) {
+        private void expandDoubleWildcard(JsonObject source, int index, boolean letDoubleWildcard) {
+            boolean last = index == patternList.size() - 1;
             if (letDoubleWildcard) {
                 // "**" -> add this
-                addVertexIfLast(source, result, patterns);
+                addVertexIfLast(source, index);
                 // "**/a/b" -> check this against "a/b"
-                patternMatching(source, result, patternsTail, true);
+                patternMatching(source, index + 1, true);
             }
             List<JsonObject> successors = fetchSuccessors(source);
             for (JsonObject successor : successors) {
@@ -113,36 +154,71 @@ private void patternMatching(JsonObject source, List<JsonObject> result, List<Ob
                 // themselves against starting "**", but still allowing to match their successors against **.
                 // Otherwise, successors are matched against "a/b" twice and may duplicate results.
                 // 2) "**" -> check successors against "**", allowing them to match themselves against "**"
-                patternMatching(successor, result, patterns, patterns.size() == 1);
+                patternMatching(successor, index, last);
                 // "**/a/b" -> check successors against "a/b"
-                patternMatching(successor, result, patternsTail, true);
+                patternMatching(successor, index + 1, true);
             }
-        } else if (patternElement instanceof Pattern) {
-            Pattern regexPattern = (Pattern) patternElement;
-            if (regexPattern.matcher(value.toString()).matches()) {
-                // "*" -> add this
-                addVertexIfLast(source, result, patterns);
-                List<JsonObject> successors = fetchSuccessors(source);
-                for (JsonObject successor : successors) {
-                    // "*/a/b" -> check successors against "a/b"
-                    patternMatching(successor, result, patternsTail, true);
-                }
+        }
+
+        private void matchSuccessors(JsonObject source, int index) {
+            if (index == patternList.size()) {
+                return;
+            }
+            Object patternElement = patternList.get(index);
+            List<JsonObject> successors;
+            if (byTraversal == null && patternElement instanceof String && !"**".equals(patternElement)) {
+                // Literal segment: only successors having exactly this value may match
+                successors = getSuccessorIndex(source, by).getOrDefault(patternElement, List.of());
+            } else {
+                successors = fetchSuccessors(source);
             }
-        } else if (patternElement.equals(value)) {
-            // this matches "a" -> add this
-            addVertexIfLast(source, result, patterns);
-            List<JsonObject> successors = fetchSuccessors(source);
             for (JsonObject successor : successors) {
-                // "a/b/c", this matches "a" -> check successors against "b/c"
-                patternMatching(successor, result, patternsTail, true);
+                patternMatching(successor, index, true);
+            }
+        }
+
+        private void addVertexIfLast(JsonObject sourceVertex, int index) {
+            if (index == patternList.size() - 1) {
+                result.add(sourceVertex);
+            }
+        }
+    }
+
+    private static final class Expansion {
+        private final JsonObject vertex;
+        private final int index;
+        private final boolean letDoubleWildcard;
+
+        Expansion(JsonObject vertex, int index, boolean letDoubleWildcard) {
+            this.vertex = vertex;
+            this.index = index;
+            this.letDoubleWildcard = letDoubleWildcard;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Expansion)) {
+                return false;
             }
+            Expansion other = (Expansion) o;
+            return vertex == other.vertex && index == other.index && letDoubleWildcard == other.letDoubleWildcard;
+        }
+
+        @Override
+        public int hashCode() {
+            return (System.identityHashCode(vertex) * 31 + index) * 2 + (letDoubleWildcard ? 1 : 0);
         }
     }
 
-    private void addVertexIfLast(JsonObject sourceVertex, List<JsonObject> result, List<Object> patterns) {
-        if (patterns.size() == 1) {
-            result.add(sourceVertex);
+    /* Successors of the vertex grouped by "by" property. Kept until the step is cleared, i.e. for
+     * a single execution of the traversal, and shared by all traversers passing through the step */
+    private Map<String, List<JsonObject>> getSuccessorIndex(JsonObject sourceVertex, String by) {
+        if (successorIndex == null) {
+            successorIndex = new HashMap<>();
         }
+        BasicGraph graph = this.traversal.getGraph();
+        return successorIndex.computeIfAbsent(sourceVertex.getString("id"),
+            id -> graph.getSuccessorsByProperty(id, by));
     }
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
@@ -171,6 +247,7 @@ public void modulateBy(Traversal traversal) throws UnsupportedOperationException
     @SuppressWarnings("rawtypes")
     @Override
     public void clear() {
+        this.successorIndex = null;
         clearTraversal((Traversal.Admin) this.byTraversal);
     }
 
@@ -180,6 +257,7 @@ public AbstractStep<JsonObject, JsonObject> clone() {
         clone.pattern = this.pattern;
         clone.byProperty = this.byProperty;
         clone.byTraversal = this.byTraversal;
+        clone.successorIndex = null;
         return clone;
     }
 
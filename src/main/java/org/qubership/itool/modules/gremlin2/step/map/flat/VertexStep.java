@@ -20,6 +20,7 @@
 import org.qubership.itool.modules.graph.BasicGraph;
 import org.qubership.itool.modules.gremlin2.Traversal;
 import org.qubership.itool.modules.gremlin2.Traverser;
+import org.qubership.itool.modules.gremlin2.graph.TraversalResultCache;
 import org.qubership.itool.modules.gremlin2.step.AbstractStep;
 import org.qubership.itool.modules.gremlin2.structure.Direction;
 
@@ -40,6 +41,11 @@ public String toString() {
         return getClass().getSimpleName() + "(" + direction + "," + Arrays.asList(edgeLabels) + ")";
     }
 
+    @Override
+    public String getCacheKey() {
+        return getClass().getSimpleName() + "(" + direction + "," + TraversalResultCache.valueKey(Arrays.asList(edgeLabels)) + ")";
+    }
+
     public VertexStep(Traversal.Admin traversal, Direction direction, String... edgeLabels) {
         super(traversal);
         this.direction = direction;
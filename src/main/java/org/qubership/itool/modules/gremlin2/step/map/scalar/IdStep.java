@@ -27,6 +27,11 @@ public String toString() {
         return getClass().getSimpleName();
     }
 
+    @Override
+    public String getCacheKey() {
+        return toString();
+    }
+
     public IdStep(Traversal.Admin traversal) {
         super(traversal);
     }
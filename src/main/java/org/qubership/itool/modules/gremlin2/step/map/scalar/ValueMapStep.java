@@ -19,6 +19,7 @@
 import io.vertx.core.json.JsonObject;
 import org.qubership.itool.modules.gremlin2.Traversal;
 import org.qubership.itool.modules.gremlin2.Traverser;
+import org.qubership.itool.modules.gremlin2.graph.TraversalResultCache;
 import org.qubership.itool.modules.gremlin2.step.AbstractStep;
 import org.qubership.itool.modules.gremlin2.step.ByModulating;
 import org.qubership.itool.modules.gremlin2.util.ValueHelper;
@@ -37,6 +38,11 @@ public String toString() {
         return getClass().getSimpleName() + "(" + Arrays.asList(propertyKeys) + ")";
     }
 
+    @Override
+    public String getCacheKey() {
+        return getClass().getSimpleName() + "(" + TraversalResultCache.valueKey(Arrays.asList(propertyKeys)) + ")";
+    }
+
     public <S, E> ValueMapStep(Traversal.Admin<S, E> traversal, String[] propertyKeys) {
         super(traversal);
         this.propertyKeys = propertyKeys;
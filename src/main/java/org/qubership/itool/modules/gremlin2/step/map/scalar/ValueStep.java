@@ -18,6 +18,7 @@
 
 import org.qubership.itool.modules.gremlin2.Traversal;
 import org.qubership.itool.modules.gremlin2.Traverser;
+import org.qubership.itool.modules.gremlin2.graph.TraversalResultCache;
 import org.qubership.itool.modules.gremlin2.step.AbstractStep;
 import org.qubership.itool.modules.gremlin2.util.ValueHelper;
 
@@ -32,6 +33,11 @@ public ValueStep(final Traversal.Admin traversal, String key) {
         setIgnoreEmptyTraverser(true);
     }
 
+    @Override
+    public String getCacheKey() {
+        return getClass().getSimpleName() + "(" + TraversalResultCache.valueKey(valueKey) + ")";
+    }
+
     @Override
     protected E map(Traverser.Admin<S> traverser) {
         Object obj = traverser.get();
@@ -17,6 +17,7 @@
 package org.qubership.itool.modules.gremlin2.step.util;
 
 import org.qubership.itool.modules.gremlin2.P;
+import org.qubership.itool.modules.gremlin2.graph.TraversalResultCache;
 import org.qubership.itool.modules.gremlin2.util.Compare;
 
 public class HasContainer {
@@ -41,6 +42,23 @@ public P getPredicate() {
         return predicate;
     }
 
+    /**
+     * Key of the condition used to cache traversal results.
+     *
+     * @return Key, or {@code null} if the condition is not a comparison with a plain value
+     */
+    public String getCacheKey() {
+        if (!(predicate.getBiPredicate() instanceof Compare)) {
+            return null;
+        }
+        String valueKey = TraversalResultCache.valueKey(predicate.getValue());
+        if (valueKey == null) {
+            return null;
+        }
+        return TraversalResultCache.valueKey(propertyKey) + "." + ((Compare) predicate.getBiPredicate()).name()
+                + "(" + valueKey + ")";
+    }
+
     @Override
     public String toString() {
         if (((Compare) predicate.getBiPredicate()) != null) {
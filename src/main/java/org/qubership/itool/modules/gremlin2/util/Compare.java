@@ -19,8 +19,14 @@
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.BiPredicate;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -49,6 +55,20 @@ public boolean test(Object first, Object second) {
         public Compare negate() {
             return neq;
         }
+
+        @Override
+        public Predicate<Object> compile(Object second) {
+            if (second == null) {
+                return Objects::isNull;
+            } else if (isNumber(second)) {
+                long number = ((Number) second).longValue();
+                return first -> first != null
+                    && (isNumber(first) ? ((Number) first).longValue() == number : first.equals(second));
+            } else if (second instanceof String) {
+                return second::equals;
+            }
+            return super.compile(second);
+        }
     },
 
     neq {
@@ -61,6 +81,11 @@ public boolean test(Object first, Object second) {
         public Compare negate() {
             return eq;
         }
+
+        @Override
+        public Predicate<Object> compile(Object second) {
+            return eq.compile(second).negate();
+        }
     },
 
     lt {
@@ -75,6 +100,11 @@ public boolean test(Object first, Object second) {
         public Compare negate() {
             return gte;
         }
+
+        @Override
+        public Predicate<Object> compile(Object second) {
+            return isNumber(second) ? compileNumberComparison((Number) second, c -> c < 0) : super.compile(second);
+        }
     },
 
     lte {
@@ -89,6 +119,11 @@ public boolean test(Object first, Object second) {
         public Compare negate() {
             return gt;
         }
+
+        @Override
+        public Predicate<Object> compile(Object second) {
+            return isNumber(second) ? compileNumberComparison((Number) second, c -> c <= 0) : super.compile(second);
+        }
     },
 
     gt {
@@ -103,6 +138,11 @@ public boolean test(Object first, Object second) {
         public Compare negate() {
             return lte;
         }
+
+        @Override
+        public Predicate<Object> compile(Object second) {
+            return isNumber(second) ? compileNumberComparison((Number) second, c -> c > 0) : super.compile(second);
+        }
     },
 
     gte {
@@ -117,6 +157,11 @@ public boolean test(Object first, Object second) {
         public Compare negate() {
             return lt;
         }
+
+        @Override
+        public Predicate<Object> compile(Object second) {
+            return isNumber(second) ? compileNumberComparison((Number) second, c -> c >= 0) : super.compile(second);
+        }
     },
 
     lteVersion {
@@ -152,6 +197,37 @@ public boolean test(Object first, Object second) {
         public Compare negate() {
             return gteVersion;
         }
+
+        @Override
+        public Predicate<Object> compile(Object second) {
+            if (!isVersion(second)) {
+                return first -> false;
+            }
+            int[] secondValues = parseVersion((String) second);
+            if (secondValues == null) {
+                return super.compile(second);
+            }
+            return first -> {
+                if (!(first instanceof String)) {
+                    return false;
+                }
+                Matcher firstMatcher = VERSION_PATTERN.matcher((String) first);
+                if (!firstMatcher.matches()) {
+                    return false;
+                }
+                for (int i = 1; i < VERSION_GROUPS; i++) {
+                    if (firstMatcher.group(i) == null || secondValues[i] == MISSING_VERSION_GROUP) {
+                        continue;
+                    }
+                    int firstValue = Integer.parseInt(firstMatcher.group(i));
+                    if (firstValue == secondValues[i]) {
+                        continue;
+                    }
+                    return secondValues[i] > firstValue;
+                }
+                return true;
+            };
+        }
     },
 
     gteVersion {
@@ -184,6 +260,36 @@ public boolean test(Object first, Object second) {
         public Compare negate() {
             return lteVersion;
         }
+
+        @Override
+        public Predicate<Object> compile(Object second) {
+            if (!isVersion(second)) {
+                return first -> false;
+            }
+            int[] secondValues = parseVersion((String) second);
+            // Missing groups are not skipped here, keep failing the same way
+            if (secondValues == null || Arrays.stream(secondValues, 1, VERSION_GROUPS)
+                    .anyMatch(v -> v == MISSING_VERSION_GROUP)) {
+                return super.compile(second);
+            }
+            return first -> {
+                if (!(first instanceof String)) {
+                    return false;
+                }
+                Matcher firstMatcher = VERSION_PATTERN.matcher((String) first);
+                if (!firstMatcher.matches()) {
+                    return false;
+                }
+                for (int i = 1; i < VERSION_GROUPS; i++) {
+                    int firstValue = Integer.parseInt(firstMatcher.group(i));
+                    if (firstValue == secondValues[i]) {
+                        continue;
+                    }
+                    return secondValues[i] < firstValue;
+                }
+                return true;
+            };
+        }
     },
 
     within {
@@ -201,6 +307,14 @@ public Compare negate() {
             return without;
         }
 
+        @Override
+        public Predicate<Object> compile(Object second) {
+            if (second instanceof List) {
+                return toLookup((List<?>) second)::contains;
+            }
+            return first -> false;
+        }
+
     },
 
     without {
@@ -218,6 +332,15 @@ public Compare negate() {
             return within;
         }
 
+        @Override
+        public Predicate<Object> compile(Object second) {
+            if (second instanceof List) {
+                Collection<?> lookup = toLookup((List<?>) second);
+                return first -> !lookup.contains(first);
+            }
+            return first -> false;
+        }
+
     },
 
     exists {
@@ -263,6 +386,17 @@ public boolean test(Object first, Object second) {
         public Compare negate() {
             return notContaining;
         }
+
+        @Override
+        public Predicate<Object> compile(Object second) {
+            if (second instanceof String) {
+                String string = (String) second;
+                return first -> first instanceof String
+                    ? ((String) first).contains(string)
+                    : first instanceof JsonArray && ((JsonArray) first).contains(string);
+            }
+            return super.compile(second);
+        }
     },
 
     notContaining {
@@ -280,6 +414,17 @@ public boolean test(Object first, Object second) {
         public Compare negate() {
             return containing;
         }
+
+        @Override
+        public Predicate<Object> compile(Object second) {
+            if (second instanceof String) {
+                String string = (String) second;
+                return first -> first instanceof String
+                    ? !((String) first).contains(string)
+                    : first instanceof JsonArray && !((JsonArray) first).contains(string);
+            }
+            return super.compile(second);
+        }
     },
 
     startingWith {
@@ -295,6 +440,15 @@ public boolean test(Object first, Object second) {
         public Compare negate() {
             return notStartingWith;
         }
+
+        @Override
+        public Predicate<Object> compile(Object second) {
+            if (second instanceof String) {
+                String string = (String) second;
+                return first -> first instanceof String && ((String) first).startsWith(string);
+            }
+            return first -> false;
+        }
     },
 
     notStartingWith {
@@ -310,6 +464,15 @@ public boolean test(Object first, Object second) {
         public Compare negate() {
             return startingWith;
         }
+
+        @Override
+        public Predicate<Object> compile(Object second) {
+            if (second instanceof String) {
+                String string = (String) second;
+                return first -> first instanceof String && !((String) first).startsWith(string);
+            }
+            return first -> false;
+        }
     },
 
     endingWith {
@@ -325,6 +488,15 @@ public boolean test(Object first, Object second) {
         public Compare negate() {
             return notEndingWith;
         }
+
+        @Override
+        public Predicate<Object> compile(Object second) {
+            if (second instanceof String) {
+                String string = (String) second;
+                return first -> first instanceof String && ((String) first).endsWith(string);
+            }
+            return first -> false;
+        }
     },
 
     notEndingWith {
@@ -340,13 +512,70 @@ public boolean test(Object first, Object second) {
         public Compare negate() {
             return endingWith;
         }
+
+        @Override
+        public Predicate<Object> compile(Object second) {
+            if (second instanceof String) {
+                String string = (String) second;
+                return first -> first instanceof String && !((String) first).endsWith(string);
+            }
+            return first -> false;
+        }
     }
     ;
 
+    /**
+     * Compile this predicate for a constant second operand. The evaluator behaves the same way as
+     * {@link #test(Object, Object)} with that operand, but type checks and parsing of the operand are done once.
+     *
+     * @param second Constant second operand
+     * @return Evaluator of the first operand
+     */
+    public Predicate<Object> compile(Object second) {
+        return first -> test(first, second);
+    }
+
     // ======================================================================================
     // ======================================================================================
     // ======================================================================================
 
+    // Lists longer than that are copied into HashSet for within/without
+    static final int HASH_LOOKUP_THRESHOLD = 8;
+
+    private static final int VERSION_GROUPS = 4;    // Only groups 1..3 are compared
+    private static final int MISSING_VERSION_GROUP = -1;
+
+    static Collection<?> toLookup(List<?> values) {
+        return values.size() > HASH_LOOKUP_THRESHOLD ? new HashSet<>(values) : values;
+    }
+
+    private static Predicate<Object> compileNumberComparison(Number second, IntPredicate expected) {
+        long number = second.longValue();
+        return first -> first != null && (isNumber(first)
+            ? expected.test(Long.compare(((Number) first).longValue(), number))
+            : first.equals(second));
+    }
+
+    /* Returns compared groups of the version, or null if some of them don't fit int */
+    private static int[] parseVersion(String version) {
+        Matcher matcher = VERSION_PATTERN.matcher(version);
+        matcher.matches();
+        int[] values = new int[VERSION_GROUPS];
+        for (int i = 1; i < VERSION_GROUPS; i++) {
+            String group = matcher.group(i);
+            if (group == null) {
+                values[i] = MISSING_VERSION_GROUP;
+                continue;
+            }
+            try {
+                values[i] = Integer.parseInt(group);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return values;
+    }
+
     public static int compareNumber(Number first, Number second) {
         long firstLong = first.longValue();
         long secondLong = second.longValue();
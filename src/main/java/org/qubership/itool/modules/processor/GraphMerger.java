@@ -379,7 +379,10 @@ protected String mergeVertex(Graph sourceGraph, JsonObject newVertex,
         boolean newIsMock = isMockVertex(newVertex);
         if (existingVertex == null) {
             getLogger().debug("Adding new vertex: '{}' (isMock: {})", newVertexId, newIsMock);
-            targetGraph.addVertex(deepCopy ? newVertex.copy() : newVertex);
+            JsonObject added = deepCopy ? newVertex.copy() : newVertex;
+            if (targetGraph.addVertex(added)) {
+                matcher.vertexMerged(targetGraph, added);
+            }
             return null;
         }
 
@@ -406,6 +409,7 @@ protected String mergeVertex(Graph sourceGraph, JsonObject newVertex,
             Map<String, Object> src = deepCopy ? newVertex.copy().getMap() : newVertex.getMap();
             map.putAll(src);    // puts id as well
             map.put(F_ID, existingId);
+            matcher.vertexMerged(targetGraph, existingVertex);
         } else if (existingIsMock == newIsMock  // Report conflict of two mocks as well
                 && conflictingVertices(newVertex, existingVertex)) {
             getLogger().error("Old vertex '{}' and new vertex '{}' (mock={} for both) conflict",
@@ -414,6 +418,7 @@ && conflictingVertices(newVertex, existingVertex)) {
                 targetReport.componentDuplicated(existingVertex, newVertex);
             }
             existingId = resolveConflict(newVertex, existingVertex, targetGraph, deepCopy);
+            matcher.vertexMerged(targetGraph, targetGraph.getVertex(existingId));
         } else {
             // New mocks are always skipped
             getLogger().debug("Skipping new vertex '{}'", newVertexId);
@@ -44,4 +44,11 @@ public JsonObject findExistingVertex(Graph sourceGraph, JsonObject newVertex, Gr
         return null;
     }
 
+    @Override
+    public void vertexMerged(Graph targetGraph, JsonObject vertex) {
+        for (VertexMatcher delegate : delegates) {
+            delegate.vertexMerged(targetGraph, vertex);
+        }
+    }
+
 }
@@ -17,23 +17,39 @@
 package org.qubership.itool.modules.processor.matchers;
 
 import com.google.inject.Inject;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.json.pointer.JsonPointer;
 import org.qubership.itool.modules.graph.Graph;
-import org.qubership.itool.modules.gremlin2.graph.GraphTraversal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.qubership.itool.modules.graph.Graph.F_ID;
 import static org.qubership.itool.modules.graph.Graph.F_MOCK_FLAG;
-import static org.qubership.itool.modules.gremlin2.P.containing;
-import static org.qubership.itool.modules.gremlin2.P.eq;
 
 /**
  * <p>This class tries to match new vertices marked with keys <code>isMock: true</code>
  * and <code>mockedFor</code> with existing vertices from the target graph.
+ *
+ * <p>A non-mock vertex matches if, for every <code>mockedFor</code> pointer, its value is an array
+ * containing the value of the mock, or a string containing it as a substring. Non-mock vertices
+ * of the target graph are indexed by array elements and string values at every pointer ever requested,
+ * so exact matches are hash lookups. String values are also indexed by their trigrams: substring
+ * candidates are vertices having the rarest trigram of the mock value, and only those are checked.
+ * Mock values shorter than a trigram are checked against all string values. If several vertices match,
+ * the one that was the first in the target graph wins.
+ *
+ * <p>The index is maintained via {@link #vertexMerged(Graph, JsonObject)} while merging.
  */
 public class SourceMocksMatcher implements VertexMatcher {
 
@@ -41,6 +57,12 @@ public class SourceMocksMatcher implements VertexMatcher {
 
     private final MockFieldExtractor mockFieldExtractor;
 
+    private Graph indexedGraph;
+    private long nextSequence;
+    // Position of every vertex of the target graph in the matching order
+    private final Map<JsonObject, Long> sequences = new IdentityHashMap<>();
+    private final Map<String, PointerIndex> indexes = new HashMap<>();
+
     /**
      * Constructor with dependency injection support.
      *
@@ -63,11 +85,25 @@ public JsonObject findExistingVertex(Graph sourceGraph, JsonObject newVertex, Gr
             return null;
         }
 
-        GraphTraversal<JsonObject, JsonObject> query = targetGraph.traversal().V().has(F_MOCK_FLAG, eq(false));
+        if (indexedGraph != targetGraph) {
+            resetIndex(targetGraph);
+        }
+        List<PointerIndex> pointerIndexes = new ArrayList<>(mockedForSet.size());
         for (String mockedFor : mockedForSet) {
-            query = query.has(mockedFor, containing(JsonPointer.from(mockedFor).queryJson(newVertex)));
+            pointerIndexes.add(getPointerIndex(mockedFor));
+        }
+
+        // Candidates come from the first pointer, the rest are checked directly
+        PointerIndex first = pointerIndexes.get(0);
+        JsonObject result = null;
+        long resultSequence = Long.MAX_VALUE;
+        for (JsonObject candidate : first.find(first.pointer.queryJson(newVertex))) {
+            long sequence = sequences.get(candidate);
+            if (sequence < resultSequence && matchesAll(pointerIndexes, candidate, newVertex)) {
+                result = candidate;
+                resultSequence = sequence;
+            }
         }
-        JsonObject result = query.next();
 
         if (result != null) {
             LOGGER.debug("Match found! keysToMatch={}, oldVertex={}, newVertex={}", mockedForSet,
@@ -76,4 +112,166 @@ public JsonObject findExistingVertex(Graph sourceGraph, JsonObject newVertex, Gr
         return result;
     }
 
+    @Override
+    public void vertexMerged(Graph targetGraph, JsonObject vertex) {
+        if (indexedGraph != targetGraph) {
+            // Not built yet, or built for another graph. Will be (re)built on the next lookup.
+            return;
+        }
+        sequences.putIfAbsent(vertex, nextSequence++);
+        for (PointerIndex index : indexes.values()) {
+            index.remove(vertex);
+            index.add(vertex);
+        }
+    }
+
+    private void resetIndex(Graph targetGraph) {
+        indexedGraph = targetGraph;
+        indexes.clear();
+        sequences.clear();
+        nextSequence = 0;
+        for (JsonObject vertex : targetGraph.vertexList()) {
+            sequences.put(vertex, nextSequence++);
+        }
+    }
+
+    private PointerIndex getPointerIndex(String mockedFor) {
+        PointerIndex index = indexes.get(mockedFor);
+        if (index == null) {
+            index = new PointerIndex(JsonPointer.from(mockedFor));
+            for (JsonObject vertex : sequences.keySet()) {
+                index.add(vertex);
+            }
+            indexes.put(mockedFor, index);
+        }
+        return index;
+    }
+
+    private static boolean matchesAll(List<PointerIndex> pointerIndexes, JsonObject candidate, JsonObject mock) {
+        for (int i = 1; i < pointerIndexes.size(); i++) {
+            JsonPointer pointer = pointerIndexes.get(i).pointer;
+            if (! containing(pointer.queryJson(candidate), pointer.queryJson(mock))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /* Same as P.containing() */
+    private static boolean containing(Object value, Object mockValue) {
+        if (value instanceof String && mockValue instanceof String) {
+            return ((String) value).contains((String) mockValue);
+        } else if (value instanceof JsonArray) {
+            return ((JsonArray) value).contains(mockValue);
+        }
+        return false;
+    }
+
+    /* Non-mock vertices of the target graph by values at a single pointer */
+    private static class PointerIndex {
+        final JsonPointer pointer;
+        // Array elements and string values -> vertices
+        final Map<Object, Set<JsonObject>> byValue = new HashMap<>();
+        // Vertices having string values, for substring matching
+        final Map<JsonObject, String> stringValues = new IdentityHashMap<>();
+        // Trigrams of string values -> vertices
+        final Map<String, Set<JsonObject>> byTrigram = new HashMap<>();
+        // Vertex -> values it is indexed by
+        final Map<JsonObject, List<Object>> indexedValues = new IdentityHashMap<>();
+
+        PointerIndex(JsonPointer pointer) {
+            this.pointer = pointer;
+        }
+
+        void add(JsonObject vertex) {
+            if (! Boolean.FALSE.equals(vertex.getValue(F_MOCK_FLAG))) {
+                return;
+            }
+            Object value = pointer.queryJson(vertex);
+            List<Object> values;
+            if (value instanceof JsonArray) {
+                values = new ArrayList<>(((JsonArray) value).getList());
+            } else if (value instanceof String) {
+                values = List.of(value);
+                stringValues.put(vertex, (String) value);
+                for (String trigram : trigrams((String) value)) {
+                    byTrigram.computeIfAbsent(trigram, k -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                        .add(vertex);
+                }
+            } else {
+                return;
+            }
+            for (Object v : values) {
+                if (v != null) {
+                    byValue.computeIfAbsent(v, k -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                        .add(vertex);
+                }
+            }
+            indexedValues.put(vertex, values);
+        }
+
+        void remove(JsonObject vertex) {
+            List<Object> values = indexedValues.remove(vertex);
+            if (values == null) {
+                return;
+            }
+            String stringValue = stringValues.remove(vertex);
+            if (stringValue != null) {
+                for (String trigram : trigrams(stringValue)) {
+                    removeFrom(byTrigram, trigram, vertex);
+                }
+            }
+            for (Object v : values) {
+                removeFrom(byValue, v, vertex);
+            }
+        }
+
+        private static <K> void removeFrom(Map<K, Set<JsonObject>> map, K key, JsonObject vertex) {
+            Set<JsonObject> vertices = map.get(key);
+            if (vertices != null) {
+                vertices.remove(vertex);
+                if (vertices.isEmpty()) {
+                    map.remove(key);
+                }
+            }
+        }
+
+        /* Vertices whose value contains the given one */
+        Set<JsonObject> find(Object mockValue) {
+            Set<JsonObject> exact = mockValue == null ? null : byValue.get(mockValue);
+            if (! (mockValue instanceof String)) {
+                return exact != null ? exact : Set.of();
+            }
+            Set<JsonObject> result = Collections.newSetFromMap(new IdentityHashMap<>());
+            if (exact != null) {
+                result.addAll(exact);
+            }
+            String substring = (String) mockValue;
+            Collection<JsonObject> candidates = stringValues.keySet();
+            for (String trigram : trigrams(substring)) {
+                Set<JsonObject> vertices = byTrigram.get(trigram);
+                if (vertices == null) {
+                    return result;
+                }
+                if (vertices.size() < candidates.size()) {
+                    candidates = vertices;
+                }
+            }
+            for (JsonObject candidate : candidates) {
+                if (stringValues.get(candidate).contains(substring)) {
+                    result.add(candidate);
+                }
+            }
+            return result;
+        }
+
+        private static Set<String> trigrams(String value) {
+            Set<String> trigrams = new HashSet<>();
+            for (int i = 0; i + 3 <= value.length(); i++) {
+                trigrams.add(value.substring(i, i + 3));
+            }
+            return trigrams;
+        }
+    }
+
 }
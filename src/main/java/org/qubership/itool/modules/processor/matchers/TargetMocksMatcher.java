@@ -24,20 +24,32 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import static org.qubership.itool.modules.graph.Graph.F_ID;
 import static org.qubership.itool.modules.graph.Graph.F_MOCKED_FOR;
 import static org.qubership.itool.modules.graph.Graph.F_MOCK_FLAG;
-import static org.qubership.itool.modules.gremlin2.P.eq;
 
 /**
- * <p>This class pre-compiles matchers for already existing vertices
- * marked with keys <code>isMock: true</code> and <code>mockedFor</code>.
+ * <p>This class indexes already existing vertices marked with keys <code>isMock: true</code>
+ * and <code>mockedFor</code> by values found at their <code>mockedFor</code> pointers.
  *
- * <p>The matchers then try to match every new vertex against those existing vertices.
+ * <p>Every new vertex is then matched against those existing vertices with hash lookups:
+ * a new vertex matches a mock if, for every pointer of the mock, the value of the new vertex
+ * equals the value of the mock, or is an array containing it. If several mocks match,
+ * the one that was the first in the target graph wins.
+ *
+ * <p>The index is built on first use and then maintained via {@link #vertexMerged(Graph, JsonObject)},
+ * so mocks added to the target graph during merging are matched as well.
  *
  * <p>XXX This matcher never excludes the found vertex from further matching.
  * If several non-mock vertices from source graph match the same mock vertex in target graph,
@@ -48,7 +60,13 @@ public class TargetMocksMatcher implements VertexMatcher {
     private static final Logger LOG = LoggerFactory.getLogger(TargetMocksMatcher.class);
 
     private final MockFieldExtractor mockFieldExtractor;
-    private List<VertexMatcher> compiledMatchers;
+
+    private Graph indexedGraph;
+    private long nextSequence;
+    // Sorted mockedFor pointers -> values at those pointers -> mocks
+    private final Map<List<String>, PointerGroup> groups = new LinkedHashMap<>();
+    // Mock -> its entry in the index
+    private final Map<JsonObject, IndexedMock> indexedMocks = new IdentityHashMap<>();
 
     @Inject
     public TargetMocksMatcher(MockFieldExtractor mockFieldExtractor) {
@@ -57,63 +75,159 @@ public TargetMocksMatcher(MockFieldExtractor mockFieldExtractor) {
 
     @Override
     public JsonObject findExistingVertex(Graph sourceGraph, JsonObject newVertex, Graph targetGraph) {
-        // Lazy initialization of compiled matchers
-        if (compiledMatchers == null) {
-            compiledMatchers = getMatchersForTargetGraph(targetGraph);
+        // Lazy initialization of the index
+        if (indexedGraph != targetGraph) {
+            buildIndex(targetGraph);
         }
 
-        // Try each compiled matcher
-        for (VertexMatcher matcher : compiledMatchers) {
-            JsonObject existing = matcher.findExistingVertex(sourceGraph, newVertex, targetGraph);
-            if (existing != null) {
-                return existing;
+        IndexedMock best = null;
+        for (PointerGroup group : groups.values()) {
+            IndexedMock found = group.find(newVertex);
+            if (found != null && (best == null || found.sequence < best.sequence)) {
+                best = found;
             }
         }
-        return null;
+        if (best == null) {
+            return null;
+        }
+        LOG.debug("Match found! keysToMatch={}, oldVertex={}, newVertex={}", best.group.pointerNames,
+                best.mock.getString(F_ID), newVertex.getString(F_ID));
+        return best.mock;
+    }
+
+    @Override
+    public void vertexMerged(Graph targetGraph, JsonObject vertex) {
+        if (indexedGraph != targetGraph) {
+            // Not built yet, or built for another graph. Will be (re)built on the next lookup.
+            return;
+        }
+        IndexedMock old = indexedMocks.remove(vertex);
+        if (old != null) {
+            old.group.remove(old);
+        }
+        // Re-indexed mocks keep their original position in the matching order
+        index(targetGraph, vertex, old != null ? old.sequence : nextSequence++);
     }
 
-    private List<VertexMatcher> getMatchersForTargetGraph(Graph targetGraph) {
-        List<JsonObject> mocksInTarget = targetGraph.traversal().V()
-                .has(F_MOCK_FLAG, eq(true))
-                .hasKey(F_MOCKED_FOR)
-                .toList();
+    private void buildIndex(Graph targetGraph) {
+        groups.clear();
+        indexedMocks.clear();
+        nextSequence = 0;
+        indexedGraph = targetGraph;
+        for (JsonObject vertex : targetGraph.vertexList()) {
+            index(targetGraph, vertex, nextSequence++);
+        }
 
         if (LOG.isDebugEnabled()) {
             LOG.debug("Mocked vertices found: {}",
-                mocksInTarget.stream().map(v -> v.getString(F_ID)).collect(Collectors.joining(", ", "[", "]")));
+                indexedMocks.keySet().stream().map(v -> v.getString(F_ID)).collect(Collectors.joining(", ", "[", "]")));
         }
+    }
 
-        return mocksInTarget.stream()
-            .map(mock -> createCorrelatorByExample(targetGraph, mock))
-            .filter(Objects::nonNull)
-            .collect(Collectors.toList());
+    private void index(Graph targetGraph, JsonObject vertex, long sequence) {
+        if (! Boolean.TRUE.equals(vertex.getValue(F_MOCK_FLAG)) || vertex.getValue(F_MOCKED_FOR) == null) {
+            return;
+        }
+        Set<String> mockedFor = mockFieldExtractor.getMockedForSet(targetGraph, vertex);
+        if (mockedFor.isEmpty()) {
+            return;
+        }
+        List<String> pointerNames = new ArrayList<>(new TreeSet<>(mockedFor));
+        PointerGroup group = groups.computeIfAbsent(pointerNames, PointerGroup::new);
+        IndexedMock indexed = new IndexedMock(group, vertex, group.keyOf(vertex), sequence);
+        group.add(indexed);
+        indexedMocks.put(vertex, indexed);
     }
 
-    private VertexMatcher createCorrelatorByExample(Graph targetGraph, JsonObject mock) {
-        List<JsonPointer> mockPtrs = mockFieldExtractor.getMockedForSet(targetGraph, mock).stream()
-            .map(JsonPointer::from)
-            .collect(Collectors.toList());
-        if (mockPtrs.isEmpty()) {
-            return null;
+    private static class IndexedMock {
+        final PointerGroup group;
+        final JsonObject mock;
+        final List<Object> key;
+        final long sequence;
+
+        IndexedMock(PointerGroup group, JsonObject mock, List<Object> key, long sequence) {
+            this.group = group;
+            this.mock = mock;
+            this.key = key;
+            this.sequence = sequence;
+        }
+    }
+
+    /* Mocks having the same set of mockedFor pointers */
+    private static class PointerGroup {
+        final List<String> pointerNames;
+        final List<JsonPointer> pointers;
+        final Map<List<Object>, Map<JsonObject, IndexedMock>> mocksByKey = new HashMap<>();
+
+        PointerGroup(List<String> pointerNames) {
+            this.pointerNames = pointerNames;
+            this.pointers = pointerNames.stream().map(JsonPointer::from).collect(Collectors.toList());
         }
 
-        // New vertex must match all the attributes of the example
-        return (srcGraph, newVertex, tgtGraph) -> {
-            for (JsonPointer ptr : mockPtrs) {
-                Object realVertexValue = ptr.queryJson(newVertex);
-                Object mockedVertexValue = ptr.queryJson(mock);
-                if (realVertexValue instanceof JsonArray) {
-                    if (!((JsonArray) realVertexValue).contains(mockedVertexValue)) {
+        List<Object> keyOf(JsonObject mock) {
+            List<Object> key = new ArrayList<>(pointers.size());
+            for (JsonPointer ptr : pointers) {
+                key.add(ptr.queryJson(mock));
+            }
+            return key;
+        }
+
+        void add(IndexedMock indexed) {
+            mocksByKey.computeIfAbsent(indexed.key, k -> new IdentityHashMap<>()).put(indexed.mock, indexed);
+        }
+
+        void remove(IndexedMock indexed) {
+            Map<JsonObject, IndexedMock> mocks = mocksByKey.get(indexed.key);
+            if (mocks != null) {
+                mocks.remove(indexed.mock);
+                if (mocks.isEmpty()) {
+                    mocksByKey.remove(indexed.key);
+                }
+            }
+        }
+
+        /* Arrays in the new vertex match any of their elements, other values match themselves.
+         * Try every combination of candidate values. */
+        IndexedMock find(JsonObject newVertex) {
+            if (mocksByKey.isEmpty()) {
+                return null;
+            }
+            List<List<Object>> candidates = new ArrayList<>(pointers.size());
+            for (JsonPointer ptr : pointers) {
+                Object value = ptr.queryJson(newVertex);
+                if (value instanceof JsonArray) {
+                    List<Object> elements = ((JsonArray) value).getList();
+                    if (elements.isEmpty()) {
                         return null;
                     }
-                } else if (! Objects.equals(mockedVertexValue, realVertexValue)) {
-                    return null;
+                    candidates.add(elements);
+                } else {
+                    candidates.add(Collections.singletonList(value));
                 }
             }
+            return find(candidates, new ArrayList<>(pointers.size()), null);
+        }
 
-            LOG.debug("Match found! keysToMatch={}, oldVertex={}, newVertex={}", mockPtrs,
-                    mock.getString(F_ID), newVertex.getString(F_ID));
-            return mock;
-        };
+        private IndexedMock find(List<List<Object>> candidates, List<Object> key, IndexedMock best) {
+            int pos = key.size();
+            if (pos == candidates.size()) {
+                Map<JsonObject, IndexedMock> mocks = mocksByKey.get(key);
+                if (mocks != null) {
+                    for (IndexedMock indexed : mocks.values()) {
+                        if (best == null || indexed.sequence < best.sequence) {
+                            best = indexed;
+                        }
+                    }
+                }
+                return best;
+            }
+            for (Object value : candidates.get(pos)) {
+                key.add(value);
+                best = find(candidates, key, best);
+                key.remove(pos);
+            }
+            return best;
+        }
     }
+
 }
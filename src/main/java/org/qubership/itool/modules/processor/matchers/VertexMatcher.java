@@ -30,4 +30,13 @@ public interface VertexMatcher {
      */
     JsonObject findExistingVertex(Graph sourceGraph, JsonObject newVertex, Graph targetGraph);
 
+    /** Notification that a vertex has been added to the target graph or its contents have been replaced
+     * during merging. Matchers that index the target graph shall update their indexes.
+     *
+     * @param targetGraph A graph that accepted the vertex
+     * @param vertex Added or modified vertex, as stored in the target graph
+     */
+    default void vertexMerged(Graph targetGraph, JsonObject vertex) {
+    }
+
 }
@@ -21,13 +21,11 @@
 import org.qubership.itool.modules.graph.Graph;
 import org.qubership.itool.modules.processor.matchers.TargetMocksMatcher;
 import org.qubership.itool.modules.report.GraphReport;
-import org.qubership.itool.modules.report.GraphReportImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -166,37 +164,21 @@ private Map<String, JsonObject> findComponentVerticesByDnsNames(Graph graph, Set
             }
 
             // TODO: Move the cleanup outside, it shouldn't be the part of searching process
-            if (component.getBoolean(F_MOCK_FLAG, false) == false && report instanceof GraphReportImpl) {
+            if (component.getBoolean(F_MOCK_FLAG, false) == false && report != null) {
                 // Remove records reported by current component related to found non-mock component.
-                JsonArray records = ((GraphReportImpl) report).getRecords();
-                removeOutdatedReportRecords(component, dnsName, records);
+                removeOutdatedReportRecords(component, dnsName, report);
             }
         }
 
         return dnsNameToComp;
     }
 
-    void removeOutdatedReportRecords(JsonObject comp, String dnsName, JsonArray reportRecords) {
-        Pattern pattern = Pattern.compile("^Reference was not found. Reference: \\w+ http dependency " + dnsName + "$");
-        synchronized (reportRecords) {
-            Iterator<?> it = reportRecords.iterator();
-            while (it.hasNext()) {
-                Object o = it.next();
-                if (! (o instanceof JsonObject)) {
-                    continue;
-                }
-                JsonObject record = (JsonObject) o;
-                String message = record.getString("message");
-                boolean matchingErrorFound = GraphReport.CONF_ERROR.equals(record.getString("type"))
-                        && message != null
-                        && message.startsWith("Reference was not found. Reference:")
-                        && pattern.matcher(message).matches(); // TODO: Move pattern to static field and update logic
-                if (matchingErrorFound) {
-                    it.remove();
-                    LOG.info("Dependency on dnsName {} from {} has been restored to {}. Report message removed: '{}'",
-                            dnsName, record.getString("component"), comp.getString(F_ID), message);
-                }
-            }
+    void removeOutdatedReportRecords(JsonObject comp, String dnsName, GraphReport report) {
+        List<JsonObject> removed = report.removeRecords(GraphReport.CONF_ERROR, null,
+                GraphReport.httpDependencyKey(dnsName));
+        for (JsonObject record : removed) {
+            LOG.info("Dependency on dnsName {} from {} has been restored to {}. Report message removed: '{}'",
+                    dnsName, record.getString("component"), comp.getString(F_ID), record.getString("message"));
         }
     }
 
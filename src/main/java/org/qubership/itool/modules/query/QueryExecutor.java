@@ -16,29 +16,37 @@
 
 package org.qubership.itool.modules.query;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import groovy.lang.Binding;
 import groovy.lang.GroovyRuntimeException;
-import groovy.lang.GroovyShell;
+import groovy.lang.GroovyClassLoader;
+import groovy.lang.Script;
+import org.codehaus.groovy.runtime.InvokerHelper;
 import org.qubership.itool.modules.graph.BasicGraph;
 import org.qubership.itool.modules.gremlin2.GremlinException;
 import org.qubership.itool.modules.query.converter.ResultConverter;
 import org.qubership.itool.modules.query.converter.ToTextConverter;
 
+import java.io.IOException;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
 
 public class QueryExecutor {
 
-    private GroovyShell shell;
+    private final BasicGraph graph;
+
+    // Created on first query: Groovy runtime is heavy to load and many sessions never run a query
+    private Binding binding;
 
     private ResultConverter<?> converter = new ToTextConverter(); // By default ready for CLI
 
     private Properties converterProps;
 
     public QueryExecutor(BasicGraph graph) {
-
-        Binding binding = new Binding();
-        binding.setProperty("traversal", graph.traversal());
-        this.shell = new GroovyShell(binding);
+        this.graph = graph;
 
         this.converterProps = new Properties();
 
@@ -48,6 +56,14 @@ public QueryExecutor(BasicGraph graph) {
         converterProps.put("result.limit", -1);
     }
 
+    private Binding getBinding() {
+        if (this.binding == null) {
+            this.binding = new Binding();
+            this.binding.setProperty("traversal", graph.traversal());
+        }
+        return this.binding;
+    }
+
     public void setConverter(ResultConverter<?> converter) {
         this.converter = converter;
     }
@@ -71,12 +87,18 @@ public Object executeGremlinQuery(String query) throws GremlinException {
             builder.append("\n");
 
             builder.append("result = traversal").append(query);
-            this.shell.evaluate(builder.toString());
+            String source = builder.toString();
+            Class<? extends Script> scriptClass =
+                    CompiledQueries.CACHE.get(source, () -> new CompiledQuery(source)).scriptClass;
 
-            return this.shell.getProperty("result");
+            Binding binding = getBinding();
+            InvokerHelper.createScript(scriptClass, binding).run();
+            return binding.getProperty("result");
 
         } catch (GroovyRuntimeException e) {
             throw new GremlinException("Execution failed. Reason: " + e.getMessage());
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            throw new GremlinException("Execution failed. Reason: " + e.getCause().getMessage());
         }
     }
 
@@ -90,4 +112,36 @@ protected Object convertResult(Object result) {
         return converter.convert(result);
     }
 
+    /* Compiled scripts are shared between executors: the same query is compiled once per JVM,
+     * which matters for long sessions and for the daemon. Scripts get their binding on creation. */
+    static final class CompiledQueries {
+        static final int MAXIMUM_SIZE = 256;
+        static final Cache<String, CompiledQuery> CACHE = CacheBuilder.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .removalListener((RemovalListener<String, CompiledQuery>) n -> n.getValue().release())
+                .build();
+    }
+
+    /* Every query has its own class loader: a shared GroovyClassLoader keeps all classes it has ever
+     * generated, so evicted queries could not be unloaded */
+    static final class CompiledQuery {
+        final GroovyClassLoader loader;
+        final Class<? extends Script> scriptClass;
+
+        CompiledQuery(String source) {
+            loader = new GroovyClassLoader(QueryExecutor.class.getClassLoader());
+            Class<?> parsed = loader.parseClass(source);
+            scriptClass = parsed.asSubclass(Script.class);
+        }
+
+        void release() {
+            loader.clearCache();
+            try {
+                loader.close();
+            } catch (IOException e) {
+                // Nothing to do: the loader has no resources to close other than its class cache
+            }
+        }
+    }
+
 }
@@ -18,7 +18,9 @@
 
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import org.qubership.itool.modules.gremlin2.Traversal;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -43,7 +45,14 @@ public String supportType() {
     public JsonArray convert(Object gremlinResult) {
         JsonArray result = new JsonArray();
 
-        // XXX Currently, only List supported. See ToTextConverter.convert() for other possible result types
+        if (gremlinResult instanceof Traversal) {
+            gremlinResult = ((Traversal<?, ?>) gremlinResult).toList();
+        }
+        if (!(gremlinResult instanceof List)) {
+            // Scalar or a single map is wrapped into array
+            gremlinResult = Collections.singletonList(gremlinResult);
+        }
+
         List<?> objList = (List) gremlinResult;
         for (Object obj : objList) {
             if (obj instanceof Map) {
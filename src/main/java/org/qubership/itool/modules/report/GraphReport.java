@@ -19,6 +19,8 @@
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
+import java.util.List;
+
 public interface GraphReport {
 
     int CURRENT_REPORT_MODEL_VERSION = 1;
@@ -28,6 +30,8 @@ public interface GraphReport {
     String COMPONENT = "component";
     String MESSAGE = "message";
     String GRAPH_ID = "graphId";
+    /** Structured key of missing reference, see {@link #referenceNotFound(JsonObject, String, String)} */
+    String REFERENCE_KEY = "referenceKey";
 
     //--- Report types
     String CONF_ERROR = "CONF_ERROR";
@@ -58,6 +62,15 @@ default JsonObject dumpReportData(boolean deepCopy) {
      */
     public JsonArray dumpRecords(boolean deepCopy);
 
+    /**
+     * Get number of report entries.
+     *
+     * @return Number of entries
+     */
+    default int getRecordCount() {
+        return dumpRecords(false).size();
+    }
+
     public void clear();
 
     void restoreReportData(JsonObject reportData);
@@ -65,6 +78,38 @@ default JsonObject dumpReportData(boolean deepCopy) {
     /* @deprecated Effectively, used only by unit tests */
     void restoreRecords(JsonArray reportRecords);
 
+    //--- Indexed access
+
+    /**
+     * Find report entries by indexed fields.
+     *
+     * @param type Report type, {@code null} for any
+     * @param component Component id, {@code null} for any
+     * @param referenceKey Reference key, {@code null} for any
+     * @return Matching entries, in order of addition
+     */
+    List<JsonObject> findRecords(String type, String component, String referenceKey);
+
+    /**
+     * Remove report entries by indexed fields.
+     *
+     * @param type Report type, {@code null} for any
+     * @param component Component id, {@code null} for any
+     * @param referenceKey Reference key, {@code null} for any
+     * @return Removed entries, in order of addition
+     */
+    List<JsonObject> removeRecords(String type, String component, String referenceKey);
+
+    /**
+     * Reference key of http dependency on a dnsName.
+     *
+     * @param dnsName DNS name
+     * @return Reference key
+     */
+    static String httpDependencyKey(String dnsName) {
+        return "http:" + dnsName;
+    }
+
     //--- Add entries
 
     public void addRecord(JsonObject record);
@@ -75,6 +120,15 @@ default JsonObject dumpReportData(boolean deepCopy) {
 
     void referenceNotFound(JsonObject sourceComponent, String reference);
 
+    /**
+     * Report missing reference, storing its structured key for {@link #findRecords(String, String, String)}.
+     *
+     * @param sourceComponent Component holding the reference
+     * @param reference Human-readable reference
+     * @param referenceKey Structured key of the reference
+     */
+    void referenceNotFound(JsonObject sourceComponent, String reference, String referenceKey);
+
     void configurationFileNotFound(JsonObject sourceComponent, String configurationFile);
 
     void componentDuplicated(JsonObject sourceComponent, JsonObject duplicatedComponent);
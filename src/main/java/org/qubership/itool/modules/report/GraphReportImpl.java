@@ -16,39 +16,170 @@
 
 package org.qubership.itool.modules.report;
 
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.StringSubstitutor;
 import org.qubership.itool.modules.graph.GraphDataConstants;
 import org.qubership.itool.modules.processor.InvalidGraphException;
+import org.qubership.itool.utils.ConfigUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static org.qubership.itool.modules.graph.Graph.F_DIRECTORY;
 import static org.qubership.itool.modules.graph.Graph.F_ID;
 import static org.qubership.itool.modules.graph.Graph.F_NAME;
 import static org.qubership.itool.modules.graph.Graph.F_REPOSITORY;
 import static org.qubership.itool.modules.graph.Graph.F_TYPE;
+import static org.qubership.itool.utils.ConfigProperties.REPORT_MAX_IN_MEMORY_POINTER;
+import static org.qubership.itool.utils.ConfigProperties.REPORT_SPILL_DIRECTORY_POINTER;
 
+/**
+ * Thread-safe report storage.
+ *
+ * <p>Records are appended to one of several stripes chosen by current thread, so that concurrent
+ * workers rarely contend, and merged in order of addition on read. Identical records are stored once:
+ * records are looked up by hash, and a record with the same hash is compared in full, so that a hash
+ * collision never drops a distinct record.
+ * When estimated size of records kept in memory exceeds the limit, they are spilled to a temporary
+ * file and read back only when the report is dumped. Records are indexed by component and reference key,
+ * see {@link #findRecords(String, String, String)}.
+ */
 public class GraphReportImpl implements GraphReport {
 
     private static final Logger LOG = LoggerFactory.getLogger(GraphReportImpl.class);
 
-    private JsonArray report;
+    public static final long DEFAULT_MAX_IN_MEMORY_SIZE = 64L * 1024 * 1024;
+
+    private static final HashFunction RECORD_HASH = Hashing.murmur3_128();
+
+    private static final String REFERENCE_NOT_FOUND_PREFIX = "Reference was not found. Reference: ";
+    // Reference keys of records created before they were stored as a field
+    private static final Pattern LEGACY_HTTP_DEPENDENCY_PATTERN = Pattern.compile("^\\w+ http dependency (.+)$");
+
+    private final Stripe[] stripes;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong inMemorySize = new AtomicLong();
+    private final AtomicInteger recordCount = new AtomicInteger();
+    // Latest entry for each record hash, older entries with the same hash are chained to it
+    private final Map<Long, Entry> byHash = new ConcurrentHashMap<>();
+    private final Object[] hashLocks;
+    private final AtomicLong duplicateCount = new AtomicLong();
+    private final Map<String, Queue<Entry>> byComponent = new ConcurrentHashMap<>();
+    private final Map<String, Queue<Entry>> byReferenceKey = new ConcurrentHashMap<>();
+    private final long maxInMemorySize;
+    private final Path spillDirectory;
+
+    // Guards removal, spilled data and consistency of multi-stripe reads
+    private final Object spillLock = new Object();
+    private Path spillFile;
+    private final Set<Long> removedSpilled = new HashSet<>();
+    private boolean spillFailed;
 
     public GraphReportImpl() {
-        this.report = new JsonArray();
+        this(DEFAULT_MAX_IN_MEMORY_SIZE, null);
+    }
+
+    @Inject
+    public GraphReportImpl(@Named("application.config") JsonObject config) {
+        this(getMaxInMemorySize(config), getSpillDirectory(config));
+    }
+
+    /**
+     * Create report storage.
+     *
+     * @param maxInMemorySize Approximate size of records in bytes kept in memory before spilling them to disk
+     * @param spillDirectory Directory for spill files, {@code null} for default temporary directory
+     */
+    public GraphReportImpl(long maxInMemorySize, Path spillDirectory) {
+        this.maxInMemorySize = maxInMemorySize;
+        this.spillDirectory = spillDirectory;
+        int stripeCount = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 4 - 1);
+        this.stripes = new Stripe[stripeCount];
+        this.hashLocks = new Object[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+            hashLocks[i] = new Object();
+        }
+    }
+
+    private static long getMaxInMemorySize(JsonObject config) {
+        String value = ConfigUtils.getConfigValue(REPORT_MAX_IN_MEMORY_POINTER, config);
+        return StringUtils.isBlank(value) ? DEFAULT_MAX_IN_MEMORY_SIZE : Long.parseLong(value.trim()) * 1024 * 1024;
+    }
+
+    private static Path getSpillDirectory(JsonObject config) {
+        String value = ConfigUtils.getConfigValue(REPORT_SPILL_DIRECTORY_POINTER, config);
+        return StringUtils.isBlank(value) ? null : Path.of(value);
     }
 
     @Override
     public void addRecord(JsonObject record) {
-        synchronized (report) {
-            report.add(record);
+        String encoded = record.encode();
+        long hash = hash(encoded);
+        Entry entry;
+        synchronized (hashLocks[(int) hash & (hashLocks.length - 1)]) {
+            Entry sameHash = byHash.get(hash);
+            if (sameHash != null && containsRecord(sameHash, encoded)) {
+                duplicateCount.incrementAndGet();
+                return;
+            }
+            Entry newEntry = new Entry(sequence.getAndIncrement(), hash, record);
+            // Chain may have been shortened by removal since the lookup
+            byHash.compute(hash, (h, head) -> {
+                newEntry.nextWithSameHash = head;
+                return newEntry;
+            });
+            entry = newEntry;
+        }
+        append(entry);
+    }
+
+    private void append(Entry entry) {
+        // Stored before being indexed, so that an entry found in the index can be removed from its stripe
+        Stripe stripe = stripes[(int) Thread.currentThread().getId() & (stripes.length - 1)];
+        synchronized (stripe) {
+            entry.stripe = stripe;
+            stripe.entries.add(entry);
+        }
+        index(byComponent, entry.component, entry);
+        index(byReferenceKey, entry.referenceKey, entry);
+        recordCount.incrementAndGet();
+        if (inMemorySize.addAndGet(entry.size) > maxInMemorySize) {
+            spill();
         }
     }
 
@@ -60,30 +191,86 @@ public JsonObject dumpReportData(int modelVersion, boolean deepCopy) {
                 .put("records", dumpRecords(deepCopy));
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public JsonArray dumpRecords(boolean deepCopy) {
-        synchronized (report) {
-            if (deepCopy) {
-                return report.copy();
-            } else {
-                return new JsonArray(new ArrayList<>(report.getList()));
-            }
+        List<Entry> entries;
+        synchronized (spillLock) {
+            entries = collectEntries();
+        }
+        JsonArray result = new JsonArray(new ArrayList<>(entries.size()));
+        for (Entry entry : entries) {
+            // Spilled records are decoded anew, so they are copies already
+            result.add(deepCopy && !entry.spilled ? entry.record.copy() : entry.record);
+        }
+        return result;
+    }
+
+    @Override
+    public int getRecordCount() {
+        return recordCount.get();
+    }
+
+    /**
+     * Get number of records that were not stored because identical ones had been added already.
+     *
+     * @return Number of duplicates
+     */
+    public long getDuplicateCount() {
+        return duplicateCount.get();
+    }
+
+    @Override
+    public List<JsonObject> findRecords(String type, String component, String referenceKey) {
+        synchronized (spillLock) {
+            return toRecords(findEntries(type, component, referenceKey));
         }
     }
 
-    /** Get direct link to mutable underlying report data. Accesses shall be {@code synchronized}
+    @Override
+    public List<JsonObject> removeRecords(String type, String component, String referenceKey) {
+        synchronized (spillLock) {
+            List<Entry> entries = findEntries(type, component, referenceKey);
+            List<JsonObject> result = toRecords(entries);
+            removeEntries(entries);
+            return result;
+        }
+    }
+
+    /**
+     * Remove records matching the filter. Unlike {@link #removeRecords(String, String, String)},
+     * this checks every record.
      *
-     * @return Underlying report data
+     * @param filter Filter of records to remove
+     * @return Removed records, in order of addition
      */
-    public JsonArray getRecords() {
-        return report;
+    public List<JsonObject> removeRecords(Predicate<JsonObject> filter) {
+        synchronized (spillLock) {
+            List<Entry> removed = new ArrayList<>();
+            for (Entry entry : collectEntries()) {
+                if (filter.test(entry.record)) {
+                    removed.add(entry);
+                }
+            }
+            removeEntries(removed);
+            return toRecords(removed);
+        }
     }
 
     @Override
     public void clear() {
-        synchronized (report) {
-            report.clear();
+        synchronized (spillLock) {
+            for (Stripe stripe : stripes) {
+                synchronized (stripe) {
+                    stripe.entries.clear();
+                }
+            }
+            byComponent.clear();
+            byReferenceKey.clear();
+            inMemorySize.set(0);
+            recordCount.set(0);
+            byHash.clear();
+            duplicateCount.set(0);
+            deleteSpillFile();
         }
     }
 
@@ -98,10 +285,18 @@ public void restoreReportData(JsonObject dump) {
 
     @Override
     public void restoreRecords(JsonArray reportRecords) {
-        synchronized (report) {
-            report.clear();
+        synchronized (spillLock) {
+            clear();
+            // Restored records are kept as is, including duplicates
             for (Object obj : reportRecords) {
-                report.add(obj);
+                JsonObject record = (JsonObject) obj;
+                long hash = hash(record.encode());
+                Entry entry = new Entry(sequence.getAndIncrement(), hash, record);
+                byHash.compute(hash, (h, head) -> {
+                    entry.nextWithSameHash = head;
+                    return entry;
+                });
+                append(entry);
             }
         }
     }
@@ -134,9 +329,13 @@ public void mandatoryValueMissed(JsonObject sourceComponent, String property) {
 
     @Override
     public void referenceNotFound(JsonObject sourceComponent, String reference) {
-        addMessage(CONF_ERROR, sourceComponent,
-            "Reference was not found. Reference: " + reference
-            );
+        referenceNotFound(sourceComponent, reference, reference);
+    }
+
+    @Override
+    public void referenceNotFound(JsonObject sourceComponent, String reference, String referenceKey) {
+        addMessage(CONF_ERROR, sourceComponent, REFERENCE_NOT_FOUND_PREFIX + reference,
+            Collections.singletonMap(REFERENCE_KEY, referenceKey));
     }
 
     @Override
@@ -202,6 +401,366 @@ public void mergingError(JsonObject sourceDesc, Exception exception) {
     }
 
 
+    //------------------------------------------------------
+    // Storage internals
+
+    // Caller must hold spillLock
+    private List<Entry> collectEntries() {
+        List<Entry> entries = new ArrayList<>(recordCount.get());
+        if (spillFile != null) {
+            readSpilled(null, entries::add);
+        }
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                for (Entry entry : stripe.entries) {
+                    if (!entry.removed) {
+                        entries.add(entry);
+                    }
+                }
+            }
+        }
+        entries.sort(Comparator.comparingLong(e -> e.sequence));
+        return entries;
+    }
+
+    // Caller must hold spillLock
+    private List<Entry> findEntries(String type, String component, String referenceKey) {
+        Collection<Entry> candidates;
+        if (referenceKey != null) {
+            candidates = byReferenceKey.getOrDefault(referenceKey, EMPTY_QUEUE);
+        } else if (component != null) {
+            candidates = byComponent.getOrDefault(component, EMPTY_QUEUE);
+        } else {
+            candidates = collectEntries();
+        }
+        List<Entry> result = new ArrayList<>();
+        Set<Long> spilledSequences = new HashSet<>();
+        for (Entry entry : candidates) {
+            if (entry.removed
+                    || type != null && !type.equals(entry.type)
+                    || component != null && !component.equals(entry.component)
+                    || referenceKey != null && !referenceKey.equals(entry.referenceKey)) {
+                continue;
+            }
+            if (entry.record != null) {
+                result.add(entry);
+            } else {
+                spilledSequences.add(entry.sequence);
+            }
+        }
+        if (!spilledSequences.isEmpty()) {
+            readSpilled(spilledSequences, result::add);
+        }
+        result.sort(Comparator.comparingLong(e -> e.sequence));
+        return result;
+    }
+
+    /* Remove entries from stripes, indexes and hash chains. Caller must hold spillLock.
+     * Entries may be either stored or read from spill file */
+    private void removeEntries(List<Entry> entries) {
+        Set<Stripe> modifiedStripes = new HashSet<>();
+        for (Entry entry : entries) {
+            if (entry.spilled) {
+                removedSpilled.add(entry.sequence);
+            } else {
+                entry.removed = true;
+                inMemorySize.addAndGet(-entry.size);
+                modifiedStripes.add(entry.stripe);
+            }
+            unindex(byComponent, entry.component, entry.sequence);
+            unindex(byReferenceKey, entry.referenceKey, entry.sequence);
+            unchain(entry);
+            recordCount.decrementAndGet();
+        }
+        for (Stripe stripe : modifiedStripes) {
+            synchronized (stripe) {
+                stripe.entries.removeIf(e -> e.removed);
+            }
+        }
+    }
+
+    private static void index(Map<String, Queue<Entry>> index, String key, Entry entry) {
+        if (key != null) {
+            index.compute(key, (k, entries) -> {
+                Queue<Entry> result = entries != null ? entries : new ConcurrentLinkedQueue<>();
+                result.add(entry);
+                return result;
+            });
+        }
+    }
+
+    private static void unindex(Map<String, Queue<Entry>> index, String key, long sequence) {
+        if (key != null) {
+            index.computeIfPresent(key, (k, entries) -> {
+                entries.removeIf(e -> e.sequence == sequence);
+                return entries.isEmpty() ? null : entries;
+            });
+        }
+    }
+
+    /* Entry read from spill file is a copy, so it is matched by sequence. Readers traverse chains
+     * without locking, so a removed entry keeps its link to the rest of the chain */
+    private void unchain(Entry entry) {
+        byHash.computeIfPresent(entry.hash, (hash, head) -> {
+            if (head.sequence == entry.sequence) {
+                return head.nextWithSameHash;
+            }
+            for (Entry prev = head; prev.nextWithSameHash != null; prev = prev.nextWithSameHash) {
+                if (prev.nextWithSameHash.sequence == entry.sequence) {
+                    prev.nextWithSameHash = prev.nextWithSameHash.nextWithSameHash;
+                    break;
+                }
+            }
+            return head;
+        });
+    }
+
+    /* Check whether a stored entry in the chain has the same encoded record. Entries kept in memory
+     * are compared without locking, spillLock is taken only if the chain has spilled entries.
+     * Caller must hold the lock of the hash. */
+    private boolean containsRecord(Entry head, String encoded) {
+        boolean hasSpilled = false;
+        for (Entry entry = head; entry != null; entry = entry.nextWithSameHash) {
+            JsonObject record = entry.record;
+            if (record == null) {
+                hasSpilled = true;
+            } else if (!entry.removed && encoded.equals(record.encode())) {
+                return true;
+            }
+        }
+        if (!hasSpilled) {
+            return false;
+        }
+        synchronized (spillLock) {
+            for (Entry entry = head; entry != null; entry = entry.nextWithSameHash) {
+                if (entry.spilled && !removedSpilled.contains(entry.sequence)
+                        && encoded.equals(readSpilledRecord(entry))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static List<JsonObject> toRecords(List<Entry> entries) {
+        List<JsonObject> result = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            result.add(entry.record);
+        }
+        return result;
+    }
+
+    private void spill() {
+        synchronized (spillLock) {
+            if (spillFailed || inMemorySize.get() <= maxInMemorySize) {
+                return;     // Spilled by another thread already
+            }
+            List<Entry> entries = new ArrayList<>();
+            for (Stripe stripe : stripes) {
+                synchronized (stripe) {
+                    for (Entry entry : stripe.entries) {
+                        if (!entry.removed) {
+                            entries.add(entry);
+                        }
+                    }
+                    stripe.entries.clear();
+                }
+            }
+            try {
+                if (spillFile == null) {
+                    spillFile = spillDirectory == null
+                            ? Files.createTempFile("itool-report", ".jsonl")
+                            : Files.createTempFile(Files.createDirectories(spillDirectory), "itool-report", ".jsonl");
+                    spillFile.toFile().deleteOnExit();
+                }
+                long offset = Files.size(spillFile);
+                try (OutputStream out = new BufferedOutputStream(
+                        Files.newOutputStream(spillFile, StandardOpenOption.APPEND))) {
+                    for (Entry entry : entries) {
+                        byte[] line = encodeEntry(entry);
+                        out.write(line);
+                        out.write('\n');
+                        // Used only once the entry is marked as spilled
+                        entry.spillOffset = offset;
+                        entry.spillLength = line.length;
+                        offset += line.length + 1;
+                    }
+                }
+            } catch (IOException e) {
+                LOG.warn("Failed to spill report records to {}, keeping them in memory: {}", spillFile, e.toString());
+                spillFailed = true;
+                synchronized (stripes[0]) {
+                    for (Entry entry : entries) {
+                        entry.stripe = stripes[0];
+                    }
+                    stripes[0].entries.addAll(entries);
+                }
+                return;
+            }
+            long size = 0;
+            for (Entry entry : entries) {
+                // Indexed entries stay in memory, but without records. Record is cleared last,
+                // so that an entry without record is seen as spilled without locking
+                entry.spilled = true;
+                entry.stripe = null;
+                entry.record = null;
+                size += entry.size;
+            }
+            inMemorySize.addAndGet(-size);
+            LOG.debug("{} report records of {} bytes spilled to {}", entries.size(), size, spillFile);
+        }
+    }
+
+    /* Read spilled entries that were not removed. Caller must hold spillLock.
+     * If sequences are given, only those entries are read. */
+    private void readSpilled(Set<Long> sequences, Consumer<Entry> consumer) {
+        try (BufferedReader reader = Files.newBufferedReader(spillFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                long entrySequence = Long.parseLong(line.substring(0, line.indexOf(' ')));
+                if (sequences != null ? sequences.contains(entrySequence) : !removedSpilled.contains(entrySequence)) {
+                    consumer.accept(readEntry(line));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read spilled report records from " + spillFile, e);
+        }
+    }
+
+    /* Read encoded record of a single spilled entry. Caller must hold spillLock */
+    private String readSpilledRecord(Entry entry) {
+        byte[] line = new byte[entry.spillLength];
+        try (RandomAccessFile file = new RandomAccessFile(spillFile.toFile(), "r")) {
+            file.seek(entry.spillOffset);
+            file.readFully(line);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read spilled report record from " + spillFile, e);
+        }
+        String text = new String(line, StandardCharsets.UTF_8);
+        return text.substring(text.indexOf(' ', text.indexOf(' ') + 1) + 1);
+    }
+
+    // Caller must hold spillLock
+    private void deleteSpillFile() {
+        removedSpilled.clear();
+        spillFailed = false;
+        if (spillFile != null) {
+            try {
+                Files.deleteIfExists(spillFile);
+            } catch (IOException e) {
+                LOG.warn("Failed to delete report spill file {}: {}", spillFile, e.toString());
+            }
+            spillFile = null;
+        }
+    }
+
+    /* Line format: "sequence hash record", without line separator */
+    private static byte[] encodeEntry(Entry entry) {
+        return (entry.sequence + " " + entry.hash + " " + entry.record.encode()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Entry readEntry(String line) {
+        int first = line.indexOf(' ');
+        int second = line.indexOf(' ', first + 1);
+        Entry entry = new Entry(Long.parseLong(line.substring(0, first)),
+                Long.parseLong(line.substring(first + 1, second)),
+                new JsonObject(line.substring(second + 1)));
+        entry.spilled = true;
+        return entry;
+    }
+
+    // Not static, so that tests can force collisions
+    long hash(String encodedRecord) {
+        return RECORD_HASH.hashString(encodedRecord, StandardCharsets.UTF_8).asLong();
+    }
+
+    private static final Queue<Entry> EMPTY_QUEUE = new ConcurrentLinkedQueue<>();
+
+    // For tests: number of entries kept in stripes and in indexes
+    int getStoredEntryCount() {
+        synchronized (spillLock) {
+            int count = 0;
+            for (Stripe stripe : stripes) {
+                synchronized (stripe) {
+                    count += stripe.entries.size();
+                }
+            }
+            for (Queue<Entry> entries : byComponent.values()) {
+                count += entries.size();
+            }
+            for (Queue<Entry> entries : byReferenceKey.values()) {
+                count += entries.size();
+            }
+            return count;
+        }
+    }
+
+    private static final class Stripe {
+        final List<Entry> entries = new ArrayList<>();
+    }
+
+    private static final class Entry {
+        final long sequence;
+        final long hash;
+        final long size;
+        // Indexed fields
+        final String type;
+        final String component;
+        final String referenceKey;
+        // Older entry with the same hash, modified only within compute() of byHash
+        volatile Entry nextWithSameHash;
+        // Fields below are modified under spillLock. Spilled entry has no record
+        volatile JsonObject record;
+        volatile boolean spilled;
+        volatile boolean removed;
+        long spillOffset;
+        int spillLength;
+        // Stripe holding the entry, guarded by lock of the stripe
+        Stripe stripe;
+
+        Entry(long sequence, long hash, JsonObject record) {
+            this.sequence = sequence;
+            this.hash = hash;
+            this.record = record;
+            this.size = estimateSize(record);
+            this.type = stringValue(record, TYPE);
+            this.component = stringValue(record, COMPONENT);
+            this.referenceKey = referenceKey(record, type);
+        }
+
+        private static String stringValue(JsonObject record, String key) {
+            Object value = record.getValue(key);
+            return value instanceof String ? (String) value : null;
+        }
+
+        private static String referenceKey(JsonObject record, String type) {
+            String key = stringValue(record, REFERENCE_KEY);
+            if (key != null || !CONF_ERROR.equals(type)) {
+                return key;
+            }
+            String message = stringValue(record, MESSAGE);
+            if (message == null || !message.startsWith(REFERENCE_NOT_FOUND_PREFIX)) {
+                return null;
+            }
+            String reference = message.substring(REFERENCE_NOT_FOUND_PREFIX.length());
+            Matcher matcher = LEGACY_HTTP_DEPENDENCY_PATTERN.matcher(reference);
+            return matcher.matches() ? GraphReport.httpDependencyKey(matcher.group(1)) : reference;
+        }
+
+        /* Rough estimate of retained heap: object headers plus UTF-16 characters of strings */
+        private static long estimateSize(JsonObject record) {
+            long size = 96;
+            for (Object value : record.getMap().values()) {
+                size += 32;
+                if (value instanceof String) {
+                    size += 2L * ((String) value).length();
+                }
+            }
+            return size;
+        }
+    }
+
+
     protected JsonObject create(JsonObject component, String type, String message) {
         String componentName;
         if (component != null) {
@@ -22,6 +22,7 @@
 import org.qubership.itool.modules.diagram.DiagramService;
 
 import java.io.IOException;
+import java.io.Writer;
 
 public interface TemplateService {
     String BASE_TEMPLATES_PATH = "config/templates2";
@@ -32,5 +33,7 @@ public interface TemplateService {
 
     String processTemplate(ConfluencePage confluencePage) throws TemplateException, IOException;
 
+    void processTemplate(ConfluencePage confluencePage, Writer writer) throws TemplateException, IOException;
+
     DiagramService getDiagramService();
 }
@@ -29,6 +29,7 @@
 import java.io.File;
 import java.io.IOException;
 import java.io.StringWriter;
+import java.io.Writer;
 
 import static freemarker.template.Configuration.SQUARE_BRACKET_INTERPOLATION_SYNTAX;
 import static freemarker.template.Configuration.SQUARE_BRACKET_TAG_SYNTAX;
@@ -46,7 +47,7 @@ public TemplateServiceImpl(DiagramService diagramService, JsonObject config) {
         this.appConfig = config;
     }
 
-    public Configuration getConfiguration() {
+    public synchronized Configuration getConfiguration() {
         if (this.configuration == null) {
             try {
                 this.configuration = configure();
@@ -96,10 +97,19 @@ public Template getTemplate(String templateName) {
     @Override
     public String processTemplate(ConfluencePage confluencePage) throws TemplateException, IOException {
         StringWriter writer = new StringWriter();
-        getTemplate(confluencePage.getTemplate()).process(confluencePage.getDataModel(), writer);
+        processTemplate(confluencePage, writer);
         return writer.toString();
     }
 
+    @Override
+    public void processTemplate(ConfluencePage confluencePage, Writer writer) throws TemplateException, IOException {
+        Template template = getTemplate(confluencePage.getTemplate());
+        if (template == null) {
+            throw new IOException("Template not found: " + confluencePage.getTemplate());
+        }
+        template.process(confluencePage.getDataModel(), writer);
+    }
+
     @Override
     public DiagramService getDiagramService() {
         return diagramService;
@@ -23,6 +23,7 @@
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.qubership.itool.context.FlowContext;
+import org.qubership.itool.context.FlowTelemetry;
 import org.qubership.itool.modules.graph.Graph;
 import org.qubership.itool.modules.gremlin2.graph.GraphTraversal;
 import org.qubership.itool.modules.gremlin2.graph.GraphTraversalSource;
@@ -37,6 +38,7 @@
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import javax.annotation.Resource;
 
 import static org.qubership.itool.utils.ConfigProperties.DISABLED_FEATURES_PROPERTY;
@@ -55,6 +57,20 @@ public abstract class FlowTask {
 
     public static final String PROGRESS_PATH = "progress";
 
+    /** Directory for execution metrics of tasks, located inside {@link #PROGRESS_PATH} */
+    public static final String METRICS_PATH = "metrics";
+
+    /** Resource that overlaps everything. Tasks not declaring their resources are assumed to write it. */
+    public static final String RESOURCE_ALL = "*";
+    /** Vertices and edges of the graph. Sub-resources, e.g. {@code "graph/library"}, stand for vertex types */
+    public static final String RESOURCE_GRAPH = "graph";
+    /** Records of the {@link GraphReport} */
+    public static final String RESOURCE_REPORT = "report";
+    /** Generated pages listed in "confluencePages" of the root vertex */
+    public static final String RESOURCE_CONFLUENCE_PAGES = "confluencePages";
+    /** Prefix for file system resources, followed by a path */
+    public static final String RESOURCE_FILE_PREFIX = "file/";
+
 
     @Resource
     protected Vertx vertx;
@@ -78,6 +94,36 @@ protected String[] features() {
         return new String[0];
     }
 
+    /**
+     * Returns the resources this task reads. Used by flow scheduler to run independent tasks
+     * concurrently, see {@code FlowTaskScheduler}.
+     *
+     * @return array of resource names, e.g. {@link #RESOURCE_GRAPH}
+     */
+    public String[] resourcesRead() {
+        return new String[0];
+    }
+
+    /**
+     * Returns the resources this task modifies. By default, a task is assumed to modify everything,
+     * so it never runs concurrently with other tasks.
+     *
+     * @return array of resource names
+     */
+    public String[] resourcesWritten() {
+        return new String[] { RESOURCE_ALL };
+    }
+
+    /**
+     * Returns the resources this task only adds data to, in a thread-safe way. Tasks appending to
+     * the same resource may run concurrently, but not with tasks reading it.
+     *
+     * @return array of resource names, e.g. {@link #RESOURCE_REPORT}
+     */
+    public String[] resourcesAppended() {
+        return new String[0];
+    }
+
     /**
      * Returns the logger instance for this task.
      *
@@ -113,7 +159,14 @@ public String toString() {
     protected abstract void taskStart(Promise<?> taskPromise) throws Exception;
 
     public Future<?> startInFlow() {
-        return Future.future(taskPromise -> startInFlow(taskPromise));
+        FlowTelemetry telemetry = flowContext.getResource(FlowTelemetry.class);
+        if (telemetry == null) {
+            return Future.future(taskPromise -> startInFlow(taskPromise));
+        }
+        FlowTelemetry.TaskSample sample = telemetry.taskStarted(getTaskAddress());
+        return Future.future(taskPromise -> startInFlow(taskPromise))
+                .onComplete(ar -> telemetry.taskFinished(sample,
+                        ar.failed() ? "failed" : executionStart != null ? "completed" : "skipped"));
     }
 
     protected void startInFlow(Promise<?> taskPromise) {
@@ -234,6 +287,18 @@ public static List<JsonObject> getComponents(Graph graph, JsonObject domain) {
         return graph.traversal().V(domain.getString(Graph.F_ID)).out().hasKey("repository", "details").toList();
     }
 
+    /**
+     * Get a view of graph data shared by tasks, computing it if the graph was changed since the
+     * last computation. See {@link org.qubership.itool.context.MaterializedViews} and {@link GraphViews}.
+     *
+     * @param name View name
+     * @param definition View definition, used if the view is not declared yet
+     * @return View value, must not be modified
+     */
+    protected <T> T getView(String name, Function<Graph, T> definition) {
+        return flowContext.getViews().get(name, definition);
+    }
+
     public static GraphTraversal<JsonObject, JsonObject> V(Graph graph, List<String> vertexIds) {
         return new GraphTraversalSource(graph).V(vertexIds.toArray(new String[vertexIds.size()]));
     }
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.tasks;
+
+import io.vertx.core.json.JsonObject;
+import org.qubership.itool.modules.graph.Graph;
+import org.qubership.itool.modules.gremlin2.graph.GraphTraversal;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.qubership.itool.modules.graph.Graph.F_ID;
+import static org.qubership.itool.modules.graph.Graph.V_DOMAIN;
+import static org.qubership.itool.modules.gremlin2.P.neq;
+import static org.qubership.itool.modules.gremlin2.graph.__.outE;
+
+/**
+ * Views of graph data shared by flow tasks, see {@link org.qubership.itool.context.MaterializedViews}.
+ * Use them via {@link FlowTask#getView(String, java.util.function.Function)}, e.g.
+ * {@code getView(GraphViews.JAVA_DEPENDENCIES, GraphViews::javaDependencies)}.
+ */
+public final class GraphViews {
+
+    /** Components of domains: unmodifiable map from domain id to its components, see {@link #domainComponents} */
+    public static final String DOMAIN_COMPONENTS = "domainComponents";
+
+    /** Successors of domains: unmodifiable map from domain id to all its successors, see {@link #domainSuccessors} */
+    public static final String DOMAIN_SUCCESSORS = "domainSuccessors";
+
+    /** Maven dependencies of components: unmodifiable map from component id to {@link JavaDependencies} */
+    public static final String JAVA_DEPENDENCIES = "javaDependencies";
+
+    /** Transitive maven dependencies as exported to CSV: unmodifiable map from component id to library vertices,
+     * see {@link #javaTransitiveAnyFirstHop} */
+    public static final String JAVA_TRANSITIVE_ANY_FIRST_HOP = "javaTransitiveAnyFirstHop";
+
+    private GraphViews() {
+    }
+
+    /**
+     * Compute components of every domain, same as {@link FlowTask#getComponents(Graph, JsonObject)}.
+     *
+     * @param graph Graph
+     * @return Map from domain id to components, in order of domains
+     */
+    public static Map<String, List<JsonObject>> domainComponents(Graph graph) {
+        Map<String, List<JsonObject>> result = new LinkedHashMap<>();
+        for (JsonObject domain : graph.traversal().V().hasType(V_DOMAIN).toList()) {
+            result.put(domain.getString(F_ID), List.copyOf(FlowTask.getComponents(graph, domain)));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Compute direct successors of every domain, including ones that are not complete components.
+     *
+     * @param graph Graph
+     * @return Map from domain id to successors, in order of domains
+     */
+    public static Map<String, List<JsonObject>> domainSuccessors(Graph graph) {
+        Map<String, List<JsonObject>> result = new LinkedHashMap<>();
+        for (JsonObject domain : graph.traversal().V().hasType(V_DOMAIN).toList()) {
+            String domainId = domain.getString(F_ID);
+            result.put(domainId, List.copyOf(graph.getSuccessors(domainId, false)));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Compute non-test maven dependencies of every component of domains. Dependency edges are followed
+     * only if they were recorded for the same component.
+     *
+     * @param graph Graph
+     * @return Map from component id to its dependencies
+     */
+    public static Map<String, JavaDependencies> javaDependencies(Graph graph) {
+        Map<String, JavaDependencies> result = new HashMap<>();
+        for (JsonObject component : graph.traversal().V().hasType(V_DOMAIN).out().toList()) {
+            String componentId = component.getString(F_ID);
+            if (result.containsKey(componentId)) {
+                continue;
+            }
+            GraphTraversal<JsonObject, JsonObject> directTraversal = directJavaDependencies(graph, componentId);
+            List<JsonObject> direct = directTraversal.clone().toList();
+            List<JsonObject> transitive =
+                directTraversal.clone()
+                    .outE("dependency")
+                        .has("scope", neq("test"))
+                        .has("component", componentId)
+                    .inV().dedup()
+                    .repeat(
+                        outE("dependency")
+                            .has("scope", neq("test"))
+                            .has("component", componentId)
+                        .inV().dedup()
+                    ).emit().dedup()
+                    .toList();
+            result.put(componentId, new JavaDependencies(direct, transitive));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Compute non-test transitive maven dependencies of every component of domains as exported to CSV:
+     * dependencies of direct dependencies are taken regardless of the component they were recorded for,
+     * further hops only for this component.
+     *
+     * @param graph Graph
+     * @return Map from component id to library vertices in traversal order
+     */
+    public static Map<String, List<JsonObject>> javaTransitiveAnyFirstHop(Graph graph) {
+        Map<String, List<JsonObject>> result = new HashMap<>();
+        for (JsonObject component : graph.traversal().V().hasType(V_DOMAIN).out().toList()) {
+            String componentId = component.getString(F_ID);
+            if (result.containsKey(componentId)) {
+                continue;
+            }
+            List<JsonObject> transitive =
+                directJavaDependencies(graph, componentId)
+                    .outE("dependency")
+                        .has("scope", neq("test"))
+                    .inV().dedup()
+                    .repeat(
+                        outE("dependency")
+                            .has("scope", neq("test"))
+                            .has("component", componentId)
+                        .inV().dedup()
+                    ).emit().dedup()
+                    .toList();
+            result.put(componentId, List.copyOf(transitive));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static GraphTraversal<JsonObject, JsonObject> directJavaDependencies(Graph graph, String componentId) {
+        return graph.traversal().V(componentId).out("module")
+            .outE("dependency")
+                .has("scope", neq("test"))
+                .has("component", componentId)
+            .inV().dedup();
+    }
+
+    /** Direct and transitive maven dependencies of a component, library vertices in traversal order */
+    public static final class JavaDependencies {
+        private final List<JsonObject> direct;
+        private final List<JsonObject> transitive;
+
+        JavaDependencies(List<JsonObject> direct, List<JsonObject> transitive) {
+            this.direct = List.copyOf(direct);
+            this.transitive = List.copyOf(transitive);
+        }
+
+        public List<JsonObject> getDirect() {
+            return direct;
+        }
+
+        public List<JsonObject> getTransitive() {
+            return transitive;
+        }
+    }
+
+}
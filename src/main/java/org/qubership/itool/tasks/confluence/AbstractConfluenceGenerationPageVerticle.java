@@ -18,9 +18,9 @@
 
 import freemarker.template.TemplateMethodModelEx;
 import freemarker.template.TemplateModelException;
-import io.vertx.core.Future;
 import io.vertx.core.Promise;
-import io.vertx.core.buffer.Buffer;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.impl.cpu.CpuCoreSensor;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import org.apache.commons.lang3.StringUtils;
@@ -30,12 +30,22 @@
 import org.qubership.itool.modules.template.ConfluencePage;
 import org.qubership.itool.modules.template.TemplateService;
 import org.qubership.itool.tasks.AbstractAggregationTaskVerticle;
+import org.qubership.itool.utils.BoundedWorkScheduler;
 import org.qubership.itool.utils.ConfigUtils;
 import org.qubership.itool.utils.JsonUtils;
 
-import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Resource;
 
 import static org.qubership.itool.utils.ConfigProperties.CONFLUENCE_SPACE_POINTER;
@@ -49,6 +59,12 @@ public abstract class AbstractConfluenceGenerationPageVerticle extends AbstractA
 
     public static final String OUTPUT_CONFLUENCE = "output/confluence/";
 
+    private static final long PREPARATION_COST = 0;
+    private static final long RENDERING_COST = 1;
+
+    // Have to be global to avoid closing by GC
+    private WorkerExecutor executor;
+
     @Override
     protected String[] features() {
         return new String[] { "confluence2Generate" };
@@ -56,72 +72,143 @@ protected String[] features() {
 
     @Override
     protected void taskStart(Promise<?> taskPromise) throws Exception {
-        final JsonArray rootConfluencePages =
-                JsonUtils.getOrCreateJsonArray(graph.getVertex(Graph.V_ROOT), "confluencePages");
-
-        vertx.executeBlocking(() -> {
-            List<ConfluencePage> pageList = prepareConfluencePageList();
-            pageList.forEach(page -> {
-                page.addDataModel("release", ConfigUtils.getConfigValue(RELEASE_POINTER, config()));
-                page.setSpace(ConfigUtils.getConfigValue(CONFLUENCE_SPACE_POINTER, config()));
-            });
-            return pageList;
-        }).onComplete(res -> {
-            if (res.failed()) {
-                report.internalError(ExceptionUtils.getStackTrace(res.cause()));
-                taskCompleted(taskPromise);
-                return;
-            }
+        JsonObject root = graph.getVertex(Graph.V_ROOT);
+        final JsonArray rootConfluencePages;
+        synchronized (root) {
+            rootConfluencePages = JsonUtils.getOrCreateJsonArray(root, "confluencePages");
+        }
 
-            @SuppressWarnings("unchecked")
-            List<ConfluencePage> confluencePageList = (List<ConfluencePage>) res.result();
-            if (confluencePageList == null) {
-                taskCompleted(taskPromise);
-                return;
+        Integer coresCount = CpuCoreSensor.availableProcessors();
+        executor = vertx.createSharedWorkerExecutor("confluence-generation-worker-pool",
+                coresCount,
+                10,
+                TimeUnit.MINUTES);
+        String release = ConfigUtils.getConfigValue(RELEASE_POINTER, config());
+        String space = ConfigUtils.getConfigValue(CONFLUENCE_SPACE_POINTER, config());
+        Path outputPath = getOutputPath();
+
+        // Entries of generated pages keyed by position of the page in preparation order,
+        // so that the result does not depend on the order of completion
+        Map<Long, JsonObject> generatedPages = new ConcurrentSkipListMap<>();
+        BoundedWorkScheduler scheduler = new BoundedWorkScheduler(executor, getMaxInFlight(),
+                e -> report.internalError(ExceptionUtils.getStackTrace(e)));
+        scheduler.submit(PREPARATION_COST, () -> {
+            List<Callable<List<ConfluencePage>>> units = getPagePreparationUnits();
+            if (units == null) {
+                return null;
             }
-
-            @SuppressWarnings("rawtypes")
-            List<Future<?>> futureList = new ArrayList<>();
-            for (ConfluencePage confluencePage : confluencePageList) {
-                getLogger().info("Generate Confluence page: " + confluencePage.getDirectoryPath()
-                        + "/" + confluencePage.getFileName());
-
-                Future<Void> future = Future.future(promise -> {
-                    try {
-                        String result =  templateService.processTemplate(confluencePage);
-                        if (result != null) {
-                            File dir = new File(OUTPUT_CONFLUENCE + confluencePage.getDirectoryPath());
-                            if (!dir.exists()) {
-                                dir.mkdirs();
+            for (int i = 0; i < units.size(); i++) {
+                Callable<List<ConfluencePage>> unit = units.get(i);
+                long unitPosition = (long) i << 32;
+                scheduler.submit(PREPARATION_COST, () -> {
+                    List<ConfluencePage> pageList = unit.call();
+                    if (pageList == null) {
+                        return null;
+                    }
+                    for (int j = 0; j < pageList.size(); j++) {
+                        ConfluencePage page = pageList.get(j);
+                        page.addDataModel("release", release);
+                        page.setSpace(space);
+                        long position = unitPosition + j;
+                        // Rendering goes first, so that prepared data models do not pile up
+                        scheduler.submit(RENDERING_COST, () -> {
+                            JsonObject generatedPage = renderPage(page, outputPath);
+                            if (generatedPage != null) {
+                                generatedPages.put(position, generatedPage);
                             }
-                            String path = dir.getPath() + "/" + confluencePage.getFileName() + ".confluence";
-                            vertx.fileSystem().writeFileBlocking(path, Buffer.buffer(result));
-
-                            JsonObject page = new JsonObject();
-                            page.put("title", confluencePage.getTitle());
-                            page.put("parentTitle", confluencePage.getParentTitle());
-                            page.put("type", confluencePage.getType());
-                            page.put("onDiskPath", path);
-                            page.put("space", confluencePage.getSpace());
-                            rootConfluencePages.add(page);
-                            getLogger().debug("Page '" + page.getString("title")
-                                    + "' generation complete (" + page.getString("onDiskPath") + ")");
-                        }
-                        promise.complete();
-
-                    } catch (Exception ex) {
-                        promise.fail(ex);
-                        JsonObject component = confluencePage.getElement();
-                        this.report.exceptionThrown(component, ex);
+                            return null;
+                        });
                     }
+                    return null;
                 });
-                futureList.add(future);
             }
+            return null;
+        });
 
-            completeCompositeTask(futureList, taskPromise);
+        scheduler.start().onComplete(res -> {
+            // We are not closing executor here, because it is used in several tasks
+            synchronized (rootConfluencePages) {
+                generatedPages.values().forEach(rootConfluencePages::add);
+            }
+            taskCompleted(taskPromise);
         });
     }
 
+    /**
+     * Render a page into its file under the output directory, streaming the template output.
+     * Failure is reported against the page element here, so it does not reach the scheduler.
+     *
+     * @param confluencePage Page to render
+     * @param outputPath Output directory
+     * @return Entry of the generated page for "confluencePages" of the root vertex,
+     *         or {@code null} if rendering failed
+     */
+    protected JsonObject renderPage(ConfluencePage confluencePage, Path outputPath) {
+        getLogger().info("Generate Confluence page: " + confluencePage.getDirectoryPath()
+                + "/" + confluencePage.getFileName());
+        Path tempFile = null;
+        try {
+            Path dir = outputPath.resolve(confluencePage.getDirectoryPath());
+            Files.createDirectories(dir);
+            Path file = dir.resolve(confluencePage.getFileName() + ".confluence");
+            // Rendered next to the target, so that a failure does not leave a partial page for upload
+            tempFile = Files.createTempFile(dir, confluencePage.getFileName(), ".tmp");
+            try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                templateService.processTemplate(confluencePage, writer);
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            tempFile = null;
+
+            JsonObject page = new JsonObject();
+            page.put("title", confluencePage.getTitle());
+            page.put("parentTitle", confluencePage.getParentTitle());
+            page.put("type", confluencePage.getType());
+            page.put("onDiskPath", file.toString());
+            page.put("space", confluencePage.getSpace());
+            getLogger().debug("Page '" + page.getString("title")
+                    + "' generation complete (" + page.getString("onDiskPath") + ")");
+            return page;
+
+        } catch (Exception ex) {
+            JsonObject component = confluencePage.getElement();
+            this.report.exceptionThrown(component, ex);
+            return null;
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException e) {
+                    getLogger().warn("Failed to delete {}: {}", tempFile, e.toString());
+                }
+            }
+        }
+    }
+
+    /**
+     * Get units of page preparation. Units are run concurrently on worker threads, every page
+     * returned by a unit is rendered as soon as the unit completes. Default implementation
+     * prepares all the pages in a single unit using {@link #prepareConfluencePageList()}.
+     *
+     * @return Units returning prepared pages, or {@code null} if there are no pages.
+     *     A unit may return {@code null} as well if it has no pages
+     */
+    protected List<Callable<List<ConfluencePage>>> getPagePreparationUnits() {
+        return List.of(this::prepareConfluencePageList);
+    }
+
+    /**
+     * Get maximal number of preparation and rendering units in flight.
+     *
+     * @return Limit of units in flight
+     */
+    protected int getMaxInFlight() {
+        return CpuCoreSensor.availableProcessors();
+    }
+
+    protected Path getOutputPath() {
+        return Path.of(OUTPUT_CONFLUENCE);
+    }
+
     protected List<ConfluencePage> prepareConfluencePageList() {
         List<ConfluencePage> confluencePageList = new ArrayList<>();
 
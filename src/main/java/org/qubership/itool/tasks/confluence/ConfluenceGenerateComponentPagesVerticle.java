@@ -30,6 +30,7 @@
 import org.qubership.itool.modules.gremlin2.graph.GraphTraversal;
 import org.qubership.itool.modules.template.ConfluencePage;
 import org.qubership.itool.modules.template.DiagramMicroserviceMethod;
+import org.qubership.itool.tasks.GraphViews;
 import org.qubership.itool.utils.LanguageUtils;
 import org.qubership.itool.utils.TechNormalizationHelper;
 import org.slf4j.Logger;
@@ -38,8 +39,10 @@
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import javax.annotation.Resource;
 
 import static org.qubership.itool.modules.gremlin2.P.eq;
@@ -64,167 +67,205 @@ public class ConfluenceGenerateComponentPagesVerticle extends AbstractConfluence
     private static final Logger LOG = LoggerFactory.getLogger(ConfluenceGenerateComponentPagesVerticle.class);
 
 
+    // Every component page is prepared by its own unit
+    // Only reads the graph
+    @Override
+    public String[] resourcesRead() {
+        return new String[] { RESOURCE_GRAPH };
+    }
+
+    @Override
+    public String[] resourcesWritten() {
+        return new String[0];
+    }
+
+    // Page generators run concurrently with each other, every one writes its own pages
+    @Override
+    public String[] resourcesAppended() {
+        return new String[] { RESOURCE_REPORT, RESOURCE_CONFLUENCE_PAGES, RESOURCE_FILE_PREFIX + OUTPUT_CONFLUENCE };
+    }
+
+    @Override
+    protected List<Callable<List<ConfluencePage>>> getPagePreparationUnits() {
+        List<Callable<List<ConfluencePage>>> units = new ArrayList<>();
+        TemplateMethodModelEx diagramMicroserviceMethod = new DiagramMicroserviceMethod(diagramService);
+        List<String> departments = V().hasType("domain").<String>value("department").dedup().toList();
+        for (String department : departments) {
+            for (JsonObject component : getComponents(department)) {
+                units.add(() -> {
+                    ConfluencePage page = prepareComponentPage(department, component, diagramMicroserviceMethod);
+                    if (page == null) {
+                        return null;
+                    }
+                    page.addDataModel("department", department);
+                    return List.of(page);
+                });
+            }
+        }
+        return units;
+    }
+
     @Override
     protected List<ConfluencePage> prepareConfluencePageList(String department) {
         List<ConfluencePage> confluencePageList = new ArrayList<>();
+        TemplateMethodModelEx diagramMicroserviceMethod = new DiagramMicroserviceMethod(diagramService);
+        for (JsonObject component : getComponents(department)) {
+            ConfluencePage page = prepareComponentPage(department, component, diagramMicroserviceMethod);
+            if (page != null) {
+                confluencePageList.add(page);
+            }
+        }
+        return confluencePageList;
+    }
 
-        List<JsonObject> components = V().hasType("domain").has("department", department).out()
+    private List<JsonObject> getComponents(String department) {
+        return V().hasType("domain").has("department", department).out()
                 .hasKeys("/details/domain")
                 .toList();
+    }
 
-        // TODO: collect pages from different components in multiple threads. See AbstractAggregationTaskVerticle
-        for (JsonObject component : components) {
-            String domain = (String) JsonPointer.from("/details/domain").queryJson(component);
-            String componentId = component.getString("id");
-            getLogger().info("Processing: {}", componentId);
-            if (null == domain) {
-                report.mandatoryValueMissed(component, "Domain name");
-                continue;
-            }
-            if (StringUtils.isEmpty(component.getString("name"))) {
-                report.mandatoryValueMissed(component, "Component name");
-                continue;
-            }
-            String publicDomainId = getPublicDomainId(domain);
-            String pageTitle = "Tech of " + publicDomainId + "." + component.getString("name");
-            String parentTitle = "Tech of " + publicDomainId;
-
-            ConfluencePage page = confluencePageProvider.get();
-            confluencePageList.add(page);
-            page.setElement(component);
-            page.setElementType("component");
-            page.setTitle(pageTitle);
-            page.setParentTitle(parentTitle);
-            page.setType("component");
-            page.setTemplate("componentPage.ftlh");
-            page.setDirectoryPath(department + "/" + domain);
-            page.setFileName(componentId);
-
-            // language =========================================
-            String languages = LanguageUtils.getLanguagesAsString(graph, component);
-            if (!StringUtils.isEmpty(languages)) {
-                page.addDataModel("language", languages);
-            }
+    private ConfluencePage prepareComponentPage(String department, JsonObject component,
+            TemplateMethodModelEx diagramMicroserviceMethod) {
+        String domain = (String) JsonPointer.from("/details/domain").queryJson(component);
+        String componentId = component.getString("id");
+        getLogger().info("Processing: {}", componentId);
+        if (null == domain) {
+            report.mandatoryValueMissed(component, "Domain name");
+            return null;
+        }
+        if (StringUtils.isEmpty(component.getString("name"))) {
+            report.mandatoryValueMissed(component, "Component name");
+            return null;
+        }
+        String publicDomainId = getPublicDomainId(domain);
+        String pageTitle = "Tech of " + publicDomainId + "." + component.getString("name");
+        String parentTitle = "Tech of " + publicDomainId;
+
+        ConfluencePage page = confluencePageProvider.get();
+        page.setElement(component);
+        page.setElementType("component");
+        page.setTitle(pageTitle);
+        page.setParentTitle(parentTitle);
+        page.setType("component");
+        page.setTemplate("componentPage.ftlh");
+        page.setDirectoryPath(department + "/" + domain);
+        page.setFileName(componentId);
+
+        // language =========================================
+        String languages = LanguageUtils.getLanguagesAsString(graph.traversal().cached(), component);
+        if (!StringUtils.isEmpty(languages)) {
+            page.addDataModel("language", languages);
+        }
 
-            // framework =========================================
-            String framework = (String) JsonPointer.from("/details/framework").queryJson(component);
-            if (framework != null && !framework.isEmpty()) {
-                List<String> frameworks = Arrays.asList(framework.split("\\s*,\\s*"));
-                page.addDataModel("framework", String.join(", ", TechNormalizationHelper.normalizeTechs(frameworks)));
-            }
+        // framework =========================================
+        String framework = (String) JsonPointer.from("/details/framework").queryJson(component);
+        if (framework != null && !framework.isEmpty()) {
+            List<String> frameworks = Arrays.asList(framework.split("\\s*,\\s*"));
+            page.addDataModel("framework", String.join(", ", TechNormalizationHelper.normalizeTechs(frameworks)));
+        }
 
-            // artifacts =========================================
-            List<JsonObject> artifacts =
-                    V(componentId).out("module").order().by("id").toList();
-            page.addDataModel("artifacts", artifacts);
-
-            // directDependencies ================================
-            GraphTraversal<JsonObject, JsonObject> directTraversal =
-                    V(componentId).out("module")
-                            .outE("dependency")
-                            .has("transitive", neq(true))   // Matches both null (for java) and false (for golang)
-                            .has("scope", neq("test"))
-                            .has("component", componentId)
-                            .inV().dedup();
-
-            List<JsonObject> directDependencies =
-                    directTraversal.clone().order().by("id").toList();
-            page.addDataModel("directDependencies", directDependencies);
-
-            // transitiveDependencies ============================
-            List<JsonObject> transitiveDependencies;
-            if (LanguageUtils.hasLanguage(graph, component, "GoLang")) {
-                // Golang
-                transitiveDependencies = V(componentId).out("module")
-                        .outE("dependency")
-                        .has("transitive", eq(true))
-                        .has("component", componentId)
-                        .inV().dedup()
-                        .order().by("id").toList();
-            } else {
-                // Java
-                transitiveDependencies = directTraversal.clone()
+        // artifacts =========================================
+        List<JsonObject> artifacts =
+                V(componentId).out("module").order().by("id").toList();
+        page.addDataModel("artifacts", artifacts);
+
+        // directDependencies ================================
+        GraphTraversal<JsonObject, JsonObject> directTraversal =
+                V(componentId).out("module")
                         .outE("dependency")
+                        .has("transitive", neq(true))   // Matches both null (for java) and false (for golang)
                         .has("scope", neq("test"))
                         .has("component", componentId)
-                        .inV().dedup()
-                        .repeat(
-                                outE("dependency")
-                                        .has("scope", neq("test"))
-                                        .has("component", componentId)
-                                        .inV().dedup()
-                        ).emit().dedup()
-                        .order().by("id").toList();
-            }
-            page.addDataModel("transitiveDependencies", transitiveDependencies);
-
-            // groupIdDuplicated ===============================================================================
-            List<Object> groupIdDuplicated = directTraversal.clone()
-                    .repeat(
-                            outE("dependency")
-                                    .has("scope", neq("test"))
-                                    .has("component", componentId)
-                                    .inV().dedup())
-                    .emit().dedup()
-                    .values("groupId", "version").dedup()
-                    .group().by("groupId").by("version")
-                    .unfold().by(both)
-                    .where(value().size().is(gt(1)))
-                    .order().by(key)
-                    .toList();
-            page.addDataModel("groupIdDuplicated", groupIdDuplicated);
-
-            addOpenApiSpecification(page, component);
-
-            // outDependenciesList ===============================================================================
-            List<Map<String, Object>> outDependenciesList = V(componentId)
-                    .outE().has("type", without("module", "info", "implemented")).type().as("type")
-                    .inV().where(in().hasType("domain"))
-                    .<Map<String, String>>values("name", "id", "/details/domain", "/details/owner").as("component")
-                    .select("component", "type").dedup().toList();
-            page.addDataModel("outDependenciesList", outDependenciesList);
-
-            // inDependenciesList ===============================================================================
-            List<Map<String, Object>> inDependenciesList = V(componentId)
-                    .inE().has("type", without("module", "info", "implemented")).type().as("type")
-                    .outV().where(in().hasType("domain"))
-                    .<Map<String, String>>values("name", "id", "/details/domain", "/details/owner").as("component")
-                    .select("component", "type").dedup().toList();
-            page.addDataModel("inDependenciesList", inDependenciesList);
-
-            // gateways =========================================================================================
-            List<Object> supportedGatewayList = V(componentId).out().hasType("gateway").value("id").toList();
-            if (CollectionUtils.isNotEmpty(supportedGatewayList)) {
-                page.addDataModel("gateways", supportedGatewayList);
-            }
-
-            // errorCodesList ===================================================================================
-            List<JsonObject> directErrorCodes = V(componentId)
-                    .out("errorCode").toList();
-            page.addDataModel("directErrorCodes", directErrorCodes);
-            List<JsonObject> indirectErrorCodes = V(componentId)
-                    .repeat(
-                            out("optional", "mandatory", "library")
-                                    .hasNotId(componentId)
-                                    .where(in().hasType("domain"))
-                    ).emit().dedup()
-                    .out("errorCode").toList();
-
-            List<Object> arguments = new ArrayList<>();
-            arguments.add(department);
-            arguments.add(domain);
-            arguments.add(componentId);
-
-            TemplateMethodModelEx diagramMicroserviceMethod = new DiagramMicroserviceMethod(diagramService);
-            String encodedText = buildDiagramImageURL(diagramMicroserviceMethod, arguments);
-            if (encodedText != null) {
-                page.addDataModel("encodedDiagramMicroservice", encodedText);
-            }
+                        .inV().dedup();
+
+        List<JsonObject> directDependencies =
+                directTraversal.clone().order().by("id").toList();
+        page.addDataModel("directDependencies", directDependencies);
+
+        // transitiveDependencies ============================
+        List<JsonObject> transitiveDependencies;
+        if (LanguageUtils.hasLanguage(graph.traversal().cached(), component, "GoLang")) {
+            // Golang
+            transitiveDependencies = V(componentId).out("module")
+                    .outE("dependency")
+                    .has("transitive", eq(true))
+                    .has("component", componentId)
+                    .inV().dedup()
+                    .order().by("id").toList();
+        } else {
+            // Java: shared by pages of all components, see GraphViews
+            Map<String, GraphViews.JavaDependencies> dependencies =
+                    getView(GraphViews.JAVA_DEPENDENCIES, GraphViews::javaDependencies);
+            transitiveDependencies = new ArrayList<>(dependencies.get(componentId).getTransitive());
+            transitiveDependencies.sort(Comparator.comparing(dependency -> dependency.getString("id")));
+        }
+        page.addDataModel("transitiveDependencies", transitiveDependencies);
+
+        // groupIdDuplicated ===============================================================================
+        List<Object> groupIdDuplicated = directTraversal.clone()
+                .repeat(
+                        outE("dependency")
+                                .has("scope", neq("test"))
+                                .has("component", componentId)
+                                .inV().dedup())
+                .emit().dedup()
+                .values("groupId", "version").dedup()
+                .group().by("groupId").by("version")
+                .unfold().by(both)
+                .where(value().size().is(gt(1)))
+                .order().by(key)
+                .toList();
+        page.addDataModel("groupIdDuplicated", groupIdDuplicated);
+
+        addOpenApiSpecification(page, component);
+
+        // outDependenciesList ===============================================================================
+        List<Map<String, Object>> outDependenciesList = V(componentId)
+                .outE().has("type", without("module", "info", "implemented")).type().as("type")
+                .inV().where(in().hasType("domain"))
+                .<Map<String, String>>values("name", "id", "/details/domain", "/details/owner").as("component")
+                .select("component", "type").dedup().toList();
+        page.addDataModel("outDependenciesList", outDependenciesList);
+
+        // inDependenciesList ===============================================================================
+        List<Map<String, Object>> inDependenciesList = V(componentId)
+                .inE().has("type", without("module", "info", "implemented")).type().as("type")
+                .outV().where(in().hasType("domain"))
+                .<Map<String, String>>values("name", "id", "/details/domain", "/details/owner").as("component")
+                .select("component", "type").dedup().toList();
+        page.addDataModel("inDependenciesList", inDependenciesList);
+
+        // gateways =========================================================================================
+        List<Object> supportedGatewayList = V(componentId).out().hasType("gateway").value("id").toList();
+        if (CollectionUtils.isNotEmpty(supportedGatewayList)) {
+            page.addDataModel("gateways", supportedGatewayList);
+        }
 
-            page.addDataModel("indirectErrorCodes", indirectErrorCodes);
-            page.addDataModel("totalErrorCodesCount", directErrorCodes.size() + indirectErrorCodes.size());
+        // errorCodesList ===================================================================================
+        List<JsonObject> directErrorCodes = V(componentId)
+                .out("errorCode").toList();
+        page.addDataModel("directErrorCodes", directErrorCodes);
+        List<JsonObject> indirectErrorCodes = V(componentId)
+                .repeat(
+                        out("optional", "mandatory", "library")
+                                .hasNotId(componentId)
+                                .where(in().hasType("domain"))
+                ).emit().dedup()
+                .out("errorCode").toList();
+
+        List<Object> arguments = new ArrayList<>();
+        arguments.add(department);
+        arguments.add(domain);
+        arguments.add(componentId);
+
+        String encodedText = buildDiagramImageURL(diagramMicroserviceMethod, arguments);
+        if (encodedText != null) {
+            page.addDataModel("encodedDiagramMicroservice", encodedText);
         }
-        return confluencePageList;
+
+        page.addDataModel("indirectErrorCodes", indirectErrorCodes);
+        page.addDataModel("totalErrorCodesCount", directErrorCodes.size() + indirectErrorCodes.size());
+        return page;
     }
 
     private void addOpenApiSpecification(ConfluencePage page, JsonObject component) {
@@ -21,7 +21,9 @@
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.json.pointer.JsonPointer;
+import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.qubership.itool.modules.confluence.ConfluenceClient;
+import org.qubership.itool.modules.confluence.ConfluencePageManifest;
 import org.qubership.itool.modules.graph.Graph;
 import org.qubership.itool.tasks.AbstractAggregationTaskVerticle;
 import org.qubership.itool.utils.ConfigUtils;
@@ -31,9 +33,11 @@
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -48,6 +52,8 @@
 import javax.annotation.Nullable;
 import javax.annotation.Resource;
 
+import static org.qubership.itool.utils.ConfigProperties.CONFLUENCE_DISCOVER_DESCENDANTS_POINTER;
+import static org.qubership.itool.utils.ConfigProperties.CONFLUENCE_SKIP_UNCHANGED_POINTER;
 import static org.qubership.itool.utils.ConfigProperties.CONFLUENCE_SPACE_POINTER;
 import static org.qubership.itool.utils.ConfigProperties.RELEASE_POINTER;
 import static org.qubership.itool.utils.ConfigProperties.UPLOAD_CONFLUENCE_PAGES_POINTER;
@@ -76,6 +82,8 @@ public class ConfluenceUploadPagesVerticle extends AbstractAggregationTaskVertic
     public static final String ACTION_KEY_CONFLUENCE_PAGE = "confluencePage";
     public static final String ACTION_KEY_ACTION = "action";
     public static final String ACTION_KEY_CONFLUENCE_PARENT = "confluenceParent";
+    /** Set for update actions of pages found under another parent */
+    public static final String ACTION_KEY_PARENT_CHANGED = "parentChanged";
 
     public static final JsonPointer ACTION_POINTER_CONFLUENCE_PAGE_TITLE =
             JsonPointer.create().append(ACTION_KEY_CONFLUENCE_PAGE).append(PAGE_TITLE);
@@ -107,9 +115,14 @@ public class ConfluenceUploadPagesVerticle extends AbstractAggregationTaskVertic
     public static final JsonPointer PAGE_POINTER_GENERATED_PAGE_ON_DISK_PATH =
             JsonPointer.create().append(PAGE_POINTER_GENERATED_PAGE).append(PAGE_ON_DISK_PATH);
 
+    /** Manifest of uploaded pages, see {@link ConfluencePageManifest} */
+    public static final String MANIFEST_PATH = "output/confluenceManifest.json";
+
     private static final Logger LOGGER = LoggerFactory.getLogger(ConfluenceUploadPagesVerticle.class);
     private String release = null;
     private String uploadConfluencePages = null;
+    // Not null only when skipping of unchanged pages is enabled
+    private ConfluencePageManifest manifest;
 
     @Resource
     @Nullable
@@ -136,6 +149,10 @@ protected void taskStart(Promise<?> taskPromise) {
             return;
         }
 
+        if (isSkipUnchangedEnabled()) {
+            manifest = ConfluencePageManifest.load(getManifestPath());
+        }
+
         JsonArray generatedConfluencePages = this.graph.getVertex(Graph.V_ROOT).getJsonArray("confluencePages");
         JsonObject confluenceStructure = null;
         try {
@@ -179,7 +196,8 @@ protected void taskStart(Promise<?> taskPromise) {
                                         .forEach(action ->
                                                 actionFutures.add(performAction(spaceKey, trashPage, action))
                                         );
-                                completeCompositeTask(actionFutures, taskPromise);
+                                joinFuturesAndHandleResult(actionFutures)
+                                        .onComplete(ar -> saveManifest().onComplete(r -> taskCompleted(taskPromise)));
                             });
                 });
     }
@@ -276,6 +294,7 @@ private JsonArray mergeActions(JsonArray actionsNeeded) {
                     // the page instead of updating it
                     if (null != ACTION_POINTER_GENERATED_PAGE_TYPE.queryJson(createAction)) {
                         mergedAction.put(ACTION_KEY_ACTION, ACTION_UPDATE);
+                        mergedAction.put(ACTION_KEY_PARENT_CHANGED, true);
                     } else {
                         mergedAction.put(ACTION_KEY_ACTION, ACTION_MOVE);
                     }
@@ -335,12 +354,14 @@ private Future<JsonObject> performAction(String spaceKey, JsonObject trashPage,
         switch (action.getString(ACTION_KEY_ACTION)) {
             case ACTION_CREATE:
                 if (generatedPage.containsKey(PAGE_ON_DISK_PATH)) {
-                    // Upload new page (move page to new parent if parentId is present)
+                    // Upload new page (move page to new parent if parentId is present).
+                    // The page is missing in Confluence, whatever the manifest says
+                    forgetPage(spaceKey, buildPageTitle(generatedPage.getString(PAGE_TITLE)));
                     return confluenceClient.updateConfluencePage(spaceKey,
                             generatedPage.getString(PAGE_TITLE),
                             generatedPage.getString(PAGE_PARENT_TITLE),
                             generatedPage.getString(PAGE_ON_DISK_PATH),
-                            release);
+                            release, manifest);
                 } else {
                     // Only create the page
                     return confluenceClient.createOrMoveConfluencePage(spaceKey,
@@ -349,11 +370,20 @@ private Future<JsonObject> performAction(String spaceKey, JsonObject trashPage,
                             release);
                 }
             case ACTION_UPDATE:
-                return confluenceClient.updateConfluencePage(spaceKey,
-                        generatedPage.getString(PAGE_TITLE),
-                        generatedPage.getString(PAGE_PARENT_TITLE),
-                        generatedPage.getString(PAGE_ON_DISK_PATH),
-                        release);
+                return getUnchangedPage(spaceKey, action).compose(unchangedPage -> {
+                    if (unchangedPage != null) {
+                        getLogger().info("Page '{}' is not changed since the last upload, skipping it",
+                                generatedPage.getString(PAGE_TITLE));
+                        return Future.succeededFuture(unchangedPage);
+                    }
+                    // The page may have been edited in Confluence, whatever the manifest says
+                    forgetPage(spaceKey, buildPageTitle(generatedPage.getString(PAGE_TITLE)));
+                    return confluenceClient.updateConfluencePage(spaceKey,
+                            generatedPage.getString(PAGE_TITLE),
+                            generatedPage.getString(PAGE_PARENT_TITLE),
+                            generatedPage.getString(PAGE_ON_DISK_PATH),
+                            release, manifest);
+                });
             case ACTION_DELETE:
                 return confluenceClient.moveConfluencePage(action.getJsonObject(ACTION_KEY_CONFLUENCE_PAGE),
                         trashPage.getString(PAGE_ID),
@@ -366,6 +396,52 @@ private Future<JsonObject> performAction(String spaceKey, JsonObject trashPage,
         return Future.failedFuture("Unknown action");
     }
 
+    /*
+     * Pages of the existing tree carry their current version, so pages that stay under the same parent
+     * can be checked against the manifest without any requests to Confluence.
+     * Returns the Confluence page if it is unchanged, null otherwise.
+     */
+    private Future<JsonObject> getUnchangedPage(String spaceKey, JsonObject action) {
+        JsonObject confluencePage = action.getJsonObject(ACTION_KEY_CONFLUENCE_PAGE);
+        JsonObject version = confluencePage != null ? confluencePage.getJsonObject("version") : null;
+        if (manifest == null || version == null || action.getBoolean(ACTION_KEY_PARENT_CHANGED, false)) {
+            return Future.succeededFuture();
+        }
+        String onDiskPath = action.getJsonObject(ACTION_KEY_GENERATED_PAGE).getString(PAGE_ON_DISK_PATH);
+        return vertx.fileSystem().readFile(onDiskPath)
+                .map(content -> manifest.isUnchanged(spaceKey, confluencePage.getString(PAGE_TITLE),
+                        ConfluencePageManifest.hash(content.getBytes()), version.getInteger("number"))
+                        ? confluencePage : null)
+                // The client will report the problem with the file
+                .otherwise((JsonObject) null);
+    }
+
+    private void forgetPage(String spaceKey, String title) {
+        if (manifest != null) {
+            manifest.remove(spaceKey, title);
+        }
+    }
+
+    private Future<Void> saveManifest() {
+        if (manifest == null) {
+            return Future.succeededFuture();
+        }
+        return vertx.executeBlocking(() -> {
+            manifest.save();
+            return (Void) null;
+        }).onFailure(e -> report.internalError("Failed to save Confluence page manifest: "
+                + ExceptionUtils.getStackTrace(e)));
+    }
+
+    protected boolean isSkipUnchangedEnabled() {
+        String value = ConfigUtils.getConfigValue(CONFLUENCE_SKIP_UNCHANGED_POINTER, config());
+        return value == null || Boolean.parseBoolean(value);
+    }
+
+    protected Path getManifestPath() {
+        return Path.of(MANIFEST_PATH);
+    }
+
     protected boolean uploadRequired(String uploadConfluencePages) {
         if (uploadConfluencePages == null) {
             getLogger().warn("Parameter {} is not set, pages upload skipped", UPLOAD_CONFLUENCE_PAGES_POINTER);
@@ -670,8 +746,11 @@ private Future<JsonObject> buildExistingConfluenceTree(String spaceKey, JsonObje
                 .compose(page -> {
                     List<Future<?>> childFutures = new ArrayList<>();
                     JsonArray children = page.getJsonArray(STRUCT_CHILDREN);
+                    boolean discoverDescendants = isDiscoverDescendantsEnabled();
                     children.stream().forEach(childPage ->
-                            childFutures.add(addChildren((JsonObject) childPage, spaceKey))
+                            childFutures.add(discoverDescendants
+                                    ? addDescendants((JsonObject) childPage, spaceKey)
+                                    : addChildren((JsonObject) childPage, spaceKey))
                     );
                     return Future.join(childFutures).compose(res -> Future.succeededFuture(page));
                 });
@@ -698,6 +777,42 @@ private Future<JsonObject> addChildren(JsonObject page, String spaceKey) {
                 });
     }
 
+    /*
+     * Same as addChildren(), but all the levels are fetched at once, and the tree is restored
+     * from ancestors of the pages.
+     */
+    private Future<JsonObject> addDescendants(JsonObject page, String spaceKey) {
+        getLogger().debug("Adding descendant pages for page {}", page.getString(PAGE_TITLE));
+        return confluenceClient.getDescendantPages(spaceKey, page.getString(PAGE_ID))
+                .map(descendants -> {
+                    Map<String, JsonObject> pagesById = new HashMap<>();
+                    page.put(STRUCT_CHILDREN, new JsonArray());
+                    pagesById.put(page.getString(PAGE_ID), page);
+                    for (Object descendant : descendants) {
+                        JsonObject descendantPage = (JsonObject) descendant;
+                        descendantPage.put(STRUCT_CHILDREN, new JsonArray());
+                        pagesById.put(descendantPage.getString(PAGE_ID), descendantPage);
+                    }
+                    for (Object descendant : descendants) {
+                        JsonObject descendantPage = (JsonObject) descendant;
+                        JsonArray ancestors = (JsonArray) descendantPage.remove("ancestors");
+                        JsonObject parent = ancestors == null || ancestors.isEmpty() ? null
+                                : pagesById.get(ancestors.getJsonObject(ancestors.size() - 1).getString(PAGE_ID));
+                        if (parent == null) {
+                            getLogger().warn("Parent of page '{}' was not found among descendants of '{}'",
+                                    descendantPage.getString(PAGE_TITLE), page.getString(PAGE_TITLE));
+                            continue;
+                        }
+                        parent.getJsonArray(STRUCT_CHILDREN).add(descendantPage);
+                    }
+                    return page;
+                });
+    }
+
+    protected boolean isDiscoverDescendantsEnabled() {
+        return Boolean.parseBoolean(ConfigUtils.getConfigValue(CONFLUENCE_DISCOVER_DESCENDANTS_POINTER, config()));
+    }
+
     @Override
     protected Logger getLogger() {
         return LOGGER;
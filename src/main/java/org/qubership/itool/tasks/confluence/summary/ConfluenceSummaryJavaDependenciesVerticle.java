@@ -21,8 +21,8 @@
 import jakarta.inject.Provider;
 import org.apache.commons.lang3.tuple.Pair;
 import org.qubership.itool.modules.gremlin2.P;
-import org.qubership.itool.modules.gremlin2.graph.GraphTraversal;
 import org.qubership.itool.modules.template.ConfluencePage;
+import org.qubership.itool.tasks.GraphViews;
 import org.qubership.itool.tasks.confluence.AbstractConfluenceGenerationPageVerticle;
 import org.qubership.itool.utils.JsonUtils;
 import org.slf4j.Logger;
@@ -35,9 +35,6 @@
 import java.util.stream.Collectors;
 import javax.annotation.Resource;
 
-import static org.qubership.itool.modules.gremlin2.P.neq;
-import static org.qubership.itool.modules.gremlin2.graph.__.outE;
-
 public class ConfluenceSummaryJavaDependenciesVerticle
         extends AbstractConfluenceGenerationPageVerticle {
     private static final Logger LOG = LoggerFactory.getLogger(ConfluenceSummaryJavaDependenciesVerticle.class);
@@ -45,6 +42,23 @@
     @Resource
     Provider<ConfluencePage> confluencePageProvider;
 
+    // Only reads the graph
+    @Override
+    public String[] resourcesRead() {
+        return new String[] { RESOURCE_GRAPH };
+    }
+
+    @Override
+    public String[] resourcesWritten() {
+        return new String[0];
+    }
+
+    // Page generators run concurrently with each other, every one writes its own pages
+    @Override
+    public String[] resourcesAppended() {
+        return new String[] { RESOURCE_REPORT, RESOURCE_CONFLUENCE_PAGES, RESOURCE_FILE_PREFIX + OUTPUT_CONFLUENCE };
+    }
+
     @Override
     protected List<ConfluencePage> prepareConfluencePageList(String department) {
         return null; // do nothing
@@ -56,33 +70,13 @@ protected List<ConfluencePage> prepareConfluencePageList() {
         List<Pair<JsonObject, List<JsonObject>>> componentDirectDep     = new ArrayList<>();
         List<Pair<JsonObject, List<JsonObject>>> componentTransitiveDep = new ArrayList<>();
 
-        List<JsonObject> components = V().hasType("domain").out().toList();
+        Map<String, GraphViews.JavaDependencies> dependencies =
+                getView(GraphViews.JAVA_DEPENDENCIES, GraphViews::javaDependencies);
+        List<JsonObject> components = graph.traversal().cached().V().hasType("domain").out().toList();
         for (JsonObject component : components) {
-            // directDependencies ================================
-            String componentId = component.getString("id");
-            GraphTraversal<JsonObject, JsonObject> directTraversal =
-                V(componentId).as("C").out("module")
-                .outE("dependency")
-                    .has("scope", neq("test"))
-                    .has("component", componentId)
-                .inV().dedup();
-            componentDirectDep.add(Pair.of(component, directTraversal.clone().toList()));
-
-            // transitiveDependencies ============================
-            List<JsonObject> transitiveDependencies =
-                directTraversal.clone()
-                .outE("dependency")
-                    .has("scope", neq("test"))
-                    .has("component", componentId)
-                .inV().dedup()
-                .repeat(
-                    outE("dependency")
-                        .has("scope", neq("test"))
-                        .has("component", componentId)
-                    .inV().dedup()
-                ).emit().dedup()
-                .toList();
-            componentTransitiveDep.add(Pair.of(component, transitiveDependencies));
+            GraphViews.JavaDependencies componentDependencies = dependencies.get(component.getString("id"));
+            componentDirectDep.add(Pair.of(component, componentDependencies.getDirect()));
+            componentTransitiveDep.add(Pair.of(component, componentDependencies.getTransitive()));
         }
 
         // key: componentId, value: dependency data
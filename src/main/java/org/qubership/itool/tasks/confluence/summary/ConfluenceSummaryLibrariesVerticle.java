@@ -38,6 +38,23 @@ public class ConfluenceSummaryLibrariesVerticle extends AbstractConfluenceGenera
     @Resource
     protected Provider<ConfluencePage> confluencePageProvider;
 
+    // Only reads the graph
+    @Override
+    public String[] resourcesRead() {
+        return new String[] { RESOURCE_GRAPH };
+    }
+
+    @Override
+    public String[] resourcesWritten() {
+        return new String[0];
+    }
+
+    // Page generators run concurrently with each other, every one writes its own pages
+    @Override
+    public String[] resourcesAppended() {
+        return new String[] { RESOURCE_REPORT, RESOURCE_CONFLUENCE_PAGES, RESOURCE_FILE_PREFIX + OUTPUT_CONFLUENCE };
+    }
+
     @Override
     protected List<ConfluencePage> prepareConfluencePageList(String department) {
         return null; // do nothing
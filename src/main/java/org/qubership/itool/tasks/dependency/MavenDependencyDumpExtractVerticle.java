@@ -22,6 +22,9 @@
 import io.vertx.core.impl.cpu.CpuCoreSensor;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.json.pointer.JsonPointer;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.maven.shared.invoker.DefaultInvocationRequest;
 import org.apache.maven.shared.invoker.DefaultInvoker;
 import org.apache.maven.shared.invoker.InvocationRequest;
@@ -29,6 +32,8 @@
 import org.apache.maven.shared.invoker.Invoker;
 import org.qubership.itool.modules.graph.Graph;
 import org.qubership.itool.tasks.AbstractAggregationTaskVerticle;
+import org.qubership.itool.utils.BoundedWorkScheduler;
+import org.qubership.itool.utils.ConfigUtils;
 import org.qubership.itool.utils.JsonUtils;
 import org.qubership.itool.utils.XmlParser;
 import org.slf4j.Logger;
@@ -40,13 +45,24 @@
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
+import java.io.IOException;
 import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.Callable;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import javax.xml.xpath.XPath;
@@ -54,15 +70,25 @@
 import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 
+import static org.qubership.itool.utils.ConfigProperties.MAVEN_DEPENDENCY_CACHE_POINTER;
+import static org.qubership.itool.utils.ConfigProperties.MAVEN_INVOCATION_MEMORY_POINTER;
+import static org.qubership.itool.utils.ConfigProperties.MAVEN_MEMORY_BUDGET_POINTER;
+
 /**
  * Run maven and collect dependency tree to "output/dependencies/${component.id}_dependency.txt"
+ *
+ * <p>Successful outputs are cached in "output/dependencies/cache", keyed by hash of all pom files
+ * of the component and maven goals. Maven is not invoked for components whose poms did not change.
+ * Number of parallel maven runs is limited by memory budget.
  */
 public class MavenDependencyDumpExtractVerticle extends AbstractAggregationTaskVerticle {
     private static final Logger LOG = LoggerFactory.getLogger(MavenDependencyDumpExtractVerticle.class);
 
     public static final String DEFAULT_PATH = "output/dependencies";
-    private final XPathFactory xPathfactory = XPathFactory.newInstance();
-    private final XPath xpath = xPathfactory.newXPath();
+    public static final String CACHE_DIR = "cache";
+    public static final long DEFAULT_INVOCATION_MEMORY_MB = 1024;
+    private static final Set<String> NOT_HASHED_DIRS = Set.of("target", "node_modules", ".git");
+
     // Have to be global to avoid closing by GC
     private WorkerExecutor executor;
 
@@ -79,15 +105,25 @@ protected void taskStart(Promise<?> taskPromise) {
                 coresCount,
                 60,
                 TimeUnit.MINUTES);
+
+        long invocationMemory = getInvocationMemoryMb();
+        long memoryBudget = getMemoryBudgetMb();
+        LOG.info("Maven runs are limited by memory budget of {} MB, {} MB per run",
+                memoryBudget, invocationMemory);
+        // Memory budget limits maven runs, while cache lookups of no weight are limited by the pool size
+        BoundedWorkScheduler scheduler = new BoundedWorkScheduler(executor, Math.max(memoryBudget, invocationMemory),
+                2 * coresCount, Integer.MAX_VALUE, e -> report.internalError(ExceptionUtils.getStackTrace(e)));
+
         BiFunction<Graph, JsonObject, List<JsonObject>> componentExtractor =
                 AbstractAggregationTaskVerticle::getMavenDependencyComponents;
-        List<Future<?>> futures = processGraph(this::aggregateDomainData,
-                c -> processDependencyTree(c, executor), componentExtractor);
+        List<Future<?>> futures = new ArrayList<>(processGraph(this::aggregateDomainData,
+                c -> scheduleDependencyTree(c, scheduler, invocationMemory), componentExtractor));
+        futures.add(scheduler.start());
         completeCompositeTask(futures, taskPromise);
     }
 
-    @SuppressWarnings("rawtypes")
-    private List<Future<?>> processDependencyTree(JsonObject component, WorkerExecutor executor) {
+    private List<Future<?>> scheduleDependencyTree(JsonObject component, BoundedWorkScheduler scheduler,
+            long invocationMemory) {
         File depTreeFile = Path.of(component.getString("directoryPath")).resolve("target")
                 .resolve("dependency_tree.json").toFile();
         if (depTreeFile.exists()) {
@@ -95,28 +131,32 @@ private List<Future<?>> processDependencyTree(JsonObject component, WorkerExecut
                     component.getString(Graph.F_ID));
             return Collections.emptyList();
         }
-        String pomPath = component.getString("directoryPath");
-        LOG.debug(
-                "{}: Scheduling blocking execute of maven dependencies collection, root pom path {}",
-                component.getString("name"), pomPath);
-        Future blockingFuture =
-                executor.executeBlocking(() -> processDependencies(component), false);
-        return Collections.singletonList(blockingFuture);
-    }
-
-    private Callable<Void> processDependencies(JsonObject component) {
-        long executionStart = System.nanoTime();
-        createMavenDump(component);
-        LOG.debug("{}: Dependency retrieval finished in {}", component.getString(Graph.F_ID),
-                Duration.ofNanos(System.nanoTime() - executionStart).toString());
-        return null;
+        // Cache lookups need no memory budget and go ahead of maven runs
+        scheduler.submit(1, 0, () -> {
+            DumpRequest request = prepareDumpRequest(component);
+            if (request == null || restoreFromCache(request)) {
+                return null;
+            }
+            LOG.debug("{}: Scheduling blocking execute of maven dependencies collection, root pom path {}",
+                    component.getString("name"), request.pomFile);
+            scheduler.submit(0, invocationMemory, () -> {
+                long executionStart = System.nanoTime();
+                createMavenDump(request, invocationMemory);
+                LOG.debug("{}: Dependency retrieval finished in {}", component.getString(Graph.F_ID),
+                        Duration.ofNanos(System.nanoTime() - executionStart).toString());
+                return null;
+            });
+            return null;
+        });
+        return Collections.emptyList();
     }
 
-    private void createMavenDump(JsonObject component) {
-        File pomFile = Path.of(component.getString("directoryPath")).resolve("pom.xml").toFile();
+    private DumpRequest prepareDumpRequest(JsonObject component) throws IOException {
+        Path componentDir = Path.of(component.getString("directoryPath"));
+        File pomFile = componentDir.resolve("pom.xml").toFile();
         if (!pomFile.exists()) {
             LOG.info("Pom file {} was not found", pomFile.getPath());
-            return;
+            return null;
         }
         try {
             List<String> moduleLocations = new ArrayList<>();
@@ -125,8 +165,7 @@ private void createMavenDump(JsonObject component) {
 
             List<String> modules = extractProperties(pomFile, moduleLocations);
             for (String module : modules) {
-                File modulePomFile = Path.of(component.getString("directoryPath")).resolve(module)
-                        .resolve("pom.xml").toFile();
+                File modulePomFile = componentDir.resolve(module).resolve("pom.xml").toFile();
                 List<String> artifactIdLocation = new ArrayList<>();
                 artifactIdLocation.add("/project/build/plugins/plugin/artifactId");
                 List<String> artifactIds = extractProperties(modulePomFile, artifactIdLocation);
@@ -134,23 +173,13 @@ private void createMavenDump(JsonObject component) {
                     LOG.info(
                             "skipping entire component {} because of its module {} uses frontend-maven-plugin",
                             component.getString(Graph.F_ID), module);
-                    return;
+                    return null;
                 }
             }
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
-        Path dependencyDumpPath = Path.of(DEFAULT_PATH);
-        File dir = dependencyDumpPath.toFile();
-        if (!dir.exists()) {
-            dir.mkdirs();
-        }
 
-        String compId = component.getString(Graph.F_ID);
-        File dependencyDumpFile = dependencyDumpPath.resolve(compId + "_dependency.txt").toFile();
-        InvocationRequest request = new DefaultInvocationRequest();
-        request.setPomFile(pomFile);
-        request.setBatchMode(true);
         List<String> goals = new ArrayList<>();
         String mavenGoals = (String) JsonPointer.from("/maven/dependency").queryJson(component);
         if (mavenGoals != null) {
@@ -160,8 +189,97 @@ private void createMavenDump(JsonObject component) {
         } else {
             goals.add("dependency:tree");
         }
-        request.setGoals(goals);
-        Invoker invoker = new DefaultInvoker();
+
+        String compId = component.getString(Graph.F_ID);
+        Path dependencyDumpPath = getDependencyDumpPath();
+        DumpRequest request = new DumpRequest();
+        request.component = component;
+        request.pomFile = pomFile;
+        request.goals = goals;
+        request.dumpFile = dependencyDumpPath.resolve(compId + "_dependency.txt");
+        if (isDependencyCacheEnabled()) {
+            request.cacheFile = dependencyDumpPath.resolve(CACHE_DIR).resolve(hashPoms(componentDir, goals) + ".txt");
+        }
+        return request;
+    }
+
+    /* Hash of relative paths and contents of all pom files in the component, and goals */
+    static String hashPoms(Path componentDir, List<String> goals) throws IOException {
+        TreeMap<String, Path> pomFiles = new TreeMap<>();
+        Files.walkFileTree(componentDir, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                return !dir.equals(componentDir) && NOT_HASHED_DIRS.contains(dir.getFileName().toString())
+                        ? FileVisitResult.SKIP_SUBTREE
+                        : FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (attrs.isRegularFile() && "pom.xml".equals(file.getFileName().toString())) {
+                    pomFiles.put(componentDir.relativize(file).toString().replace('\\', '/'), file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+
+        MessageDigest digest = DigestUtils.getSha256Digest();
+        for (String goal : goals) {
+            digest.update(goal.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        for (var entry : pomFiles.entrySet()) {
+            digest.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(Files.readAllBytes(entry.getValue()));
+            digest.update((byte) 0);
+        }
+        return Hex.encodeHexString(digest.digest());
+    }
+
+    private boolean restoreFromCache(DumpRequest request) throws IOException {
+        if (request.cacheFile == null || !Files.isRegularFile(request.cacheFile)) {
+            return false;
+        }
+        Files.createDirectories(request.dumpFile.getParent());
+        Files.copy(request.cacheFile, request.dumpFile, StandardCopyOption.REPLACE_EXISTING);
+        LOG.info("{}: Pom files did not change, dependency tree restored from {}",
+                request.component.getString(Graph.F_ID), request.cacheFile);
+        return true;
+    }
+
+    private void saveToCache(DumpRequest request) {
+        if (request.cacheFile == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(request.cacheFile.getParent());
+            // Copy under temporary name, so that interrupted copy is never taken for a valid entry
+            Path tempFile = request.cacheFile.resolveSibling(request.cacheFile.getFileName() + ".tmp");
+            Files.copy(request.dumpFile, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(tempFile, request.cacheFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            LOG.warn("{}: Failed to cache dependency tree: {}",
+                    request.component.getString(Graph.F_ID), e.getMessage());
+        }
+    }
+
+    private void createMavenDump(DumpRequest dumpRequest, long invocationMemory) {
+        JsonObject component = dumpRequest.component;
+        File dir = getDependencyDumpPath().toFile();
+        if (!dir.exists()) {
+            dir.mkdirs();
+        }
+
+        String compId = component.getString(Graph.F_ID);
+        File dependencyDumpFile = dumpRequest.dumpFile.toFile();
+        InvocationRequest request = new DefaultInvocationRequest();
+        request.setPomFile(dumpRequest.pomFile);
+        request.setBatchMode(true);
+        request.setGoals(dumpRequest.goals);
+        // Heap of maven process must fit into memory reserved for the invocation
+        request.setMavenOpts(buildMavenOpts(System.getenv("MAVEN_OPTS"), invocationMemory));
+        Invoker invoker = createInvoker();
         InvocationResult invocationResult;
         try (PrintWriter dependencyTreeWriter = new PrintWriter(
                 new BufferedWriter(new FileWriter(dependencyDumpFile, JsonUtils.UTF_8)))) {
@@ -178,14 +296,53 @@ private void createMavenDump(JsonObject component) {
                             + dependencyDumpFile.getAbsolutePath());
         } else {
             LOG.debug("{}: Extraction finished. Result is stored in {} ", compId, dependencyDumpFile.getAbsolutePath());
+            saveToCache(dumpRequest);
         }
 
     }
 
+    /* The last -Xmx option wins, so the inherited options may not exceed the reserved memory */
+    static String buildMavenOpts(String inheritedOpts, long invocationMemory) {
+        String xmx = "-Xmx" + invocationMemory + "m";
+        return inheritedOpts == null || inheritedOpts.isBlank() ? xmx : inheritedOpts.trim() + " " + xmx;
+    }
+
     private void writeToFile(String line, PrintWriter dump) {
         dump.println(line);
     }
 
+    protected Invoker createInvoker() {
+        return new DefaultInvoker();
+    }
+
+    protected Path getDependencyDumpPath() {
+        return Path.of(DEFAULT_PATH);
+    }
+
+    protected boolean isDependencyCacheEnabled() {
+        String value = ConfigUtils.getConfigValue(MAVEN_DEPENDENCY_CACHE_POINTER, config());
+        return value == null || Boolean.parseBoolean(value);
+    }
+
+    protected long getInvocationMemoryMb() {
+        String value = ConfigUtils.getConfigValue(MAVEN_INVOCATION_MEMORY_POINTER, config());
+        return value != null ? Long.parseLong(value.trim()) : DEFAULT_INVOCATION_MEMORY_MB;
+    }
+
+    protected long getMemoryBudgetMb() {
+        String value = ConfigUtils.getConfigValue(MAVEN_MEMORY_BUDGET_POINTER, config());
+        if (value != null) {
+            return Long.parseLong(value.trim());
+        }
+        // Half of physical memory is left for the tool itself and the rest of the system
+        OperatingSystemMXBean osBean = ManagementFactory.getOperatingSystemMXBean();
+        if (osBean instanceof com.sun.management.OperatingSystemMXBean) {
+            long totalMemory = ((com.sun.management.OperatingSystemMXBean) osBean).getTotalPhysicalMemorySize();
+            return Math.max(totalMemory / 2 / (1024 * 1024), 1);
+        }
+        return CpuCoreSensor.availableProcessors() * getInvocationMemoryMb();
+    }
+
     private List<Future<?>> aggregateDomainData(JsonObject jsonObject) {
         Future<?> future = Future.succeededFuture();
         return Collections.singletonList(future);
@@ -193,6 +350,8 @@ private List<Future<?>> aggregateDomainData(JsonObject jsonObject) {
 
     private List<String> extractProperties(File file, List<String> locations) throws Exception {
         Document document = XmlParser.parseXmlFile(String.valueOf(file));
+        // XPath is not thread-safe, and poms of several components are read concurrently
+        XPath xpath = XPathFactory.newInstance().newXPath();
         List<String> properties = new ArrayList<>();
         for (String location : locations) {
             NodeList props = null;
@@ -213,4 +372,13 @@ private List<String> extractProperties(File file, List<String> locations) throws
     protected Logger getLogger() {
         return LOG;
     }
+
+    private static class DumpRequest {
+        JsonObject component;
+        File pomFile;
+        List<String> goals;
+        Path dumpFile;
+        // Null if cache is disabled
+        Path cacheFile;
+    }
 }
@@ -33,15 +33,15 @@
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.LinkedList;
+import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static org.qubership.itool.modules.graph.Graph.F_DIRECTORY;
 import static org.qubership.itool.modules.graph.Graph.F_ID;
@@ -61,14 +61,6 @@ public class MavenDependencyDumpParseVerticle extends AbstractAggregationTaskVer
     public static final String RUNTIME = "runtime";
     public static final String TEST = "test";
 
-    static final String NEW_BRANCH = "\\+\\-\\s|\\\\\\-\\s";
-    static final String EXISTING_BRANCH = "\\|\\s{2}";
-    static final String SPACER = "\\s{3}";
-    static final String TREE_LEVEL_REGEX = "((?:" + NEW_BRANCH + "|" + EXISTING_BRANCH + "|" + SPACER + ")+)";
-    static final String ARTIFACT_TREE_MODULE_REGEX = "\\[INFO\\]\\s((\\S+:){3,4}\\S+).*";
-    static final String ARTIFACT_TREE_DEPENDENCY_REGEX = "\\[INFO\\]\\s" + TREE_LEVEL_REGEX + "((\\S+:){4,5}\\S+).*";
-    static final String ARTIFACT_EXTRACTION_ERROR_REGEX = "\\[ERROR\\]\\s.*";
-    static final String ARTIFACT_TREE_NOT_RECOGNISED_REGEX = "\\[INFO\\]\\s" + TREE_LEVEL_REGEX + ".*";
     public static final String DEFAULT_PATH = "output/dependencies";
 
     @Override
@@ -123,21 +115,77 @@ private Callable<Void> processDependencies(JsonObject component) {
         return null;
     }
 
-    private void processDependencies(JsonObject component, List<JsonObject> rawDependencies) {
-        JsonObject source;
-        Integer lastLevel = 0;
-        JsonObject lastDestination = component;
-        LinkedList<JsonObject> stack = new LinkedList<>();
-        Graph graph = this.graph;
+    // ------------------------------------------------------
+    // Parse "output/dependencies/${component.id}_dependency.txt" from
+    // MavenDependencyDumpExtractVerticle
+
+    private void parseDepFromMaven(JsonObject component) {
+        File pomFile = Path.of(component.getString(F_DIRECTORY)).resolve("pom.xml").toFile();
+        if (!pomFile.exists()) {
+            return;
+        }
+
         String compId = component.getString(F_ID);
-        for (JsonObject destination : rawDependencies) {
-            generateId(destination);
-            Integer targetLevel = destination.getInteger("level");
-            String scope = destination.getString("scope");
+        Path dependencyDumpFile = getDependencyDumpPath().resolve(compId + "_dependency.txt");
+        if (! dependencyDumpFile.toFile().exists()) {
+            return;
+        }
 
-            stripExcessiveFields(destination);
+        byte[] dump;
+        try {
+            dump = Files.readAllBytes(dependencyDumpFile);
+        } catch (IOException e) {
+            report.exceptionThrown(component, e);
+            return;
+        }
+
+        DependencyEdgeBuilder edgeBuilder = new DependencyEdgeBuilder(component);
+        MavenDependencyTreeParser parser = new MavenDependencyTreeParser();
+        parser.parse(dump, edgeBuilder);
+        edgeBuilder.flush();
+
+        if (!edgeBuilder.errors.isEmpty()) {
+            LOG.error("{}: Dump extraction failed", compId);
+            report.addMessage("ERROR", component, StringUtils.join(edgeBuilder.errors, "\n"));
+        }
+        LOG.debug("{}: Dump extraction finished. Received {} entries, {} distinct artifacts",
+                compId, edgeBuilder.entries, parser.size());
+    }
+
+    protected Path getDependencyDumpPath() {
+        return Path.of(DEFAULT_PATH);
+    }
+
+    /* Builds edges of the dependency tree while it is parsed. Edges are added to the graph in batches,
+     * so that components parsed in parallel do not compete for the graph on every edge. */
+    private class DependencyEdgeBuilder implements MavenDependencyTreeParser.Handler {
+        private static final int BATCH_SIZE = 1024;
+
+        private final JsonObject component;
+        private final String compId;
+        private final Deque<JsonObject> stack = new ArrayDeque<>();
+        private final List<String> errors = new ArrayList<>();
+        private int lastLevel = 0;
+        private JsonObject lastDestination;
+        private int entries;
+
+        private final JsonObject[] batchSources = new JsonObject[BATCH_SIZE];
+        private final JsonObject[] batchTargets = new JsonObject[BATCH_SIZE];
+        private final JsonObject[] batchEdges = new JsonObject[BATCH_SIZE];
+        private int batchSize;
+
+        DependencyEdgeBuilder(JsonObject component) {
+            this.component = component;
+            this.compId = component.getString(F_ID);
+            this.lastDestination = component;
+        }
+
+        @Override
+        public void entry(int targetLevel, MavenDependencyTreeParser.Coordinate artifact, String scope) {
+            entries++;
+            JsonObject destination = artifact.getVertex();
             JsonObject dependencyEdge;
-            if (targetLevel.equals(1)) {
+            if (targetLevel == 1) {
                 dependencyEdge = new JsonObject()
                         .put("type", "module")
                         .put("component", compId);
@@ -148,6 +196,7 @@ private void processDependencies(JsonObject component, List<JsonObject> rawDepen
                         .put("component", compId);
             }
 
+            JsonObject source;
             if (targetLevel > lastLevel) { // going up
                 source = lastDestination;
                 if (targetLevel - lastLevel > 1) {
@@ -161,114 +210,43 @@ private void processDependencies(JsonObject component, List<JsonObject> rawDepen
                 source = stack.peek();
             } else { //going down
                 for (int i = 0; i < lastLevel - targetLevel; i++) {
-                    stack.remove();
+                    stack.pop();
                 }
                 source = stack.peek();
             }
 
             lastDestination = destination;
             lastLevel = targetLevel;
-            graph.addEdge(source, destination, dependencyEdge);
-        }
-    }
-
-    // ------------------------------------------------------
-    // Parse "output/dependencies/${component.id}_dependency.txt" from
-    // MavenDependencyDumpExtractVerticle
-
-    private void parseDepFromMaven(JsonObject component) {
-        List<JsonObject> rawDependencies = getDependenciesFromDump(component);
-        if (!rawDependencies.isEmpty()) {
-            processDependencies(component, rawDependencies);
-        }
-    }
-
-    private void stripExcessiveFields(JsonObject destination) {
-        destination.remove("scope");
-        destination.remove("level");
-    }
-
-    private void generateId(JsonObject destination) {
-        destination.put(F_ID, new StringBuffer()
-                .append(destination.getString("groupId")).append(":")
-                .append(destination.getString("artifactId")).append(":")
-                .append(destination.getString("package")).append(":")
-                .append(destination.getString("version"))
-                .toString()
-        );
-    }
-
-    private List<JsonObject> getDependenciesFromDump(JsonObject component) {
-        File pomFile = Path.of(component.getString(F_DIRECTORY)).resolve("pom.xml").toFile();
-        if (!pomFile.exists()) {
-            return Collections.emptyList();
-        }
-
-        String compId = component.getString(F_ID);
-        Path dependencyDumpFile = Path.of(DEFAULT_PATH, compId + "_dependency.txt");
-        if (! dependencyDumpFile.toFile().exists()) {
-            return Collections.emptyList();
+            batchSources[batchSize] = source;
+            batchTargets[batchSize] = destination;
+            batchEdges[batchSize] = dependencyEdge;
+            if (++batchSize == BATCH_SIZE) {
+                flush();
+            }
         }
 
-        List<JsonObject> result = new ArrayList<>();
-        try (Stream<String> stream = Files.lines(dependencyDumpFile)) {
-            stream.forEach(str -> processArtifact(str, result, component));
-        } catch (IOException e) {
-            report.exceptionThrown(component, e);
-            return Collections.emptyList();
+        @Override
+        public void error(String line) {
+            errors.add(line.replaceAll("\\p{Cntrl}", ""));
         }
 
-        List<String> errors = result.stream()
-                .filter(o -> o.containsKey("error"))
-                .map(o -> o.getString("error").replaceAll("\\p{Cntrl}", ""))
-                .collect(Collectors.toList());
-        if (errors.size() > 0) {
-            LOG.error("{}: Dump extraction failed", compId);
-            report.addMessage("ERROR", component, StringUtils.join(errors, "\n"));
+        @Override
+        public void notRecognized(String line) {
+            report.addMessage("ERROR", component, "Dependency tree element not recognized: " + line);
         }
 
-        LOG.debug("{}: Dump extraction finished. Received {} entries", compId, result.size());
-
-        return result.stream()
-                .filter(o -> !o.containsKey("error"))
-                .collect(Collectors.toList());
-    }
-
-    private void processArtifact(String line, List<JsonObject> result, JsonObject component) {
-        if (line.matches(ARTIFACT_EXTRACTION_ERROR_REGEX)) {
-            result.add(new JsonObject().put("error", line));
-        }
-        if (line.matches(ARTIFACT_TREE_DEPENDENCY_REGEX)) {
-            String dependencyLevel = line.replaceAll(ARTIFACT_TREE_DEPENDENCY_REGEX, "$1");
-            String artifactLine = line.replaceAll(ARTIFACT_TREE_DEPENDENCY_REGEX, "$2");
-            String[] artifact = artifactLine.split(":");
-
-            result.add(new JsonObject()
-                    .put(F_ID, "")  // Let it be the first in file. See generateId()
-                    .put("artifactId", artifact[1])
-                    .put("groupId", artifact[0])
-                    .put("package", artifact[2])
-                    .put("version", artifact.length == 6 ? artifact[3] + ":" + artifact[4] : artifact[3])
-                    .put("scope", artifact.length == 6 ? artifact[5] : artifact[4])
-                    .put("level", 1 + dependencyLevel.length() / 3)
-                    .put("type", "library")
-            );
-        } else if (line.matches(ARTIFACT_TREE_MODULE_REGEX)) {
-            String artifactLine = line.replaceAll(ARTIFACT_TREE_MODULE_REGEX, "$1");
-            String[] artifact = artifactLine.split(":");
-
-            result.add(new JsonObject()
-                    .put(F_ID, "")
-                    .put("artifactId", artifact[1])
-                    .put("groupId", artifact[0])
-                    .put("package", artifact[2])
-                    .put("version", artifact.length == 5 ? artifact[3] + ":" + artifact[4] : artifact[3])
-                    .put("scope", "compile")
-                    .put("level", 1)
-                    .put("type", "library")
-            );
-        } else if (line.matches(ARTIFACT_TREE_NOT_RECOGNISED_REGEX)) {
-            report.addMessage("ERROR", component, "Dependency tree element not recognized: " + line);
+        void flush() {
+            Graph graph = MavenDependencyDumpParseVerticle.this.graph;
+            // Graph methods are synchronized on the graph itself, take the lock once per batch
+            synchronized (graph) {
+                for (int i = 0; i < batchSize; i++) {
+                    graph.addEdge(batchSources[i], batchTargets[i], batchEdges[i]);
+                }
+            }
+            Arrays.fill(batchSources, 0, batchSize, null);
+            Arrays.fill(batchTargets, 0, batchSize, null);
+            Arrays.fill(batchEdges, 0, batchSize, null);
+            batchSize = 0;
         }
     }
 
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.tasks.dependency;
+
+import io.vertx.core.json.JsonObject;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.qubership.itool.modules.graph.Graph.F_ID;
+import static org.qubership.itool.modules.graph.Graph.F_TYPE;
+
+/**
+ * One-pass parser of maven "dependency:tree" output.
+ *
+ * <p>Lines are tokenized in place within the source buffer. Strings are created only once per
+ * distinct artifact coordinate, which are interned in a table owned by the parser, and for
+ * error lines. Recognized lines:
+ * <ul><li>{@code [INFO] group:artifact:packaging[:classifier]:version} - module, level 1
+ * <li>{@code [INFO] +- group:artifact:packaging[:classifier]:version:scope ...} - dependency,
+ *     level is 1 + number of tree prefix elements ({@code "+- "}, {@code "\- "}, {@code "|  "},
+ *     {@code "   "})
+ * <li>{@code [ERROR] ...} - error
+ * </ul>
+ * Other {@code [INFO]} lines having tree prefix are reported as not recognized, the rest is ignored.
+ */
+class MavenDependencyTreeParser {
+
+    /** Receiver of parsed entries, called in order of lines */
+    interface Handler {
+        void entry(int level, Coordinate artifact, String scope);
+
+        void error(String line);
+
+        void notRecognized(String line);
+    }
+
+    /** Interned artifact coordinate */
+    static final class Coordinate {
+        final String id;
+        final String groupId;
+        final String artifactId;
+        final String packaging;
+        final String version;
+
+        private final byte[] key;
+        private final int hash;
+        private JsonObject vertex;
+
+        private Coordinate(byte[] key, int hash, String groupId, String artifactId, String packaging,
+                String version) {
+            this.key = key;
+            this.hash = hash;
+            this.id = new String(key, StandardCharsets.UTF_8);
+            this.groupId = groupId;
+            this.artifactId = artifactId;
+            this.packaging = packaging;
+            this.version = version;
+        }
+
+        /** Library vertex, created once per coordinate */
+        JsonObject getVertex() {
+            if (vertex == null) {
+                vertex = new JsonObject()
+                        .put(F_ID, id)
+                        .put("artifactId", artifactId)
+                        .put("groupId", groupId)
+                        .put("package", packaging)
+                        .put("version", version)
+                        .put(F_TYPE, "library");
+            }
+            return vertex;
+        }
+    }
+
+    private static final byte[] INFO = "[INFO]".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ERROR = "[ERROR]".getBytes(StandardCharsets.US_ASCII);
+    private static final String[] KNOWN_SCOPES = {
+        MavenDependencyDumpParseVerticle.COMPILE,
+        MavenDependencyDumpParseVerticle.PROVIDED,
+        MavenDependencyDumpParseVerticle.RUNTIME,
+        MavenDependencyDumpParseVerticle.TEST,
+        MavenDependencyDumpParseVerticle.SYSTEM,
+    };
+    private static final byte[][] KNOWN_SCOPE_BYTES = Arrays.stream(KNOWN_SCOPES)
+            .map(s -> s.getBytes(StandardCharsets.US_ASCII))
+            .toArray(byte[][]::new);
+    // Only first fields are used, the rest are counted
+    private static final int MAX_FIELDS = 6;
+
+    private Coordinate[] table = new Coordinate[256];
+    private int tableSize;
+
+    // Start and end offsets of fields of current token
+    private final int[] fieldStart = new int[MAX_FIELDS];
+    private final int[] fieldEnd = new int[MAX_FIELDS];
+
+    /**
+     * Parse the buffer, calling the handler for every recognized line.
+     *
+     * @param data Dump contents, UTF-8 or ASCII
+     * @param handler Handler of entries
+     */
+    void parse(byte[] data, Handler handler) {
+        int lineStart = 0;
+        int length = data.length;
+        while (lineStart < length) {
+            int lineEnd = lineStart;
+            while (lineEnd < length && data[lineEnd] != '\n' && data[lineEnd] != '\r') {
+                lineEnd++;
+            }
+            parseLine(data, lineStart, lineEnd, handler);
+            // "\r\n" is a single line break
+            if (lineEnd + 1 < length && data[lineEnd] == '\r' && data[lineEnd + 1] == '\n') {
+                lineEnd++;
+            }
+            lineStart = lineEnd + 1;
+        }
+    }
+
+    private void parseLine(byte[] data, int start, int end, Handler handler) {
+        if (startsWith(data, start, end, ERROR) && isSpace(data, start + ERROR.length, end)) {
+            handler.error(new String(data, start, end - start, StandardCharsets.UTF_8));
+            return;
+        }
+        if (!startsWith(data, start, end, INFO) || !isSpace(data, start + INFO.length, end)) {
+            return;
+        }
+
+        int pos = start + INFO.length + 1;
+        int treeElements = 0;
+        while (isTreeElement(data, pos, end)) {
+            pos += 3;
+            treeElements++;
+        }
+        int tokenEnd = pos;
+        while (tokenEnd < end && !isSpace(data, tokenEnd, end)) {
+            tokenEnd++;
+        }
+        int fields = splitFields(data, pos, tokenEnd);
+
+        if (treeElements == 0) {
+            // group:artifact:packaging[:classifier]:version
+            if (fields >= 4) {
+                int versionEnd = fields == 5 ? fieldEnd[4] : fieldEnd[3];
+                handler.entry(1, intern(data, pos, versionEnd, fields == 5), MavenDependencyDumpParseVerticle.COMPILE);
+            }
+        } else if (fields >= 5) {
+            // group:artifact:packaging[:classifier]:version:scope
+            boolean classified = fields == 6;
+            int versionEnd = classified ? fieldEnd[4] : fieldEnd[3];
+            int scope = classified ? 5 : 4;
+            handler.entry(treeElements + 1, intern(data, pos, versionEnd, classified),
+                    scopeString(data, fieldStart[scope], fieldEnd[scope]));
+        } else {
+            handler.notRecognized(new String(data, start, end - start, StandardCharsets.UTF_8));
+        }
+    }
+
+    /* Split the token by ':' the same way as String.split() does (trailing empty fields are dropped).
+     * Returns 0 if any of remaining fields is empty. */
+    private int splitFields(byte[] data, int from, int to) {
+        while (to > from && data[to - 1] == ':') {
+            to--;
+        }
+        if (to == from) {
+            return 0;
+        }
+        int fields = 0;
+        int fieldFrom = from;
+        for (int i = from; i <= to; i++) {
+            if (i == to || data[i] == ':') {
+                if (i == fieldFrom) {
+                    return 0;
+                }
+                if (fields < MAX_FIELDS) {
+                    fieldStart[fields] = fieldFrom;
+                    fieldEnd[fields] = i;
+                }
+                fields++;
+                fieldFrom = i + 1;
+            }
+        }
+        return fields;
+    }
+
+    private Coordinate intern(byte[] data, int from, int to, boolean classified) {
+        int hash = 1;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + data[i];
+        }
+        int mask = table.length - 1;
+        int slot = hash & mask;
+        for (Coordinate c = table[slot]; c != null; c = table[slot]) {
+            if (c.hash == hash && Arrays.equals(c.key, 0, c.key.length, data, from, to)) {
+                return c;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        String version = classified
+                ? string(data, fieldStart[3], fieldEnd[4])
+                : string(data, fieldStart[3], fieldEnd[3]);
+        Coordinate coordinate = new Coordinate(Arrays.copyOfRange(data, from, to), hash,
+                string(data, fieldStart[0], fieldEnd[0]),
+                string(data, fieldStart[1], fieldEnd[1]),
+                string(data, fieldStart[2], fieldEnd[2]),
+                version);
+        table[slot] = coordinate;
+        if (++tableSize * 2 > table.length) {
+            rehash();
+        }
+        return coordinate;
+    }
+
+    private void rehash() {
+        Coordinate[] old = table;
+        table = new Coordinate[old.length * 2];
+        int mask = table.length - 1;
+        for (Coordinate c : old) {
+            if (c != null) {
+                int slot = c.hash & mask;
+                while (table[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = c;
+            }
+        }
+    }
+
+    int size() {
+        return tableSize;
+    }
+
+    private static String scopeString(byte[] data, int from, int to) {
+        for (int i = 0; i < KNOWN_SCOPE_BYTES.length; i++) {
+            byte[] scope = KNOWN_SCOPE_BYTES[i];
+            if (Arrays.equals(scope, 0, scope.length, data, from, to)) {
+                return KNOWN_SCOPES[i];
+            }
+        }
+        return string(data, from, to);
+    }
+
+    private static String string(byte[] data, int from, int to) {
+        return new String(data, from, to - from, StandardCharsets.UTF_8);
+    }
+
+    private static boolean startsWith(byte[] data, int from, int to, byte[] prefix) {
+        return to - from >= prefix.length && Arrays.equals(data, from, from + prefix.length, prefix, 0, prefix.length);
+    }
+
+    /* One of "+- ", "\- ", "|  ", "   " */
+    private static boolean isTreeElement(byte[] data, int pos, int end) {
+        if (pos + 3 > end) {
+            return false;
+        }
+        byte first = data[pos];
+        if (first == '+' || first == '\\') {
+            return data[pos + 1] == '-' && isSpace(data, pos + 2, end);
+        }
+        if (first == '|') {
+            return isSpace(data, pos + 1, end) && isSpace(data, pos + 2, end);
+        }
+        return isSpace(data, pos, end) && isSpace(data, pos + 1, end) && isSpace(data, pos + 2, end);
+    }
+
+    /* Same characters as "\s" in regular expressions */
+    private static boolean isSpace(byte[] data, int pos, int end) {
+        if (pos >= end) {
+            return false;
+        }
+        byte b = data[pos];
+        return b == ' ' || b == '\t' || b == '\n' || b == 0x0B || b == '\f' || b == '\r';
+    }
+
+}
@@ -515,7 +515,8 @@ private void createDependencyEdge(JsonObject sourceComponent, JsonArray dependen
                 destinationComponent = createMockByDnsName(dependency);
                 graph.addVertex(destinationComponent);
                 edgeType = getEdgeType(type, sourceComponent, destinationComponent);
-                this.report.referenceNotFound(sourceComponent, edgeType + " http dependency " + dependency);
+                this.report.referenceNotFound(sourceComponent, edgeType + " http dependency " + dependency,
+                        GraphReport.httpDependencyKey(dependency));
             } else if (destinationComponents.size() == 1) {
                 destinationComponent = destinationComponents.get(0);
             } else {
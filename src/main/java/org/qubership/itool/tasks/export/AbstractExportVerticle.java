@@ -59,7 +59,7 @@ protected void taskStart(Promise<?> taskPromise) throws Exception {
                         "Failed to build export " + finalExportPath + ": " + e.getMessage());
             }
             return null;
-        }).onSuccess(r -> taskCompleted(taskPromise)).onFailure(r -> {
+        }, false).onSuccess(r -> taskCompleted(taskPromise)).onFailure(r -> {
             report.exceptionThrown(new JsonObject().put("id", "Unexpected"), (Exception) r);
             taskCompleted(taskPromise);
         });
@@ -16,15 +16,14 @@
 
 package org.qubership.itool.tasks.export;
 
+import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.WorkerExecutor;
+import io.vertx.core.impl.cpu.CpuCoreSensor;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.json.pointer.JsonPointer;
 import org.apache.commons.io.FilenameUtils;
-import org.apache.poi.hssf.usermodel.HSSFPalette;
-import org.apache.poi.hssf.usermodel.HSSFWorkbook;
-import org.apache.poi.hssf.util.HSSFColor.HSSFColorPredefined;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.FillPatternType;
@@ -34,10 +33,14 @@
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.VerticalAlignment;
-import org.apache.poi.ss.util.CellUtil;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.apache.poi.xssf.usermodel.XSSFColor;
 import org.qubership.itool.tasks.FlowTask;
+import org.qubership.itool.tasks.GraphViews;
 import org.qubership.itool.utils.FSUtils;
-import org.qubership.itool.utils.JsonUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,12 +50,12 @@
 import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
-import java.util.function.BiConsumer;
-import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -68,6 +71,9 @@
 public class ExcelExportVerticle extends FlowTask {
     private static final Logger LOG = LoggerFactory.getLogger(ExcelExportVerticle.class);
 
+    /** Number of rows per sheet kept in memory while the workbook is written */
+    static final int ROW_ACCESS_WINDOW = 100;
+
     Map<String, CellStyle> cellStylesMap = new HashMap<>();
     private static final String COMP_NAME_STYLE = "compNameStyle";
     private static final String ERROR_COMP_NAME_STYLE = "errorCompNameStyle";
@@ -92,35 +98,63 @@ protected String[] features() {
         return new String[] { "excelExport" };
     }
 
+    @Override
+    public String[] resourcesRead() {
+        return new String[] { RESOURCE_GRAPH };
+    }
+
+    /* File name gets a timestamp, see getFileName(), so the folder of the file is declared */
+    @Override
+    public String[] resourcesWritten() {
+        String exportPath = config().getString(EXCEL_EXPORT_PROPERTY);
+        if (exportPath == null) {
+            return new String[0];
+        }
+        return new String[] { RESOURCE_FILE_PREFIX + FSUtils.getFolder(exportPath).replace(File.separatorChar, '/') };
+    }
+
+    @Override
+    public String[] resourcesAppended() {
+        return new String[] { RESOURCE_REPORT };
+    }
+
     @Override
     protected void taskStart(Promise<?> taskPromise) throws Exception {
         String exportPath = config().getString(EXCEL_EXPORT_PROPERTY);
         if (exportPath == null) {
             LOG.error("excelExport property is not set");
+            taskCompleted(taskPromise);
+            return;
         }
         LOG.info("Scheduling blocking execution of ExcelExport process in a separate thread");
         WorkerExecutor executor = vertx.createSharedWorkerExecutor("excel-export-worker-pool",
-                1,
+                CpuCoreSensor.availableProcessors(),
                 60,
                 TimeUnit.MINUTES);
-        String finalExportPath = exportPath;
-        executor.executeBlocking(() -> {
-            try {
-                buildInventorizationXls(finalExportPath);
-            } catch (IOException e) {
-                throw new RuntimeException(
-                        "Failed to build Excel export " + finalExportPath + ": " + e.getMessage());
-            }
-            return null;
-        }).onSuccess(r -> taskCompleted(taskPromise)).onFailure(r -> {
-            report.exceptionThrown(new JsonObject().put("id", "iTool"), (Exception) r);
-            taskCompleted(taskPromise);
-        });
-
+        // Sheet contents are prepared in parallel, the workbook is streamed to the file sequentially
+        executor.executeBlocking(() -> V().hasType("domain").toList(), false)
+            .compose(domains -> Future.all(domains.stream()
+                    .map(domain -> executor.executeBlocking(() -> prepareSheet(domain), false))
+                    .collect(Collectors.toList())))
+            .compose(prepared -> executor.executeBlocking(() -> {
+                List<SheetData> sheets = prepared.list();
+                try {
+                    writeWorkbook(exportPath, sheets);
+                } catch (IOException e) {
+                    throw new RuntimeException(
+                            "Failed to build Excel export " + exportPath + ": " + e.getMessage());
+                }
+                return null;
+            }, false))
+            .onSuccess(r -> taskCompleted(taskPromise)).onFailure(r -> {
+                report.exceptionThrown(new JsonObject().put("id", "iTool"), (Exception) r);
+                taskCompleted(taskPromise);
+            });
     }
 
-    private Map<String, CellStyle> buildCustomCellStyles(HSSFWorkbook book) {
+    private Map<String, CellStyle> buildCustomCellStyles(Workbook book) {
         Map<String, CellStyle> cellStylesMap = new HashMap<>();
+        XSSFColor lightBlue = new XSSFColor(new byte[] { (byte) 189, (byte) 215, (byte) 238 }, null);
 
         Font normalCompNameFont = book.createFont();
         normalCompNameFont.setBold(true);
@@ -129,104 +163,126 @@ private Map<String, CellStyle> buildCustomCellStyles(HSSFWorkbook book) {
         errorCompNameFont.setColor(IndexedColors.RED.getIndex());
         errorCompNameFont.setBold(true);
 
-        CellStyle compNameStyle = book.createCellStyle();
+        XSSFCellStyle compNameStyle = (XSSFCellStyle) book.createCellStyle();
         compNameStyle.setWrapText(true);
+        compNameStyle.setAlignment(HorizontalAlignment.CENTER);
         compNameStyle.setVerticalAlignment(VerticalAlignment.CENTER);
-        compNameStyle.setFillForegroundColor(HSSFColorPredefined.LIGHT_BLUE.getIndex());
+        compNameStyle.setFillForegroundColor(lightBlue);
         compNameStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
         compNameStyle.setFont(normalCompNameFont);
         cellStylesMap.put(COMP_NAME_STYLE, compNameStyle);
 
-        CellStyle errorCompNameStyle = book.createCellStyle();
+        XSSFCellStyle errorCompNameStyle = (XSSFCellStyle) book.createCellStyle();
         errorCompNameStyle.setWrapText(true);
         errorCompNameStyle.setVerticalAlignment(VerticalAlignment.CENTER);
-        errorCompNameStyle.setFillForegroundColor(HSSFColorPredefined.LIGHT_BLUE.getIndex());
+        errorCompNameStyle.setFillForegroundColor(lightBlue);
         errorCompNameStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
         errorCompNameStyle.setFont(errorCompNameFont);
         cellStylesMap.put(ERROR_COMP_NAME_STYLE, errorCompNameStyle);
 
-        CellStyle propertyStyle = book.createCellStyle();
+        XSSFCellStyle propertyStyle = (XSSFCellStyle) book.createCellStyle();
         propertyStyle.setWrapText(true);
         propertyStyle.setVerticalAlignment(VerticalAlignment.CENTER);
-        propertyStyle.setFillForegroundColor(HSSFColorPredefined.LIGHT_BLUE.getIndex());
+        propertyStyle.setFillForegroundColor(lightBlue);
         propertyStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
         propertyStyle.setFont(normalCompNameFont);
         cellStylesMap.put(PROPERTY_STYLE, propertyStyle);
         return cellStylesMap;
     }
 
-    private void addSheetContent(Sheet sheet, JsonObject domain) {
-        List<JsonObject> components = graph.getSuccessors(domain.getString(F_ID), false)
+    /**
+     * Prepare contents of the domain sheet. Only reads the graph, so sheets of different domains
+     * may be prepared concurrently.
+     *
+     * @param domain Domain vertex
+     * @return Sheet contents
+     */
+    protected SheetData prepareSheet(JsonObject domain) {
+        List<JsonObject> components = getView(GraphViews.DOMAIN_COMPONENTS, GraphViews::domainComponents)
+                .getOrDefault(domain.getString(F_ID), List.of());
+        int formattedColumns = (int) getView(GraphViews.DOMAIN_SUCCESSORS, GraphViews::domainSuccessors)
+                .getOrDefault(domain.getString(F_ID), List.of())
                 .stream()
-                .filter(o -> o.getString("repository") != null && o.getJsonObject("details") != null)
-                .collect(Collectors.toList());
-        int row = 0;
-        addComponentNamesRow(sheet, components, row++);
-        addDetailsRow(sheet, components, "Owner", row++);
-        addDetailsRow(sheet, components, "Abbreviation", row++);
-        addDetailsRow(sheet, components, "DNS name", row++);
-        addDetailsRow(sheet, components, "Domain", row++);
-        addDetailsRow(sheet, components, "Description", row++);
-        addDetailsRow(sheet, components, "TMF spec", row++);
-        addDetailsRow(sheet, components, "Type", row++);
-        addDetailsRow(sheet, components, "Sticky sessions", row++);
-        addDetailsRow(sheet, components, "Language", row++);
-        addDetailsRow(sheet, components, "Framework", row++);
-        addDetailsRow(sheet, components, "Reactive", row++);
-        addPropertyRow(sheet, components, "Database", row++,
-                c -> JsonUtils.getOrCreateJsonArray(c, JsonPointer.from("/details/database/database")).stream()
+                .filter(o -> V_MICROSERVICE.equals(o.getString(F_TYPE)) || V_LIBRARY.equals(o.getString((F_TYPE))))
+                .count();
+        SheetData sheet = new SheetData(domain.getString(F_ID), components.size(), formattedColumns);
+        addSheetContent(sheet, components);
+        return sheet;
+    }
+
+    private void addSheetContent(SheetData sheet, List<JsonObject> components) {
+        addComponentNamesRow(sheet, components);
+        addDetailsRow(sheet, components, "Owner");
+        addDetailsRow(sheet, components, "Abbreviation");
+        addDetailsRow(sheet, components, "DNS name");
+        addDetailsRow(sheet, components, "Domain");
+        addDetailsRow(sheet, components, "Description");
+        addDetailsRow(sheet, components, "TMF spec");
+        addDetailsRow(sheet, components, "Type");
+        addDetailsRow(sheet, components, "Sticky sessions");
+        addDetailsRow(sheet, components, "Language");
+        addDetailsRow(sheet, components, "Framework");
+        addDetailsRow(sheet, components, "Reactive");
+        addPropertyRow(sheet, components, "Database",
+                c -> queryJsonArray("/details/database/database", c).stream()
                     .map(e -> ((JsonObject) e).getString("item"))
                     .collect(Collectors.joining(", ")));
-        addPropertyRow(sheet, components, "External index", row++,
+        addPropertyRow(sheet, components, "External index",
                 c -> JsonPointer.from("/details/database/externalIndices/item").queryJson(c).toString());
-        addPropertyRow(sheet, components, "External cache", row++,
+        addPropertyRow(sheet, components, "External cache",
                 c -> JsonPointer.from("/details/database/externalCache/item").queryJson(c).toString());
 
-        addSectionNameRow(sheet, components, "RabbitMQ:", row++);
-        addPropertyRow(sheet, components, "  * Producer (Exchanges)", row++,
+        addSectionNameRow(sheet, components, "RabbitMQ:");
+        addPropertyRow(sheet, components, "  * Producer (Exchanges)",
                 c -> retrievePropertyListAsString("/details/messageQueues/rabbitMQ/producer", c));
-        addPropertyRow(sheet, components, "  * Consumer (Queues)", row++,
+        addPropertyRow(sheet, components, "  * Consumer (Queues)",
                 c -> retrievePropertyListAsString("/details/messageQueues/rabbitMQ/consumer", c));
 
-        addSectionNameRow(sheet, components, "Kafka:", row++);
-        addPropertyRow(sheet, components, "  * Producer (Topics)", row++,
+        addSectionNameRow(sheet, components, "Kafka:");
+        addPropertyRow(sheet, components, "  * Producer (Topics)",
                 c -> retrievePropertyListAsString("/details/messageQueues/kafka/producer", c));
-        addPropertyRow(sheet, components, "  * Consumer (Topics)", row++,
+        addPropertyRow(sheet, components, "  * Consumer (Topics)",
                 c -> retrievePropertyListAsString("/details/messageQueues/kafka/consumer", c));
 
-        addPropertyRow(sheet, components, "Startup dependency", row++,
+        addPropertyRow(sheet, components, "Startup dependency",
                 c -> retrievePropertyListAsString("/details/dependencies/startup", c));
-        addPropertyRow(sheet, components, "Mandatory dependency", row++,
+        addPropertyRow(sheet, components, "Mandatory dependency",
                 c -> retrievePropertyListAsString("/details/dependencies/mandatory", c));
-        addPropertyRow(sheet, components, "Optional dependency", row++,
+        addPropertyRow(sheet, components, "Optional dependency",
                 c -> retrievePropertyListAsString("/details/dependencies/optional", c));
-        addPropertyRow(sheet, components, "Git repository", row++, c -> c.getString(F_REPOSITORY));
-        addPropertyRow(sheet, components, "Confluence article", row++,
+        addPropertyRow(sheet, components, "Git repository", c -> c.getString(F_REPOSITORY));
+        addPropertyRow(sheet, components, "Confluence article",
                 c -> retrievePropertyListAsString("/details/documentationLink", c));
-        addPropertyRow(sheet, components, "OpenAPI/Swagger", row++,
+        addPropertyRow(sheet, components, "OpenAPI/Swagger",
                 c -> JsonPointer.from("/details/api/openApi").queryJson(c).toString());
-        addPropertyRow(sheet, components, "API spec published", row++,
+        addPropertyRow(sheet, components, "API spec published",
                 c -> ((JsonArray) JsonPointer.from("/details/api/apiSpecPublished").queryJson(c))
                     .stream().map(String.class::cast).collect(Collectors.joining(", ")));
-        addPropertyRow(sheet, components, "API versioning", row++,
+        addPropertyRow(sheet, components, "API versioning",
                 c -> JsonPointer.from("/details/api/apiVersioning").queryJson(c).toString());
 
-        addPropertyRow(sheet, components, "ZK DB connection support", row++,
-                c -> JsonUtils.getOrCreateJsonArray(c, JsonPointer.from("/details/database/database")).stream()
+        addPropertyRow(sheet, components, "ZK DB connection support",
+                c -> queryJsonArray("/details/database/database", c).stream()
                     .map(e -> ((JsonObject) e).getString("viaZookeeper"))
                     .collect(Collectors.joining(", ")));
 
-        addSectionNameRow(sheet, components, "Blue-Green:", row++);
-        addPropertyRow(sheet, components, "  * HTTP request", row++,
+        addSectionNameRow(sheet, components, "Blue-Green:");
+        addPropertyRow(sheet, components, "  * HTTP request",
                 c -> JsonPointer.from("/features/blueGreen/httpRequest").queryJson(c).toString());
-        addPropertyRow(sheet, components, "  * HTTP callback", row++,
+        addPropertyRow(sheet, components, "  * HTTP callback",
                 c -> JsonPointer.from("/features/blueGreen/httpCallback").queryJson(c).toString());
-        addPropertyRow(sheet, components, "  * Zeebe workers", row++,
+        addPropertyRow(sheet, components, "  * Zeebe workers",
                 c -> JsonPointer.from("/features/blueGreen/zeebeWorkers").queryJson(c).toString());
-        addPropertyRow(sheet, components, "  * MessageQueue", row++,
+        addPropertyRow(sheet, components, "  * MessageQueue",
                 c -> JsonPointer.from("/features/blueGreen/messageQueueConsumers").queryJson(c).toString());
     }
 
+    /* Read-only: sheets are prepared concurrently with other tasks reading the graph */
+    private static JsonArray queryJsonArray(String pointer, JsonObject c) {
+        Object value = JsonPointer.from(pointer).queryJson(c);
+        return value instanceof JsonArray ? (JsonArray) value : new JsonArray();
+    }
+
     protected String retrieveLibsString(String pointer, JsonObject c) {
         JsonArray dependencies = (JsonArray) JsonPointer.from(pointer).queryJson(c);
         if (dependencies.size() == 0) {
@@ -247,24 +303,36 @@ protected String retrievePropertyListAsString(String pointer, JsonObject c) {
     }
 
     public void buildInventorizationXls(String exportFileLocation) throws IOException {
+        List<SheetData> sheets = V().hasType("domain").toList().stream()
+                .map(this::prepareSheet)
+                .collect(Collectors.toList());
+        writeWorkbook(exportFileLocation, sheets);
+    }
+
+    /**
+     * Stream prepared sheets to the workbook file. Only {@link #ROW_ACCESS_WINDOW} rows per sheet
+     * are kept in memory, the rest is flushed to temporary files.
+     *
+     * @param exportFileLocation Configured export path, timestamp is added to the file name
+     * @param sheets Prepared sheets in order
+     * @throws IOException On failure to write the file
+     */
+    protected void writeWorkbook(String exportFileLocation, List<SheetData> sheets) throws IOException {
         String reportFolderName = FSUtils.getFolder(exportFileLocation);
         File reportFolder = new File(reportFolderName);
         if (!reportFolder.exists()) {
             reportFolder.mkdirs();
         }
-        try (HSSFWorkbook book = new HSSFWorkbook()) {
-
-            HSSFPalette palette = book.getCustomPalette();
-            palette.setColorAtIndex(HSSFColorPredefined.LIGHT_BLUE.getIndex(), (byte) 189, (byte) 215, (byte) 238);
-
+        // Closing the workbook also deletes its temporary files
+        try (SXSSFWorkbook book = new SXSSFWorkbook(ROW_ACCESS_WINDOW)) {
+            book.setCompressTempFiles(true);
             cellStylesMap = buildCustomCellStyles(book);
 
-            List<JsonObject> domains = V().hasType("domain").toList();
-
-            for (JsonObject domain : domains) {
-                Sheet sheet = book.createSheet(domain.getString(F_ID));
-                addSheetContent(sheet, domain);
-                reFormatSheet(sheet, domain);
+            for (SheetData data : sheets) {
+                SXSSFSheet sheet = book.createSheet(data.name);
+                sheet.trackColumnForAutoSizing(0);
+                writeSheet(sheet, data);
+                reFormatSheet(sheet, data);
             }
 
             try (OutputStream os = new FileOutputStream(
@@ -274,60 +342,64 @@ public void buildInventorizationXls(String exportFileLocation) throws IOExceptio
         }
     }
 
-    private String getFileName(String exportFileLocation) {
+    static String getFileName(String exportFileLocation) {
         String fileName = FilenameUtils.getBaseName(exportFileLocation);
         String extension = FilenameUtils.getExtension(exportFileLocation);
+        if ("xls".equalsIgnoreCase(extension)) {
+            // Legacy setting, the workbook is written in Office Open XML format
+            extension = "xlsx";
+        }
         return fileName + LocalDateTime.now().format(DateTimeFormatter.ofPattern("_yyyy-MM-dd_HHmmss.")) + extension;
     }
 
-    private void reFormatSheet(Sheet sheet, JsonObject domain) {
+    private void reFormatSheet(Sheet sheet, SheetData data) {
         sheet.autoSizeColumn(0);
-        List<JsonObject> components = graph.getSuccessors(domain.getString(F_ID), false)
-                .stream()
-                .filter(o -> V_MICROSERVICE.equals(o.getString(F_TYPE)) || V_LIBRARY.equals(o.getString((F_TYPE))))
-                .collect(Collectors.toList());
-        for (int i = 1; i <= components.size(); i++) {
+        for (int i = 1; i <= data.formattedColumns; i++) {
             sheet.setColumnWidth(i, 6000);
         }
     }
 
-
-    protected void addComponentNamesRow(Sheet sheet, List<JsonObject> components, int rowIndex) {
-        addRow(sheet, components, rowIndex, cell -> {
-                },
-                (cell, component) -> {
-                    cell.setCellStyle(cellStylesMap.get(COMP_NAME_STYLE));
-                    CellUtil.setAlignment(cell, HorizontalAlignment.CENTER);
-                    String name = component.getJsonObject("details").getString(F_NAME);
-                    cell.setCellValue((name == null) ? "unknown" : name.replace(" ", "\n"));
-                });
+    private void writeSheet(Sheet sheet, SheetData data) {
+        CellStyle headerStyle = cellStylesMap.get(PROPERTY_STYLE);
+        CellStyle errorStyle = cellStylesMap.get(ERROR_COMP_NAME_STYLE);
+        for (int rowIndex = 0; rowIndex < data.rows.size(); rowIndex++) {
+            RowData rowData = data.rows.get(rowIndex);
+            Row row = sheet.createRow(rowIndex);
+            Cell nameCell = row.createCell(0);
+            if (rowData.header != null) {
+                nameCell.setCellStyle(headerStyle);
+                nameCell.setCellValue(rowData.header);
+            }
+            CellStyle valueStyle = rowData.valueStyle == null ? null : cellStylesMap.get(rowData.valueStyle);
+            for (int i = 0; i < data.componentCount; i++) {
+                Cell cell = row.createCell(i + 1);
+                if (rowData.errors.get(i)) {
+                    cell.setCellStyle(errorStyle);
+                } else if (valueStyle != null) {
+                    cell.setCellStyle(valueStyle);
+                }
+                if (rowData.values != null) {
+                    cell.setCellValue(rowData.values[i]);
+                }
+            }
+        }
     }
 
-    private void addRow(Sheet sheet, List<JsonObject> components, int rowIndex,
-                        Consumer<Cell> headerCellBuilder, BiConsumer<Cell, JsonObject> cellBuilder) {
-        Row row = sheet.createRow(rowIndex);
-
-        int columnIndex = 0;
-        Cell nameCell = row.createCell(columnIndex++);
-        headerCellBuilder.accept(nameCell);
-
-        for (JsonObject component : components) {
-            Cell cell = row.createCell(columnIndex++);
-            cellBuilder.accept(cell, component);
+    protected void addComponentNamesRow(SheetData sheet, List<JsonObject> components) {
+        String[] values = new String[components.size()];
+        for (int i = 0; i < values.length; i++) {
+            String name = components.get(i).getJsonObject("details").getString(F_NAME);
+            values[i] = (name == null) ? "unknown" : name.replace(" ", "\n");
         }
+        sheet.rows.add(new RowData(null, COMP_NAME_STYLE, values, new BitSet()));
     }
 
-    protected void addSectionNameRow(Sheet sheet, List<JsonObject> components, String propertyName, int rowIndex) {
-        addRow(sheet, components, rowIndex, cell -> {
-            cell.setCellStyle(cellStylesMap.get(PROPERTY_STYLE));
-            cell.setCellValue(propertyName);
-        }, (cell, component) -> {
-            cell.setCellStyle(cellStylesMap.get(PROPERTY_STYLE));
-        });
+    protected void addSectionNameRow(SheetData sheet, List<JsonObject> components, String propertyName) {
+        sheet.rows.add(new RowData(propertyName, PROPERTY_STYLE, null, new BitSet()));
     }
 
-    protected void addDetailsRow(Sheet sheet, List<JsonObject> components, String propertyName, int rowIndex) {
-        addPropertyRow(sheet, components, propertyName, rowIndex,
+    protected void addDetailsRow(SheetData sheet, List<JsonObject> components, String propertyName) {
+        addPropertyRow(sheet, components, propertyName,
                 component -> {
                     Object obj = component.getJsonObject("details")
                             .getValue(readablePropertyToFieldNameMap.get(propertyName));
@@ -345,22 +417,49 @@ protected void addDetailsRow(Sheet sheet, List<JsonObject> components, String pr
                 });
     }
 
-    protected void addPropertyRow(Sheet sheet, List<JsonObject> components, String propertyName,
-            int rowIndex, Function<JsonObject, String> cellValueProducer) {
-        addRow(sheet, components, rowIndex, cell -> {
-                    cell.setCellStyle(cellStylesMap.get(PROPERTY_STYLE));
-                    cell.setCellValue(propertyName);
-                }, (cell, component) -> {
-                    String propertyValue = "";
-                    try {
-                        propertyValue = cellValueProducer.apply(component);
-                    } catch (NullPointerException e) {
-                        propertyValue = "Field was not found in model";
-                        cell.setCellStyle(cellStylesMap.get(ERROR_COMP_NAME_STYLE));
-                    }
-                    cell.setCellValue(propertyValue);
-                }
-        );
+    protected void addPropertyRow(SheetData sheet, List<JsonObject> components, String propertyName,
+            Function<JsonObject, String> cellValueProducer) {
+        String[] values = new String[components.size()];
+        BitSet errors = new BitSet();
+        for (int i = 0; i < values.length; i++) {
+            try {
+                values[i] = cellValueProducer.apply(components.get(i));
+            } catch (NullPointerException e) {
+                values[i] = "Field was not found in model";
+                errors.set(i);
+            }
+        }
+        sheet.rows.add(new RowData(propertyName, null, values, errors));
+    }
+
+    /** Contents of a domain sheet, independent of the workbook */
+    protected static class SheetData {
+        final String name;
+        final int componentCount;
+        final int formattedColumns;
+        final List<RowData> rows = new ArrayList<>();
+
+        SheetData(String name, int componentCount, int formattedColumns) {
+            this.name = name;
+            this.componentCount = componentCount;
+            this.formattedColumns = formattedColumns;
+        }
+    }
+
+    /* Header (null for none), style of value cells (null for none), values (null for blank cells),
+     * indexes of cells failed to be computed */
+    static class RowData {
+        final String header;
+        final String valueStyle;
+        final String[] values;
+        final BitSet errors;
+
+        RowData(String header, String valueStyle, String[] values, BitSet errors) {
+            this.header = header;
+            this.valueStyle = valueStyle;
+            this.values = values;
+            this.errors = errors;
+        }
     }
 
     @Override
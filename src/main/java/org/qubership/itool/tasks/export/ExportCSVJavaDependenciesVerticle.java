@@ -19,7 +19,7 @@
 import io.vertx.core.json.JsonObject;
 import org.apache.commons.lang3.tuple.Pair;
 import org.qubership.itool.modules.gremlin2.P;
-import org.qubership.itool.modules.gremlin2.graph.GraphTraversal;
+import org.qubership.itool.tasks.GraphViews;
 import org.qubership.itool.utils.FSUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,11 +32,6 @@
 import java.util.List;
 import java.util.Map;
 
-import static org.qubership.itool.modules.gremlin2.P.eq;
-import static org.qubership.itool.modules.gremlin2.P.neq;
-import static org.qubership.itool.modules.gremlin2.graph.__.outE;
-import static org.qubership.itool.modules.gremlin2.graph.__.select;
-
 public class ExportCSVJavaDependenciesVerticle extends AbstractExportVerticle {
     private static final Logger LOG = LoggerFactory.getLogger(ExportCSVJavaDependenciesVerticle.class);
 
@@ -50,33 +45,35 @@ protected String getExportPath() {
         return "output/export/java_dependencies.csv";
     }
 
+    @Override
+    public String[] resourcesRead() {
+        return new String[] { RESOURCE_GRAPH };
+    }
+
+    @Override
+    public String[] resourcesWritten() {
+        return new String[] { RESOURCE_FILE_PREFIX + getExportPath() };
+    }
+
+    @Override
+    public String[] resourcesAppended() {
+        return new String[] { RESOURCE_REPORT };
+    }
+
     @Override
     protected void build(String finalExportPath) throws IOException {
         List<Pair<JsonObject, List<JsonObject>>> componentDirectDep     = new ArrayList<>();
         List<Pair<JsonObject, List<JsonObject>>> componentTransitiveDep = new ArrayList<>();
 
-        List<JsonObject> components = V().hasType("domain").out().toList();
+        Map<String, GraphViews.JavaDependencies> dependencies =
+                getView(GraphViews.JAVA_DEPENDENCIES, GraphViews::javaDependencies);
+        Map<String, List<JsonObject>> transitiveDependencies =
+                getView(GraphViews.JAVA_TRANSITIVE_ANY_FIRST_HOP, GraphViews::javaTransitiveAnyFirstHop);
+        List<JsonObject> components = graph.traversal().cached().V().hasType("domain").out().toList();
         for (JsonObject component : components) {
-            // directDependencies ================================
-            GraphTraversal<JsonObject, JsonObject> directTraversal =
-                V(component.getString("id")).as("C").out("module")
-                    .outE("dependency")
-                    .has("scope", neq("test"))
-                    .has("component", eq(select("C").id()))
-                    .inV().dedup();
-            componentDirectDep.add(Pair.of(component, directTraversal.clone().toList()));
-
-            // transitiveDependencies ============================
-            List<JsonObject> transitiveDependencies =
-                directTraversal.clone()
-                    .outE("dependency").has("scope", neq("test")).inV().dedup()
-                    .repeat(
-                        outE("dependency")
-                            .has("scope", neq("test"))
-                            .has("component", eq(select("C").id()))
-                            .inV().dedup()
-                    ).emit().dedup().toList();
-            componentTransitiveDep.add(Pair.of(component, transitiveDependencies));
+            String componentId = component.getString("id");
+            componentDirectDep.add(Pair.of(component, dependencies.get(componentId).getDirect()));
+            componentTransitiveDep.add(Pair.of(component, transitiveDependencies.get(componentId)));
         }
 
         Map<String, JavaDependency> map = new HashMap<>();
@@ -103,7 +103,7 @@ protected void taskStart(Promise<?> taskPromise) throws Exception {
     }
 
     protected Collection<String> processComponents(JsonObject allRules) {
-        List<JsonObject> components = V().hasType("domain").out().toList();
+        List<JsonObject> components = graph.traversal().cached().V().hasType("domain").out().toList();
         // All types of components share the same refType
         return processNodes(allRules, "*component*", components);
     }
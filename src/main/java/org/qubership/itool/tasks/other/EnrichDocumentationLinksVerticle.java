@@ -47,12 +47,13 @@ protected Logger getLogger() {
         return LOGGER;
     }
 
-    private static String[] patterns = new String[] {
+    /** Documentation files and directories looked up in component directories */
+    public static final List<String> DOCUMENTATION_PATHS = List.of(
             "ReadMe.md",
             "docs",
             "documents",
             "documentation"
-    };
+    );
     private JsonPointer docsPtr = JsonPointer.from("/details/documentationLink");
 
     @Override
@@ -80,7 +81,7 @@ protected void taskStart(Promise<?> taskPromise) throws Exception {
     private void enrichComponentWithDocs(JsonObject component) {
         JsonArray additionalDocLinks = new JsonArray();
         String directoryPath = FSUtils.getComponentDirPath(component);
-        for (String pattern : patterns) {
+        for (String pattern : DOCUMENTATION_PATHS) {
             File file = new File(directoryPath, pattern);
             if (file.exists()) {
                 try {
@@ -26,6 +26,8 @@
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.qubership.itool.modules.report.GraphReport;
 import org.qubership.itool.tasks.FlowTask;
+import org.qubership.itool.utils.BoundedWorkScheduler;
+import org.qubership.itool.utils.JsonUtils;
 
 import java.io.File;
 import java.io.IOException;
@@ -43,13 +45,20 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static org.qubership.itool.modules.graph.Graph.F_DIRECTORY;
 import static org.qubership.itool.modules.graph.Graph.F_ID;
 import static org.qubership.itool.modules.graph.Graph.V_DOMAIN;
+import static org.qubership.itool.tasks.parsing.ReuseUnchangedComponentsTask.F_REUSED_FROM_REVISION;
+import static org.qubership.itool.utils.ConfigProperties.INCREMENTAL_PARSING_PROPERTY;
+import static org.qubership.itool.utils.ConfigProperties.PARSING_METRICS_PROPERTY;
 
 public abstract class AbstractInclusiveParseFileTask extends FlowTask {
 
@@ -57,6 +66,18 @@ public abstract class AbstractInclusiveParseFileTask extends FlowTask {
     protected static final Pattern LINE_BREAK_PATTERN = Pattern.compile(LINE_BREAK_REGEX);
     // Have to be global to avoid closing by GC
     private WorkerExecutor executor;
+    // Not null only when incremental parsing is enabled for this task
+    private FileFingerprintStore fingerprintStore;
+    // Exception messages reported for files being parsed, cached along with their contributions
+    private final Map<String, List<String>> fileMessages = new ConcurrentHashMap<>();
+    // Metrics of current run per component id
+    private Map<String, ComponentParsingMetrics> parsingMetrics;
+
+    /** Cost of components missing in metrics of previous run: they go first, as they may be huge */
+    static final long UNKNOWN_COST = Long.MAX_VALUE - 1;
+    /** Cost of chunks of components already being parsed: finish started work first */
+    static final long CHUNK_COST = Long.MAX_VALUE;
+    protected static final int DEFAULT_CHUNK_SIZE = 200;
 
     @Override
     protected void taskStart(Promise<?> taskPromise) throws Exception {
@@ -66,10 +87,16 @@ protected void taskStart(Promise<?> taskPromise) throws Exception {
                 10,
                 TimeUnit.MINUTES);
 
+        if (isIncrementalParsingEnabled()) {
+            fingerprintStore = FileFingerprintStore.load(getFingerprintStorePath());
+        }
+
         List<Future<?>> futures = parseFiles(executor, getFilePatterns());
         joinFuturesAndHandleResult(futures)
                 .onComplete(res -> {
                     // We are not closing executor here, because it is used in several tasks
+                    saveFingerprintStore();
+                    saveParsingMetrics();
                     taskCompleted(taskPromise);
                 });
     }
@@ -90,9 +117,109 @@ protected void taskStart(Promise<?> taskPromise) throws Exception {
     protected abstract void parseSingleFile(JsonObject domain, JsonObject component, String fileName)
             throws IOException;
 
+    /**
+     * Whether this task is able to replay contributions of unchanged files. Tasks returning
+     * {@code true} shall override {@link #parseSingleFileContribution(JsonObject, JsonObject, String)}
+     * and {@link #replayFileContribution(JsonObject, JsonObject, String, JsonObject)}.
+     *
+     * @return {@code true} if incremental parsing is supported
+     */
+    protected boolean supportsIncrementalParsing() {
+        return false;
+    }
+
+    /**
+     * Parse a single file and describe what it contributed into the graph, so that the same
+     * contribution can be replayed on subsequent runs while the file stays unchanged.
+     *
+     * @return Contribution of the file, or {@code null} if it shall not be cached
+     */
+    protected JsonObject parseSingleFileContribution(JsonObject domain, JsonObject component, String fileName)
+            throws IOException {
+        parseSingleFile(domain, component, fileName);
+        return null;
+    }
+
+    /**
+     * Apply a contribution previously returned by
+     * {@link #parseSingleFileContribution(JsonObject, JsonObject, String)} for unchanged file.
+     * Called only when {@link #supportsIncrementalParsing()} returns {@code true}, does nothing by default.
+     */
+    protected void replayFileContribution(JsonObject domain, JsonObject component, String fileName,
+            JsonObject contribution) throws IOException {
+    }
+
+    /**
+     * Report an exception that occurred while parsing a file. When incremental parsing is enabled,
+     * the message is cached along with contribution of the file and reported again on replay.
+     */
+    protected void reportFileException(JsonObject component, String fileName, String message) {
+        report.addMessage(GraphReport.EXCEPTION, component, message);
+        if (fingerprintStore != null) {
+            fileMessages.computeIfAbsent(fileName, f -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(message);
+        }
+    }
+
+    protected boolean isIncrementalParsingEnabled() {
+        // Value may come either from JSON profile or from properties
+        return supportsIncrementalParsing()
+                && Boolean.parseBoolean(String.valueOf(config().getValue(INCREMENTAL_PARSING_PROPERTY)));
+    }
+
+    protected Path getFingerprintStorePath() {
+        return Path.of(PROGRESS_PATH, FileFingerprintStore.FINGERPRINTS_PATH, getTaskAddress() + ".json.gz");
+    }
+
+    /**
+     * Whether files of the same component may be parsed concurrently. Tasks returning {@code true}
+     * shall synchronize on the component when modifying it in
+     * {@link #parseSingleFile(JsonObject, JsonObject, String)}. Components of such tasks having
+     * more than {@link #getChunkSize()} files are split into chunks that are parsed in parallel.
+     *
+     * @return {@code true} if file-level parallelism is supported
+     */
+    protected boolean supportsFileLevelParallelism() {
+        return false;
+    }
+
+    protected int getChunkSize() {
+        return DEFAULT_CHUNK_SIZE;
+    }
+
+    /**
+     * Get maximal number of work units (components or chunks) passed to the executor at once.
+     * Other units wait in the queue ordered by their estimated cost.
+     *
+     * @return Limit of units in flight
+     */
+    protected int getMaxInFlight() {
+        return 2 * CpuCoreSensor.availableProcessors();
+    }
+
+    protected boolean isParsingMetricsEnabled() {
+        // Value may come either from JSON profile or from properties
+        return Boolean.parseBoolean(String.valueOf(config().getValue(PARSING_METRICS_PROPERTY)));
+    }
+
+    protected Path getParsingMetricsPath() {
+        return Path.of(PROGRESS_PATH, METRICS_PATH, getTaskAddress() + ".json");
+    }
+
 
-    @SuppressWarnings("rawtypes")
     protected List<Future<?>> parseFiles(WorkerExecutor executor, String ... filePatterns) {
+        List<Future<?>> futures = new ArrayList<>();
+        futures.add(scheduleParsing(executor, filePatterns));
+        return futures;
+    }
+
+    /**
+     * Parse files of all the components, keeping limited number of components or chunks in flight.
+     * Components that took longest on previous run start first.
+     *
+     * @return A Future that completes once all the files are parsed
+     */
+    protected Future<Void> scheduleParsing(WorkerExecutor executor, String ... filePatterns) {
 
         // Pre-parse patterns
         List<String> simplePatterns = new ArrayList<>();
@@ -103,57 +230,205 @@ protected List<Future<?>> parseFiles(WorkerExecutor executor, String ... filePat
             if (!filePattern.contains("*") && !filePattern.contains("?")) {
                 simplePatterns.add(filePattern);
             } else if (!filePattern.contains("/")) {
-                // Build regex pattern:
-                // - "*.ext" requires non-empty part before dot
-                // - "name.*" requires non-empty extension
-                Pattern regex = Pattern.compile(
-                        (filePattern.startsWith("*.") ? "^." : "^")
-                                + filePattern.replace(".", "\\.").replace("*", ".*")
-                                + (filePattern.endsWith(".*") ? ".$" : "$"));
-                shallowPatterns.add(regex);
+                shallowPatterns.add(compileShallowPattern(filePattern));
             } else {
                 deepPatterns.add(filePattern);
             }
         }
 
+        JsonObject previousMetrics = loadParsingMetrics();
+        parsingMetrics = new ConcurrentHashMap<>();
+        BoundedWorkScheduler scheduler = new BoundedWorkScheduler(executor, getMaxInFlight(),
+                e -> report.internalError(ExceptionUtils.getStackTrace(e)));
+
         // Find components
-        List<Future<?>> futures = new ArrayList<>();
         List<Map<String, JsonObject>> componentsWithDomains = getComponentsWithDomains();
 
         for (Map<String, JsonObject> componentWithDomain : componentsWithDomains) {
             JsonObject domain = componentWithDomain.get("D");
             JsonObject component = componentWithDomain.get("C");
-            getLogger().debug("Queue the parsing of files for {} component", component.getString("id"));
+            String componentId = component.getString(F_ID);
+            getLogger().debug("Queue the parsing of files for {} component", componentId);
 
-            // Async parallel executions: one Future task per component. Scan files, then read needed ones.
-            Future future = executor.executeBlocking(() -> {
-                long startTime = System.nanoTime();
+            if (fingerprintStore != null) {
+                fingerprintStore.componentParsed(componentId);
+            }
+
+            JsonObject previous = previousMetrics.getJsonObject(componentId);
+            long cost = previous != null ? ComponentParsingMetrics.estimateCost(previous) : UNKNOWN_COST;
+
+            // One unit per component: scan files, then read needed ones. Large components are split.
+            scheduler.submit(cost, () -> {
+                ComponentParsingMetrics metrics = new ComponentParsingMetrics();
+                parsingMetrics.put(componentId, metrics);
                 List<String> pathList = findAllFiles(component, simplePatterns, shallowPatterns, deepPatterns);
-                for (String fileName : pathList) {
-                    try {
-                        parseSingleFile(domain, component, fileName);
-                    } catch (Exception /*| DecodeException*/ e) {
-                        this.report.addMessage(
-                                GraphReport.EXCEPTION, component,
-                                "Parsing of file " + fileName + " failed:\n" + ExceptionUtils.getStackTrace(e));
-                    }
-                }
-                long endTime = System.nanoTime();
-                long processingTime = endTime - startTime;
-                getLogger().debug("Processing time for component " + component.getValue("id") + ": "
-                        + Duration.ofNanos(processingTime));
+                metrics.discovered(pathList.size());
 
+                int chunkSize = getChunkSize();
+                if (!supportsFileLevelParallelism() || pathList.size() <= chunkSize) {
+                    parseFileList(domain, component, pathList, metrics);
+                    return null;
+                }
+                for (int from = chunkSize; from < pathList.size(); from += chunkSize) {
+                    List<String> chunk = pathList.subList(from, Math.min(from + chunkSize, pathList.size()));
+                    metrics.chunkSubmitted();
+                    scheduler.submit(CHUNK_COST, () -> {
+                        parseFileList(domain, component, chunk, metrics);
+                        return null;
+                    });
+                }
+                parseFileList(domain, component, pathList.subList(0, chunkSize), metrics);
                 return null;
-            }, false);
-            futures.add(future);
+            });
         }
 
-        return futures;
+        return scheduler.start();
+    }
+
+    private void parseFileList(JsonObject domain, JsonObject component, List<String> fileNames,
+            ComponentParsingMetrics metrics) {
+        long startTime = System.nanoTime();
+        for (String fileName : fileNames) {
+            try {
+                if (fingerprintStore != null) {
+                    parseOrReplaySingleFile(domain, component, fileName);
+                } else {
+                    parseSingleFile(domain, component, fileName);
+                }
+            } catch (Exception /*| DecodeException*/ e) {
+                this.report.addMessage(
+                        GraphReport.EXCEPTION, component,
+                        "Parsing of file " + fileName + " failed:\n" + ExceptionUtils.getStackTrace(e));
+            }
+        }
+        if (metrics.chunkCompleted(System.nanoTime() - startTime)) {
+            getLogger().debug("{}: Parsing completed: {}", component.getString(F_ID), metrics.toJson().encode());
+        }
+    }
+
+    private JsonObject loadParsingMetrics() {
+        Path path = getParsingMetricsPath();
+        if (isParsingMetricsEnabled() && Files.isRegularFile(path)) {
+            try {
+                return JsonUtils.readJsonFile(path.toString());
+            } catch (IOException | RuntimeException e) {
+                getLogger().warn("Parsing metrics {} could not be read: {}", path, e.getMessage());
+            }
+        }
+        return new JsonObject();
+    }
+
+    private void saveParsingMetrics() {
+        if (parsingMetrics == null) {
+            return;
+        }
+        Map<String, Object> result = new TreeMap<>();
+        long files = 0;
+        long parseMicros = 0;
+        for (Map.Entry<String, ComponentParsingMetrics> entry : parsingMetrics.entrySet()) {
+            JsonObject json = entry.getValue().toJson();
+            files += json.getLong(ComponentParsingMetrics.F_FILES);
+            parseMicros += json.getLong(ComponentParsingMetrics.F_PARSE_MICROS);
+            result.put(entry.getKey(), json);
+        }
+        getLogger().info("{} files of {} components parsed, total parsing time {}",
+                files, parsingMetrics.size(), Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(parseMicros)));
+        if (!isParsingMetricsEnabled()) {
+            parsingMetrics = null;
+            return;
+        }
+
+        Path path = getParsingMetricsPath();
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            JsonUtils.saveJson(path, new JsonObject(result), true);
+        } catch (IOException e) {
+            report.internalError("Failed to save parsing metrics for task '" + getTaskAddress()
+                    + "': " + ExceptionUtils.getStackTrace(e));
+        }
+        parsingMetrics = null;
+    }
+
+    private void parseOrReplaySingleFile(JsonObject domain, JsonObject component, String fileName)
+            throws IOException {
+        String componentId = component.getString(F_ID);
+        JsonObject contribution = fingerprintStore.getUnchangedContribution(componentId, fileName);
+        if (contribution != null) {
+            getLogger().trace("{}: Replaying cached contribution of unchanged file {}", componentId, fileName);
+            replayFileContribution(domain, component, fileName, contribution);
+            for (String message : fingerprintStore.getMessages(fileName)) {
+                report.addMessage(GraphReport.EXCEPTION, component, message);
+            }
+            return;
+        }
+        List<String> messages;
+        try {
+            contribution = parseSingleFileContribution(domain, component, fileName);
+        } finally {
+            messages = fileMessages.remove(fileName);
+        }
+        if (contribution != null) {
+            fingerprintStore.put(componentId, fileName, contribution,
+                    messages != null ? messages : Collections.emptyList());
+        }
+    }
+
+    private void saveFingerprintStore() {
+        if (fingerprintStore == null) {
+            return;
+        }
+        try {
+            fingerprintStore.save();
+        } catch (IOException e) {
+            report.internalError("Failed to save fingerprint store for task '" + getTaskAddress()
+                    + "': " + ExceptionUtils.getStackTrace(e));
+        }
+        fingerprintStore = null;
+    }
+
+    /* Build regex pattern for file name patterns like "*.ext":
+     * - "*.ext" requires non-empty part before dot
+     * - "name.*" requires non-empty extension
+     */
+    static Pattern compileShallowPattern(String filePattern) {
+        return Pattern.compile(
+                (filePattern.startsWith("*.") ? "^." : "^")
+                        + filePattern.replace(".", "\\.").replace("*", ".*")
+                        + (filePattern.endsWith(".*") ? ".$" : "$"));
+    }
+
+    /**
+     * Check whether a file matches any of given patterns, see {@link #getFilePatterns()}.
+     *
+     * @param relativePath Path of a file relative to component directory, with '/' as separator
+     * @param filePatterns File patterns
+     * @return {@code true} if the file matches any pattern
+     */
+    static boolean matchesAnyFilePattern(String relativePath, Collection<String> filePatterns) {
+        String fileName = relativePath.substring(relativePath.lastIndexOf('/') + 1);
+        for (String filePattern : filePatterns) {
+            if (!filePattern.contains("*") && !filePattern.contains("?")) {
+                if (relativePath.equals(filePattern)) {
+                    return true;
+                }
+            } else if (!filePattern.contains("/")) {
+                if (compileShallowPattern(filePattern).matcher(fileName).matches()) {
+                    return true;
+                }
+            } else if (AntPathMatcher.INSTANCE.match(filePattern, relativePath)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     protected List<Map<String, JsonObject>> getComponentsWithDomains() {
+        // Components restored from previous result are not parsed again
         return V().hasType(V_DOMAIN).as("D")
-                .out().hasKeys(F_DIRECTORY).as("C")
+                .out().hasKeys(F_DIRECTORY).hasNot(F_REUSED_FROM_REVISION).as("C")
                 .<JsonObject>select("D", "C").toList();
     }
 
@@ -208,6 +483,58 @@ protected boolean isExcluded(Collection<Path> topDirExcludes, Path relativePath,
         return false;
     }
 
+    /* Metrics of a single component. Chunks of the component may update it concurrently. */
+    static class ComponentParsingMetrics {
+        static final String F_FILES = "files";
+        static final String F_CHUNKS = "chunks";
+        static final String F_DISCOVERY_MICROS = "discoveryMicros";
+        static final String F_PARSE_MICROS = "parseMicros";
+        static final String F_WALL_MICROS = "wallMicros";
+
+        private final long startTime = System.nanoTime();
+        private final AtomicInteger chunks = new AtomicInteger(1);
+        private final AtomicInteger pendingChunks = new AtomicInteger(1);
+        private final AtomicLong parseNanos = new AtomicLong();
+        private volatile int files;
+        private volatile long discoveryNanos;
+        private volatile long wallNanos;
+
+        void discovered(int files) {
+            this.files = files;
+            this.discoveryNanos = System.nanoTime() - startTime;
+        }
+
+        void chunkSubmitted() {
+            chunks.incrementAndGet();
+            pendingChunks.incrementAndGet();
+        }
+
+        /* Returns true when the last chunk of component is completed */
+        boolean chunkCompleted(long nanos) {
+            parseNanos.addAndGet(nanos);
+            if (pendingChunks.decrementAndGet() == 0) {
+                wallNanos = System.nanoTime() - startTime;
+                return true;
+            }
+            return false;
+        }
+
+        JsonObject toJson() {
+            return new JsonObject()
+                    .put(F_FILES, files)
+                    .put(F_CHUNKS, chunks.get())
+                    .put(F_DISCOVERY_MICROS, TimeUnit.NANOSECONDS.toMicros(discoveryNanos))
+                    .put(F_PARSE_MICROS, TimeUnit.NANOSECONDS.toMicros(parseNanos.get()))
+                    .put(F_WALL_MICROS, TimeUnit.NANOSECONDS.toMicros(wallNanos));
+        }
+
+        /* Total work done for the component in previous run, falling back to number of files */
+        static long estimateCost(JsonObject previous) {
+            long micros = previous.getLong(F_DISCOVERY_MICROS, 0L) + previous.getLong(F_PARSE_MICROS, 0L);
+            return micros > 0 ? micros : previous.getLong(F_FILES, 0L);
+        }
+    }
+
     class PathAccumulatorVisitor<T extends Path> extends SimpleFileVisitor<T> {
         List<T> paths = new ArrayList<>();
         List<Pattern> shallowPatterns;
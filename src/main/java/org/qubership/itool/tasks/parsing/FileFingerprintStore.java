@@ -0,0 +1,225 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.tasks.parsing;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.qubership.itool.utils.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Persistent store of file fingerprints (size, modification time and content hash) along with
+ * contributions those files made into the graph when they were parsed last time.
+ *
+ * <p>A store is loaded at the beginning of a parsing task and saved at its end. For components
+ * parsed during the current run, only entries for visited files are saved, so deleted files are
+ * dropped automatically. Entries of other components (not selected or reused from previous result)
+ * are kept as is.
+ */
+public class FileFingerprintStore {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileFingerprintStore.class);
+
+    /** Directory for fingerprint stores, located inside {@code progress} directory */
+    public static final String FINGERPRINTS_PATH = "fingerprints";
+
+    static final String F_COMPONENT = "component";
+    static final String F_SIZE = "size";
+    static final String F_MTIME = "mtime";
+    static final String F_HASH = "hash";
+    static final String F_CONTRIBUTION = "contribution";
+    static final String F_MESSAGES = "messages";
+
+    private final Path storeFile;
+    private final JsonObject previous;
+    private final Map<String, JsonObject> current = new ConcurrentHashMap<>();
+    private final Set<String> parsedComponents = ConcurrentHashMap.newKeySet();
+
+    private FileFingerprintStore(Path storeFile, JsonObject previous) {
+        this.storeFile = storeFile;
+        this.previous = previous;
+    }
+
+    /**
+     * Load fingerprint store from a file. Missing or broken file results in empty store.
+     *
+     * @param storeFile Path to the store file. If it ends with ".gz", content is gzipped.
+     * @return Fingerprint store
+     */
+    public static FileFingerprintStore load(Path storeFile) {
+        JsonObject previous = null;
+        if (Files.isRegularFile(storeFile)) {
+            try {
+                previous = JsonUtils.readJsonFile(storeFile.toString());
+            } catch (IOException /* | DecodeException */ e) {
+                LOG.warn("Fingerprint store {} could not be read, all files will be parsed: {}",
+                        storeFile, e.getMessage());
+            }
+        }
+        return new FileFingerprintStore(storeFile, previous != null ? previous : new JsonObject());
+    }
+
+    /**
+     * Get cached contribution of a file if the file was not changed since it was recorded.
+     * If contribution is found, the file is considered visited and will be kept in the store.
+     *
+     * @param componentId Id of component the file belongs to
+     * @param fileName File path
+     * @return Cached contribution, or {@code null} if the file has to be parsed
+     * @throws IOException If file attributes or contents could not be read
+     */
+    public JsonObject getUnchangedContribution(String componentId, String fileName) throws IOException {
+        JsonObject entry = previous.getJsonObject(fileName);
+        if (entry == null || !componentId.equals(entry.getString(F_COMPONENT))) {
+            return null;
+        }
+        JsonObject contribution = entry.getJsonObject(F_CONTRIBUTION);
+        if (contribution == null) {
+            return null;
+        }
+
+        Path path = Path.of(fileName);
+        BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+        long size = attrs.size();
+        long mtime = attrs.lastModifiedTime().toMillis();
+        if (size != entry.getLong(F_SIZE, -1L)) {
+            return null;
+        }
+        if (mtime != entry.getLong(F_MTIME, -1L)) {
+            // Checkouts touch files without changing them, so fall back to comparing contents
+            if (!hash(path).equals(entry.getString(F_HASH))) {
+                return null;
+            }
+            entry = entry.copy().put(F_MTIME, mtime);
+        }
+        current.put(fileName, entry);
+        return contribution;
+    }
+
+    /**
+     * Get report messages recorded along with contribution of a visited file.
+     *
+     * @param fileName File path
+     * @return Messages, empty if none were recorded
+     */
+    public List<String> getMessages(String fileName) {
+        JsonObject entry = current.get(fileName);
+        JsonArray messages = entry != null ? entry.getJsonArray(F_MESSAGES) : null;
+        if (messages == null) {
+            return Collections.emptyList();
+        }
+        return messages.stream().map(String.class::cast).collect(Collectors.toList());
+    }
+
+    /**
+     * Record contribution of a freshly parsed file.
+     *
+     * @param componentId Id of component the file belongs to
+     * @param fileName File path
+     * @param contribution Contribution of the file into the graph
+     * @throws IOException If file attributes or contents could not be read
+     */
+    public void put(String componentId, String fileName, JsonObject contribution) throws IOException {
+        put(componentId, fileName, contribution, Collections.emptyList());
+    }
+
+    /**
+     * Record contribution of a freshly parsed file along with messages reported while parsing it,
+     * so that they are reported again when the contribution is replayed.
+     *
+     * @param componentId Id of component the file belongs to
+     * @param fileName File path
+     * @param contribution Contribution of the file into the graph
+     * @param messages Report messages
+     * @throws IOException If file attributes or contents could not be read
+     */
+    public void put(String componentId, String fileName, JsonObject contribution, List<String> messages)
+            throws IOException {
+        Path path = Path.of(fileName);
+        BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+        JsonObject entry = new JsonObject()
+                .put(F_COMPONENT, componentId)
+                .put(F_SIZE, attrs.size())
+                .put(F_MTIME, attrs.lastModifiedTime().toMillis())
+                .put(F_HASH, hash(path))
+                .put(F_CONTRIBUTION, contribution);
+        if (!messages.isEmpty()) {
+            entry.put(F_MESSAGES, new JsonArray(new ArrayList<>(messages)));
+        }
+        current.put(fileName, entry);
+    }
+
+    /**
+     * Mark a component as parsed during current run, so that entries of its files not visited
+     * during this run are dropped on save.
+     *
+     * @param componentId Id of component
+     */
+    public void componentParsed(String componentId) {
+        parsedComponents.add(componentId);
+    }
+
+    /**
+     * Save entries of all files visited during current run, and previous entries of components
+     * that were not parsed during current run.
+     *
+     * @throws IOException If the store could not be written
+     */
+    public void save() throws IOException {
+        Path parent = storeFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Map<String, Object> entries = new TreeMap<>();
+        for (Map.Entry<String, Object> entry : previous) {
+            if (entry.getValue() instanceof JsonObject
+                    && !parsedComponents.contains(((JsonObject) entry.getValue()).getString(F_COMPONENT))) {
+                entries.put(entry.getKey(), entry.getValue());
+            }
+        }
+        entries.putAll(current);
+        JsonUtils.saveJson(storeFile, new JsonObject(entries), false);
+        LOG.debug("Fingerprint store {} saved: {} entries", storeFile, entries.size());
+    }
+
+    public int size() {
+        return current.size();
+    }
+
+    private static String hash(Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            return DigestUtils.sha256Hex(in);
+        }
+    }
+
+}
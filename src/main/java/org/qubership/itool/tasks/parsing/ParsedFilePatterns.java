@@ -0,0 +1,83 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.qubership.itool.tasks.parsing;
+
+import org.qubership.itool.tasks.other.EnrichDocumentationLinksVerticle;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * File patterns of parsing tasks registered for the flow, i.e. files of component repositories
+ * the flow depends on. Flow puts an instance into resources of its
+ * {@link org.qubership.itool.context.FlowContext} once tasks are created.
+ */
+public final class ParsedFilePatterns {
+
+    /** Build descriptors of all modules, used by dependency extraction and language detection */
+    private static final List<String> BUILD_DESCRIPTOR_PATTERNS = List.of("**/pom.xml", "**/go.mod");
+
+    private final List<AbstractInclusiveParseFileTask> parsingTasks = new ArrayList<>();
+    private final Set<String> checkoutPatterns = new LinkedHashSet<>();
+
+    /**
+     * Collect patterns of parsing tasks of a flow.
+     *
+     * @param flowTasks Tasks of the flow, other tasks than {@link AbstractInclusiveParseFileTask} are ignored
+     */
+    public ParsedFilePatterns(Collection<?> flowTasks) {
+        for (Object task : flowTasks) {
+            if (task instanceof AbstractInclusiveParseFileTask) {
+                AbstractInclusiveParseFileTask parsingTask = (AbstractInclusiveParseFileTask) task;
+                parsingTasks.add(parsingTask);
+                checkoutPatterns.addAll(List.of(parsingTask.getFilePatterns()));
+            }
+        }
+        checkoutPatterns.addAll(BUILD_DESCRIPTOR_PATTERNS);
+        // Components may reside in subdirectories of their repositories
+        for (String docPath : EnrichDocumentationLinksVerticle.DOCUMENTATION_PATHS) {
+            checkoutPatterns.add("**/" + docPath);
+            checkoutPatterns.add("**/" + docPath + "/**");
+        }
+    }
+
+    /**
+     * Get parsing tasks of the flow, including ones of extensions and profiles.
+     *
+     * @return Parsing tasks in order of the flow
+     */
+    public List<AbstractInclusiveParseFileTask> getParsingTasks() {
+        return parsingTasks;
+    }
+
+    /**
+     * Get a filter of files that have to be present in working trees of component repositories:
+     * files matching any of the parsing tasks, build descriptors of all modules and documentation
+     * linked from components.
+     *
+     * @return Predicate on paths relative to repository root, with '/' as separator
+     */
+    public Predicate<String> getCheckoutFilter() {
+        return path -> AbstractInclusiveParseFileTask.matchesAnyFilePattern(path, checkoutPatterns);
+    }
+
+}
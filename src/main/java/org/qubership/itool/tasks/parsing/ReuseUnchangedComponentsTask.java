@@ -0,0 +1,316 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.tasks.parsing;
+
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.eclipse.jgit.diff.DiffEntry;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.qubership.itool.modules.graph.Graph;
+import org.qubership.itool.modules.graph.GraphImpl;
+import org.qubership.itool.modules.processor.GraphMetaInfoSupport;
+import org.qubership.itool.modules.report.GraphReport;
+import org.qubership.itool.tasks.FlowTask;
+import org.qubership.itool.utils.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.qubership.itool.modules.graph.Graph.F_DIRECTORY;
+import static org.qubership.itool.modules.graph.Graph.F_ID;
+import static org.qubership.itool.modules.graph.Graph.F_REVISION;
+import static org.qubership.itool.modules.graph.Graph.F_TYPE;
+import static org.qubership.itool.modules.graph.Graph.V_APPLICATION;
+import static org.qubership.itool.modules.graph.Graph.V_DOMAIN;
+import static org.qubership.itool.modules.graph.Graph.V_ROOT;
+import static org.qubership.itool.utils.ConfigProperties.REUSE_UNCHANGED_COMPONENTS_PROPERTY;
+
+/**
+ * Restore components whose repositories did not change since the previous run from the graph
+ * saved by {@link SaveParsingResultTask} right after parsing, so that parsing tasks may skip them.
+ *
+ * <p>A component is considered unchanged if its {@link Graph#F_REVISION} is the same as in
+ * the previous parsing result, or if none of the files changed between the two revisions matches
+ * the patterns of parsing tasks. For such component, missing attributes are copied from
+ * the previous parsing result, and vertices owned exclusively by it (configuration files, error codes,
+ * etc.) are restored together with report records of the component and those vertices. Attributes
+ * and relations added by tasks following parsing are not restored, they are built again by those tasks.
+ *
+ * <p>Nothing is reused if the previous parsing result was produced by another version of the tool.
+ */
+public class ReuseUnchangedComponentsTask extends FlowTask {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReuseUnchangedComponentsTask.class);
+
+    /** Revision of the previous result that the component was restored from */
+    public static final String F_REUSED_FROM_REVISION = "reusedFromRevision";
+
+    @Override
+    protected Logger getLogger() {
+        return LOGGER;
+    }
+
+    @Override
+    protected void taskStart(Promise<?> taskPromise) throws Exception {
+        // Value may come either from JSON profile or from properties
+        if (!Boolean.parseBoolean(String.valueOf(config().getValue(REUSE_UNCHANGED_COMPONENTS_PROPERTY)))) {
+            getLogger().info("Reuse of unchanged components is disabled");
+            taskCompleted(taskPromise);
+            return;
+        }
+        if (flowContext.getResource(ParsedFilePatterns.class) == null) {
+            getLogger().info("Parsing tasks of the flow are not registered, all components will be parsed");
+            taskCompleted(taskPromise);
+            return;
+        }
+        File previousResult = getParsingResultFile();
+        if (!previousResult.isFile()) {
+            getLogger().info("No previous parsing result found in {}, all components will be parsed", previousResult);
+            taskCompleted(taskPromise);
+            return;
+        }
+
+        JsonObject previousDump = JsonUtils.readJsonFile(previousResult.getPath());
+        String previousVersion = previousDump.getString(SaveParsingResultTask.F_TOOL_VERSION);
+        if (!Objects.equals(previousVersion, getToolVersion())) {
+            getLogger().info("Previous parsing result was produced by version {} of the tool, current version is {}."
+                    + " All components will be parsed", previousVersion, getToolVersion());
+            taskCompleted(taskPromise);
+            return;
+        }
+        Graph previousGraph = new GraphImpl();
+        previousGraph.restoreGraphData(previousDump.getJsonObject("graph"));
+
+        Set<String> filePatterns = getParsedFilePatterns();
+        List<JsonObject> components = V().hasType(V_DOMAIN).out().hasKeys(F_DIRECTORY, F_REVISION).toList();
+        int reused = 0;
+        Set<String> restoredIds = new HashSet<>();
+        for (JsonObject component : components) {
+            JsonObject previousComponent = previousGraph.getVertex(component.getString(F_ID));
+            if (previousComponent == null || previousComponent.getString(F_REVISION) == null) {
+                continue;
+            }
+            String previousRevision = previousComponent.getString(F_REVISION);
+            if (!previousRevision.equals(component.getString(F_REVISION))
+                    && hasSignificantChanges(component, previousRevision, filePatterns)) {
+                continue;
+            }
+            try {
+                restoredIds.addAll(restoreComponent(component, previousComponent, previousGraph));
+                reused++;
+            } catch (RuntimeException e) {
+                report.exceptionThrown(component, e);
+            }
+        }
+        restoreReportRecords(previousDump.getJsonObject("report"), restoredIds);
+        getLogger().info("{} of {} components were restored from previous parsing result", reused, components.size());
+        taskCompleted(taskPromise);
+    }
+
+    protected String getToolVersion() {
+        return GraphMetaInfoSupport.getInventoryToolVersion();
+    }
+
+    /* Parsing tasks skip restored components, so they would not report the same problems again */
+    private void restoreReportRecords(JsonObject previousReport, Set<String> restoredIds) {
+        if (previousReport == null || restoredIds.isEmpty()) {
+            return;
+        }
+        int restored = 0;
+        for (Object o : previousReport.getJsonArray("records", new JsonArray())) {
+            JsonObject record = (JsonObject) o;
+            if (restoredIds.contains(record.getString(GraphReport.COMPONENT))) {
+                report.addRecord(record);
+                restored++;
+            }
+        }
+        getLogger().debug("{} report records restored from previous parsing result", restored);
+    }
+
+    protected File getParsingResultFile() {
+        return new File(PROGRESS_PATH, SaveParsingResultTask.PARSING_RESULT_FILE);
+    }
+
+    /**
+     * Get tasks whose file patterns are used to decide whether a change in repository requires
+     * the component to be parsed again: all parsing tasks of the flow, see {@link ParsedFilePatterns}.
+     *
+     * @return Parsing tasks
+     */
+    protected List<AbstractInclusiveParseFileTask> getParsingTasks() {
+        ParsedFilePatterns patterns = flowContext.getResource(ParsedFilePatterns.class);
+        return patterns == null ? List.of() : patterns.getParsingTasks();
+    }
+
+    protected Set<String> getParsedFilePatterns() {
+        Set<String> patterns = new LinkedHashSet<>();
+        for (AbstractInclusiveParseFileTask task : getParsingTasks()) {
+            patterns.addAll(List.of(task.getFilePatterns()));
+        }
+        return patterns;
+    }
+
+    /* Compare trees of two revisions. Any failure (e.g. previous commit is not available
+     * locally) is treated as a significant change. */
+    protected boolean hasSignificantChanges(JsonObject component, String previousRevision, Set<String> filePatterns) {
+        String componentId = component.getString(F_ID);
+        File workTree = new File(component.getString(F_DIRECTORY));
+        JsonArray excludeDirs = component.getJsonArray("excludeDirs", new JsonArray());
+
+        try (Repository repository = new FileRepositoryBuilder().setWorkTree(workTree).setMustExist(true).build();
+             RevWalk revWalk = new RevWalk(repository);
+             TreeWalk treeWalk = new TreeWalk(repository)) {
+            treeWalk.setRecursive(true);
+            treeWalk.addTree(revWalk.parseTree(ObjectId.fromString(previousRevision)));
+            treeWalk.addTree(revWalk.parseTree(ObjectId.fromString(component.getString(F_REVISION))));
+            for (DiffEntry entry : DiffEntry.scan(treeWalk)) {
+                for (String path : List.of(entry.getOldPath(), entry.getNewPath())) {
+                    if (DiffEntry.DEV_NULL.equals(path) || isUnderExcludedDir(path, excludeDirs)) {
+                        continue;
+                    }
+                    if (AbstractInclusiveParseFileTask.matchesAnyFilePattern(path, filePatterns)) {
+                        getLogger().debug("{}: parsed file {} changed since {}", componentId, path, previousRevision);
+                        return true;
+                    }
+                }
+            }
+            getLogger().debug("{}: no parsed files changed since {}", componentId, previousRevision);
+            return false;
+        } catch (IOException | RuntimeException e) {
+            getLogger().info("{}: unable to compare revisions {} and {}, the component will be parsed: {}",
+                    componentId, previousRevision, component.getString(F_REVISION), e.getMessage());
+            getLogger().trace("Comparison failure", e);
+            return true;
+        }
+    }
+
+    private boolean isUnderExcludedDir(String path, JsonArray excludeDirs) {
+        for (Object excludeDir : excludeDirs) {
+            if (path.startsWith(excludeDir + "/")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Restore a component from the previous parsing result.
+     *
+     * @param component Component in the current graph
+     * @param previousComponent Same component in the previous parsing result
+     * @param previousGraph Previous parsing result
+     * @return Ids of the component and the vertices restored with it
+     */
+    protected Set<String> restoreComponent(JsonObject component, JsonObject previousComponent, Graph previousGraph) {
+        String componentId = component.getString(F_ID);
+        getLogger().info("{}: restoring unchanged component from previous parsing result", componentId);
+
+        copyMissingValues(previousComponent, component);
+        component.put(F_REUSED_FROM_REVISION, previousComponent.getString(F_REVISION));
+
+        Set<String> owned = getOwnedVertexIds(componentId, previousGraph);
+        for (String vertexId : owned) {
+            graph.addVertex(previousGraph.getVertex(vertexId));
+        }
+        List<String> sources = new ArrayList<>(owned);
+        sources.add(componentId);
+        for (String sourceId : sources) {
+            JsonObject source = graph.getVertex(sourceId);
+            for (JsonObject edge : previousGraph.getSuccessorEdges(sourceId)) {
+                JsonObject previousTarget = previousGraph.getEdgeTarget(edge.getString(F_ID));
+                String targetId = previousTarget.getString(F_ID);
+                // Edges to shared vertices are kept if those vertices exist already
+                if (!owned.contains(targetId)
+                        && (isComponentLike(previousTarget) || graph.getVertex(targetId) == null)) {
+                    continue;
+                }
+                JsonObject edgeCopy = edge.copy();
+                edgeCopy.remove(F_ID);
+                graph.addEdge(source, graph.getVertex(targetId), edgeCopy);
+            }
+        }
+        getLogger().debug("{}: {} owned vertices restored", componentId, owned.size());
+        return new HashSet<>(sources);
+    }
+
+    /* Vertices reachable from the component (without crossing other components) having all their
+     * predecessors within the same set */
+    private Set<String> getOwnedVertexIds(String componentId, Graph previousGraph) {
+        Set<String> reachable = new LinkedHashSet<>();
+        Deque<String> queue = new ArrayDeque<>();
+        queue.add(componentId);
+        while (!queue.isEmpty()) {
+            String vertexId = queue.poll();
+            for (JsonObject successor : previousGraph.getSuccessors(vertexId, true)) {
+                String successorId = successor.getString(F_ID);
+                if (!isComponentLike(successor) && reachable.add(successorId)) {
+                    queue.add(successorId);
+                }
+            }
+        }
+
+        Set<String> owned = new LinkedHashSet<>();
+        for (String vertexId : reachable) {
+            boolean exclusive = previousGraph.getPredecessors(vertexId, true).stream()
+                    .map(v -> v.getString(F_ID))
+                    .allMatch(id -> id.equals(componentId) || reachable.contains(id));
+            if (exclusive) {
+                owned.add(vertexId);
+            }
+        }
+        return owned;
+    }
+
+    private boolean isComponentLike(JsonObject vertex) {
+        String type = vertex.getString(F_TYPE);
+        return vertex.containsKey(F_DIRECTORY)
+                || V_DOMAIN.equals(type) || V_APPLICATION.equals(type) || V_ROOT.equals(type);
+    }
+
+    /* Copy values from source that are missing in target. Current values win, so that configuration
+     * changes are respected. */
+    private void copyMissingValues(JsonObject source, JsonObject target) {
+        for (Map.Entry<String, Object> entry : source) {
+            String key = entry.getKey();
+            if (F_REUSED_FROM_REVISION.equals(key)) {
+                continue;
+            }
+            Object targetValue = target.getValue(key);
+            if (targetValue == null) {
+                target.put(key, entry.getValue());
+            } else if (targetValue instanceof JsonObject && entry.getValue() instanceof JsonObject) {
+                copyMissingValues((JsonObject) entry.getValue(), (JsonObject) targetValue);
+            }
+        }
+    }
+
+}
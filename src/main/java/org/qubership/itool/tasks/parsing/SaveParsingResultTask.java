@@ -0,0 +1,76 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.tasks.parsing;
+
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonObject;
+import org.qubership.itool.modules.graph.GraphDumpSupport;
+import org.qubership.itool.modules.processor.GraphMetaInfoSupport;
+import org.qubership.itool.tasks.FlowTask;
+import org.qubership.itool.utils.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.qubership.itool.utils.ConfigProperties.REUSE_UNCHANGED_COMPONENTS_PROPERTY;
+
+/**
+ * Save the graph and the report as they are right after parsing, so that {@link ReuseUnchangedComponentsTask}
+ * restores unchanged components on subsequent runs without attributes computed by later tasks.
+ * The result is marked with the tool version, since another version may parse the same files differently.
+ */
+public class SaveParsingResultTask extends FlowTask {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SaveParsingResultTask.class);
+
+    public static final String PARSING_RESULT_FILE = "task.parsingResult.json";
+
+    /** Version of the tool that produced the parsing result */
+    public static final String F_TOOL_VERSION = "toolVersion";
+
+    @Override
+    protected Logger getLogger() {
+        return LOGGER;
+    }
+
+    @Override
+    protected void taskStart(Promise<?> taskPromise) {
+        // Value may come either from JSON profile or from properties
+        if (Boolean.parseBoolean(String.valueOf(config().getValue(REUSE_UNCHANGED_COMPONENTS_PROPERTY)))) {
+            File parsingResult = getParsingResultFile();
+            JsonObject dump = GraphDumpSupport.dumpToJson(graph, false)
+                    .put(F_TOOL_VERSION, getToolVersion());
+            try {
+                parsingResult.getParentFile().mkdirs();
+                JsonUtils.saveJson(parsingResult.toPath(), dump, true);
+            } catch (IOException e) {
+                report.internalError("Failed to save parsing result into " + parsingResult + ": " + e.getMessage());
+            }
+        }
+        taskCompleted(taskPromise);
+    }
+
+    protected String getToolVersion() {
+        return GraphMetaInfoSupport.getInventoryToolVersion();
+    }
+
+    protected File getParsingResultFile() {
+        return new File(PROGRESS_PATH, PARSING_RESULT_FILE);
+    }
+
+}
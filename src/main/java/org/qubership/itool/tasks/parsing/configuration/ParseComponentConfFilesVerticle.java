@@ -31,12 +31,11 @@
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.UUID;
 import javax.annotation.Resource;
 
-import static org.qubership.itool.modules.report.GraphReport.EXCEPTION;
-
 /**
  * Store some config files into the graph as "file" and "directory" elements.
  *
@@ -73,32 +72,71 @@ protected boolean isSpringYamlFile(String fileName) {
     @Override
     protected void parseSingleFile(JsonObject domain, JsonObject component, String fileName)
             throws IOException {
+        parseSingleFileContribution(domain, component, fileName);
+    }
+
+    @Override
+    protected boolean supportsIncrementalParsing() {
+        return true;
+    }
+
+    /* Contribution of a file is its "file" vertex without id and content. Content parsing is the costly part,
+     * so the parsed data are replayed as is, while the content is read again from the unchanged file
+     * instead of being duplicated in the store, and the link depending on config is built again. */
+    @Override
+    protected JsonObject parseSingleFileContribution(JsonObject domain, JsonObject component, String fileName)
+            throws IOException {
         File parsedFile = new File(fileName);
         if (!parsedFile.isFile()) {
-            return;
+            return null;
         }
         synchronized (component) {
             String relativePath = FSUtils.relativePath(component, fileName);
-            File file = new File(relativePath);
-            Path filePath = file.toPath();
-            String path = "";
-            JsonObject sourceVertex = component;
-
-            for (int i = 0; i < filePath.getNameCount() - 1; i++) {
-                String name = filePath.getName(i).toString();
-                path = path + "/" + name;
-                sourceVertex = getOrCreateDirectoryVertex(component, sourceVertex, name, path, fileName);
-            }
+            Path filePath = Path.of(relativePath);
+            JsonObject sourceVertex = getOrCreateParentDirectories(component, filePath, fileName);
+
+            String name = filePath.getFileName().toString();
+            JsonObject fileVertex = createVertexNode(component, sourceVertex, name, "/" + relativePath, fileName, "file");
+            JsonObject contribution = new JsonObject(new LinkedHashMap<>(fileVertex.getMap()));
+            contribution.remove("id");
+            contribution.remove("fileLink");
+            contribution.remove("content");
+            return contribution;
+        }
+    }
+
+    @Override
+    protected void replayFileContribution(JsonObject domain, JsonObject component, String fileName,
+            JsonObject contribution) throws IOException {
+        synchronized (component) {
+            Path filePath = Path.of(FSUtils.relativePath(component, fileName));
+            JsonObject sourceVertex = getOrCreateParentDirectories(component, filePath, fileName);
+
+            JsonObject vertex = contribution.copy();
+            vertex.put("id", UUID.randomUUID());
+            vertex.put("fileLink", buildFileLink(component, fileName, vertex.getString("name")));
+            vertex.put("content", FSUtils.readFileAsIs(fileName));
+            graph.addEdge(sourceVertex, vertex, new JsonObject().put("type", "file"));
+            getLogger().debug("Config file component restored from cache. id: {}, name: {}",
+                    vertex.getString("id"), vertex.getString("name"));
+        }
+    }
 
-            String name = filePath.getName(filePath.getNameCount() - 1).toString();
+    private JsonObject getOrCreateParentDirectories(JsonObject component, Path filePath, String fileName)
+            throws IOException {
+        String path = "";
+        JsonObject sourceVertex = component;
+        for (int i = 0; i < filePath.getNameCount() - 1; i++) {
+            String name = filePath.getName(i).toString();
             path = path + "/" + name;
-            createVertexNode(component, sourceVertex, name, path, fileName, "file");
+            sourceVertex = getOrCreateDirectoryVertex(component, sourceVertex, name, path, fileName);
         }
+        return sourceVertex;
     }
 
     private JsonObject createVertexNode(JsonObject component, JsonObject sourceVertex, String name, String path,
                                         String fileName, String type) throws IOException {
-        String fileLink = GitUtils.buildRepositoryLink(component, fileName.split(name)[0] + name, config());
+        String fileLink = buildFileLink(component, fileName, name);
         JsonObject vertex = new JsonObject();
         vertex.put("id", UUID.randomUUID());
         vertex.put("type", type);
@@ -118,6 +156,10 @@ private JsonObject createVertexNode(JsonObject component, JsonObject sourceVerte
         return vertex;
     }
 
+    private String buildFileLink(JsonObject component, String fileName, String name) {
+        return GitUtils.buildRepositoryLink(component, fileName.split(name)[0] + name, config());
+    }
+
     private JsonObject getOrCreateDirectoryVertex(JsonObject component, JsonObject sourceVertex,
             String name, String path, String fileName)
             throws IOException {
@@ -150,7 +192,7 @@ private void storeFileContent(JsonObject component, JsonObject vertex, String fi
                 vertex.put("structured", data); // Either JsonObject or JsonArray
             }
         } catch (Exception e) {
-            report.addMessage(EXCEPTION, component,
+            reportFileException(component, fileName,
                     "Exception was thrown while handling '" + fileName
                             + "': " + e.getMessage() + "\nStacktrace:\n" + ExceptionUtils.getStackTrace(e));
         }
@@ -44,35 +44,45 @@ protected String[] getFilePatterns() {
         return new String[] { "*.java" };
     }
 
+    @Override
+    protected boolean supportsFileLevelParallelism() {
+        return true;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     protected void parseSingleFile(JsonObject domain, JsonObject component, String fileName) throws IOException {
-        getLogger().trace("{}: Searching for @Route annotation in file '{}'", component.getString("id"), fileName);
-
-        JsonPointer pluginsPointer = JsonPointer.from("/details/gateways");
-        Set<String> gatewaysSet = new HashSet<>();
-        JsonArray gateways = (JsonArray) pluginsPointer.queryJson(component);
-        if (gateways != null) {
-            gatewaysSet.addAll(gateways.getList());
-        }
+        String componentId = component.getString("id");
+        getLogger().trace("{}: Searching for @Route annotation in file '{}'", componentId, fileName);
 
         String fileContents = FSUtils.readFileSafe(fileName);
         String[] fileLines = fileContents.split(LINE_BREAK_REGEX);
-        String componentId = component.getString("id");
+        String gateway = null;
         for (String fileLine : fileLines) {
             if (fileLine.startsWith(ROUTE_ANNOTATION)) {
 
                 Matcher matcher = GATEWAY_TYPE_PATTERN.matcher(fileLine);
                 if (matcher.find()) {
-                    String gateway = matcher.group().toLowerCase();
-                    gatewaysSet.add(gateway);
+                    gateway = matcher.group().toLowerCase();
                     getLogger().debug("{}: Route configuration '{}' is found in file '{}'",
                             componentId, gateway, fileName);
                     break;
                 }
             }
         }
-        if (!gatewaysSet.isEmpty()) {
+        if (gateway == null) {
+            return;
+        }
+
+        // Files of the same component may be parsed concurrently
+        synchronized (component) {
+            JsonPointer pluginsPointer = JsonPointer.from("/details/gateways");
+            Set<String> gatewaysSet = new HashSet<>();
+            JsonArray gateways = (JsonArray) pluginsPointer.queryJson(component);
+            if (gateways != null) {
+                gatewaysSet.addAll(gateways.getList());
+            }
+            gatewaysSet.add(gateway);
             pluginsPointer.writeJson(component, new JsonArray(gatewaysSet.stream().collect(Collectors.toList())));
         }
     }
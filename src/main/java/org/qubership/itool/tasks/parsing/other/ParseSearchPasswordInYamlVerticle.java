@@ -43,6 +43,11 @@ protected String[] getFilePatterns() {
         return new String[] {"*.yml", "*.yaml"};
     }
 
+    @Override
+    protected boolean supportsFileLevelParallelism() {
+        return true;
+    }
+
     @Override
     protected void parseSingleFile(JsonObject domain, JsonObject component, String fileName) throws IOException {
         JsonObject details = component.getJsonObject("details");
@@ -69,12 +74,15 @@ protected void parseSingleFile(JsonObject domain, JsonObject component, String f
 
         if (!passwordsList.isEmpty()) {
             LOGGER.info("Plain password in YAML found for " + component.getString("id"));
-            JsonObject passwordsPerFile = details.getJsonObject("passwords");
-            if (null == passwordsPerFile) {
-                passwordsPerFile = new JsonObject();
-                details.put("passwords", passwordsPerFile);
+            // Files of the same component may be parsed concurrently
+            synchronized (component) {
+                JsonObject passwordsPerFile = details.getJsonObject("passwords");
+                if (null == passwordsPerFile) {
+                    passwordsPerFile = new JsonObject();
+                    details.put("passwords", passwordsPerFile);
+                }
+                passwordsPerFile.put(FSUtils.relativePath(component, fileName), fileEntry);
             }
-            passwordsPerFile.put(FSUtils.relativePath(component, fileName), fileEntry);
         }
     }
 
@@ -18,7 +18,6 @@
 
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
-import io.vertx.core.impl.future.SucceededFuture;
 import io.vertx.core.json.JsonObject;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
@@ -81,20 +80,20 @@ private Future<Void> updateRepositories() {
 
         Future<Void> updateRepoFuture = gitAdapter.prepareSuperRepository()
                 .compose(superRepository -> {
-                    Future<?> previousReleaseCopyFuture = SucceededFuture.EMPTY;
+                    Future<Void> previousReleaseCopyFuture = Future.succeededFuture();
                     // Copy files from prior release if needed
                     if (compareRequired && sourceRelease != null && !sourceRelease.equals(targetRelease)) {
-                        previousReleaseCopyFuture = gitAdapter.switchSuperRepoBranch(superRepository, sourceRelease)
+                        // Files are read from the object database, so the prior release is not checked out
+                        previousReleaseCopyFuture = gitAdapter.fetch(superRepository)
                                 .compose(r -> getFilesList())
-                                .compose(list -> Future.join(gitFileRetriever.copyFilesFromRepo(
-                                        superRepository, sourceRelease, (List<Path>) list)))
+                                .compose(list -> gitFileRetriever.copyFilesFromRelease(
+                                        superRepository, sourceRelease, list))
+                                .<Void>mapEmpty()
                                 .recover(throwable -> {
                                     getLogger().warn(
                                             "Comparison with prior release failed, continuing with target release: {}",
-                                            throwable instanceof Throwable
-                                                    ? ((Throwable) throwable).getMessage()
-                                                    : throwable);
-                                    return SucceededFuture.EMPTY;
+                                            throwable.getMessage());
+                                    return Future.succeededFuture();
                                 });
                     }
 
@@ -113,7 +112,7 @@ private Future<Void> updateRepositories() {
                                 if ((Boolean) r) {
                                     return gitAdapter.gitCommit(superRepository, "New repositories added");
                                 } else {
-                                    return SucceededFuture.EMPTY;
+                                    return Future.<Void>succeededFuture();
                                 }
                             })
                             .compose(res -> gitAdapter.submoduleUpdate(superRepository)
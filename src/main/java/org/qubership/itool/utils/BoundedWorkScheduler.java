@@ -0,0 +1,242 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.utils;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.WorkerExecutor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+/**
+ * Runs blocking work units on a {@link WorkerExecutor} keeping limited amount of work in flight,
+ * instead of queueing everything into the executor at once.
+ *
+ * <p>Pending units are ordered by estimated cost, the most expensive ones start first, so that
+ * they do not dominate the tail. Every unit has a weight (1 by default); sum of weights of units
+ * in flight does not exceed the capacity, except that a single unit heavier than the capacity
+ * is still allowed to run alone. Number of units in flight is limited as well, so that units
+ * of zero weight do not flood the executor.
+ *
+ * <p>Units may be assigned to a group (e.g. a remote host), limiting the number of units of the
+ * same group in flight. Units of a saturated group wait while cheaper units of other groups run.
+ *
+ * <p>Units may submit further units while running, e.g. to split large work into chunks that
+ * can be picked up by idle workers.
+ */
+public class BoundedWorkScheduler {
+
+    private final WorkerExecutor executor;
+    private final long capacity;
+    private final int unitLimit;
+    private final int groupLimit;
+    private final Consumer<Throwable> failureHandler;
+
+    private final PriorityQueue<Unit> pending = new PriorityQueue<>(
+            Comparator.comparingLong((Unit u) -> u.cost).reversed()
+                    .thenComparingLong(u -> u.sequence));
+    private final Map<String, Integer> groupsInFlight = new HashMap<>();
+    private final Promise<Void> completion = Promise.promise();
+    private long sequence;
+    private long weightInFlight;
+    private int unitsInFlight;
+    private boolean started;
+
+    /**
+     * Create a scheduler. Number of units in flight is limited by the capacity as well.
+     *
+     * @param executor Executor to run work units in
+     * @param capacity Maximal sum of weights of units in flight
+     * @param failureHandler Handler for failures of single units. Failed units do not fail
+     *     the whole batch.
+     */
+    public BoundedWorkScheduler(WorkerExecutor executor, long capacity, Consumer<Throwable> failureHandler) {
+        this(executor, capacity, Integer.MAX_VALUE, failureHandler);
+    }
+
+    /**
+     * Create a scheduler limiting units of the same group. Number of units in flight is limited
+     * by the capacity as well.
+     *
+     * @param executor Executor to run work units in
+     * @param capacity Maximal sum of weights of units in flight
+     * @param groupLimit Maximal number of units of the same group in flight
+     * @param failureHandler Handler for failures of single units. Failed units do not fail
+     *     the whole batch.
+     */
+    public BoundedWorkScheduler(WorkerExecutor executor, long capacity, int groupLimit,
+            Consumer<Throwable> failureHandler) {
+        this(executor, capacity, (int) Math.min(capacity, Integer.MAX_VALUE), groupLimit, failureHandler);
+    }
+
+    /**
+     * Create a scheduler with separate limits for weight and number of units in flight.
+     *
+     * @param executor Executor to run work units in
+     * @param capacity Maximal sum of weights of units in flight
+     * @param unitLimit Maximal number of units in flight, whatever their weights are
+     * @param groupLimit Maximal number of units of the same group in flight
+     * @param failureHandler Handler for failures of single units. Failed units do not fail
+     *     the whole batch.
+     */
+    public BoundedWorkScheduler(WorkerExecutor executor, long capacity, int unitLimit, int groupLimit,
+            Consumer<Throwable> failureHandler) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        if (unitLimit <= 0) {
+            throw new IllegalArgumentException("Unit limit must be positive: " + unitLimit);
+        }
+        if (groupLimit <= 0) {
+            throw new IllegalArgumentException("Group limit must be positive: " + groupLimit);
+        }
+        this.executor = executor;
+        this.capacity = capacity;
+        this.unitLimit = unitLimit;
+        this.groupLimit = groupLimit;
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Submit a work unit of weight 1.
+     *
+     * @param cost Estimated cost, units with higher cost start first
+     * @param work Blocking code
+     */
+    public void submit(long cost, Callable<?> work) {
+        submit(cost, 1, work);
+    }
+
+    /**
+     * Submit a work unit.
+     *
+     * @param cost Estimated cost, units with higher cost start first
+     * @param weight Weight of the unit counted against the capacity
+     * @param work Blocking code
+     */
+    public void submit(long cost, long weight, Callable<?> work) {
+        submit(cost, weight, null, work);
+    }
+
+    /**
+     * Submit a work unit belonging to a group.
+     *
+     * @param cost Estimated cost, units with higher cost start first
+     * @param weight Weight of the unit counted against the capacity
+     * @param group Group of the unit, or {@code null} for no group
+     * @param work Blocking code
+     */
+    public synchronized void submit(long cost, long weight, String group, Callable<?> work) {
+        if (completion.future().isComplete()) {
+            throw new IllegalStateException("Scheduler has already completed its work");
+        }
+        pending.add(new Unit(cost, Math.max(weight, 0), group, sequence++, work));
+        if (started) {
+            drain();
+        }
+    }
+
+    /**
+     * Start processing of submitted units.
+     *
+     * @return A Future that succeeds once all the units, including ones submitted later by
+     *     running units, are finished
+     */
+    public synchronized Future<Void> start() {
+        started = true;
+        drain();
+        return completion.future();
+    }
+
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    public synchronized int getInFlightCount() {
+        return unitsInFlight;
+    }
+
+    private void drain() {
+        List<Unit> deferred = null;
+        while (!pending.isEmpty()) {
+            Unit next = pending.peek();
+            if (unitsInFlight >= unitLimit || unitsInFlight > 0 && weightInFlight + next.weight > capacity) {
+                break;
+            }
+            pending.poll();
+            if (next.group != null && groupsInFlight.getOrDefault(next.group, 0) >= groupLimit) {
+                if (deferred == null) {
+                    deferred = new ArrayList<>();
+                }
+                deferred.add(next);
+                continue;
+            }
+            weightInFlight += next.weight;
+            unitsInFlight++;
+            if (next.group != null) {
+                groupsInFlight.merge(next.group, 1, Integer::sum);
+            }
+            executor.executeBlocking(next.work, false)
+                    .onComplete(ar -> finished(next, ar));
+        }
+        if (deferred != null) {
+            pending.addAll(deferred);
+        }
+        if (unitsInFlight == 0 && pending.isEmpty()) {
+            completion.tryComplete();
+        }
+    }
+
+    private void finished(Unit unit, AsyncResult<?> ar) {
+        if (ar.failed() && failureHandler != null) {
+            failureHandler.accept(ar.cause());
+        }
+        synchronized (this) {
+            weightInFlight -= unit.weight;
+            unitsInFlight--;
+            if (unit.group != null) {
+                groupsInFlight.computeIfPresent(unit.group, (g, n) -> n > 1 ? n - 1 : null);
+            }
+            drain();
+        }
+    }
+
+    private static class Unit {
+        final long cost;
+        final long weight;
+        final String group;
+        final long sequence;
+        final Callable<?> work;
+
+        Unit(long cost, long weight, String group, long sequence, Callable<?> work) {
+            this.cost = cost;
+            this.weight = weight;
+            this.group = group;
+            this.sequence = sequence;
+            this.work = work;
+        }
+    }
+
+}
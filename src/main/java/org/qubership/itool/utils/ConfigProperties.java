@@ -27,6 +27,11 @@ public interface ConfigProperties {
     String DEFAULT_MAIN_BRANCH_POINTER = "/git/defaultMainBranch";
     String UPLOAD_CONFLUENCE_PAGES_POINTER = "/confluence/uploadConfluencePages";
     String CONFLUENCE_SPACE_POINTER = "/confluence/space";
+    String CONFLUENCE_SKIP_UNCHANGED_POINTER = "/confluence/skipUnchangedPages";
+    String CONFLUENCE_REQUESTS_PER_SECOND_POINTER = "/confluence/requestsPerSecond";
+    String CONFLUENCE_MAX_CONCURRENT_REQUESTS_POINTER = "/confluence/maxConcurrentRequests";
+    String CONFLUENCE_MAX_RETRIES_POINTER = "/confluence/maxRetries";
+    String CONFLUENCE_DISCOVER_DESCENDANTS_POINTER = "/confluence/discoverDescendants";
     String CONFIG_PATH_POINTER = "/configPath";
     String PROFILE_POINTER = "/profile";
     String DISABLED_FEATURES_POINTER = "/disabledFeatures";
@@ -36,6 +41,13 @@ public interface ConfigProperties {
     String QUERY_FILE_POINTER = "/query/file";
     String QUERY_APP_NAME_POINTER = "/query/appName";
     String QUERY_APP_VERSION_POINTER = "/query/appVersion";
+    String QUERY_LAZY_LOADING_POINTER = "/query/lazyLoading";
+
+    String DAEMON_HOST_POINTER = "/daemon/host";
+    String DAEMON_PORT_POINTER = "/daemon/port";
+    String DAEMON_DATA_DIRECTORY_POINTER = "/daemon/dataDirectory";
+    String DAEMON_OUTPUT_DIRECTORY_POINTER = "/daemon/outputDirectory";
+    String DAEMON_AUTH_POINTER = "/daemon/auth";
 
     String PASSWORD_PROPERTY = "password";
     String PASSWORD_SOURCE_PROPERTY = "passwordSource";
@@ -48,6 +60,11 @@ public interface ConfigProperties {
     String LAST_STEP_PROPERTY = "lastStep";
     String INCLUDE_DOMAINS_PROPERTY = "includeDomains";
     String DISABLED_FEATURES_PROPERTY = "disabledFeatures";
+    String INCREMENTAL_PARSING_PROPERTY = "incrementalParsing";
+    String PARSING_METRICS_PROPERTY = "parsingMetrics";
+    String REUSE_UNCHANGED_COMPONENTS_PROPERTY = "reuseUnchangedComponents";
+    String MAX_PARALLEL_TASKS_PROPERTY = "maxParallelTasks";
+    String DRY_RUN_PROPERTY = "dryRun";
 
     String DEFAULT_RELEASE = "default";
     String RELEASES_DIR = "releases";
@@ -63,4 +80,20 @@ public interface ConfigProperties {
     String APPDB_AUTH_METHOD_POINTER = "/appDB/auth/method";
     String APPDB_MAVEN_ENTRY_POINTER = "/appDB/maven/entry";
 
+    String MAVEN_MEMORY_BUDGET_POINTER = "/maven/memoryBudgetMb";
+    String MAVEN_INVOCATION_MEMORY_POINTER = "/maven/invocationMemoryMb";
+    String MAVEN_DEPENDENCY_CACHE_POINTER = "/maven/dependencyCache";
+
+    String TELEMETRY_ENABLED_POINTER = "/telemetry/enabled";
+    String TELEMETRY_JFR_POINTER = "/telemetry/jfr";
+
+    String REPORT_MAX_IN_MEMORY_POINTER = "/report/maxInMemoryMb";
+    String REPORT_SPILL_DIRECTORY_POINTER = "/report/spillDirectory";
+
+    String GIT_CHECKOUT_PARALLELISM_POINTER = "/git/checkoutParallelism";
+    String GIT_CONNECTIONS_PER_HOST_POINTER = "/git/connectionsPerHost";
+    String GIT_SKIP_FETCH_IF_PRESENT_POINTER = "/git/skipFetchIfPresent";
+    String GIT_CLONE_DEPTH_POINTER = "/git/cloneDepth";
+    String GIT_SPARSE_CHECKOUT_POINTER = "/git/sparseCheckout";
+
 }
@@ -24,6 +24,7 @@
 import org.qubership.itool.modules.graph.BasicGraph;
 import org.qubership.itool.modules.graph.Graph;
 import org.qubership.itool.modules.graph.GraphDataConstants;
+import org.qubership.itool.modules.gremlin2.graph.GraphTraversalSource;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
@@ -79,14 +80,30 @@ public static JsonArray convertListToLanguages(Object value) {
     }
 
     public static boolean hasLanguage(BasicGraph graph, JsonObject component, String languageName) {
-        return graph.traversal().V(component.getString(F_ID))
+        return hasLanguage(graph.traversal(), component, languageName);
+    }
+
+    /**
+     * Same as {@link #hasLanguage(BasicGraph, JsonObject, String)} using given traversal source, e.g. a
+     * {@link GraphTraversalSource#cached() cached} one in tasks that do not modify the graph.
+     */
+    public static boolean hasLanguage(GraphTraversalSource g, JsonObject component, String languageName) {
+        return g.V(component.getString(F_ID))
                 .out("info")
                 .hasType("language")
                 .has(F_NAME, languageName).next() != null;
     }
 
     public static String getLanguagesAsString(BasicGraph graph, JsonObject component) {
-        List<Map<Object, String>> languages = graph.traversal().V(component.getString(F_ID))
+        return getLanguagesAsString(graph.traversal(), component);
+    }
+
+    /**
+     * Same as {@link #getLanguagesAsString(BasicGraph, JsonObject)} using given traversal source, e.g. a
+     * {@link GraphTraversalSource#cached() cached} one in tasks that do not modify the graph.
+     */
+    public static String getLanguagesAsString(GraphTraversalSource g, JsonObject component) {
+        List<Map<Object, String>> languages = g.V(component.getString(F_ID))
                 .out("info")
                 .hasType("language")
                 .<String>values(F_NAME, F_VERSION).toList();
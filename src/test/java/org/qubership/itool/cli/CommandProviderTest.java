@@ -51,7 +51,7 @@ public void testServiceLoaderDiscovery() {
 
         assertNotNull(providers);
 
-        // Count discovered providers (should be 6 core providers in test environment)
+        // Count discovered providers (should be 7 core providers in test environment)
         int providerCount = 0;
         for (CommandProvider provider : providers) {
             providerCount++;
@@ -60,9 +60,9 @@ public void testServiceLoaderDiscovery() {
             assertNotNull(provider.createCommand());
         }
 
-        // In test environment, we should find 6 core command providers
-        assertEquals(6, providerCount,
-                "Should find 6 core command providers in test environment, found: " + providerCount);
+        // In test environment, we should find 7 core command providers
+        assertEquals(7, providerCount,
+                "Should find 7 core command providers in test environment, found: " + providerCount);
     }
 
     @Test
@@ -86,9 +86,10 @@ public void testCoreCommandsArePresent() {
         assertTrue(commandNames.contains("obfuscate"), "Should find obfuscate command");
         assertTrue(commandNames.contains("ci-exec"), "Should find ci-exec command");
         assertTrue(commandNames.contains("ci-assembly"), "Should find ci-assembly command");
+        assertTrue(commandNames.contains("daemon"), "Should find daemon command");
 
-        assertEquals(6, commandNames.size(),
-                "Should find exactly 6 core commands, found: " + commandNames.size());
+        assertEquals(7, commandNames.size(),
+                "Should find exactly 7 core commands, found: " + commandNames.size());
     }
 
     /**
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.qubership.itool.cli;
+
+import com.google.inject.Module;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.itool.cli.ci.CiAssemblyVerticle;
+import org.qubership.itool.cli.ci.CiExecVerticle;
+import org.qubership.itool.context.FlowContext;
+import org.qubership.itool.di.ApplicationContext;
+import org.qubership.itool.di.QubershipModule;
+import org.qubership.itool.utils.FutureUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.qubership.itool.utils.ConfigProperties.DRY_RUN_PROPERTY;
+
+class FlowMainVerticleTest {
+
+    Vertx vertx;
+    FlowContext flowContext;
+
+    @BeforeEach
+    void setUp() {
+        vertx = Vertx.vertx();
+        JsonObject config = new JsonObject()
+                .put(DRY_RUN_PROPERTY, "true")
+                .put("telemetry", new JsonObject().put("enabled", "false"));
+        ApplicationContext appContext =
+                new ApplicationContext(vertx, config, new Module[] {new QubershipModule(vertx)});
+        flowContext = appContext.getInstance(FlowContext.class);
+        flowContext.initialize(vertx, config);
+        flowContext.setTaskClassLoader(getClass().getClassLoader());
+    }
+
+    @AfterEach
+    void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    void testDryRunInitializesTasksWithoutRunningThem() {
+        int vertices = flowContext.getGraph().getVertexCount();
+        FutureUtils.blockForResultOrException(new CiExecVerticle().deployAndRunFlow(flowContext), 30, TimeUnit.SECONDS);
+        FutureUtils.blockForResultOrException(new CiAssemblyVerticle().deployAndRunFlow(flowContext),
+                30, TimeUnit.SECONDS);
+        assertEquals(vertices, flowContext.getGraph().getVertexCount());
+        assertEquals(0, flowContext.getReport().getRecordCount());
+    }
+
+}
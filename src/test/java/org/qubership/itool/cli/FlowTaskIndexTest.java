@@ -0,0 +1,133 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.cli;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.qubership.itool.tasks.FlowTask;
+import org.qubership.itool.tasks.SaveResultVerticle;
+import org.qubership.itool.tasks.ci.MergeGraphsVerticle;
+
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlowTaskIndexTest {
+
+    static final List<String> FLOWS = List.of(
+            "classpath:/org/qubership/itool/cli/ExecFlow.txt",
+            "classpath:/org/qubership/itool/cli/extract/ExtractionFlow.txt",
+            "classpath:/org/qubership/itool/cli/obfuscate/ObfuscationFlow.txt",
+            "classpath:/org/qubership/itool/cli/ci/CiExecFlow.txt",
+            "classpath:/org/qubership/itool/cli/ci/CiAssemblyFlow.txt",
+            "classpath:/org/qubership/itool/cli/ci/CiExecApplicationFlow.txt");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testStaleIndexEntriesAreSkipped() throws Exception {
+        Path index = tempDir.resolve(FlowMainVerticle.TASK_INDEX_RESOURCE);
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, "org.example.RemovedTask\n" + SaveResultVerticle.class.getName() + "\n");
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {tempDir.toUri().toURL()},
+                getClass().getClassLoader())) {
+            Map<String, Class<? extends FlowTask>> classes = new HashMap<>();
+            new ExecVerticle().findIndexedTaskClasses(classLoader,
+                    Set.of("RemovedTask", "SaveResultVerticle"), classes);
+            // Removed task is left for classpath scanning
+            assertEquals(Map.of("SaveResultVerticle", SaveResultVerticle.class), classes);
+        }
+    }
+
+    @Test
+    void testAllFlowTasksAreIndexed() throws Exception {
+        ExecVerticle verticle = new ExecVerticle();
+        for (String flow : FLOWS) {
+            for (String taskName : verticle.loadFlowSequence(flow)) {
+                Collection<String> possibleNames = verticle.getPossibleClassNames(taskName);
+                Map<String, Class<? extends FlowTask>> classes = new HashMap<>();
+                verticle.findIndexedTaskClasses(getClass().getClassLoader(), Set.copyOf(possibleNames), classes);
+                assertTrue(possibleNames.stream().anyMatch(classes::containsKey),
+                        "Task " + taskName + " of " + flow + " is not indexed, found: "
+                                + classes.values().stream().map(Class::getName).collect(Collectors.toList()));
+            }
+        }
+    }
+
+
+    @Test
+    void testTasksListedWithDifferentClassesAreLeftForScanning() throws Exception {
+        Path builtIn = tempDir.resolve("builtIn");
+        Path extension = tempDir.resolve("extension");
+        writeIndex(builtIn, SaveResultVerticle.class, MergeGraphsVerticle.class);
+        writeIndex(extension, org.qubership.itool.cli.override.SaveResultVerticle.class,
+                MergeGraphsVerticle.class);
+        try (URLClassLoader classLoader = new URLClassLoader(
+                new URL[] {builtIn.toUri().toURL(), extension.toUri().toURL()}, getClass().getClassLoader())) {
+            Map<String, Class<? extends FlowTask>> classes = new HashMap<>();
+            new ExecVerticle().findIndexedTaskClasses(classLoader,
+                    Set.of("SaveResultVerticle", "MergeGraphsVerticle"), classes);
+            // SaveResultVerticle is left for classpath scanning, the same class listed twice is not ambiguous
+            assertEquals(Map.of("MergeGraphsVerticle", MergeGraphsVerticle.class), classes);
+        }
+    }
+
+    @Test
+    void testIndexListsAllTasks() throws Exception {
+        Path classesDir = Path.of(FlowTask.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        Set<String> tasks = new TreeSet<>();
+        try (Stream<Path> files = Files.walk(classesDir)) {
+            for (Path file : files.filter(f -> f.toString().endsWith(".class")).collect(Collectors.toList())) {
+                String className = classesDir.relativize(file).toString()
+                        .replaceFirst("\\.class$", "").replace(file.getFileSystem().getSeparator(), ".");
+                if (className.contains("$")) {
+                    continue;
+                }
+                Class<?> clazz = Class.forName(className, false, getClass().getClassLoader());
+                if (FlowTask.class.isAssignableFrom(clazz) && Modifier.isPublic(clazz.getModifiers())
+                        && !Modifier.isAbstract(clazz.getModifiers())) {
+                    tasks.add(className);
+                }
+            }
+        }
+        Set<String> indexed = Files.readAllLines(classesDir.resolve(FlowMainVerticle.TASK_INDEX_RESOURCE)).stream()
+                .filter(line -> !line.startsWith("#"))
+                .collect(Collectors.toCollection(TreeSet::new));
+        assertEquals(tasks, indexed, "Index " + FlowMainVerticle.TASK_INDEX_RESOURCE + " is not up to date");
+    }
+
+    private static void writeIndex(Path root, Class<?>... taskClasses) throws Exception {
+        Path index = root.resolve(FlowMainVerticle.TASK_INDEX_RESOURCE);
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, Stream.of(taskClasses).map(Class::getName).collect(Collectors.joining("\n")));
+    }
+
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.cli;
+
+import com.google.inject.Module;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.qubership.itool.context.FlowContext;
+import org.qubership.itool.di.ApplicationContext;
+import org.qubership.itool.di.QubershipModule;
+import org.qubership.itool.tasks.FlowTask;
+import org.qubership.itool.utils.FutureUtils;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.qubership.itool.tasks.FlowTask.RESOURCE_ALL;
+import static org.qubership.itool.tasks.FlowTask.RESOURCE_GRAPH;
+import static org.qubership.itool.tasks.FlowTask.RESOURCE_REPORT;
+
+class FlowTaskSchedulerTest {
+
+    static Vertx vertx;
+    static FlowContext flowContext;
+
+    final List<String> events = new CopyOnWriteArrayList<>();
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger maxRunning = new AtomicInteger();
+
+    @BeforeAll
+    static void setUp() {
+        vertx = Vertx.vertx();
+        JsonObject config = new JsonObject();
+        ApplicationContext appContext =
+                new ApplicationContext(vertx, config, new Module[] {new QubershipModule(vertx)});
+        flowContext = appContext.getInstance(FlowContext.class);
+        flowContext.initialize(vertx, config);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    void testDependencies() {
+        List<FlowTask> tasks = List.of(
+                task("init", null, null, null),                                     // 0
+                task("export1", new String[] {RESOURCE_GRAPH}, new String[] {"file/a"},
+                        new String[] {RESOURCE_REPORT}),                            // 1
+                task("export2", new String[] {RESOURCE_GRAPH}, new String[] {"file/b"},
+                        new String[] {RESOURCE_REPORT}),                            // 2
+                task("errors", new String[] {RESOURCE_GRAPH, RESOURCE_REPORT}, new String[0],
+                        new String[0]),                                             // 3
+                task("libraries", new String[0], new String[] {"graph/library"},
+                        new String[0]),                                             // 4
+                task("save", null, null, null));                                    // 5
+        FlowTaskScheduler scheduler = new FlowTaskScheduler(tasks, Set.of(), 4);
+
+        assertEquals(bits(0), scheduler.getDependencies(1));
+        assertEquals(bits(0), scheduler.getDependencies(2));
+        assertEquals(bits(0, 1, 2), scheduler.getDependencies(3));
+        assertEquals(bits(0, 1, 2, 3), scheduler.getDependencies(4));
+        assertEquals(bits(0, 1, 2, 3, 4), scheduler.getDependencies(5));
+        assertTrue(scheduler.isSequencePoint(0));
+        assertFalse(scheduler.isSequencePoint(1));
+        assertTrue(scheduler.isSequencePoint(5));
+
+        // Barrier waits for everything before it
+        scheduler = new FlowTaskScheduler(tasks, Set.of(2), 4);
+        assertEquals(bits(0, 1), scheduler.getDependencies(2));
+        assertEquals(bits(0, 1, 2), scheduler.getDependencies(3));
+        assertTrue(scheduler.isSequencePoint(2));
+    }
+
+    @Test
+    void testIndependentTasksRunConcurrently() throws Exception {
+        String[] reads = {RESOURCE_GRAPH};
+        List<FlowTask> tasks = List.of(
+                task("init", null, null, null),
+                task("export1", reads, new String[0], new String[] {RESOURCE_REPORT}),
+                task("export2", reads, new String[0], new String[] {RESOURCE_REPORT}),
+                task("export3", reads, new String[0], new String[] {RESOURCE_REPORT}),
+                task("save", null, null, null));
+        FutureUtils.blockForResultOrException(
+                new FlowTaskScheduler(tasks, Set.of(), 2).start(), 30, TimeUnit.SECONDS);
+
+        assertEquals(2, maxRunning.get());
+        assertEquals("start init", events.get(0));
+        assertEquals("end init", events.get(1));
+        assertEquals("start save", events.get(8));
+        assertEquals(10, events.size());
+    }
+
+    @Test
+    void testSequentialWithParallelismOfOne() throws Exception {
+        String[] reads = {RESOURCE_GRAPH};
+        List<FlowTask> tasks = List.of(
+                task("export1", reads, new String[0], new String[0]),
+                task("export2", reads, new String[0], new String[0]));
+        FutureUtils.blockForResultOrException(
+                new FlowTaskScheduler(tasks, Set.of(), 1).start(), 30, TimeUnit.SECONDS);
+
+        assertEquals(List.of("start export1", "end export1", "start export2", "end export2"), events);
+    }
+
+    @Test
+    void testFailureStopsFlow() {
+        List<FlowTask> tasks = List.of(
+                new TestTask("failing", null, null, null) {
+                    @Override
+                    protected void taskStart(Promise<?> taskPromise) {
+                        taskPromise.fail("Expected failure");
+                    }
+                },
+                task("next", null, null, null));
+        assertThrows(Exception.class, () -> FutureUtils.blockForResultOrException(
+                new FlowTaskScheduler(tasks, Set.of(), 4).start(), 30, TimeUnit.SECONDS));
+        assertTrue(events.isEmpty());
+    }
+
+    private static BitSet bits(int... indexes) {
+        BitSet result = new BitSet();
+        for (int i : indexes) {
+            result.set(i);
+        }
+        return result;
+    }
+
+    private FlowTask task(String name, String[] reads, String[] writes, String[] appends) {
+        return new TestTask(name, reads, writes, appends);
+    }
+
+    class TestTask extends FlowTask {
+        final String name;
+        final String[] reads;
+        final String[] writes;
+        final String[] appends;
+
+        TestTask(String name, String[] reads, String[] writes, String[] appends) {
+            this.name = name;
+            this.reads = reads;
+            this.writes = writes;
+            this.appends = appends;
+            FlowTaskSchedulerTest.flowContext.initialize(this);
+        }
+
+        @Override
+        public String[] resourcesRead() {
+            return reads != null ? reads : super.resourcesRead();
+        }
+
+        @Override
+        public String[] resourcesWritten() {
+            return writes != null ? writes : new String[] {RESOURCE_ALL};
+        }
+
+        @Override
+        public String[] resourcesAppended() {
+            return appends != null ? appends : super.resourcesAppended();
+        }
+
+        @Override
+        public String getTaskAddress() {
+            return TASK_ADDRESS_PREFIX + name;
+        }
+
+        @Override
+        protected void taskStart(Promise<?> taskPromise) {
+            events.add("start " + name);
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            vertx.setTimer(50, id -> {
+                running.decrementAndGet();
+                events.add("end " + name);
+                taskCompleted(taskPromise);
+            });
+        }
+    }
+
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.cli.daemon;
+
+import com.google.inject.Module;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.NetClient;
+import io.vertx.core.net.NetSocket;
+import io.vertx.core.parsetools.RecordParser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.qubership.itool.context.FlowContext;
+import org.qubership.itool.di.ApplicationContext;
+import org.qubership.itool.di.QubershipModule;
+import org.qubership.itool.modules.graph.Graph;
+import org.qubership.itool.modules.graph.GraphDumpSupport;
+import org.qubership.itool.modules.graph.GraphImpl;
+import org.qubership.itool.utils.FutureUtils;
+import org.qubership.itool.utils.JsonUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.qubership.itool.modules.graph.Graph.F_ID;
+import static org.qubership.itool.modules.graph.Graph.F_NAME;
+import static org.qubership.itool.modules.graph.Graph.F_TYPE;
+
+class DaemonVerticleTest {
+
+    @TempDir
+    Path tempDir;
+
+    Vertx vertx;
+    NetClient client;
+    NetSocket socket;
+    Queue<Promise<JsonObject>> pending = new ConcurrentLinkedQueue<>();
+    DaemonVerticle daemon;
+    Future<?> flow;
+    int port;
+    String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path componentDir = tempDir.resolve("data/app1/1.0");
+        Files.createDirectories(componentDir);
+        Graph component = new GraphImpl();
+        JsonObject domain = new JsonObject().put(F_ID, "D1").put(F_TYPE, "domain").put(F_NAME, "D1");
+        component.addVertexUnderRoot(domain);
+        component.addVertex(domain, new JsonObject().put(F_ID, "c1").put(F_TYPE, "backend").put(F_NAME, "c1")
+                .put("details", new JsonObject()));
+        JsonUtils.saveJson(componentDir.resolve("c1.json"), GraphDumpSupport.dumpToJson(component, false), false);
+
+        vertx = Vertx.vertx();
+        JsonObject config = new JsonObject().put("daemon", new JsonObject()
+                .put("port", "0")
+                .put("dataDirectory", tempDir.resolve("data").toString())
+                .put("outputDirectory", tempDir.resolve("output").toString()));
+        ApplicationContext appContext =
+                new ApplicationContext(vertx, config, new Module[] {new QubershipModule(vertx)});
+        FlowContext flowContext = appContext.getInstance(FlowContext.class);
+        flowContext.initialize(vertx, config);
+
+        daemon = new DaemonVerticle();
+        flow = daemon.deployAndRunFlow(flowContext);
+        port = FutureUtils.blockForResultOrException(daemon.listening(), 30, TimeUnit.SECONDS);
+        token = Files.readString(tempDir.resolve("data").resolve(DaemonVerticle.TOKEN_FILE));
+        // Client is closed once garbage collected, so it is kept in a field
+        client = vertx.createNetClient();
+        socket = FutureUtils.blockForResultOrException(client.connect(port, "127.0.0.1"), 30, TimeUnit.SECONDS);
+        RecordParser.newDelimited("\n", socket).handler(line -> pending.remove().complete(line.toJsonObject()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    void testLoadQueryExportAndShutdown() throws Exception {
+        JsonObject loadRequest = new JsonObject().put("op", "load")
+                .put("applications", new JsonArray().add("app1:1.0"));
+        JsonObject loaded = send(loadRequest);
+        assertEquals("ok", loaded.getString("status"), loaded.encode());
+        String id = loaded.getString("id");
+
+        // Cached graph is reused
+        assertEquals(loaded, send(loadRequest));
+        assertEquals(1, send(new JsonObject().put("op", "list")).getJsonArray("graphs").size());
+
+        for (int i = 0; i < 2; i++) {
+            JsonObject queried = send(query(id, ".V().hasType(\"backend\").id()"));
+            assertEquals("ok", queried.getString("status"), queried.encode());
+            assertEquals(new JsonArray().add("c1"), queried.getJsonArray("result"));
+        }
+        assertEquals("badRequest", send(query(id, ".V().noSuchStep()")).getString("status"));
+        assertEquals("badRequest", send(new JsonObject().put("op", "unknown")).getString("status"));
+
+        JsonObject exported = send(export(id, "app1.json.gz"));
+        assertEquals("ok", exported.getString("status"), exported.encode());
+        assertTrue(Files.isRegularFile(tempDir.resolve("output/app1.json.gz")));
+        assertEquals("badRequest", send(export(id, "../escape.json")).getString("status"));
+
+        assertEquals("notFound", send(new JsonObject().put("op", "describe").put("graph", "unknown"))
+                .getString("status"));
+        assertEquals("ok", send(new JsonObject().put("op", "drop").put("graph", id)).getString("status"));
+        assertEquals("notFound", send(query(id, ".V().id()")).getString("status"));
+
+        assertEquals("ok", send(new JsonObject().put("op", "shutdown")).getString("status"));
+        FutureUtils.blockForResultOrException(flow, 30, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testAuthentication() throws Exception {
+        Path tokenFile = tempDir.resolve("data").resolve(DaemonVerticle.TOKEN_FILE);
+        if (tokenFile.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            assertEquals(PosixFilePermissions.fromString("rw-------"), Files.getPosixFilePermissions(tokenFile));
+        }
+        assertEquals(64, token.length());
+
+        JsonObject list = new JsonObject().put("op", "list");
+        assertEquals("unauthorized", sendRaw(list).getString("status"));
+        assertEquals("unauthorized", sendRaw(list.copy().put("token", "0" + token.substring(1))).getString("status"));
+        assertEquals("unauthorized", sendRaw(query("any", ".V().id()")).getString("status"));
+        assertEquals("ok", send(list).getString("status"));
+
+        assertEquals("ok", send(new JsonObject().put("op", "shutdown")).getString("status"));
+        FutureUtils.blockForResultOrException(flow, 30, TimeUnit.SECONDS);
+        assertFalse(Files.exists(tokenFile));
+    }
+
+    @Test
+    void testNoAuthRequiresLoopback() {
+        assertTrue(DaemonVerticle.isLoopback("127.0.0.1"));
+        assertTrue(DaemonVerticle.isLoopback("localhost"));
+        assertFalse(DaemonVerticle.isLoopback("0.0.0.0"));
+
+        JsonObject config = new JsonObject().put("daemon", new JsonObject()
+                .put("port", "0")
+                .put("host", "0.0.0.0")
+                .put("auth", "false")
+                .put("dataDirectory", tempDir.resolve("data").toString()));
+        ApplicationContext appContext =
+                new ApplicationContext(vertx, config, new Module[] {new QubershipModule(vertx)});
+        FlowContext flowContext = appContext.getInstance(FlowContext.class);
+        flowContext.initialize(vertx, config);
+        DaemonVerticle open = new DaemonVerticle();
+        Future<?> openFlow = open.deployAndRunFlow(flowContext);
+        assertThrows(Exception.class,
+                () -> FutureUtils.blockForResultOrException(open.listening(), 30, TimeUnit.SECONDS));
+        assertThrows(Exception.class,
+                () -> FutureUtils.blockForResultOrException(openFlow, 30, TimeUnit.SECONDS));
+    }
+
+    private static JsonObject query(String id, String query) {
+        return new JsonObject().put("op", "query").put("graph", id).put("query", query);
+    }
+
+    private static JsonObject export(String id, String file) {
+        return new JsonObject().put("op", "export").put("graph", id).put("file", file);
+    }
+
+    private JsonObject send(JsonObject request) {
+        return sendRaw(request.copy().put("token", token));
+    }
+
+    private JsonObject sendRaw(JsonObject request) {
+        Promise<JsonObject> response = Promise.promise();
+        pending.add(response);
+        socket.write(request.encode() + "\n");
+        return FutureUtils.blockForResultOrException(response.future(), 30, TimeUnit.SECONDS);
+    }
+
+}
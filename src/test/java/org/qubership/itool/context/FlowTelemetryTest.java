@@ -0,0 +1,111 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.context;
+
+import com.google.inject.Module;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.qubership.itool.di.ApplicationContext;
+import org.qubership.itool.di.QubershipModule;
+import org.qubership.itool.tasks.FlowTask;
+import org.qubership.itool.utils.FutureUtils;
+import org.qubership.itool.utils.JsonUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.qubership.itool.modules.graph.Graph.F_ID;
+import static org.qubership.itool.modules.graph.Graph.F_TYPE;
+
+class FlowTelemetryTest {
+
+    static Vertx vertx;
+    static FlowContext flowContext;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void setUp() {
+        vertx = Vertx.vertx();
+        JsonObject config = new JsonObject();
+        ApplicationContext appContext =
+                new ApplicationContext(vertx, config, new Module[] {new QubershipModule(vertx)});
+        flowContext = appContext.getInstance(FlowContext.class);
+        flowContext.initialize(vertx, config);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        flowContext.getResources().remove(FlowTelemetry.class);
+        vertx.close();
+    }
+
+    @Test
+    void testTaskTelemetry() throws Exception {
+        flowContext.getGraph().clear();
+        FlowTelemetry telemetry = new FlowTelemetry(flowContext.getFlowInstanceId(), vertx,
+                flowContext.getGraph(), flowContext.getReport(), true);
+        flowContext.getResources().put(FlowTelemetry.class, telemetry);
+
+        FlowTask task = new GrowingTask();
+        flowContext.initialize(task);
+        FutureUtils.blockForResultOrException(task.startInFlow(), 30, TimeUnit.SECONDS);
+        telemetry.save(tempDir);
+
+        String fileName = "flow." + flowContext.getFlowInstanceId();
+        JsonObject json = JsonUtils.readJsonFile(tempDir.resolve(fileName + ".json").toString());
+        assertEquals(flowContext.getFlowInstanceId(), json.getString("fiid"));
+        JsonArray tasks = json.getJsonArray("tasks");
+        assertEquals(1, tasks.size());
+        JsonObject sample = tasks.getJsonObject(0);
+        assertEquals("task.growing", sample.getString("task"));
+        assertEquals("completed", sample.getString("status"));
+        assertEquals(3, sample.getInteger("verticesDelta"));
+        assertEquals(2, sample.getInteger("edgesDelta"));
+        assertEquals(1, sample.getInteger("reportRecordsDelta"));
+        assertTrue(sample.getLong("wallMs") >= 0);
+
+        List<String> csv = Files.readAllLines(tempDir.resolve(fileName + ".csv"));
+        assertEquals(2, csv.size());
+        assertEquals(String.join(",", FlowTelemetry.CSV_COLUMNS), csv.get(0));
+        assertTrue(csv.get(1).startsWith("task.growing,completed,"));
+    }
+
+    public static class GrowingTask extends FlowTask {
+        @Override
+        protected void taskStart(Promise<?> taskPromise) {
+            JsonObject domain = new JsonObject().put(F_ID, "D1").put(F_TYPE, "domain");
+            graph.addVertexUnderRoot(domain);
+            graph.addVertex(domain, new JsonObject().put(F_ID, "c1").put(F_TYPE, "backend"));
+            graph.addVertex(new JsonObject().put(F_ID, "c2").put(F_TYPE, "backend"));
+            report.internalError("Expected error");
+            taskCompleted(taskPromise);
+        }
+    }
+
+}
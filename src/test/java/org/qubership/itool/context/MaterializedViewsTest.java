@@ -0,0 +1,145 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.context;
+
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.itool.modules.graph.Graph;
+import org.qubership.itool.modules.graph.GraphImpl;
+import org.qubership.itool.tasks.GraphViews;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.qubership.itool.modules.graph.Graph.F_ID;
+import static org.qubership.itool.modules.graph.Graph.F_TYPE;
+
+class MaterializedViewsTest {
+
+    Graph graph;
+    MaterializedViews views;
+    AtomicInteger computations;
+
+    @BeforeEach
+    void setUp() {
+        graph = new GraphImpl();
+        JsonObject domain = new JsonObject().put(F_ID, "D1").put(F_TYPE, "domain");
+        graph.addVertexUnderRoot(domain);
+        graph.addVertex(domain, component("c1"));
+        views = new MaterializedViews(() -> graph);
+        computations = new AtomicInteger();
+    }
+
+    @Test
+    void testViewIsComputedOnce() {
+        views.declare("count", this::countVertices);
+        assertFalse(views.isMaterialized("count"));
+        int count = views.get("count");
+        assertEquals(count, (int) views.get("count"));
+        assertTrue(views.isMaterialized("count"));
+        assertEquals(1, computations.get());
+
+        // Repeated declaration does not replace the definition
+        assertFalse(views.declare("count", g -> -1));
+        assertEquals(count, (int) views.get("count", g -> -1));
+    }
+
+    @Test
+    void testGraphChangeCausesRecomputation() {
+        Map<String, List<JsonObject>> components =
+                views.get(GraphViews.DOMAIN_COMPONENTS, GraphViews::domainComponents);
+        assertEquals(1, components.get("D1").size());
+        assertSame(components, views.get(GraphViews.DOMAIN_COMPONENTS));
+
+        graph.addVertex(graph.getVertex("D1"), component("c2"));
+        assertFalse(views.isMaterialized(GraphViews.DOMAIN_COMPONENTS));
+        Map<String, List<JsonObject>> updated = views.get(GraphViews.DOMAIN_COMPONENTS);
+        assertEquals(2, updated.get("D1").size());
+
+        views.invalidate();
+        assertFalse(views.isMaterialized(GraphViews.DOMAIN_COMPONENTS));
+
+        // Replaced graph
+        views.get(GraphViews.DOMAIN_COMPONENTS);
+        graph = new GraphImpl();
+        assertFalse(views.isMaterialized(GraphViews.DOMAIN_COMPONENTS));
+        assertTrue(views.<Map<String, List<JsonObject>>>get(GraphViews.DOMAIN_COMPONENTS).isEmpty());
+    }
+
+    @Test
+    void testUndeclaredView() {
+        assertThrows(IllegalArgumentException.class, () -> views.get("unknown"));
+        assertFalse(views.isMaterialized("unknown"));
+    }
+
+    @Test
+    void testConcurrentRequestsShareComputation() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        views.declare("slow", g -> {
+            started.countDown();
+            sleep(50);
+            return countVertices(g);
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> views.<Integer>get("slow")));
+            }
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            for (Future<Integer> result : results) {
+                assertEquals(3, result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, computations.get());
+    }
+
+    private int countVertices(Graph g) {
+        computations.incrementAndGet();
+        return g.traversal().V().toList().size();
+    }
+
+    private static JsonObject component(String id) {
+        return new JsonObject().put(F_ID, id).put(F_TYPE, "backend")
+                .put("repository", "https://git.example.com/" + id + ".git")
+                .put("details", new JsonObject());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.modules.confluence;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.client.WebClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.qubership.itool.utils.FutureUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfluenceClientImplTest {
+
+    static final String SPACE = "SPACE";
+    static final String PUT = "PUT /rest/api/content/";
+    static final String CONVERT = "POST /rest/api/contentbody/convert/storage";
+
+    @TempDir
+    Path tempDir;
+
+    Vertx vertx;
+    ConfluenceStub confluence;
+    ConfluenceClientImpl client;
+
+    @BeforeEach
+    void setUp() {
+        vertx = Vertx.vertx();
+        confluence = new ConfluenceStub();
+        JsonObject config = new JsonObject()
+                .put("confluenceUrl", "localhost")
+                .put("login", "user")
+                .put("password", "secret");
+        WebClient webClient = confluence.createClient();
+        client = new ConfluenceClientImpl(vertx, webClient, webClient, config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    void testUnchangedPagesAreNotUploaded() throws Exception {
+        JsonObject parent = confluence.addPage("1.0 Tech of D1", null);
+        String pageId = confluence.addPage("1.0 Tech of D1.c1", parent).getString("id");
+        Path file = tempDir.resolve("c1.confluence");
+        Files.writeString(file, "h1. c1");
+        Path manifestFile = tempDir.resolve("manifest.json");
+        ConfluencePageManifest manifest = ConfluencePageManifest.load(manifestFile);
+
+        upload(file, manifest);
+        assertEquals(1, confluence.count(PUT + pageId));
+        assertEquals(1, confluence.count(CONVERT));
+        assertEquals(2, confluence.pagesByTitle.get("1.0 Tech of D1.c1").getJsonObject("version").getInteger("number"));
+
+        // Same content, manifest survives between runs, and no requests are sent
+        manifest.save();
+        manifest = ConfluencePageManifest.load(manifestFile);
+        assertEquals(1, manifest.size());
+        long pageInfoRequests = confluence.count("GET /rest/api/content");
+        upload(file, manifest);
+        assertEquals(1, confluence.count(PUT + pageId));
+        assertEquals(1, confluence.count(CONVERT));
+        assertEquals(pageInfoRequests, confluence.count("GET /rest/api/content"));
+
+        // Changed content
+        Files.writeString(file, "h1. c1 changed");
+        upload(file, manifest);
+        assertEquals(2, confluence.count(PUT + pageId));
+        assertEquals(2, confluence.count(CONVERT));
+
+        // Same content, but the page was edited in Confluence:
+        // the manifest is trusted until the caller forgets the page
+        confluence.editPage("1.0 Tech of D1.c1");
+        upload(file, manifest);
+        assertEquals(2, confluence.count(PUT + pageId));
+        manifest.remove(SPACE, "1.0 Tech of D1.c1");
+        upload(file, manifest);
+        assertEquals(3, confluence.count(PUT + pageId));
+
+        // Without manifest everything is uploaded
+        upload(file, null);
+        assertEquals(4, confluence.count(PUT + pageId));
+        assertTrue(confluence.pagesByTitle.get("1.0 Tech of D1.c1").encode().contains("<p>h1. c1 changed</p>"));
+    }
+
+    @Test
+    void testChangedParentIsUploaded() throws Exception {
+        JsonObject parent = confluence.addPage("1.0 Tech of D1", null);
+        confluence.addPage("1.0 Tech of D2", null);
+        String pageId = confluence.addPage("1.0 Tech of D1.c1", parent).getString("id");
+        Path file = tempDir.resolve("c1.confluence");
+        Files.writeString(file, "h1. c1");
+        ConfluencePageManifest manifest = ConfluencePageManifest.load(tempDir.resolve("manifest.json"));
+
+        upload(file, manifest);
+        FutureUtils.blockForResultOrException(client.updateConfluencePage(SPACE, "Tech of D1.c1",
+                "Tech of D2", file.toString(), "1.0", manifest), 30, TimeUnit.SECONDS);
+        assertEquals(2, confluence.count(PUT + pageId));
+    }
+
+    @Test
+    void testRetryOfThrottledRequests() throws Exception {
+        confluence.addPage("1.0 Tech of D1", null);
+        confluence.failNext(2, 429);
+        JsonObject page = FutureUtils.blockForResultOrException(
+                client.getConfluencePageInfo(SPACE, "Tech of D1", "1.0"), 30, TimeUnit.SECONDS);
+        assertEquals("1.0 Tech of D1", page.getString("title"));
+        assertEquals(3, confluence.count("GET /rest/api/content"));
+
+        // Page creation is not retried after confluence errors, as it might have been processed
+        confluence.failNext(1, 500);
+        assertThrows(Exception.class, () -> FutureUtils.blockForResultOrException(
+                client.createConfluencePage(SPACE, "Tech of D2", page.getString("id"), "1.0"), 30, TimeUnit.SECONDS));
+        assertEquals(1, confluence.count("POST /rest/api/content"));
+
+        // Retries are limited
+        confluence.failNext(ConfluenceClientImpl.DEFAULT_MAX_RETRIES + 1, 503);
+        assertThrows(Exception.class, () -> FutureUtils.blockForResultOrException(
+                client.getConfluencePageInfo(SPACE, "Tech of D1", "1.0"), 30, TimeUnit.SECONDS));
+        assertEquals(4 + ConfluenceClientImpl.DEFAULT_MAX_RETRIES, confluence.count("GET /rest/api/content"));
+    }
+
+    @Test
+    void testRetryOfFailedConnections() throws Exception {
+        JsonObject parent = confluence.addPage("1.0 Tech of D1", null);
+        confluence.failNext(1, 0);
+        FutureUtils.blockForResultOrException(
+                client.getConfluencePageInfo(SPACE, "Tech of D1", "1.0"), 30, TimeUnit.SECONDS);
+        assertEquals(2, confluence.count("GET /rest/api/content"));
+
+        // Request might have reached the server, so page creation is not repeated
+        confluence.failNext(1, 0);
+        assertThrows(Exception.class, () -> FutureUtils.blockForResultOrException(
+                client.createConfluencePage(SPACE, "Tech of D2", parent.getString("id"), "1.0"), 30, TimeUnit.SECONDS));
+        assertEquals(1, confluence.count("POST /rest/api/content"));
+
+        // Page update might have taken the version, so it is not repeated either
+        JsonObject page = FutureUtils.blockForResultOrException(
+                client.getConfluencePageInfo(SPACE, "Tech of D1", "1.0"), 30, TimeUnit.SECONDS);
+        confluence.failNext(1, 0);
+        assertThrows(Exception.class, () -> FutureUtils.blockForResultOrException(
+                client.uploadConfluencePageAsStorage(page, null, "<p>D1</p>"), 30, TimeUnit.SECONDS));
+        confluence.failNext(1, 500);
+        assertThrows(Exception.class, () -> FutureUtils.blockForResultOrException(
+                client.uploadConfluencePageAsStorage(page, null, "<p>D1</p>"), 30, TimeUnit.SECONDS));
+        assertEquals(2, confluence.count(PUT + parent.getString("id")));
+
+        // Page update rejected by throttling is repeated
+        confluence.failNext(1, 429);
+        FutureUtils.blockForResultOrException(
+                client.uploadConfluencePageAsStorage(page, null, "<p>D1</p>"), 30, TimeUnit.SECONDS);
+        assertEquals(4, confluence.count(PUT + parent.getString("id")));
+    }
+
+    @Test
+    void testDescendantPages() throws Exception {
+        JsonObject root = confluence.addPage("1.0 Tech", null);
+        JsonObject d1 = confluence.addPage("1.0 Tech of D1", root);
+        confluence.addPage("1.0 Tech of D1.c1", d1);
+        confluence.addPage("1.0 Tech of D1.c2", d1);
+        confluence.addPage("1.0 Tech of D2", root);
+        confluence.addPage("Other", null);
+
+        JsonArray descendants = FutureUtils.blockForResultOrException(
+                client.getDescendantPages(SPACE, root.getString("id")), 30, TimeUnit.SECONDS);
+        assertEquals(List.of("1.0 Tech of D1", "1.0 Tech of D1.c1", "1.0 Tech of D1.c2", "1.0 Tech of D2"),
+                descendants.stream().map(p -> ((JsonObject) p).getString("title")).collect(Collectors.toList()));
+        // Paged by the confluence
+        assertEquals(2, confluence.count("GET /rest/api/content/" + root.getString("id") + "/descendant/page"));
+    }
+
+    private void upload(Path file, ConfluencePageManifest manifest) throws Exception {
+        JsonObject page = FutureUtils.blockForResultOrException(client.updateConfluencePage(SPACE, "Tech of D1.c1",
+                "Tech of D1", file.toString(), "1.0", manifest), 30, TimeUnit.SECONDS);
+        assertEquals("1.0 Tech of D1.c1", page.getString("title"));
+    }
+
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.modules.confluence;
+
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.client.HttpRequest;
+import io.vertx.ext.web.client.HttpResponse;
+import io.vertx.ext.web.client.WebClient;
+
+import java.net.ConnectException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Minimal in-memory stand-in for Confluence REST API, serving pages of a single space.
+ *
+ * <p>Requests are answered by a {@link WebClient} stub rather than over HTTP, so that the client
+ * is tested without Netty HTTP/2 codec that Vert.x HTTP client requires.
+ */
+class ConfluenceStub {
+
+    final Map<String, JsonObject> pagesByTitle = new ConcurrentHashMap<>();
+    final List<String> requests = new CopyOnWriteArrayList<>();
+    private final AtomicInteger nextId = new AtomicInteger(1000);
+    private final AtomicInteger failures = new AtomicInteger();
+    private volatile int failureStatus;
+    /** Maximal number of results per response of paged lists */
+    volatile int pageSize = 2;
+
+    /** Create a client sending its requests to this stub */
+    WebClient createClient() {
+        WebClient client = mock(WebClient.class);
+        when(client.get(anyInt(), anyString(), anyString()))
+                .thenAnswer(inv -> createRequest(HttpMethod.GET, inv.getArgument(2)));
+        when(client.post(anyInt(), anyString(), anyString()))
+                .thenAnswer(inv -> createRequest(HttpMethod.POST, inv.getArgument(2)));
+        when(client.put(anyInt(), anyString(), anyString()))
+                .thenAnswer(inv -> createRequest(HttpMethod.PUT, inv.getArgument(2)));
+        return client;
+    }
+
+    /** Add a page, returning its info */
+    JsonObject addPage(String title, JsonObject parent) {
+        String id = String.valueOf(nextId.incrementAndGet());
+        JsonArray ancestors = new JsonArray();
+        if (parent != null) {
+            ancestors.addAll(parent.getJsonArray("ancestors")).add(new JsonObject()
+                    .put("id", parent.getString("id")).put("title", parent.getString("title")));
+        }
+        JsonObject page = new JsonObject()
+                .put("id", id)
+                .put("title", title)
+                .put("version", new JsonObject().put("number", 1))
+                .put("ancestors", ancestors);
+        pagesByTitle.put(title, page);
+        return page;
+    }
+
+    /** Simulate an edit made by somebody else */
+    void editPage(String title) {
+        JsonObject version = pagesByTitle.get(title).getJsonObject("version");
+        version.put("number", version.getInteger("number") + 1);
+    }
+
+    /** Reject the next requests with given status, or fail them without response if status is 0 */
+    void failNext(int count, int status) {
+        failureStatus = status;
+        failures.set(count);
+    }
+
+    long count(String request) {
+        return requests.stream().filter(request::equals).count();
+    }
+
+    @SuppressWarnings("unchecked")
+    private HttpRequest<Buffer> createRequest(HttpMethod method, String uri) {
+        int queryStart = uri.indexOf('?');
+        String path = queryStart >= 0 ? uri.substring(0, queryStart) : uri;
+        Map<String, String> params = new HashMap<>();
+        if (queryStart >= 0) {
+            for (String param : uri.substring(queryStart + 1).split("&")) {
+                String[] pair = param.split("=", 2);
+                params.put(pair[0], pair.length > 1 ? pair[1] : "");
+            }
+        }
+
+        HttpRequest<Buffer> request = mock(HttpRequest.class, RETURNS_SELF);
+        when(request.method()).thenReturn(method);
+        when(request.uri()).thenReturn(uri);
+        when(request.addQueryParam(anyString(), anyString())).thenAnswer(inv -> {
+            params.put(inv.getArgument(0), inv.getArgument(1));
+            return request;
+        });
+        when(request.send()).thenAnswer(inv -> handle(method, path, params, null));
+        when(request.sendJsonObject(any())).thenAnswer(inv -> handle(method, path, params, inv.getArgument(0)));
+        return request;
+    }
+
+    private Future<HttpResponse<Buffer>> handle(HttpMethod method, String path, Map<String, String> params,
+            JsonObject body) {
+        requests.add(method + " " + path);
+        if (failures.getAndDecrement() > 0) {
+            if (failureStatus == 0) {
+                return Future.failedFuture(new ConnectException("Connection reset"));
+            }
+            HttpResponse<Buffer> response = response(failureStatus, null);
+            when(response.getHeader("Retry-After")).thenReturn("0");
+            return Future.succeededFuture(response);
+        }
+        return Future.succeededFuture(respond(method, path, params, body));
+    }
+
+    private HttpResponse<Buffer> respond(HttpMethod method, String path, Map<String, String> params, JsonObject body) {
+        if (method == HttpMethod.GET && path.startsWith("/rest/api/content/")
+                && path.endsWith("/descendant/page")) {
+            String id = path.split("/")[4];
+            List<JsonObject> descendants = pagesByTitle.values().stream()
+                    .filter(p -> p.getJsonArray("ancestors").stream()
+                            .anyMatch(a -> id.equals(((JsonObject) a).getString("id"))))
+                    .sorted(Comparator.comparing(p -> p.getString("id")))
+                    .collect(Collectors.toList());
+            int start = Integer.parseInt(params.getOrDefault("start", "0"));
+            int end = Math.min(descendants.size(), start + pageSize);
+            JsonObject links = new JsonObject();
+            if (end < descendants.size()) {
+                links.put("next", path + "?start=" + end);
+            }
+            JsonArray results = new JsonArray();
+            descendants.subList(start, end).forEach(p -> results.add(p.copy()));
+            return response(200, new JsonObject().put("results", results).put("_links", links));
+
+        } else if (method == HttpMethod.GET && path.equals("/rest/api/content")) {
+            JsonObject page = pagesByTitle.get(params.get("title"));
+            JsonArray results = page != null ? new JsonArray().add(page.copy()) : new JsonArray();
+            return response(200, new JsonObject().put("results", results));
+
+        } else if (method == HttpMethod.POST && path.equals("/rest/api/contentbody/convert/storage")) {
+            return response(200, new JsonObject().put("value", "<p>" + body.getString("value") + "</p>"));
+
+        } else if (method == HttpMethod.PUT && path.startsWith("/rest/api/content/")) {
+            String id = path.substring("/rest/api/content/".length());
+            JsonObject page = pagesByTitle.values().stream()
+                    .filter(p -> id.equals(p.getString("id")))
+                    .findFirst().orElse(null);
+            if (page == null) {
+                return response(404, null);
+            }
+            page.put("version", body.getJsonObject("version").copy());
+            if (body.containsKey("body")) {
+                page.put("body", body.getJsonObject("body").copy());
+            }
+            return response(200, page.copy());
+        }
+        return response(404, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static HttpResponse<Buffer> response(int status, JsonObject json) {
+        HttpResponse<Buffer> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(status);
+        when(response.statusMessage()).thenReturn(status == 200 ? "OK" : "Error");
+        when(response.bodyAsJsonObject()).thenReturn(json);
+        when(response.bodyAsString()).thenReturn(json != null ? json.encode() : "");
+        return response;
+    }
+
+}
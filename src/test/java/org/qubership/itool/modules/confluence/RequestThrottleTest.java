@@ -0,0 +1,104 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.modules.confluence;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(VertxExtension.class)
+class RequestThrottleTest {
+
+    @Test
+    void testInFlightLimit(Vertx vertx, VertxTestContext testContext) {
+        RequestThrottle throttle = new RequestThrottle(vertx, 0, 3);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            int n = i;
+            results.add(throttle.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Promise<Integer> promise = Promise.promise();
+                vertx.setTimer(10, id -> {
+                    running.decrementAndGet();
+                    promise.complete(n);
+                });
+                return promise.future();
+            }));
+        }
+        Future.all(results).onComplete(testContext.succeeding(all -> testContext.verify(() -> {
+            assertEquals(3, maxRunning.get());
+            for (int i = 0; i < 10; i++) {
+                assertEquals(i, results.get(i).result());
+            }
+            assertEquals(0, throttle.getInFlightCount());
+            assertEquals(0, throttle.getPendingCount());
+            testContext.completeNow();
+        })));
+    }
+
+    @Test
+    void testRateLimitAndPause(Vertx vertx, VertxTestContext testContext) {
+        // Bucket of 20 tokens, 5 more requests have to wait for 250 ms at least
+        RequestThrottle throttle = new RequestThrottle(vertx, 20, 100);
+        long start = System.nanoTime();
+        List<Future<Long>> results = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            results.add(throttle.execute(() -> Future.succeededFuture(System.nanoTime())));
+        }
+        Future.all(results).compose(all -> {
+            long elapsedMs = (results.get(24).result() - start) / 1_000_000;
+            testContext.verify(() -> {
+                assertTrue(results.get(19).result() - start < 200_000_000L, "Burst was throttled");
+                assertTrue(elapsedMs >= 200, "Rate limit exceeded: " + elapsedMs + " ms");
+            });
+            throttle.pause(200);
+            long pauseStart = System.nanoTime();
+            return throttle.execute(() -> Future.succeededFuture(System.nanoTime() - pauseStart));
+        }).onComplete(testContext.succeeding(waited -> testContext.verify(() -> {
+            assertTrue(waited >= 150_000_000L, "Pause was ignored: " + waited + " ns");
+            testContext.completeNow();
+        })));
+    }
+
+    @Test
+    void testFailureReleasesSlot(Vertx vertx, VertxTestContext testContext) {
+        RequestThrottle throttle = new RequestThrottle(vertx, 0, 1);
+        Future<Object> failed = throttle.execute(() -> {
+            throw new IllegalStateException("Expected failure");
+        });
+        Future<String> next = throttle.execute(() -> Future.succeededFuture("ok"));
+        next.onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+            assertTrue(failed.failed());
+            assertEquals("ok", result);
+            testContext.completeNow();
+        })));
+    }
+
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.qubership.itool.modules.git;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.Status;
+import org.eclipse.jgit.api.SubmoduleAddCommand;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.qubership.itool.modules.report.GraphReportImpl;
+import org.qubership.itool.utils.FutureUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.qubership.itool.modules.graph.Graph.F_ID;
+import static org.qubership.itool.modules.graph.Graph.F_REPOSITORY;
+import static org.qubership.itool.modules.graph.Graph.F_REVISION;
+
+class GitAdapterImplTest {
+
+    static Vertx vertx;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void setUp() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    void testParallelSubmodulesCheckout() throws Exception {
+        Path superDir = tempDir.resolve("super");
+        List<Git> sources = new ArrayList<>();
+        List<JsonObject> components = new ArrayList<>();
+        try (Git superRepo = Git.init().setDirectory(superDir.toFile()).call()) {
+            for (int i = 0; i < 5; i++) {
+                Git source = createSource("c" + i);
+                sources.add(source);
+                new SubmoduleAddCommand(superRepo.getRepository())
+                        .setURI(source.getRepository().getDirectory().getParentFile().toURI().toString())
+                        .setPath("d1/c" + i)
+                        .call()
+                        .close();
+                components.add(new JsonObject()
+                        .put(F_ID, "c" + i)
+                        .put("directoryPath", superDir.resolve("d1/c" + i).toString())
+                        .put("details", new JsonObject().put("releaseBranch", "release")));
+            }
+
+            // Release branches moved after submodules were added, so they need to be fetched
+            List<String> heads = new ArrayList<>();
+            for (Git source : sources) {
+                heads.add(commit(source, "second").name());
+            }
+
+            GitAdapterImpl adapter = createAdapter(new JsonObject()
+                    .put("git", new JsonObject().put("checkoutParallelism", "3")));
+            FutureUtils.blockForResultOrException(adapter.submodulesCheckout(superRepo, "r1", components),
+                    60, TimeUnit.SECONDS);
+            for (int i = 0; i < 5; i++) {
+                assertEquals(heads.get(i), components.get(i).getString(F_REVISION));
+            }
+            Path costsFile = superDir.resolve(".git/checkout-costs.json");
+            JsonObject costs = new JsonObject(Files.readString(costsFile));
+            assertEquals(5, costs.size());
+            assertTrue(costs.containsKey("d1/c0"));
+
+            // Remote branches that did not move are not fetched, moved ones are
+            String third = commit(sources.get(0), "third").name();
+            adapter = createAdapter(new JsonObject()
+                    .put("git", new JsonObject().put("skipFetchIfPresent", "true")));
+            FutureUtils.blockForResultOrException(adapter.submodulesCheckout(superRepo, "r1", components),
+                    60, TimeUnit.SECONDS);
+            assertEquals(third, components.get(0).getString(F_REVISION));
+            assertEquals(heads.get(1), components.get(1).getString(F_REVISION));
+        } finally {
+            sources.forEach(Git::close);
+        }
+    }
+
+    @Test
+    void testShallowSparseSubmodule() throws Exception {
+        Path superDir = tempDir.resolve("super");
+        try (Git source = createSource("c1");
+                Git superRepo = Git.init().setDirectory(superDir.toFile()).call()) {
+            Files.writeString(source.getRepository().getWorkTree().toPath().resolve("README.md"), "readme");
+            source.add().addFilepattern("README.md").call();
+            commit(source, "second");
+
+            GitAdapterImpl adapter = createAdapter(new JsonObject()
+                    .put("git", new JsonObject().put("cloneDepth", "1").put("sparseCheckout", "true")),
+                    path -> path.endsWith("pom.xml"));
+            JsonObject component = new JsonObject()
+                    .put(F_ID, "c1")
+                    .put(F_REPOSITORY, source.getRepository().getDirectory().getParentFile().toURI().toString())
+                    .put("directoryPath", superDir.resolve("d1/c1").toString())
+                    .put("details", new JsonObject().put("releaseBranch", "release"));
+            FutureUtils.blockForResultOrException(adapter.submoduleAdd(superRepo, component,
+                    new JsonObject().put(F_ID, "d1")), 60, TimeUnit.SECONDS);
+
+            Path moduleDir = superDir.resolve("d1/c1");
+            assertEquals("second", Files.readString(moduleDir.resolve("pom.xml")));
+            assertFalse(Files.exists(moduleDir.resolve("README.md")));
+            try (Git module = Git.open(moduleDir.toFile())) {
+                assertFalse(module.getRepository().getObjectDatabase().getShallowCommits().isEmpty());
+            }
+
+            String head = commit(source, "third").name();
+            FutureUtils.blockForResultOrException(adapter.submodulesCheckout(superRepo, "r1", List.of(component)),
+                    60, TimeUnit.SECONDS);
+            assertEquals(head, component.getString(F_REVISION));
+            assertEquals("third", Files.readString(moduleDir.resolve("pom.xml")));
+            assertFalse(Files.exists(moduleDir.resolve("README.md")));
+            try (Git module = Git.open(moduleDir.toFile())) {
+                assertTrue(module.getRepository().getObjectDatabase().getShallowCommits().size() > 0);
+                // Checked out files match the commit, the rest is reported as removed
+                Status status = module.status().call();
+                assertTrue(status.getModified().isEmpty());
+                assertEquals(Set.of("README.md"), status.getRemoved());
+            }
+        }
+    }
+
+    private GitAdapterImpl createAdapter(JsonObject config) {
+        return createAdapter(config, null);
+    }
+
+    private GitAdapterImpl createAdapter(JsonObject config, Predicate<String> checkoutFilter) {
+        config.put("login", "user").put("password", "password");
+        return new GitAdapterImpl(vertx, new GraphReportImpl(), config, checkoutFilter);
+    }
+
+    private Git createSource(String name) throws Exception {
+        Git source = Git.init().setDirectory(tempDir.resolve("sources/" + name).toFile()).call();
+        commit(source, "initial");
+        source.branchCreate().setName("release").call();
+        source.checkout().setName("release").call();
+        return source;
+    }
+
+    private RevCommit commit(Git source, String content) throws Exception {
+        Repository repository = source.getRepository();
+        Files.writeString(repository.getWorkTree().toPath().resolve("pom.xml"), content);
+        source.add().addFilepattern("pom.xml").call();
+        return source.commit().setMessage(content).call();
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.qubership.itool.modules.git;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.SubmoduleAddCommand;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevTree;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class GitObjectReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testReadFilesWithoutCheckout() throws Exception {
+        Path superDir = tempDir.resolve("super");
+        try (Git source = Git.init().setDirectory(tempDir.resolve("source").toFile()).call();
+                Git superRepo = Git.init().setDirectory(superDir.toFile()).call()) {
+            commit(source, "pom.xml", "module v1");
+
+            commit(superRepo, "diffConfig.json", "v1");
+            new SubmoduleAddCommand(superRepo.getRepository())
+                    .setURI(source.getRepository().getWorkTree().toURI().toString())
+                    .setPath("d1/c1")
+                    .call()
+                    .close();
+            superRepo.commit().setMessage("submodule").call();
+            superRepo.tag().setName("release-1").call();
+
+            // Move both repositories forward, the working tree contains the new versions
+            commit(source, "pom.xml", "module v2");
+            Files.writeString(superDir.resolve("d1/c1/pom.xml"), "local change");
+            commit(superRepo, "diffConfig.json", "v2");
+
+            RevTree tree = GitObjectReader.resolveTree(superRepo.getRepository(), "release-1");
+            assertEquals("v1", read(superRepo, tree, Path.of("diffConfig.json")));
+            assertEquals("module v1", read(superRepo, tree, Path.of("d1", "c1", "pom.xml")));
+            assertNull(GitObjectReader.readFile(superRepo.getRepository(), tree, "d1/c1/missing.xml"));
+            assertNull(GitObjectReader.readFile(superRepo.getRepository(), tree, "d1"));
+            assertNull(GitObjectReader.readFile(superRepo.getRepository(), tree, "diffConfig.json/x"));
+            assertNull(GitObjectReader.resolveTree(superRepo.getRepository(), "release-2"));
+
+            RevTree head = GitObjectReader.resolveTree(superRepo.getRepository(), "HEAD");
+            assertEquals("v2", read(superRepo, head, Path.of("diffConfig.json")));
+            // Working tree is left intact
+            assertEquals("local change", Files.readString(superDir.resolve("d1/c1/pom.xml")));
+        }
+    }
+
+    private String read(Git repo, RevTree tree, Path path) throws Exception {
+        return new String(GitObjectReader.readFile(repo.getRepository(), tree, path), StandardCharsets.UTF_8);
+    }
+
+    private RevCommit commit(Git repo, String file, String content) throws Exception {
+        Files.writeString(repo.getRepository().getWorkTree().toPath().resolve(file), content);
+        repo.add().addFilepattern(file).call();
+        return repo.commit().setMessage(content).call();
+    }
+
+}
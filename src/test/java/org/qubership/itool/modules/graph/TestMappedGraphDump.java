@@ -0,0 +1,135 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.modules.graph;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.qubership.itool.utils.JsonUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.qubership.itool.modules.graph.Graph.F_ID;
+import static org.qubership.itool.modules.graph.Graph.F_NAME;
+import static org.qubership.itool.modules.graph.Graph.F_TYPE;
+
+public class TestMappedGraphDump {
+
+    @TempDir
+    Path tempDir;
+
+    private JsonObject dump;
+
+    @BeforeEach
+    public void setup() {
+        Graph graph = new GraphImpl();
+        JsonObject domain = new JsonObject().put(F_ID, "D1").put(F_TYPE, "domain").put(F_NAME, "Domain");
+        graph.addVertexUnderRoot(domain);
+        for (int i = 1; i <= 3; i++) {
+            JsonObject component = new JsonObject()
+                    .put(F_ID, "c" + i)
+                    .put(F_TYPE, "backend")
+                    .put(F_NAME, "Компонент " + i)
+                    .put("version", 1.5)
+                    .put("details", new JsonObject()
+                            .put("pom", "<project>Grüße ".repeat(50 * i) + "</project>")
+                            .put("languages", new JsonArray().add("Java").add(i)));
+            graph.addVertex(domain, component);
+        }
+        // No name
+        graph.addVertex(graph.getVertex("c1"), new JsonObject().put(F_ID, "lib").put(F_TYPE, "library"));
+        graph.addEdge(graph.getVertex("c2"), graph.getVertex("c3"), new JsonObject().put(F_TYPE, "mandatory"));
+        dump = GraphDumpSupport.dumpToJson(graph, true);
+    }
+
+    @Test
+    public void testVerticesAreDecodedOnDemand() throws IOException {
+        Path file = tempDir.resolve("dump.json");
+        JsonUtils.saveJson(file, dump, true);
+        Graph graph = new GraphImpl();
+        GraphDumpSupport.restoreFromMappedFile(graph, file);
+
+        assertEquals(6, graph.getVertexCount());
+        assertEquals(6, graph.getEdgeCount());
+        List<JsonObject> components = graph.traversal().V().hasType("backend").toList();
+        assertEquals(List.of("Компонент 1", "Компонент 2", "Компонент 3"),
+                components.stream().map(c -> c.getString(F_NAME)).collect(Collectors.toList()));
+        assertNull(graph.getVertex("lib").getString(F_NAME));
+        assertEquals(0, countMaterialized(graph));
+
+        JsonObject c2 = graph.getVertex("c2");
+        assertEquals("Java", c2.getJsonObject("details").getJsonArray("languages").getString(0));
+        assertTrue(isMaterialized(c2));
+        assertEquals(1, countMaterialized(graph));
+
+        c2.put("extra", true);
+        assertEquals(Boolean.TRUE, graph.getVertex("c2").getBoolean("extra"));
+        c2.remove("extra");
+
+        // Whole vertices are decoded to the same contents
+        assertEquals(dump, GraphDumpSupport.dumpToJson(graph, true));
+        assertEquals(5, countMaterialized(graph));
+    }
+
+    @Test
+    public void testCopiesKeepKeyOrder() throws IOException {
+        Path file = tempDir.resolve("dump.json");
+        JsonUtils.saveJson(file, dump, true);
+        Graph graph = new GraphImpl();
+        GraphDumpSupport.restoreFromMappedFile(graph, file);
+
+        JsonObject c1 = graph.getVertex("c1");
+        List<String> keys = List.copyOf(c1.fieldNames());
+        assertEquals(List.of(F_ID, F_TYPE, F_NAME, "version", "details"), keys);
+        assertEquals(keys, List.copyOf(c1.copy().fieldNames()));
+        assertEquals(c1.encode(), c1.copy().encode());
+    }
+
+    @Test
+    public void testSegments() throws IOException {
+        Path file = tempDir.resolve("compact.json");
+        JsonUtils.saveJson(file, dump, false);
+        // Documents cross boundaries of segments
+        MappedDumpFile mapped = MappedDumpFile.map(file, 64);
+        MappedDumpFile single = MappedDumpFile.map(file);
+        assertArrayEquals(single.read(0, single.size()), mapped.read(0, mapped.size()));
+        assertArrayEquals(single.read(60, 200), mapped.read(60, 200));
+
+        Graph graph = new GraphImpl();
+        GraphDumpSupport.restoreFromJson(graph, mapped.readDump(GraphDumpSupport.DEFAULT_EAGER_KEYS));
+        assertEquals(dump, GraphDumpSupport.dumpToJson(graph, true));
+    }
+
+    private static long countMaterialized(Graph graph) {
+        return graph.traversal().V().toList().stream().filter(TestMappedGraphDump::isMaterialized).count();
+    }
+
+    private static boolean isMaterialized(JsonObject vertex) {
+        return vertex.getMap() instanceof LazyVertexMap && ((LazyVertexMap) vertex.getMap()).isMaterialized();
+    }
+
+}
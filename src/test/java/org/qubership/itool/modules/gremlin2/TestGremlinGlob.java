@@ -403,4 +403,23 @@ void testWrongByTraversalModulate() {
         Assertions.assertEquals(0, result.size());
     }
 
+    @Test
+    void testSharedSubtree() {
+        // microservice/ is reachable both from charts/ and directly from deployments/
+        this.graph.addEdge(this.graph.getVertex("v3"), this.graph.getVertex("v7"), createDirectoryEdge());
+
+        Map<String, List<JsonObject>> index = this.graph.getSuccessorsByProperty("v3", "name");
+        Assertions.assertEquals(List.of("routes-configuration.yaml", "default.json", "charts", "microservice"),
+            List.copyOf(index.keySet()));
+
+        Assertions.assertEquals(List.of("Chart.yaml", "Chart.yaml"),
+            collectFileNamesList(V("C").out().glob("**/microservice/Chart.yaml").toList()));
+        Assertions.assertEquals(List.of("Chart.yaml"),
+            collectFileNamesList(V("C").out().glob("deployments/microservice/Chart.yaml").toList()));
+        Assertions.assertEquals(List.of("values.yaml", "values.yaml"),
+            collectFileNamesList(V("C").out().glob("**/deployments/**/values.yaml").toList()));
+        Assertions.assertEquals(6,
+            V("C").out().glob("**/microservice/*").toList().size());
+    }
+
 }
@@ -22,9 +22,14 @@
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.qubership.itool.modules.gremlin2.graph.GraphTraversal;
+import org.qubership.itool.modules.gremlin2.util.Compare;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
 
 import static org.qubership.itool.modules.gremlin2.P.containing;
 import static org.qubership.itool.modules.gremlin2.P.endingWith;
@@ -265,4 +270,42 @@ void test_gteVersion_3() {
         );
     }
 
+    @Test
+    void testLargeWithin() {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            names.add("name" + i);
+        }
+        names.add("josh");
+        names.add("ripple");
+        Assertions.assertEquals(2, V().has("name", within(names)).toList().size());
+        Assertions.assertEquals(4, V().has("name", without(names.toArray())).toList().size());
+    }
+
+    @Test
+    void testCompiledPredicatesMatchUncompiled() {
+        List<Object> values = Arrays.asList(null, 1, 2L, 3, 1.5, "", "josh", "jo", "osh", "1.2", "1.2.3",
+                "9.4.40.v20210325", "native:1.2.14", "v99999999999.1", "1.0-rc2",
+                new JsonArray().add("josh"), new JsonObject().put("id", "josh"),
+                Collections.singletonList("josh"), Arrays.asList("a", "b", "c", "d", "e", "f", "g", "h", "josh", 1));
+        for (Compare compare : Compare.values()) {
+            for (Object second : values) {
+                Predicate<Object> compiled = compare.compile(second);
+                for (Object first : values) {
+                    String message = compare + "(" + first + ", " + second + ")";
+                    Object expected = evaluate(() -> compare.test(first, second));
+                    Assertions.assertEquals(expected, evaluate(() -> compiled.test(first)), message);
+                }
+            }
+        }
+    }
+
+    private static Object evaluate(BooleanSupplier supplier) {
+        try {
+            return supplier.getAsBoolean();
+        } catch (RuntimeException e) {
+            return e.getClass();
+        }
+    }
+
 }
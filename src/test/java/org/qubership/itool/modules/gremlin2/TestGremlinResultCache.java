@@ -0,0 +1,122 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.modules.gremlin2;
+
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.itool.modules.gremlin2.graph.GraphTraversalSource;
+import org.qubership.itool.modules.gremlin2.graph.TraversalResultCache;
+import org.qubership.itool.modules.gremlin2.graph.__;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+class TestGremlinResultCache extends AbstractGremlinTest {
+
+    @Test
+    void testModificationCount() {
+        long count = graph.getModificationCount();
+        JsonObject josh = graph.getVertex("v4");
+        JsonObject vertex = new JsonObject().put("id", "v7").put("type", "os");
+        Assertions.assertTrue(graph.addVertex(josh, vertex));
+        long afterAdd = graph.getModificationCount();
+        Assertions.assertTrue(afterAdd > count);
+
+        // Nothing changed
+        Assertions.assertFalse(graph.addVertex(vertex));
+        Assertions.assertEquals(0, graph.removeAllEdges(vertex, josh));
+        Assertions.assertEquals(afterAdd, graph.getModificationCount());
+
+        Assertions.assertTrue(graph.removeVertex(vertex));
+        Assertions.assertTrue(graph.getModificationCount() > afterAdd);
+    }
+
+    @Test
+    void testCachedResults() {
+        TraversalResultCache cache = new TraversalResultCache();
+        GraphTraversalSource source = new GraphTraversalSource(graph).withResultCache(cache);
+
+        Assertions.assertEquals(List.of("v3", "v5"), ids(source.V("v4").out().hasType("soft").toList()));
+        Assertions.assertEquals(0, cache.getHitCount());
+        List<JsonObject> cached = source.V("v4").out().hasType("soft").toList();
+        Assertions.assertEquals(List.of("v3", "v5"), ids(cached));
+        Assertions.assertEquals(1, cache.getHitCount());
+        Assertions.assertSame(graph.getVertex("v3"), cached.get(0));
+        // Result list is owned by the caller
+        cached.clear();
+        Assertions.assertEquals(2, source.V("v4").out().hasType("soft").toList().size());
+
+        // Different parameters or start vertices
+        Assertions.assertEquals(List.of("v6"), ids(source.V("v4").out().hasType("os").toList()));
+        Assertions.assertEquals(List.of("v6"), ids(source.V("v4").out("maintained").toList()));
+        Assertions.assertEquals(List.of(), ids(source.V("v1").out().hasType("soft").toList()));
+        Assertions.assertEquals("lop", source.V("v4").out().has("lang", "java").value("name").next());
+        Assertions.assertEquals(2, cache.getHitCount());
+        Assertions.assertEquals(5, cache.size());
+
+        // Structural modification invalidates all entries
+        graph.addVertex(graph.getVertex("v4"), new JsonObject().put("id", "v7").put("type", "soft"));
+        Assertions.assertEquals(List.of("v3", "v5", "v7"), ids(source.V("v4").out().hasType("soft").toList()));
+        Assertions.assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testNotCachedTraversals() {
+        TraversalResultCache cache = new TraversalResultCache();
+        GraphTraversalSource source = new GraphTraversalSource(graph).withResultCache(cache);
+
+        Assertions.assertEquals(2, source.V("v4").out().where(__.hasType("soft")).toList().size());
+        Assertions.assertEquals(4, source.V().not(__.hasType("soft")).toList().size());
+        Assertions.assertEquals(0, cache.size());
+
+        // Opt-in only
+        Assertions.assertNull(graph.traversal().getResultCache());
+        Assertions.assertSame(graph.getTraversalResultCache(), graph.traversal().cached().getResultCache());
+    }
+
+    @Test
+    void testCapacity() {
+        TraversalResultCache cache = new TraversalResultCache(2);
+        GraphTraversalSource source = new GraphTraversalSource(graph).withResultCache(cache);
+        source.V("v1").out().toList();
+        source.V("v4").out().toList();
+        source.V("v1").out().toList();
+        source.V("v3").in().toList();
+        Assertions.assertEquals(2, cache.size());
+
+        // Least recently used entry was evicted
+        long misses = cache.getMissCount();
+        source.V("v1").out().toList();
+        Assertions.assertEquals(misses, cache.getMissCount());
+        source.V("v4").out().toList();
+        Assertions.assertEquals(misses + 1, cache.getMissCount());
+    }
+
+    @Test
+    void testValueKeys() {
+        Assertions.assertNotEquals(TraversalResultCache.valueKey(List.of("a,b")),
+                TraversalResultCache.valueKey(List.of("a", "b")));
+        Assertions.assertNotEquals(TraversalResultCache.valueKey("1"), TraversalResultCache.valueKey(1));
+        Assertions.assertNull(TraversalResultCache.valueKey(new JsonObject()));
+    }
+
+    private static List<String> ids(List<JsonObject> vertices) {
+        return vertices.stream().map(v -> v.getString("id")).collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.modules.processor.matchers;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+import org.qubership.itool.modules.graph.Graph;
+import org.qubership.itool.modules.graph.GraphImpl;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.qubership.itool.modules.graph.Graph.F_ID;
+import static org.qubership.itool.modules.graph.Graph.F_MOCKED_FOR;
+import static org.qubership.itool.modules.graph.Graph.F_MOCK_FLAG;
+import static org.qubership.itool.modules.graph.Graph.F_TYPE;
+import static org.qubership.itool.modules.graph.Graph.P_DETAILS_DNS_NAMES;
+
+class MocksMatcherTest {
+
+    private final Graph sourceGraph = new GraphImpl();
+    private final Graph targetGraph = new GraphImpl();
+
+    @Test
+    void testTargetMocksIndexIsMaintained() {
+        TargetMocksMatcher matcher = new TargetMocksMatcher(new DefaultMockFieldExtractor());
+        JsonObject mock1 = mock("mock1", "dns-1");
+        targetGraph.addVertex(mock1);
+        targetGraph.addVertex(real("real0", "dns-0"));
+
+        assertSame(mock1, matcher.findExistingVertex(sourceGraph, real("c1", "dns-x", "dns-1"), targetGraph));
+        assertNull(matcher.findExistingVertex(sourceGraph, real("c2", "dns-2"), targetGraph));
+        assertNull(matcher.findExistingVertex(sourceGraph, real("c0", "dns-0"), targetGraph));
+
+        // Mock added during merging is matched
+        JsonObject mock2 = mock("mock2", "dns-2");
+        targetGraph.addVertex(mock2);
+        matcher.vertexMerged(targetGraph, mock2);
+        assertSame(mock2, matcher.findExistingVertex(sourceGraph, real("c2", "dns-2"), targetGraph));
+
+        // Mock replaced with real data is not matched anymore
+        mock1.getMap().clear();
+        mock1.mergeIn(real("mock1", "dns-1"));
+        matcher.vertexMerged(targetGraph, mock1);
+        assertNull(matcher.findExistingVertex(sourceGraph, real("c1", "dns-1"), targetGraph));
+
+        // The first mock in the graph wins
+        JsonObject mock3 = mock("mock3", "dns-2");
+        targetGraph.addVertex(mock3);
+        matcher.vertexMerged(targetGraph, mock3);
+        assertSame(mock2, matcher.findExistingVertex(sourceGraph, real("c2", "dns-2"), targetGraph));
+    }
+
+    @Test
+    void testSourceMocksIndexIsMaintained() {
+        SourceMocksMatcher matcher = new SourceMocksMatcher(new DefaultMockFieldExtractor());
+        JsonObject real1 = real("real1", "dns-1", "dns-1a");
+        JsonObject mock2 = mock("mock2", "dns-2");
+        targetGraph.addVertex(real1);
+        targetGraph.addVertex(mock2);
+
+        assertSame(real1, matcher.findExistingVertex(sourceGraph, mock("m1", "dns-1a"), targetGraph));
+        assertNull(matcher.findExistingVertex(sourceGraph, mock("m2", "dns-2"), targetGraph));
+        assertNull(matcher.findExistingVertex(sourceGraph, real("c1", "dns-1"), targetGraph));
+
+        // Mock replaced with real data is matched
+        mock2.getMap().clear();
+        mock2.mergeIn(real("mock2", "dns-2"));
+        matcher.vertexMerged(targetGraph, mock2);
+        assertSame(mock2, matcher.findExistingVertex(sourceGraph, mock("m2", "dns-2"), targetGraph));
+
+        // String values are matched by substring
+        JsonObject real3 = new JsonObject().put(F_ID, "real3").put(F_TYPE, "backend").put(F_MOCK_FLAG, false)
+            .put("details", new JsonObject().put("dnsNames", "dns-3,dns-4"));
+        targetGraph.addVertex(real3);
+        matcher.vertexMerged(targetGraph, real3);
+        assertSame(real3, matcher.findExistingVertex(sourceGraph, mock("m4", "dns-4"), targetGraph));
+
+        // The first vertex in the graph wins
+        JsonObject real4 = real("real4", "dns-1a");
+        targetGraph.addVertex(real4);
+        matcher.vertexMerged(targetGraph, real4);
+        assertSame(real1, matcher.findExistingVertex(sourceGraph, mock("m1", "dns-1a"), targetGraph));
+    }
+
+    @Test
+    void testSourceMocksSubstringIndex() {
+        SourceMocksMatcher matcher = new SourceMocksMatcher(new DefaultMockFieldExtractor());
+        JsonObject real1 = realWithString("real1", "svc-a.ns1,svc-b.ns1");
+        JsonObject real2 = realWithString("real2", "svc-b.ns2");
+        targetGraph.addVertex(real1);
+        targetGraph.addVertex(real2);
+
+        assertSame(real2, matcher.findExistingVertex(sourceGraph, mock("m1", "b.ns2"), targetGraph));
+        assertSame(real1, matcher.findExistingVertex(sourceGraph, mock("m2", "svc-b"), targetGraph));
+        assertNull(matcher.findExistingVertex(sourceGraph, mock("m3", "svc-c"), targetGraph));
+        // Values shorter than trigrams are matched too
+        assertSame(real2, matcher.findExistingVertex(sourceGraph, mock("m4", "s2"), targetGraph));
+
+        // Changed value is matched by its new trigrams only
+        real1.getJsonObject("details").put("dnsNames", "svc-c.ns1");
+        matcher.vertexMerged(targetGraph, real1);
+        assertSame(real1, matcher.findExistingVertex(sourceGraph, mock("m3", "svc-c"), targetGraph));
+        assertSame(real2, matcher.findExistingVertex(sourceGraph, mock("m2", "svc-b"), targetGraph));
+    }
+
+    private static JsonObject realWithString(String id, String dnsNames) {
+        return new JsonObject().put(F_ID, id).put(F_TYPE, "backend").put(F_MOCK_FLAG, false)
+            .put("details", new JsonObject().put("dnsNames", dnsNames));
+    }
+
+    private static JsonObject mock(String id, String dnsName) {
+        return new JsonObject().put(F_ID, id).put(F_TYPE, "backend").put(F_MOCK_FLAG, true)
+            .put(F_MOCKED_FOR, new JsonArray().add(P_DETAILS_DNS_NAMES))
+            .put("details", new JsonObject().put("dnsNames", dnsName));
+    }
+
+    private static JsonObject real(String id, String... dnsNames) {
+        return new JsonObject().put(F_ID, id).put(F_TYPE, "backend").put(F_MOCK_FLAG, false)
+            .put("details", new JsonObject().put("dnsNames", new JsonArray(List.of(dnsNames))));
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.modules.query;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+import org.qubership.itool.modules.graph.Graph;
+import org.qubership.itool.modules.graph.GraphImpl;
+import org.qubership.itool.modules.query.converter.ToJsonArrayConverter;
+
+import java.lang.ref.WeakReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.qubership.itool.modules.graph.Graph.F_ID;
+import static org.qubership.itool.modules.graph.Graph.F_TYPE;
+
+class QueryExecutorTest {
+
+    @Test
+    void testEvictedQueriesAreUnloaded() throws Exception {
+        Graph graph = new GraphImpl();
+        graph.addVertexUnderRoot(new JsonObject().put(F_ID, "D1").put(F_TYPE, "domain"));
+        QueryExecutor executor = new QueryExecutor(graph);
+        executor.setConverter(new ToJsonArrayConverter());
+
+        // The first script run in JVM may start a Groovy helper thread, which keeps the script's
+        // protection domain (and so its class loader) in its inherited access control context
+        executor.executeAndConvert(".V().id()");
+
+        String first = ".V().hasType('domain').limit(0).id()";
+        executor.executeAndConvert(first);
+        WeakReference<Class<?>> firstClass = new WeakReference<>(cachedClass(first));
+        assertNotNull(firstClass.get());
+        executor.executeAndConvert(first);
+        assertSame(firstClass.get(), cachedClass(first));
+
+        int queries = QueryExecutor.CompiledQueries.MAXIMUM_SIZE * 2;
+        for (int i = 1; i <= queries; i++) {
+            assertEquals(new JsonArray().add("D1"),
+                    executor.executeAndConvert(".V().hasType('domain').limit(" + i + ").id()"));
+        }
+
+        // Classes are held by loaders of cached entries only
+        long loaded = QueryExecutor.CompiledQueries.CACHE.asMap().values().stream()
+                .mapToLong(query -> query.loader.getLoadedClasses().length)
+                .sum();
+        assertTrue(loaded <= QueryExecutor.CompiledQueries.MAXIMUM_SIZE, "Classes loaded: " + loaded);
+        assertNull(cachedClass(first));
+
+        for (int i = 0; i < 50 && firstClass.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertNull(firstClass.get(), "Evicted query class is not unloaded");
+    }
+
+    private static Class<?> cachedClass(String query) {
+        return QueryExecutor.CompiledQueries.CACHE.asMap().entrySet().stream()
+                .filter(entry -> entry.getKey().endsWith("result = traversal" + query))
+                .map(entry -> entry.getValue().scriptClass)
+                .findFirst()
+                .orElse(null);
+    }
+
+}
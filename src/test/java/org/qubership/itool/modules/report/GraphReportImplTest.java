@@ -0,0 +1,248 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.qubership.itool.modules.report;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GraphReportImplTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testConcurrentRecordsAreMergedInOrder() throws Exception {
+        GraphReportImpl report = new GraphReportImpl();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        report.addMessage(GraphReport.ERROR, component("c" + thread), "message " + i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        JsonArray records = report.dumpRecords(false);
+        assertEquals(4000, records.size());
+        assertEquals(4000, report.getRecordCount());
+        // Order of addition is kept within each thread
+        int[] last = {-1, -1, -1, -1};
+        for (Object o : records) {
+            JsonObject record = (JsonObject) o;
+            int thread = Integer.parseInt(record.getString(GraphReport.COMPONENT).substring(1));
+            int index = Integer.parseInt(record.getString(GraphReport.MESSAGE).substring("message ".length()));
+            assertEquals(last[thread] + 1, index);
+            last[thread] = index;
+        }
+    }
+
+    @Test
+    void testDuplicatesAreStoredOnce() {
+        GraphReportImpl report = new GraphReportImpl();
+        for (int i = 0; i < 3; i++) {
+            report.addMessage(GraphReport.CONF_ERROR, component("c1"), "Same message");
+        }
+        report.addMessage(GraphReport.CONF_ERROR, component("c2"), "Same message");
+
+        assertEquals(2, report.getRecordCount());
+        assertEquals(2, report.getDuplicateCount());
+
+        // Removed record may be reported again
+        report.removeRecords(r -> "c1".equals(r.getString(GraphReport.COMPONENT)));
+        report.addMessage(GraphReport.CONF_ERROR, component("c1"), "Same message");
+        assertEquals(2, report.getRecordCount());
+    }
+
+    @Test
+    void testHashCollisionsKeepDistinctRecords() {
+        // Every record gets the same hash, both in memory and once spilled
+        GraphReportImpl report = new GraphReportImpl(2048, tempDir) {
+            @Override
+            long hash(String encodedRecord) {
+                return 42;
+            }
+        };
+        for (int i = 0; i < 50; i++) {
+            report.addMessage(GraphReport.ERROR, component("c1"), "Error " + i);
+        }
+        for (int i = 0; i < 50; i++) {
+            report.addMessage(GraphReport.ERROR, component("c1"), "Error " + i);
+        }
+        assertEquals(50, report.getRecordCount());
+        assertEquals(50, report.getDuplicateCount());
+        JsonArray records = report.dumpRecords(false);
+        for (int i = 0; i < 50; i++) {
+            assertEquals("Error " + i, records.getJsonObject(i).getString(GraphReport.MESSAGE));
+        }
+
+        report.removeRecords(r -> "Error 49".equals(r.getString(GraphReport.MESSAGE))
+                || "Error 0".equals(r.getString(GraphReport.MESSAGE)));
+        report.addMessage(GraphReport.ERROR, component("c1"), "Error 0");
+        report.addMessage(GraphReport.ERROR, component("c1"), "Error 49");
+        report.addMessage(GraphReport.ERROR, component("c1"), "Error 1");
+        assertEquals(50, report.getRecordCount());
+        assertEquals(51, report.getDuplicateCount());
+    }
+
+    @Test
+    void testSpillToDisk() throws Exception {
+        GraphReportImpl report = new GraphReportImpl(4096, tempDir);
+        for (int i = 0; i < 200; i++) {
+            report.addMessage(GraphReport.EXCEPTION, component("c" + (i % 3)), "Exception " + i);
+        }
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(1, files.count());
+        }
+
+        JsonArray records = report.dumpRecords(true);
+        assertEquals(200, records.size());
+        assertEquals(200, report.getRecordCount());
+        for (int i = 0; i < 200; i++) {
+            assertEquals("Exception " + i, records.getJsonObject(i).getString(GraphReport.MESSAGE));
+        }
+
+        List<JsonObject> removed = report.removeRecords(r -> "c0".equals(r.getString(GraphReport.COMPONENT)));
+        assertEquals(67, removed.size());
+        assertEquals("Exception 0", removed.get(0).getString(GraphReport.MESSAGE));
+        Set<String> components = new HashSet<>();
+        for (Object o : report.dumpRecords(false)) {
+            components.add(((JsonObject) o).getString(GraphReport.COMPONENT));
+        }
+        assertEquals(Set.of("c1", "c2"), components);
+        assertEquals(133, report.getRecordCount());
+
+        report.clear();
+        assertEquals(0, report.getRecordCount());
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void testDumpAndRestore() {
+        GraphReportImpl report = new GraphReportImpl(1024, tempDir);
+        for (int i = 0; i < 50; i++) {
+            report.addMessage(GraphReport.ERROR, component("c1"), "Error " + i);
+        }
+        JsonObject dump = report.dumpReportData(true);
+
+        GraphReportImpl restored = new GraphReportImpl();
+        restored.restoreReportData(dump);
+        assertEquals(dump, restored.dumpReportData(false));
+
+        // Restored records are not deduplicated
+        JsonArray withDuplicates = new JsonArray().add(record("c1", "Error")).add(record("c1", "Error"));
+        restored.restoreRecords(withDuplicates);
+        assertEquals(withDuplicates, restored.dumpRecords(false));
+        assertEquals(0, restored.getDuplicateCount());
+    }
+
+    @Test
+    void testIndexedLookupAndRemoval() {
+        GraphReportImpl report = new GraphReportImpl(2048, tempDir);
+        for (int i = 0; i < 20; i++) {
+            report.referenceNotFound(component("c" + (i % 2)), "startup http dependency dns-" + i,
+                    GraphReport.httpDependencyKey("dns-" + i));
+        }
+        // Restored record of older report has no reference key field
+        JsonArray records = report.dumpRecords(false);
+        records.add(record("c2", "Reference was not found. Reference: optional http dependency dns-3")
+                .put(GraphReport.TYPE, GraphReport.CONF_ERROR));
+        report.restoreRecords(records);
+
+        List<JsonObject> found = report.findRecords(GraphReport.CONF_ERROR, null,
+                GraphReport.httpDependencyKey("dns-3"));
+        assertEquals(2, found.size());
+        assertEquals("c1", found.get(0).getString(GraphReport.COMPONENT));
+        assertEquals("c2", found.get(1).getString(GraphReport.COMPONENT));
+        assertEquals(10, report.findRecords(null, "c0", null).size());
+        assertEquals(0, report.findRecords(GraphReport.ERROR, "c0", null).size());
+
+        List<JsonObject> removed = report.removeRecords(GraphReport.CONF_ERROR, null,
+                GraphReport.httpDependencyKey("dns-3"));
+        assertEquals(found, removed);
+        assertEquals(19, report.getRecordCount());
+        assertEquals(19, report.dumpRecords(false).size());
+        assertEquals(0, report.findRecords(null, "c2", null).size());
+        assertEquals(9, report.findRecords(null, "c1", null).size());
+
+        assertEquals(10, report.removeRecords(null, "c0", null).size());
+        assertEquals(9, report.dumpRecords(false).size());
+    }
+
+    @Test
+    void testRemovedRecordsAreNotKept() {
+        GraphReportImpl report = new GraphReportImpl() {
+            @Override
+            long hash(String encodedRecord) {
+                return encodedRecord.length();
+            }
+        };
+        for (int i = 0; i < 20; i++) {
+            report.referenceNotFound(component("c" + (i % 2)), "dns-" + (i + 10));
+        }
+        // Every record is stored in a stripe and in both indexes
+        assertEquals(60, report.getStoredEntryCount());
+
+        assertEquals(10, report.removeRecords(null, "c0", null).size());
+        assertEquals(30, report.getStoredEntryCount());
+        report.removeRecords(r -> true);
+        assertEquals(0, report.getStoredEntryCount());
+
+        // Removed records are not taken for duplicates
+        report.referenceNotFound(component("c1"), "dns-11");
+        assertEquals(1, report.getRecordCount());
+        assertEquals(0, report.getDuplicateCount());
+    }
+
+    private static JsonObject component(String id) {
+        return new JsonObject().put("id", id);
+    }
+
+    private static JsonObject record(String component, String message) {
+        return new JsonObject()
+                .put(GraphReport.TYPE, GraphReport.ERROR)
+                .put(GraphReport.MESSAGE, message)
+                .put(GraphReport.COMPONENT, component);
+    }
+
+}
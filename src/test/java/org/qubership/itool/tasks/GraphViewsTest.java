@@ -0,0 +1,157 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.qubership.itool.tasks;
+
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.itool.modules.graph.Graph;
+import org.qubership.itool.modules.graph.GraphImpl;
+import org.qubership.itool.modules.gremlin2.graph.GraphTraversal;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.qubership.itool.modules.graph.Graph.F_ID;
+import static org.qubership.itool.modules.graph.Graph.F_TYPE;
+import static org.qubership.itool.modules.gremlin2.P.eq;
+import static org.qubership.itool.modules.gremlin2.P.neq;
+import static org.qubership.itool.modules.gremlin2.graph.__.outE;
+import static org.qubership.itool.modules.gremlin2.graph.__.select;
+
+class GraphViewsTest {
+
+    Graph graph;
+
+    /*
+     * D1 -> c1 -module-> m1 -> lib1 -> lib2 -> lib3
+     *                      \      \-(c2)-> lib4 -> lib5
+     *                       \-(test)-> lib6
+     * D1 -> c2 -module-> m2 -> lib1 -> lib4
+     */
+    @BeforeEach
+    void setUp() {
+        graph = new GraphImpl();
+        JsonObject domain = vertex("D1", "domain");
+        graph.addVertexUnderRoot(domain);
+        JsonObject c1 = vertex("c1", "microservice");
+        JsonObject c2 = vertex("c2", "microservice");
+        graph.addVertex(domain, c1);
+        graph.addVertex(domain, c2);
+        graph.addVertex(domain, vertex("c3", "microservice"));
+
+        JsonObject m1 = vertex("m1", "library");
+        JsonObject m2 = vertex("m2", "library");
+        graph.addVertex(m1);
+        graph.addVertex(m2);
+        graph.addEdge(c1, m1, new JsonObject().put(F_TYPE, "module").put("component", "c1"));
+        graph.addEdge(c2, m2, new JsonObject().put(F_TYPE, "module").put("component", "c2"));
+        for (int i = 1; i <= 6; i++) {
+            graph.addVertex(vertex("lib" + i, "library"));
+        }
+        dependency("m1", "lib1", "compile", "c1");
+        dependency("lib1", "lib2", "compile", "c1");
+        dependency("lib2", "lib3", "runtime", "c1");
+        dependency("lib1", "lib4", "compile", "c2");
+        dependency("lib4", "lib5", "compile", "c1");
+        dependency("m1", "lib6", "test", "c1");
+        dependency("m2", "lib1", "compile", "c2");
+    }
+
+    @Test
+    void testJavaDependenciesMatchTraversals() {
+        Map<String, GraphViews.JavaDependencies> dependencies = GraphViews.javaDependencies(graph);
+        Map<String, List<JsonObject>> transitiveAnyFirstHop = GraphViews.javaTransitiveAnyFirstHop(graph);
+        assertEquals(3, dependencies.size());
+        assertEquals(3, transitiveAnyFirstHop.size());
+
+        for (String componentId : List.of("c1", "c2", "c3")) {
+            GraphViews.JavaDependencies componentDependencies = dependencies.get(componentId);
+
+            // Traversals of the Java dependencies summary and component pages
+            GraphTraversal<JsonObject, JsonObject> directTraversal =
+                graph.traversal().V(componentId).as("C").out("module")
+                    .outE("dependency")
+                        .has("scope", neq("test"))
+                        .has("component", componentId)
+                    .inV().dedup();
+            assertEquals(ids(directTraversal.clone().toList()), ids(componentDependencies.getDirect()));
+            List<JsonObject> transitive =
+                directTraversal.clone()
+                    .outE("dependency")
+                        .has("scope", neq("test"))
+                        .has("component", componentId)
+                    .inV().dedup()
+                    .repeat(
+                        outE("dependency")
+                            .has("scope", neq("test"))
+                            .has("component", componentId)
+                        .inV().dedup()
+                    ).emit().dedup()
+                    .toList();
+            assertEquals(ids(transitive), ids(componentDependencies.getTransitive()));
+
+            // Traversal of the CSV export
+            GraphTraversal<JsonObject, JsonObject> csvDirectTraversal =
+                graph.traversal().V(componentId).as("C").out("module")
+                    .outE("dependency")
+                    .has("scope", neq("test"))
+                    .has("component", eq(select("C").id()))
+                    .inV().dedup();
+            List<JsonObject> csvTransitive =
+                csvDirectTraversal.clone()
+                    .outE("dependency").has("scope", neq("test")).inV().dedup()
+                    .repeat(
+                        outE("dependency")
+                            .has("scope", neq("test"))
+                            .has("component", eq(select("C").id()))
+                            .inV().dedup()
+                    ).emit().dedup().toList();
+            assertEquals(ids(csvTransitive), ids(transitiveAnyFirstHop.get(componentId)));
+        }
+
+        assertEquals(List.of("lib1"), ids(dependencies.get("c1").getDirect()));
+        // Results of the first hop are not emitted, lib5 is reached over the edge recorded for c2
+        assertEquals(List.of("lib3"), ids(dependencies.get("c1").getTransitive()));
+        assertEquals(List.of("lib3", "lib5"), ids(transitiveAnyFirstHop.get("c1")));
+        assertEquals(List.of(), ids(dependencies.get("c2").getTransitive()));
+        assertEquals(List.of(), ids(dependencies.get("c3").getDirect()));
+    }
+
+    @Test
+    void testDomainSuccessors() {
+        graph.addVertex("D1", vertex("incomplete", "microservice"));
+        assertEquals(List.of("c1", "c2", "c3", "incomplete"), ids(GraphViews.domainSuccessors(graph).get("D1")));
+    }
+
+    private void dependency(String from, String to, String scope, String component) {
+        graph.addEdge(graph.getVertex(from), graph.getVertex(to), new JsonObject()
+                .put(F_TYPE, "dependency").put("scope", scope).put("component", component));
+    }
+
+    private static JsonObject vertex(String id, String type) {
+        return new JsonObject().put(F_ID, id).put(F_TYPE, type);
+    }
+
+    private static List<String> ids(List<JsonObject> vertices) {
+        return vertices.stream().map(v -> v.getString(F_ID)).collect(Collectors.toList());
+    }
+
+}
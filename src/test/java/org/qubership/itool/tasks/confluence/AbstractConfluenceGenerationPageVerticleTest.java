@@ -0,0 +1,180 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.tasks.confluence;
+
+import com.google.inject.Module;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.qubership.itool.context.FlowContext;
+import org.qubership.itool.di.ApplicationContext;
+import org.qubership.itool.di.QubershipModule;
+import org.qubership.itool.modules.graph.Graph;
+import org.qubership.itool.modules.report.GraphReport;
+import org.qubership.itool.modules.template.ConfluencePage;
+import org.qubership.itool.utils.FutureUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AbstractConfluenceGenerationPageVerticleTest {
+
+    static final int UNITS = 20;
+    static final int PAGES_PER_UNIT = 3;
+
+    static Vertx vertx;
+    static FlowContext flowContext;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void setUp() {
+        vertx = Vertx.vertx();
+        JsonObject config = new JsonObject()
+                .put("configPath", "target/test-classes/confluence")
+                .put("release", "default")
+                .put("confluence", new JsonObject().put("space", "SPACE"));
+        ApplicationContext appContext =
+                new ApplicationContext(vertx, config, new Module[] {new QubershipModule(vertx)});
+        flowContext = appContext.getInstance(FlowContext.class);
+        flowContext.initialize(vertx, config);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    void testConcurrentGeneration() throws Exception {
+        Graph graph = flowContext.getGraph();
+        graph.clear();
+
+        TestGenerationVerticle task = new TestGenerationVerticle(-1);
+        flowContext.initialize(task);
+        FutureUtils.blockForResultOrException(task.startInFlow(), 30, TimeUnit.SECONDS);
+
+        JsonArray pages = graph.getVertex(Graph.V_ROOT).getJsonArray("confluencePages");
+        assertEquals(UNITS * PAGES_PER_UNIT, pages.size());
+        // Same order as the pages were prepared in, regardless of completion order
+        for (int i = 0; i < UNITS; i++) {
+            for (int j = 0; j < PAGES_PER_UNIT; j++) {
+                String title = "Page " + i + "." + j;
+                JsonObject page = pages.getJsonObject(i * PAGES_PER_UNIT + j);
+                assertEquals(title, page.getString("title"));
+                assertEquals("SPACE", page.getString("space"));
+                Path file = Path.of(page.getString("onDiskPath"));
+                assertEquals(tempDir.resolve("unit" + i).resolve("page" + j + ".confluence"), file);
+                assertEquals(List.of("h1. " + title, "[~owner" + i + "] default SPACE"), Files.readAllLines(file));
+            }
+        }
+    }
+
+    @Test
+    void testRenderingFailureIsReportedOnce() throws Exception {
+        Graph graph = flowContext.getGraph();
+        graph.clear();
+        GraphReport report = flowContext.getReport();
+        report.clear();
+
+        TestGenerationVerticle task = new TestGenerationVerticle(5);
+        flowContext.initialize(task);
+        FutureUtils.blockForResultOrException(task.startInFlow(), 30, TimeUnit.SECONDS);
+
+        JsonArray pages = graph.getVertex(Graph.V_ROOT).getJsonArray("confluencePages");
+        assertEquals(UNITS * PAGES_PER_UNIT - 1, pages.size());
+        assertEquals(1, report.getRecordCount());
+        List<JsonObject> records = report.findRecords(GraphReport.EXCEPTION, "component5", null);
+        assertEquals(1, records.size());
+        // Neither partial page nor temporary file is left for the failed page
+        try (Stream<Path> files = Files.list(tempDir.resolve("unit5"))) {
+            assertEquals(Set.of("page1.confluence", "page2.confluence"),
+                    files.map(f -> f.getFileName().toString()).collect(Collectors.toSet()));
+        }
+    }
+
+    class TestGenerationVerticle extends AbstractConfluenceGenerationPageVerticle {
+
+        private final Logger log = LoggerFactory.getLogger(TestGenerationVerticle.class);
+        // First page of this unit refers to a missing template, -1 for none
+        private final int brokenUnit;
+
+        TestGenerationVerticle(int brokenUnit) {
+            this.brokenUnit = brokenUnit;
+        }
+
+        @Override
+        protected List<Callable<List<ConfluencePage>>> getPagePreparationUnits() {
+            List<Callable<List<ConfluencePage>>> units = new ArrayList<>();
+            for (int i = 0; i < UNITS; i++) {
+                int unit = i;
+                units.add(() -> {
+                    // Later units complete first
+                    Thread.sleep(UNITS - unit);
+                    List<ConfluencePage> pages = new ArrayList<>();
+                    for (int j = 0; j < PAGES_PER_UNIT; j++) {
+                        ConfluencePage page = new ConfluencePage();
+                        page.setTitle("Page " + unit + "." + j);
+                        page.setType("test");
+                        page.setTemplate(unit == brokenUnit && j == 0 ? "missingPage.ftlh" : "testPage.ftlh");
+                        page.setElement(new JsonObject().put("id", "component" + unit));
+                        page.setDirectoryPath("unit" + unit);
+                        page.setFileName("page" + j);
+                        page.addDataModel("title", page.getTitle());
+                        page.addDataModel("owner", "owner" + unit);
+                        page.addDataModel("space", "SPACE");
+                        pages.add(page);
+                    }
+                    return pages;
+                });
+            }
+            return units;
+        }
+
+        @Override
+        protected List<ConfluencePage> prepareConfluencePageList(String department) {
+            return null;
+        }
+
+        @Override
+        protected Path getOutputPath() {
+            return tempDir;
+        }
+
+        @Override
+        protected Logger getLogger() {
+            return log;
+        }
+    }
+
+}
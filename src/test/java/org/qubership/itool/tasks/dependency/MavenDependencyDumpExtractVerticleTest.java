@@ -0,0 +1,183 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.tasks.dependency;
+
+import com.google.inject.Module;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import org.apache.maven.shared.invoker.DefaultInvoker;
+import org.apache.maven.shared.invoker.InvocationRequest;
+import org.apache.maven.shared.invoker.InvocationResult;
+import org.apache.maven.shared.invoker.Invoker;
+import org.apache.maven.shared.utils.cli.CommandLineException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.qubership.itool.context.FlowContext;
+import org.qubership.itool.di.ApplicationContext;
+import org.qubership.itool.di.QubershipModule;
+import org.qubership.itool.modules.graph.Graph;
+import org.qubership.itool.utils.FutureUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.qubership.itool.modules.graph.Graph.F_DIRECTORY;
+import static org.qubership.itool.modules.graph.Graph.F_ID;
+import static org.qubership.itool.modules.graph.Graph.F_TYPE;
+
+class MavenDependencyDumpExtractVerticleTest {
+
+    static final String POM = "<project><modelVersion>4.0.0</modelVersion>"
+            + "<modules><module>module-a</module></modules></project>";
+    static final String MODULE_POM = "<project><modelVersion>4.0.0</modelVersion></project>";
+
+    static Vertx vertx;
+    static FlowContext flowContext;
+
+    @TempDir
+    Path tempDir;
+    Path componentDir;
+    Path dumpDir;
+    AtomicInteger invocations;
+    String mavenOpts;
+
+    @BeforeAll
+    static void setUp() {
+        vertx = Vertx.vertx();
+        JsonObject config = new JsonObject();
+        ApplicationContext appContext =
+                new ApplicationContext(vertx, config, new Module[] {new QubershipModule(vertx)});
+        flowContext = appContext.getInstance(FlowContext.class);
+        flowContext.initialize(vertx, config);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        vertx.close();
+    }
+
+    @BeforeEach
+    void initEach() throws IOException {
+        componentDir = tempDir.resolve("component");
+        dumpDir = tempDir.resolve("dependencies");
+        Files.createDirectories(componentDir.resolve("module-a"));
+        Files.writeString(componentDir.resolve("pom.xml"), POM);
+        Files.writeString(componentDir.resolve("module-a/pom.xml"), MODULE_POM);
+        invocations = new AtomicInteger();
+
+        Graph graph = flowContext.getGraph();
+        graph.clear();
+        JsonObject domain = new JsonObject().put(F_ID, "D1").put(F_TYPE, "domain");
+        JsonObject component = new JsonObject().put(F_ID, "c1").put(F_TYPE, "backend")
+                .put(F_DIRECTORY, componentDir.toString())
+                .put("repository", "https://git.example.com/c1.git")
+                .put("details", new JsonObject());
+        graph.addVertexUnderRoot(domain);
+        graph.addVertex(domain, component);
+    }
+
+    @Test
+    void testUnchangedPomsSkipInvocation() throws Exception {
+        runTask();
+        assertEquals(1, invocations.get());
+        Path dumpFile = dumpDir.resolve("c1_dependency.txt");
+        assertEquals(List.of("[INFO] run 1"), Files.readAllLines(dumpFile));
+        assertTrue(mavenOpts.endsWith("-Xmx" + MavenDependencyDumpExtractVerticle.DEFAULT_INVOCATION_MEMORY_MB + "m"));
+
+        Files.delete(dumpFile);
+        runTask();
+        assertEquals(1, invocations.get());
+        assertEquals(List.of("[INFO] run 1"), Files.readAllLines(dumpFile));
+
+        Files.writeString(componentDir.resolve("module-a/pom.xml"), MODULE_POM + "\n");
+        runTask();
+        assertEquals(2, invocations.get());
+        assertEquals(List.of("[INFO] run 2"), Files.readAllLines(dumpFile));
+    }
+
+    @Test
+    void testHashDependsOnGoalsAndPoms() throws Exception {
+        String hash = MavenDependencyDumpExtractVerticle.hashPoms(componentDir, List.of("dependency:tree"));
+        assertEquals(hash, MavenDependencyDumpExtractVerticle.hashPoms(componentDir, List.of("dependency:tree")));
+        assertNotEquals(hash, MavenDependencyDumpExtractVerticle.hashPoms(componentDir,
+                List.of("dependency:tree", "-Pprod")));
+
+        // Build output is not hashed
+        Files.createDirectories(componentDir.resolve("target"));
+        Files.writeString(componentDir.resolve("target/pom.xml"), MODULE_POM);
+        assertEquals(hash, MavenDependencyDumpExtractVerticle.hashPoms(componentDir, List.of("dependency:tree")));
+    }
+
+    @Test
+    void testMavenOpts() {
+        assertEquals("-Xmx512m", MavenDependencyDumpExtractVerticle.buildMavenOpts(null, 512));
+        assertEquals("-Xmx512m", MavenDependencyDumpExtractVerticle.buildMavenOpts(" ", 512));
+        assertEquals("-Xmx4g -Dfile.encoding=UTF-8 -Xmx512m",
+                MavenDependencyDumpExtractVerticle.buildMavenOpts("-Xmx4g -Dfile.encoding=UTF-8 ", 512));
+    }
+
+    private void runTask() throws Exception {
+        TestExtractVerticle task = new TestExtractVerticle();
+        flowContext.initialize(task);
+        FutureUtils.blockForResultOrException(task.startInFlow(), 30, TimeUnit.SECONDS);
+    }
+
+    class TestExtractVerticle extends MavenDependencyDumpExtractVerticle {
+        @Override
+        protected Invoker createInvoker() {
+            return new DefaultInvoker() {
+                @Override
+                public InvocationResult execute(InvocationRequest request) {
+                    int run = invocations.incrementAndGet();
+                    mavenOpts = request.getMavenOpts();
+                    try {
+                        request.getOutputHandler(null).consumeLine("[INFO] run " + run);
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                    return new InvocationResult() {
+                        @Override
+                        public CommandLineException getExecutionException() {
+                            return null;
+                        }
+
+                        @Override
+                        public int getExitCode() {
+                            return 0;
+                        }
+                    };
+                }
+            };
+        }
+
+        @Override
+        protected Path getDependencyDumpPath() {
+            return dumpDir;
+        }
+    }
+
+}
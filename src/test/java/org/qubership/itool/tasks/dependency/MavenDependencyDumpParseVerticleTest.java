@@ -0,0 +1,106 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.tasks.dependency;
+
+import com.google.inject.Module;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.qubership.itool.context.FlowContext;
+import org.qubership.itool.di.ApplicationContext;
+import org.qubership.itool.di.QubershipModule;
+import org.qubership.itool.modules.graph.Graph;
+import org.qubership.itool.utils.FutureUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.qubership.itool.modules.graph.Graph.F_DIRECTORY;
+import static org.qubership.itool.modules.graph.Graph.F_ID;
+import static org.qubership.itool.modules.graph.Graph.F_TYPE;
+
+class MavenDependencyDumpParseVerticleTest {
+
+    static Vertx vertx;
+    static FlowContext flowContext;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void setUp() {
+        vertx = Vertx.vertx();
+        JsonObject config = new JsonObject();
+        ApplicationContext appContext =
+                new ApplicationContext(vertx, config, new Module[] {new QubershipModule(vertx)});
+        flowContext = appContext.getInstance(FlowContext.class);
+        flowContext.initialize(vertx, config);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    void testDependencyEdges() throws Exception {
+        Files.writeString(tempDir.resolve("pom.xml"), "<project/>");
+        Graph graph = flowContext.getGraph();
+        graph.clear();
+        JsonObject domain = new JsonObject().put(F_ID, "D1").put(F_TYPE, "domain");
+        JsonObject component = new JsonObject().put(F_ID, "c1").put(F_TYPE, "backend")
+                .put(F_DIRECTORY, tempDir.toString())
+                .put("repository", "https://git.example.com/c1.git")
+                .put("details", new JsonObject());
+        graph.addVertexUnderRoot(domain);
+        graph.addVertex(domain, component);
+
+        MavenDependencyDumpParseVerticle task = new MavenDependencyDumpParseVerticle() {
+            @Override
+            protected Path getDependencyDumpPath() {
+                return Path.of("target/test-classes/dependency");
+            }
+        };
+        flowContext.initialize(task);
+        FutureUtils.blockForResultOrException(task.startInFlow(), 30, TimeUnit.SECONDS);
+
+        List<JsonObject> modules = graph.getEdgesBetween("c1", "org.example:c1-service:jar:1.0-SNAPSHOT");
+        assertEquals(1, modules.size());
+        assertEquals("module", modules.get(0).getString("type"));
+        assertEquals(1, graph.getEdgesBetween("c1", "org.example:c1-parent:pom:1.0-SNAPSHOT").size());
+
+        String databind = "com.fasterxml.jackson.core:jackson-databind:jar:2.17.0";
+        List<JsonObject> dependencies = graph.getEdgesBetween("org.example:c1-api:jar:1.0-SNAPSHOT", databind);
+        assertEquals(1, dependencies.size());
+        JsonObject edge = dependencies.get(0).copy();
+        edge.remove(F_ID);
+        assertEquals(new JsonObject().put("type", "dependency").put("scope", "compile").put("component", "c1"), edge);
+        assertEquals(1, graph.getEdgesBetween(databind, "com.fasterxml.jackson.core:jackson-core:jar:2.17.0").size());
+        // Going back to level 2 after level 4
+        assertEquals(1, graph.getEdgesBetween("org.example:c1-service:jar:1.0-SNAPSHOT", databind).size());
+        assertEquals("test", graph.getEdgesBetween("org.example:c1-service:jar:1.0-SNAPSHOT",
+                "org.junit.jupiter:junit-jupiter:jar:5.10.0").get(0).getString("scope"));
+        assertEquals("2.17.0", graph.getVertex(databind).getString("version"));
+    }
+
+}
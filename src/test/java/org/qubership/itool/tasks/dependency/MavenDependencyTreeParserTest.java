@@ -0,0 +1,107 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.tasks.dependency;
+
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class MavenDependencyTreeParserTest {
+
+    @Test
+    void testParseDependencyTree() throws IOException {
+        byte[] dump;
+        try (InputStream in = getClass().getResourceAsStream("/dependency/c1_dependency.txt")) {
+            dump = in.readAllBytes();
+        }
+        RecordingHandler handler = new RecordingHandler();
+        MavenDependencyTreeParser parser = new MavenDependencyTreeParser();
+        parser.parse(dump, handler);
+
+        assertEquals(List.of(
+                "1 org.example:c1-parent:pom:1.0-SNAPSHOT compile",
+                "1 org.example:c1-service:jar:1.0-SNAPSHOT compile",
+                "2 org.example:c1-api:jar:1.0-SNAPSHOT compile",
+                "3 com.fasterxml.jackson.core:jackson-databind:jar:2.17.0 compile",
+                "4 com.fasterxml.jackson.core:jackson-core:jar:2.17.0 compile",
+                "2 io.netty:netty-transport-native-epoll:jar:linux-x86_64:4.1.100.Final runtime",
+                "2 com.fasterxml.jackson.core:jackson-databind:jar:2.17.0 compile",
+                "2 org.junit.jupiter:junit-jupiter:jar:5.10.0 test"
+        ), handler.entries);
+        assertEquals(List.of("[INFO] +- something unexpected"), handler.notRecognized);
+        assertEquals(List.of("[ERROR] Failed to execute goal on project c1-broken"), handler.errors);
+        assertEquals(7, parser.size());
+
+        // Same coordinate is interned
+        assertSame(handler.coordinates.get(3), handler.coordinates.get(6));
+        JsonObject netty = handler.coordinates.get(5).getVertex();
+        assertEquals(new JsonObject()
+                .put("id", "io.netty:netty-transport-native-epoll:jar:linux-x86_64:4.1.100.Final")
+                .put("artifactId", "netty-transport-native-epoll")
+                .put("groupId", "io.netty")
+                .put("package", "jar")
+                .put("version", "linux-x86_64:4.1.100.Final")
+                .put("type", "library"), netty);
+    }
+
+    @Test
+    void testLineBreaks() {
+        byte[] dump = ("[INFO] org.example:c2:jar:1.0\r\n"
+                + "[INFO] \\- org.example:c2-api:jar:1.0:provided\r"
+                + "[INFO] org.example:c3:jar:classified:1.0").getBytes(StandardCharsets.UTF_8);
+        RecordingHandler handler = new RecordingHandler();
+        new MavenDependencyTreeParser().parse(dump, handler);
+
+        assertEquals(List.of(
+                "1 org.example:c2:jar:1.0 compile",
+                "2 org.example:c2-api:jar:1.0 provided",
+                "1 org.example:c3:jar:classified:1.0 compile"
+        ), handler.entries);
+    }
+
+    static class RecordingHandler implements MavenDependencyTreeParser.Handler {
+        final List<String> entries = new ArrayList<>();
+        final List<MavenDependencyTreeParser.Coordinate> coordinates = new ArrayList<>();
+        final List<String> errors = new ArrayList<>();
+        final List<String> notRecognized = new ArrayList<>();
+
+        @Override
+        public void entry(int level, MavenDependencyTreeParser.Coordinate artifact, String scope) {
+            entries.add(level + " " + artifact.id + " " + scope);
+            coordinates.add(artifact);
+        }
+
+        @Override
+        public void error(String line) {
+            errors.add(line);
+        }
+
+        @Override
+        public void notRecognized(String line) {
+            notRecognized.add(line);
+        }
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.tasks.export;
+
+import com.google.inject.Module;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFCell;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.qubership.itool.context.FlowContext;
+import org.qubership.itool.di.ApplicationContext;
+import org.qubership.itool.di.QubershipModule;
+import org.qubership.itool.modules.graph.Graph;
+import org.qubership.itool.utils.FutureUtils;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.qubership.itool.modules.graph.Graph.F_ID;
+import static org.qubership.itool.modules.graph.Graph.F_TYPE;
+import static org.qubership.itool.utils.ConfigProperties.EXCEL_EXPORT_PROPERTY;
+
+class ExcelExportVerticleTest {
+
+    static Vertx vertx;
+    static FlowContext flowContext;
+
+    @TempDir
+    static Path tempDir;
+
+    @BeforeAll
+    static void setUp() {
+        vertx = Vertx.vertx();
+        JsonObject config = new JsonObject()
+                .put(EXCEL_EXPORT_PROPERTY, tempDir.resolve("export/inventorization.xls").toString());
+        ApplicationContext appContext =
+                new ApplicationContext(vertx, config, new Module[] {new QubershipModule(vertx)});
+        flowContext = appContext.getInstance(FlowContext.class);
+        flowContext.initialize(vertx, config);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    void testExport() throws Exception {
+        Graph graph = flowContext.getGraph();
+        graph.clear();
+        for (int d = 1; d <= 3; d++) {
+            JsonObject domain = new JsonObject().put(F_ID, "D" + d).put(F_TYPE, "domain");
+            graph.addVertexUnderRoot(domain);
+            for (int c = 1; c <= 150; c++) {
+                graph.addVertex(domain, component("D" + d + "-c" + c));
+            }
+        }
+        // Not exported
+        graph.addVertex(graph.getVertex("D1"), new JsonObject().put(F_ID, "lib").put(F_TYPE, "library"));
+
+        ExcelExportVerticle task = new ExcelExportVerticle();
+        flowContext.initialize(task);
+        FutureUtils.blockForResultOrException(task.startInFlow(), 60, TimeUnit.SECONDS);
+        // Export only reads the graph
+        assertFalse(graph.getVertex("D1-c1").getJsonObject("details").containsKey("database"));
+        String exportFolder = tempDir.resolve("export").toString().replace(File.separatorChar, '/');
+        assertArrayEquals(new String[] {"file/" + exportFolder}, task.resourcesWritten());
+
+        List<Path> files;
+        try (Stream<Path> list = Files.list(tempDir.resolve("export"))) {
+            files = list.collect(Collectors.toList());
+        }
+        assertEquals(1, files.size());
+        assertTrue(files.get(0).getFileName().toString().matches("inventorization_.*\\.xlsx"), files.toString());
+
+        try (InputStream in = Files.newInputStream(files.get(0));
+             XSSFWorkbook book = new XSSFWorkbook(in)) {
+            assertEquals(3, book.getNumberOfSheets());
+            assertEquals(List.of("D1", "D2", "D3"),
+                    List.of(book.getSheetName(0), book.getSheetName(1), book.getSheetName(2)));
+            // Styles are shared by all cells: default one and three custom ones
+            assertEquals(4, book.getNumCellStyles());
+
+            Sheet sheet = book.getSheet("D2");
+            assertEquals(151, sheet.getRow(0).getLastCellNum());
+            assertEquals("Component\nD2-c150", sheet.getRow(0).getCell(150).getStringCellValue());
+            assertEquals("Owner", sheet.getRow(1).getCell(0).getStringCellValue());
+            assertEquals("owner of D2-c1", sheet.getRow(1).getCell(1).getStringCellValue());
+            assertEquals("RabbitMQ:", sheet.getRow(15).getCell(0).getStringCellValue());
+            assertEquals("queue-D2-c7", sheet.getRow(17).getCell(7).getStringCellValue());
+            assertEquals("https://git.example.com/D2-c3.git", sheet.getRow(24).getCell(3).getStringCellValue());
+            assertEquals(HorizontalAlignment.CENTER, sheet.getRow(0).getCell(1).getCellStyle().getAlignment());
+
+            // Missing fields are highlighted
+            XSSFCell missing = (XSSFCell) sheet.getRow(13).getCell(1);
+            assertEquals("Field was not found in model", missing.getStringCellValue());
+            Font font = missing.getCellStyle().getFont();
+            assertEquals(IndexedColors.RED.getIndex(), font.getColor());
+            assertEquals(missing.getCellStyle().getIndex(), sheet.getRow(13).getCell(2).getCellStyle().getIndex());
+            assertEquals(35, sheet.getLastRowNum() + 1);
+        }
+    }
+
+    static JsonObject component(String id) {
+        return new JsonObject().put(F_ID, id).put(F_TYPE, "backend")
+                .put("repository", "https://git.example.com/" + id + ".git")
+                .put("details", new JsonObject()
+                        .put("name", "Component " + id)
+                        .put("owner", "owner of " + id)
+                        .put("messageQueues", new JsonObject()
+                                .put("rabbitMQ", new JsonObject()
+                                        .put("consumer", new JsonArray().add("queue-" + id)))));
+    }
+
+}
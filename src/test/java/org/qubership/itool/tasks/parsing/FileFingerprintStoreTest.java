@@ -0,0 +1,125 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.tasks.parsing;
+
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class FileFingerprintStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testUnchangedFileIsReplayed() throws IOException {
+        Path storeFile = tempDir.resolve("fingerprints/task.test.json.gz");
+        Path file = Files.writeString(tempDir.resolve("a.yaml"), "a: 1");
+        JsonObject contribution = new JsonObject().put("name", "a.yaml");
+
+        FileFingerprintStore store = FileFingerprintStore.load(storeFile);
+        assertNull(store.getUnchangedContribution("c1", file.toString()));
+        store.put("c1", file.toString(), contribution);
+        store.save();
+
+        store = FileFingerprintStore.load(storeFile);
+        assertEquals(contribution, store.getUnchangedContribution("c1", file.toString()));
+        // Different component owns the same path now
+        assertNull(store.getUnchangedContribution("c2", file.toString()));
+    }
+
+    @Test
+    void testTouchedFileIsComparedByContent() throws IOException {
+        Path storeFile = tempDir.resolve("task.test.json");
+        Path file = Files.writeString(tempDir.resolve("a.yaml"), "a: 1");
+        FileFingerprintStore store = FileFingerprintStore.load(storeFile);
+        store.put("c1", file.toString(), new JsonObject());
+        store.save();
+
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 10_000));
+        store = FileFingerprintStore.load(storeFile);
+        assertEquals(new JsonObject(), store.getUnchangedContribution("c1", file.toString()));
+
+        Files.writeString(file, "a: 2");
+        store = FileFingerprintStore.load(storeFile);
+        assertNull(store.getUnchangedContribution("c1", file.toString()));
+    }
+
+    @Test
+    void testNotVisitedFilesAreDropped() throws IOException {
+        Path storeFile = tempDir.resolve("task.test.json");
+        Path fileA = Files.writeString(tempDir.resolve("a.yaml"), "a: 1");
+        Path fileB = Files.writeString(tempDir.resolve("b.yaml"), "b: 1");
+        FileFingerprintStore store = FileFingerprintStore.load(storeFile);
+        store.put("c1", fileA.toString(), new JsonObject());
+        store.put("c1", fileB.toString(), new JsonObject());
+        store.save();
+
+        store = FileFingerprintStore.load(storeFile);
+        store.componentParsed("c1");
+        store.getUnchangedContribution("c1", fileA.toString());
+        assertEquals(1, store.size());
+        store.save();
+
+        store = FileFingerprintStore.load(storeFile);
+        assertNull(store.getUnchangedContribution("c1", fileB.toString()));
+    }
+
+    @Test
+    void testEntriesOfNotParsedComponentsAreKept() throws IOException {
+        Path storeFile = tempDir.resolve("task.test.json");
+        Path fileA = Files.writeString(tempDir.resolve("a.yaml"), "a: 1");
+        Path fileB = Files.writeString(tempDir.resolve("b.yaml"), "b: 1");
+        FileFingerprintStore store = FileFingerprintStore.load(storeFile);
+        store.put("c1", fileA.toString(), new JsonObject());
+        store.put("c2", fileB.toString(), new JsonObject());
+        store.save();
+
+        // Only c1 is parsed, e.g. when other domains are not included
+        store = FileFingerprintStore.load(storeFile);
+        store.componentParsed("c1");
+        store.getUnchangedContribution("c1", fileA.toString());
+        store.save();
+
+        store = FileFingerprintStore.load(storeFile);
+        assertEquals(new JsonObject(), store.getUnchangedContribution("c2", fileB.toString()));
+    }
+
+    @Test
+    void testMessagesAreKeptWithContribution() throws IOException {
+        Path storeFile = tempDir.resolve("task.test.json");
+        Path file = Files.writeString(tempDir.resolve("a.yaml"), "a: [");
+        FileFingerprintStore store = FileFingerprintStore.load(storeFile);
+        store.put("c1", file.toString(), new JsonObject(), List.of("Exception was thrown"));
+        store.save();
+
+        store = FileFingerprintStore.load(storeFile);
+        assertEquals(List.of(), store.getMessages(file.toString()));
+        assertEquals(new JsonObject(), store.getUnchangedContribution("c1", file.toString()));
+        assertEquals(List.of("Exception was thrown"), store.getMessages(file.toString()));
+    }
+
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.tasks.parsing;
+
+import com.google.inject.Module;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.qubership.itool.context.FlowContext;
+import org.qubership.itool.di.ApplicationContext;
+import org.qubership.itool.di.QubershipModule;
+import org.qubership.itool.modules.graph.Graph;
+import org.qubership.itool.tasks.other.EnrichDocumentationLinksVerticle;
+import org.qubership.itool.tasks.parsing.configuration.ExtractNestedComponentsVerticle;
+import org.qubership.itool.tasks.parsing.configuration.ParseComponentConfFilesVerticle;
+import org.qubership.itool.tasks.parsing.configuration.ParseInventoryFileVerticle;
+import org.qubership.itool.tasks.parsing.configuration.ParseSqlFilesVerticle;
+import org.qubership.itool.tasks.parsing.configuration.ProcessGitInfoFilesTask;
+import org.qubership.itool.tasks.parsing.go.ParseGoModFileVerticle;
+import org.qubership.itool.tasks.parsing.java.ParsePomFileVerticle;
+import org.qubership.itool.tasks.parsing.java.ParseRouteAnnotationVerticle;
+import org.qubership.itool.tasks.parsing.other.ParseErrorCodesVerticle;
+import org.qubership.itool.tasks.parsing.other.ParseSearchPasswordInYamlVerticle;
+import org.qubership.itool.utils.FutureUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.qubership.itool.modules.graph.Graph.F_DIRECTORY;
+import static org.qubership.itool.modules.graph.Graph.F_ID;
+import static org.qubership.itool.modules.graph.Graph.F_REPOSITORY;
+import static org.qubership.itool.modules.graph.Graph.F_TYPE;
+
+class ParsedFilePatternsTest {
+
+    static Vertx vertx;
+    static FlowContext flowContext;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void setUp() {
+        vertx = Vertx.vertx();
+        JsonObject config = new JsonObject();
+        ApplicationContext appContext =
+                new ApplicationContext(vertx, config, new Module[] {new QubershipModule(vertx)});
+        flowContext = appContext.getInstance(FlowContext.class);
+        flowContext.initialize(vertx, config);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    void testFileConsumersSeeSameFilesInFilteredCheckout() throws Exception {
+        Path fullTree = tempDir.resolve("full");
+        for (String file : List.of(
+                "pom.xml",
+                "ReadMe.md",
+                "docs/guide.md",
+                "module/pom.xml",
+                "module/documentation/api.md",
+                "module/src/main/resources/application.yaml",
+                "module/src/main/java/org/example/Service.java",
+                "images/logo.png")) {
+            Path path = fullTree.resolve(file);
+            Files.createDirectories(path.getParent());
+            Files.writeString(path, "content");
+        }
+        Path filteredTree = tempDir.resolve("filtered");
+        ParsedFilePatterns parsedFilePatterns = new ParsedFilePatterns(builtInParsingTasks());
+        copyFiltered(fullTree, filteredTree, parsedFilePatterns.getCheckoutFilter());
+        assertFalse(Files.exists(filteredTree.resolve("images/logo.png")));
+
+        for (AbstractInclusiveParseFileTask task : parsedFilePatterns.getParsingTasks()) {
+            List<String> patterns = List.of(task.getFilePatterns());
+            assertEquals(listFiles(fullTree, patterns), listFiles(filteredTree, patterns),
+                    task.getClass().getSimpleName());
+        }
+
+        for (String componentDir : List.of("", "module")) {
+            assertEquals(enrichDocumentationLinks(fullTree.resolve(componentDir)),
+                    enrichDocumentationLinks(filteredTree.resolve(componentDir)));
+        }
+        assertEquals("[\"https://git.example.com/group/c1/-/blob/release/ReadMe.md\","
+                + "\"https://git.example.com/group/c1/-/blob/release/docs\"]",
+                enrichDocumentationLinks(filteredTree));
+    }
+
+    @Test
+    void testPatternsOfFlowTasksAreKept() {
+        AbstractInclusiveParseFileTask extensionTask = new ParseSqlFilesVerticle() {
+            @Override
+            protected String[] getFilePatterns() {
+                return new String[] {"**/extension/*.txt"};
+            }
+        };
+        List<Object> flowTasks = new ArrayList<>(builtInParsingTasks());
+        flowTasks.add(extensionTask);
+        flowTasks.add(new EnrichDocumentationLinksVerticle());
+        ParsedFilePatterns parsedFilePatterns = new ParsedFilePatterns(flowTasks);
+
+        assertEquals(builtInParsingTasks().size() + 1, parsedFilePatterns.getParsingTasks().size());
+        assertTrue(parsedFilePatterns.getCheckoutFilter().test("module/extension/data.txt"));
+        assertFalse(new ParsedFilePatterns(builtInParsingTasks()).getCheckoutFilter()
+                .test("module/extension/data.txt"));
+    }
+
+    /* Parsing tasks of the default flow */
+    static List<AbstractInclusiveParseFileTask> builtInParsingTasks() {
+        return List.of(
+                new ProcessGitInfoFilesTask(),
+                new ExtractNestedComponentsVerticle(),
+                new ParseInventoryFileVerticle(),
+                new ParseComponentConfFilesVerticle(),
+                new ParseGoModFileVerticle(),
+                new ParsePomFileVerticle(),
+                new ParseRouteAnnotationVerticle(),
+                new ParseSearchPasswordInYamlVerticle(),
+                new ParseErrorCodesVerticle(),
+                new ParseSqlFilesVerticle());
+    }
+
+    private String enrichDocumentationLinks(Path componentDir) throws Exception {
+        EnrichDocumentationLinksVerticle task = new EnrichDocumentationLinksVerticle();
+        flowContext.initialize(task);
+        Graph graph = flowContext.getGraph();
+        graph.clear();
+        JsonObject domain = new JsonObject().put(F_ID, "D1").put(F_TYPE, "domain");
+        JsonObject component = new JsonObject().put(F_ID, "c1").put(F_TYPE, "backend")
+                .put(F_DIRECTORY, componentDir.toString())
+                .put(F_REPOSITORY, "https://git.example.com/group/c1.git")
+                .put("details", new JsonObject().put("releaseBranch", "release"));
+        graph.addVertexUnderRoot(domain);
+        graph.addVertex(domain, component);
+
+        FutureUtils.blockForResultOrException(task.startInFlow(), 30, TimeUnit.SECONDS);
+        // Links are relative to the component directory, so trees are comparable
+        return component.getJsonObject("details").getJsonArray("documentationLink").encode();
+    }
+
+    private static void copyFiltered(Path source, Path target, Predicate<String> filter) throws IOException {
+        for (String file : listFiles(source, null)) {
+            if (filter.test(file)) {
+                Path path = target.resolve(file);
+                Files.createDirectories(path.getParent());
+                Files.copy(source.resolve(file), path);
+            }
+        }
+    }
+
+    private static List<String> listFiles(Path root, List<String> patterns) throws IOException {
+        try (Stream<Path> walk = Files.walk(root)) {
+            return walk.filter(Files::isRegularFile)
+                    .map(path -> root.relativize(path).toString().replace('\\', '/'))
+                    .filter(path -> patterns == null
+                            || AbstractInclusiveParseFileTask.matchesAnyFilePattern(path, patterns))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.tasks.parsing;
+
+import com.google.inject.Module;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.eclipse.jgit.api.Git;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.qubership.itool.context.FlowContext;
+import org.qubership.itool.di.ApplicationContext;
+import org.qubership.itool.di.QubershipModule;
+import org.qubership.itool.modules.graph.Graph;
+import org.qubership.itool.modules.graph.GraphImpl;
+import org.qubership.itool.modules.report.GraphReport;
+import org.qubership.itool.utils.FutureUtils;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.qubership.itool.modules.graph.Graph.F_DIRECTORY;
+import static org.qubership.itool.modules.graph.Graph.F_ID;
+import static org.qubership.itool.modules.graph.Graph.F_REVISION;
+import static org.qubership.itool.modules.graph.Graph.F_TYPE;
+import static org.qubership.itool.utils.ConfigProperties.REUSE_UNCHANGED_COMPONENTS_PROPERTY;
+
+class ReuseUnchangedComponentsTaskTest {
+
+    static Vertx vertx;
+    static FlowContext flowContext;
+
+    ReuseUnchangedComponentsTask task;
+    Graph graph;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void setUp() {
+        vertx = Vertx.vertx();
+        JsonObject config = new JsonObject().put(REUSE_UNCHANGED_COMPONENTS_PROPERTY, true);
+        ApplicationContext appContext =
+                new ApplicationContext(vertx, config, new Module[] {new QubershipModule(vertx)});
+        flowContext = appContext.getInstance(FlowContext.class);
+        flowContext.initialize(vertx, config);
+        flowContext.getResources().put(ParsedFilePatterns.class,
+                new ParsedFilePatterns(ParsedFilePatternsTest.builtInParsingTasks()));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        vertx.close();
+    }
+
+    @BeforeEach
+    void initEach() {
+        task = new ReuseUnchangedComponentsTask();
+        flowContext.initialize(task);
+        graph = flowContext.getGraph();
+        graph.clear();
+    }
+
+    @Test
+    void testSignificantChanges() throws Exception {
+        Set<String> patterns = task.getParsedFilePatterns();
+        try (Git git = Git.init().setDirectory(tempDir.toFile()).call()) {
+            String first = commit(git, "README.md", "first");
+            String second = commit(git, "README.md", "second");
+            String third = commit(git, "src/main/resources/application.yaml", "a: 1");
+
+            JsonObject component = new JsonObject()
+                    .put(F_ID, "c1")
+                    .put(F_DIRECTORY, tempDir.toString())
+                    .put(F_REVISION, second);
+            assertFalse(task.hasSignificantChanges(component, first, patterns));
+
+            component.put(F_REVISION, third);
+            assertTrue(task.hasSignificantChanges(component, first, patterns));
+            assertTrue(task.hasSignificantChanges(component, "0123456789012345678901234567890123456789", patterns));
+        }
+    }
+
+    @Test
+    void testRestoreComponent() {
+        Graph previous = new GraphImpl();
+        JsonObject prevDomain = vertex("D1", "domain");
+        JsonObject prevComponent = vertex("c1", "backend").put(F_DIRECTORY, "c1").put(F_REVISION, "r1")
+                .put("details", new JsonObject().put("language", "java").put("owner", "old"));
+        JsonObject prevOther = vertex("c2", "backend").put(F_DIRECTORY, "c2");
+        previous.addVertexUnderRoot(prevDomain);
+        previous.addVertex(prevDomain, prevComponent);
+        previous.addVertex(prevDomain, prevOther);
+        JsonObject directory = vertex("dir1", "directory");
+        JsonObject file = vertex("file1", "file");
+        previous.addVertex(prevComponent, directory);
+        previous.addVertex(directory, file);
+        JsonObject sharedLib = vertex("lib1", "library");
+        previous.addVertex(prevComponent, sharedLib);
+        previous.addEdge(prevOther, sharedLib);
+        previous.addEdge(prevComponent, prevOther);
+
+        JsonObject domain = vertex("D1", "domain");
+        JsonObject component = vertex("c1", "backend").put(F_DIRECTORY, "c1").put(F_REVISION, "r1")
+                .put("details", new JsonObject().put("owner", "new"));
+        graph.addVertexUnderRoot(domain);
+        graph.addVertex(domain, component);
+
+        task.restoreComponent(component, prevComponent, previous);
+
+        assertEquals("java", component.getJsonObject("details").getString("language"));
+        assertEquals("new", component.getJsonObject("details").getString("owner"));
+        assertEquals("r1", component.getString(ReuseUnchangedComponentsTask.F_REUSED_FROM_REVISION));
+        assertNotNull(graph.getVertex("dir1"));
+        assertNotNull(graph.getVertex("file1"));
+        assertEquals(1, graph.getEdgesBetween("dir1", "file1").size());
+        // Shared vertices and other components are not restored
+        assertNull(graph.getVertex("lib1"));
+        assertNull(graph.getVertex("c2"));
+    }
+
+    @Test
+    void testAttributesOfLaterTasksAreNotRestored() throws Exception {
+        File parsingResult = tempDir.resolve("progress/" + SaveParsingResultTask.PARSING_RESULT_FILE).toFile();
+        try (Git git = Git.init().setDirectory(tempDir.toFile()).call()) {
+            String revision = commit(git, "pom.xml", "<project/>");
+
+            // First run: parsing, then a later task adds documentation link
+            JsonObject domain = vertex("D1", "domain");
+            JsonObject component = vertex("c1", "backend").put(F_DIRECTORY, tempDir.toString())
+                    .put(F_REVISION, revision)
+                    .put("details", new JsonObject().put("language", "java"));
+            graph.addVertexUnderRoot(domain);
+            graph.addVertex(domain, component);
+            SaveParsingResultTask saveTask = new SaveParsingResultTask() {
+                @Override
+                protected File getParsingResultFile() {
+                    return parsingResult;
+                }
+            };
+            flowContext.initialize(saveTask);
+            FutureUtils.blockForResultOrException(saveTask.startInFlow(), 30, TimeUnit.SECONDS);
+            component.getJsonObject("details").put("documentationLink", new JsonArray().add("ReadMe.md"));
+
+            // Second run: the component is not changed, documentation was removed
+            graph.clear();
+            domain = vertex("D1", "domain");
+            component = vertex("c1", "backend").put(F_DIRECTORY, tempDir.toString())
+                    .put(F_REVISION, revision)
+                    .put("details", new JsonObject());
+            graph.addVertexUnderRoot(domain);
+            graph.addVertex(domain, component);
+            task = new ReuseUnchangedComponentsTask() {
+                @Override
+                protected File getParsingResultFile() {
+                    return parsingResult;
+                }
+            };
+            flowContext.initialize(task);
+            FutureUtils.blockForResultOrException(task.startInFlow(), 30, TimeUnit.SECONDS);
+
+            assertEquals(revision, component.getString(ReuseUnchangedComponentsTask.F_REUSED_FROM_REVISION));
+            assertEquals("java", component.getJsonObject("details").getString("language"));
+            assertFalse(component.getJsonObject("details").containsKey("documentationLink"));
+        }
+    }
+
+    @Test
+    void testReportRecordsAreRestored() throws Exception {
+        File parsingResult = tempDir.resolve("progress/" + SaveParsingResultTask.PARSING_RESULT_FILE).toFile();
+        try (Git git = Git.init().setDirectory(tempDir.toFile()).call()) {
+            String revision = commit(git, "pom.xml", "<project/>");
+
+            // First run: parsing reports problems of both components
+            createComponents(revision);
+            flowContext.getReport().clear();
+            flowContext.getReport().referenceNotFound(graph.getVertex("c1"), "http://c3");
+            flowContext.getReport().exceptionThrown(graph.getVertex("file1"), new IllegalStateException("Broken"));
+            flowContext.getReport().mandatoryValueMissed(graph.getVertex("c2"), "name");
+            runSaveTask(parsingResult, "1.0");
+
+            // Second run: only c1 is unchanged
+            graph.clear();
+            flowContext.getReport().clear();
+            createComponents(revision);
+            graph.getVertex("c2").put(F_REVISION, "0123456789012345678901234567890123456789");
+            graph.removeVertex(graph.getVertex("file1"));
+            runReuseTask(parsingResult, "1.0");
+
+            assertNotNull(graph.getVertex("file1"));
+            assertEquals(1, flowContext.getReport().findRecords(GraphReport.CONF_ERROR, "c1", null).size());
+            assertEquals(1, flowContext.getReport().findRecords(GraphReport.EXCEPTION, "file1", null).size());
+            assertEquals(2, flowContext.getReport().getRecordCount());
+        }
+    }
+
+    @Test
+    void testResultOfOtherVersionIsNotReused() throws Exception {
+        File parsingResult = tempDir.resolve("progress/" + SaveParsingResultTask.PARSING_RESULT_FILE).toFile();
+        try (Git git = Git.init().setDirectory(tempDir.toFile()).call()) {
+            String revision = commit(git, "pom.xml", "<project/>");
+            createComponents(revision);
+            runSaveTask(parsingResult, "1.0");
+
+            graph.clear();
+            createComponents(revision);
+            runReuseTask(parsingResult, "1.1");
+            assertNull(graph.getVertex("c1").getString(ReuseUnchangedComponentsTask.F_REUSED_FROM_REVISION));
+
+            runReuseTask(parsingResult, "1.0");
+            assertEquals(revision,
+                    graph.getVertex("c1").getString(ReuseUnchangedComponentsTask.F_REUSED_FROM_REVISION));
+        }
+    }
+
+    private void createComponents(String revision) {
+        JsonObject domain = vertex("D1", "domain");
+        graph.addVertexUnderRoot(domain);
+        for (String id : new String[] {"c1", "c2"}) {
+            graph.addVertex(domain, vertex(id, "backend")
+                    .put(F_DIRECTORY, tempDir.toString())
+                    .put(F_REVISION, revision));
+        }
+        graph.addVertex(graph.getVertex("c1"), vertex("file1", "file"));
+    }
+
+    private void runSaveTask(File parsingResult, String toolVersion) throws Exception {
+        SaveParsingResultTask saveTask = new SaveParsingResultTask() {
+            @Override
+            protected File getParsingResultFile() {
+                return parsingResult;
+            }
+
+            @Override
+            protected String getToolVersion() {
+                return toolVersion;
+            }
+        };
+        flowContext.initialize(saveTask);
+        FutureUtils.blockForResultOrException(saveTask.startInFlow(), 30, TimeUnit.SECONDS);
+    }
+
+    private void runReuseTask(File parsingResult, String toolVersion) throws Exception {
+        task = new ReuseUnchangedComponentsTask() {
+            @Override
+            protected File getParsingResultFile() {
+                return parsingResult;
+            }
+
+            @Override
+            protected String getToolVersion() {
+                return toolVersion;
+            }
+        };
+        flowContext.initialize(task);
+        FutureUtils.blockForResultOrException(task.startInFlow(), 30, TimeUnit.SECONDS);
+    }
+
+    private static JsonObject vertex(String id, String type) {
+        return new JsonObject().put(F_ID, id).put(F_TYPE, type);
+    }
+
+    private String commit(Git git, String path, String content) throws Exception {
+        Path file = tempDir.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+        git.add().addFilepattern(path).call();
+        return git.commit().setMessage("Update " + path).setSign(false).call().name();
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.itool.utils;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(VertxExtension.class)
+class BoundedWorkSchedulerTest {
+
+    @Test
+    void testMostExpensiveUnitsStartFirst(Vertx vertx, VertxTestContext testContext) {
+        WorkerExecutor executor = vertx.createSharedWorkerExecutor("test-scheduler", 1);
+        List<Long> order = new CopyOnWriteArrayList<>();
+        BoundedWorkScheduler scheduler = new BoundedWorkScheduler(executor, 1, testContext::failNow);
+        for (long cost : new long[] {1, 5, 3, 5}) {
+            scheduler.submit(cost, () -> order.add(cost));
+        }
+        scheduler.start().onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+            assertEquals(List.of(5L, 5L, 3L, 1L), order);
+            executor.close();
+            testContext.completeNow();
+        })));
+    }
+
+    @Test
+    void testCapacityAndNestedUnits(Vertx vertx, VertxTestContext testContext) {
+        WorkerExecutor executor = vertx.createSharedWorkerExecutor("test-scheduler-nested", 8);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        BoundedWorkScheduler scheduler = new BoundedWorkScheduler(executor, 2, e -> failures.incrementAndGet());
+        for (int i = 0; i < 5; i++) {
+            scheduler.submit(i, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                scheduler.submit(100, () -> completed.incrementAndGet());
+                Thread.sleep(20);
+                running.decrementAndGet();
+                return completed.incrementAndGet();
+            });
+        }
+        scheduler.submit(0, () -> {
+            throw new IllegalStateException("Expected failure");
+        });
+        scheduler.start().onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+            assertEquals(10, completed.get());
+            assertEquals(1, failures.get());
+            assertTrue(maxRunning.get() <= 2, "Too many units in flight: " + maxRunning.get());
+            assertEquals(0, scheduler.getPendingCount());
+            executor.close();
+            testContext.completeNow();
+        })));
+    }
+
+    @Test
+    void testWeightlessUnitsAreLimited(Vertx vertx, VertxTestContext testContext) {
+        WorkerExecutor executor = vertx.createSharedWorkerExecutor("test-scheduler-weightless", 8);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        BoundedWorkScheduler scheduler = new BoundedWorkScheduler(executor, 100, 2, Integer.MAX_VALUE,
+                testContext::failNow);
+        for (int i = 0; i < 6; i++) {
+            scheduler.submit(i, 0, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(20);
+                return running.decrementAndGet();
+            });
+        }
+        scheduler.start().onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+            assertTrue(maxRunning.get() <= 2, "Too many units in flight: " + maxRunning.get());
+            executor.close();
+            testContext.completeNow();
+        })));
+    }
+
+    @Test
+    void testGroupLimit(Vertx vertx, VertxTestContext testContext) {
+        WorkerExecutor executor = vertx.createSharedWorkerExecutor("test-scheduler-groups", 4);
+        AtomicInteger runningA = new AtomicInteger();
+        AtomicInteger maxRunningA = new AtomicInteger();
+        List<String> started = new CopyOnWriteArrayList<>();
+        BoundedWorkScheduler scheduler = new BoundedWorkScheduler(executor, 4, 1, testContext::failNow);
+        for (int i = 0; i < 3; i++) {
+            scheduler.submit(10, 1, "a", () -> {
+                started.add("a");
+                maxRunningA.accumulateAndGet(runningA.incrementAndGet(), Math::max);
+                Thread.sleep(20);
+                return runningA.decrementAndGet();
+            });
+        }
+        scheduler.submit(1, 1, "b", () -> started.add("b"));
+        scheduler.start().onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+            assertEquals(1, maxRunningA.get());
+            // Cheaper unit of another group does not wait for the saturated group
+            assertTrue(started.indexOf("b") < 2, "Unit of group b waited: " + started);
+            assertEquals(4, started.size());
+            executor.close();
+            testContext.completeNow();
+        })));
+    }
+
+}